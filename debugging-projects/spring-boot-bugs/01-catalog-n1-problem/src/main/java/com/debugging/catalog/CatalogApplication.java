@@ -2,7 +2,10 @@ package com.debugging.catalog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot Application
@@ -12,9 +15,12 @@ import org.springframework.cache.annotation.EnableCaching;
  * - Actuator for metrics and health checks
  * - Caching for performance optimization
  * - Micrometer for observability
+ * - Scheduling for background reconciliation jobs
+ * - R2DBC for the reactive read path (no ConnectionFactory bean, so the JPA DataSource stays in place)
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 @EnableCaching
+@EnableScheduling
 public class CatalogApplication {
     
     public static void main(String[] args) {
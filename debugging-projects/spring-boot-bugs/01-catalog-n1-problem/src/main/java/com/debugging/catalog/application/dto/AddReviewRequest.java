@@ -0,0 +1,59 @@
+package com.debugging.catalog.application.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request body for adding a review to a product
+ */
+public class AddReviewRequest {
+    
+    @NotBlank
+    @Size(max = 255)
+    private String userName;
+    
+    @NotNull
+    @Min(1)
+    @Max(5)
+    private Integer rating;
+    
+    @Size(max = 1000)
+    private String comment;
+    
+    // Constructor
+    public AddReviewRequest() {}
+    
+    public AddReviewRequest(String userName, Integer rating, String comment) {
+        this.userName = userName;
+        this.rating = rating;
+        this.comment = comment;
+    }
+    
+    // Getters and Setters
+    public String getUserName() {
+        return userName;
+    }
+    
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+    
+    public Integer getRating() {
+        return rating;
+    }
+    
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+    
+    public String getComment() {
+        return comment;
+    }
+    
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
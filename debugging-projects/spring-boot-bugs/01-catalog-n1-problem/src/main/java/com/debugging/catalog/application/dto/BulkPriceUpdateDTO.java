@@ -0,0 +1,70 @@
+package com.debugging.catalog.application.dto;
+
+/**
+ * Bulk Price Update Data Transfer Object
+ * Outcome of a bulk price update, per product
+ */
+public class BulkPriceUpdateDTO {
+
+    private final int updatedProducts;
+    private final int unchangedProducts;
+    private final int missingProducts;
+    private final int conflictingProducts;
+    private final int batches;
+    private final long executionTimeMs;
+
+    public BulkPriceUpdateDTO(int updatedProducts, int unchangedProducts, int missingProducts,
+                              int conflictingProducts, int batches, long executionTimeMs) {
+        this.updatedProducts = updatedProducts;
+        this.unchangedProducts = unchangedProducts;
+        this.missingProducts = missingProducts;
+        this.conflictingProducts = conflictingProducts;
+        this.batches = batches;
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public int getUpdatedProducts() {
+        return updatedProducts;
+    }
+
+    /**
+     * Products that already had the requested price
+     */
+    public int getUnchangedProducts() {
+        return unchangedProducts;
+    }
+
+    /**
+     * Requested product IDs that do not exist
+     */
+    public int getMissingProducts() {
+        return missingProducts;
+    }
+
+    /**
+     * Products whose price changed concurrently between reading and updating them (left as they were)
+     */
+    public int getConflictingProducts() {
+        return conflictingProducts;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public long getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkPriceUpdateDTO{" +
+                "updatedProducts=" + updatedProducts +
+                ", unchangedProducts=" + unchangedProducts +
+                ", missingProducts=" + missingProducts +
+                ", conflictingProducts=" + conflictingProducts +
+                ", batches=" + batches +
+                ", executionTimeMs=" + executionTimeMs +
+                '}';
+    }
+}
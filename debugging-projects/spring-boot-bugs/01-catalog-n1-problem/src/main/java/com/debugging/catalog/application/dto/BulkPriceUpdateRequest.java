@@ -0,0 +1,76 @@
+package com.debugging.catalog.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Request body for setting the price of many products at once
+ */
+public class BulkPriceUpdateRequest {
+    
+    public static final int MAX_PRICES = 100_000;
+    
+    @NotEmpty
+    @Size(max = MAX_PRICES)
+    private List<@Valid @NotNull Item> prices;
+    
+    // Constructor
+    public BulkPriceUpdateRequest() {}
+    
+    public BulkPriceUpdateRequest(List<Item> prices) {
+        this.prices = prices;
+    }
+    
+    // Getters and Setters
+    public List<Item> getPrices() {
+        return prices;
+    }
+    
+    public void setPrices(List<Item> prices) {
+        this.prices = prices;
+    }
+    
+    /**
+     * New price of one product
+     */
+    public static class Item {
+        
+        @NotNull
+        private Long productId;
+        
+        @NotNull
+        @DecimalMin(value = "0.01")
+        @Digits(integer = 8, fraction = 2)
+        private BigDecimal price;
+        
+        public Item() {}
+        
+        public Item(Long productId, BigDecimal price) {
+            this.productId = productId;
+            this.price = price;
+        }
+        
+        public Long getProductId() {
+            return productId;
+        }
+        
+        public void setProductId(Long productId) {
+            this.productId = productId;
+        }
+        
+        public BigDecimal getPrice() {
+            return price;
+        }
+        
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+    }
+}
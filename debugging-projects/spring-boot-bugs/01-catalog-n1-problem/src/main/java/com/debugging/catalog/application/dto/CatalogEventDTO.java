@@ -0,0 +1,90 @@
+package com.debugging.catalog.application.dto;
+
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Catalog Event Data Transfer Object
+ * A published catalog change as seen by downstream consumers
+ */
+public class CatalogEventDTO {
+    
+    private final long sequence;
+    private final long eventId;
+    private final Long productId;
+    private final String type;
+    private final String payload;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSS")
+    private final LocalDateTime occurredAt;
+    
+    public CatalogEventDTO(long sequence, long eventId, Long productId, String type, String payload,
+                           LocalDateTime occurredAt) {
+        this.sequence = sequence;
+        this.eventId = eventId;
+        this.productId = productId;
+        this.type = type;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+    
+    // Factory method
+    public static CatalogEventDTO from(OutboxEvent event) {
+        if (!event.isPublished()) {
+            throw new IllegalArgumentException("Outbox event " + event.getId() + " is not published yet");
+        }
+        return new CatalogEventDTO(
+            event.getSequenceNumber(),
+            event.getId(),
+            event.getProductId(),
+            event.getEventType(),
+            event.getPayload(),
+            event.getCreatedAt()
+        );
+    }
+    
+    // Getters
+    
+    /**
+     * Position in the event stream, consumers resume with ?since=<last sequence>
+     */
+    public long getSequence() {
+        return sequence;
+    }
+    
+    /**
+     * Stable identity of the event, for de-duplication by at-least-once consumers
+     */
+    public long getEventId() {
+        return eventId;
+    }
+    
+    public Long getProductId() {
+        return productId;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    @JsonRawValue
+    public String getPayload() {
+        return payload;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "CatalogEventDTO{" +
+                "sequence=" + sequence +
+                ", productId=" + productId +
+                ", type='" + type + '\'' +
+                '}';
+    }
+}
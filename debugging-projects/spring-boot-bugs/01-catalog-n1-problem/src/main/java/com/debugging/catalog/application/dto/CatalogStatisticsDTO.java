@@ -0,0 +1,114 @@
+package com.debugging.catalog.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Catalog Statistics Data Transfer Object
+ * Snapshot of the incremental product and review counters
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CatalogStatisticsDTO {
+
+    private final long totalProducts;
+    private final long totalCategories;
+    private final BigDecimal averagePrice;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final Map<String, Long> productsByCategory;
+
+    private final long totalReviews;
+    private final double averageRating;
+    private final long positiveReviews;
+    private final long negativeReviews;
+    private final long[] ratingDistribution;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime lastReconciledAt;
+
+    public CatalogStatisticsDTO(long totalProducts, long totalCategories, BigDecimal averagePrice,
+                                BigDecimal minPrice, BigDecimal maxPrice, Map<String, Long> productsByCategory,
+                                long totalReviews, double averageRating, long positiveReviews,
+                                long negativeReviews, long[] ratingDistribution, LocalDateTime lastReconciledAt) {
+        this.totalProducts = totalProducts;
+        this.totalCategories = totalCategories;
+        this.averagePrice = averagePrice;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.productsByCategory = productsByCategory;
+        this.totalReviews = totalReviews;
+        this.averageRating = averageRating;
+        this.positiveReviews = positiveReviews;
+        this.negativeReviews = negativeReviews;
+        this.ratingDistribution = ratingDistribution;
+        this.lastReconciledAt = lastReconciledAt;
+    }
+
+    // Getters
+    public long getTotalProducts() {
+        return totalProducts;
+    }
+
+    public long getTotalCategories() {
+        return totalCategories;
+    }
+
+    public BigDecimal getAveragePrice() {
+        return averagePrice;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public Map<String, Long> getProductsByCategory() {
+        return productsByCategory;
+    }
+
+    public long getTotalReviews() {
+        return totalReviews;
+    }
+
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public long getPositiveReviews() {
+        return positiveReviews;
+    }
+
+    public long getNegativeReviews() {
+        return negativeReviews;
+    }
+
+    /**
+     * Review counts per rating, index 0 holds 1-star reviews and index 4 holds 5-star reviews
+     */
+    public long[] getRatingDistribution() {
+        return ratingDistribution;
+    }
+
+    public LocalDateTime getLastReconciledAt() {
+        return lastReconciledAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogStatisticsDTO{" +
+                "totalProducts=" + totalProducts +
+                ", totalCategories=" + totalCategories +
+                ", averagePrice=" + averagePrice +
+                ", totalReviews=" + totalReviews +
+                ", averageRating=" + averageRating +
+                ", lastReconciledAt=" + lastReconciledAt +
+                '}';
+    }
+}
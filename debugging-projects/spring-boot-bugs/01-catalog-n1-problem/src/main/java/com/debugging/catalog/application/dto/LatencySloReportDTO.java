@@ -0,0 +1,140 @@
+package com.debugging.catalog.application.dto;
+
+import java.util.List;
+
+/**
+ * Latency SLO Report Data Transfer Object
+ * Percentiles, compliance and error-budget burn rate of every route over a short and a long window
+ */
+public class LatencySloReportDTO {
+
+    private final double objective;
+    private final long thresholdMs;
+    private final double alertBurnRate;
+    private final List<Route> routes;
+
+    public LatencySloReportDTO(double objective, long thresholdMs, double alertBurnRate, List<Route> routes) {
+        this.objective = objective;
+        this.thresholdMs = thresholdMs;
+        this.alertBurnRate = alertBurnRate;
+        this.routes = routes;
+    }
+
+    public double getObjective() {
+        return objective;
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    public double getAlertBurnRate() {
+        return alertBurnRate;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySloReportDTO{" +
+                "objective=" + objective +
+                ", thresholdMs=" + thresholdMs +
+                ", routes=" + routes.size() +
+                '}';
+    }
+
+    /**
+     * One route (HTTP method + path pattern): requests since startup and its windows, short first
+     */
+    public static class Route {
+
+        private final String route;
+        private final long requests;
+        private final boolean breaching;
+        private final List<Window> windows;
+
+        public Route(String route, long requests, boolean breaching, List<Window> windows) {
+            this.route = route;
+            this.requests = requests;
+            this.breaching = breaching;
+            this.windows = windows;
+        }
+
+        public String getRoute() {
+            return route;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public boolean isBreaching() {
+            return breaching;
+        }
+
+        public List<Window> getWindows() {
+            return windows;
+        }
+    }
+
+    /**
+     * Requests of one window; percentiles and compliance are null when the window has no request
+     */
+    public static class Window {
+
+        private final String window;
+        private final long seconds;
+        private final long requests;
+        private final Double p50Ms;
+        private final Double p95Ms;
+        private final Double p99Ms;
+        private final Double compliance;
+        private final double burnRate;
+
+        public Window(String window, long seconds, long requests, Double p50Ms, Double p95Ms, Double p99Ms,
+                      Double compliance, double burnRate) {
+            this.window = window;
+            this.seconds = seconds;
+            this.requests = requests;
+            this.p50Ms = p50Ms;
+            this.p95Ms = p95Ms;
+            this.p99Ms = p99Ms;
+            this.compliance = compliance;
+            this.burnRate = burnRate;
+        }
+
+        public String getWindow() {
+            return window;
+        }
+
+        public long getSeconds() {
+            return seconds;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public Double getP50Ms() {
+            return p50Ms;
+        }
+
+        public Double getP95Ms() {
+            return p95Ms;
+        }
+
+        public Double getP99Ms() {
+            return p99Ms;
+        }
+
+        public Double getCompliance() {
+            return compliance;
+        }
+
+        public double getBurnRate() {
+            return burnRate;
+        }
+    }
+}
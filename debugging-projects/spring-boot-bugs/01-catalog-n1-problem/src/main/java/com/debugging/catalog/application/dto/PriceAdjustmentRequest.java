@@ -0,0 +1,48 @@
+package com.debugging.catalog.application.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * Request body for repricing a category (or the whole catalog) by a percentage
+ */
+public class PriceAdjustmentRequest {
+    
+    // Null applies the adjustment to every product
+    @Size(max = 100)
+    private String category;
+    
+    @NotNull
+    @DecimalMin(value = "-100", inclusive = false)
+    @DecimalMax(value = "1000")
+    private BigDecimal percentage;
+    
+    // Constructor
+    public PriceAdjustmentRequest() {}
+    
+    public PriceAdjustmentRequest(String category, BigDecimal percentage) {
+        this.category = category;
+        this.percentage = percentage;
+    }
+    
+    // Getters and Setters
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+    
+    public void setPercentage(BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+}
@@ -0,0 +1,89 @@
+package com.debugging.catalog.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Product Batch Data Transfer Object
+ * One result per requested ID, in request order, with an explicit marker for IDs that do not exist
+ */
+public class ProductBatchDTO {
+
+    private final List<Result> results;
+    private final int found;
+    private final int notFound;
+    private final int cacheHits;
+
+    public ProductBatchDTO(List<Result> results, int cacheHits) {
+        this.results = results;
+        this.found = (int) results.stream().filter(Result::isFound).count();
+        this.notFound = results.size() - found;
+        this.cacheHits = cacheHits;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public int getFound() {
+        return found;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    /**
+     * Distinct IDs answered by the read cache without touching the database
+     */
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBatchDTO{" +
+                "found=" + found +
+                ", notFound=" + notFound +
+                ", cacheHits=" + cacheHits +
+                '}';
+    }
+
+    /**
+     * Outcome for one requested ID; product is omitted when it was not found
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+
+        private final Long id;
+        private final boolean found;
+        private final ProductDTO product;
+
+        private Result(Long id, boolean found, ProductDTO product) {
+            this.id = id;
+            this.found = found;
+            this.product = product;
+        }
+
+        public static Result found(ProductDTO product) {
+            return new Result(product.getId(), true, product);
+        }
+
+        public static Result notFound(Long id) {
+            return new Result(id, false, null);
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        public ProductDTO getProduct() {
+            return product;
+        }
+    }
+}
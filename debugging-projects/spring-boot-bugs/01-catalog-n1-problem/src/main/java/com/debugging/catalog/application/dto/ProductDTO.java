@@ -1,13 +1,18 @@
 package com.debugging.catalog.application.dto;
 
 import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.model.RatingHistogram;
 import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.ProductField;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,7 +36,11 @@ public class ProductDTO {
     
     private Double averageRating;
     private Integer reviewCount;
+    private Integer positiveReviewCount;
+    private Integer negativeReviewCount;
+    private int[] ratingDistribution;
     private List<ReviewDTO> reviews;
+    private ReviewInsightsDTO reviewInsights;
     
     // Constructor
     public ProductDTO() {}
@@ -61,6 +70,9 @@ public class ProductDTO {
         
         dto.setAverageRating(product.getAverageRating());
         dto.setReviewCount(product.getReviewCount());
+        dto.setPositiveReviewCount(product.getPositiveReviewCount());
+        dto.setNegativeReviewCount(product.getNegativeReviewCount());
+        dto.setRatingDistribution(product.getRatingDistribution());
         
         return dto;
     }
@@ -89,6 +101,70 @@ public class ProductDTO {
         return dto;
     }
     
+    public static ProductDTO from(ProductView view) {
+        ProductDTO dto = new ProductDTO(
+            view.id(),
+            view.name(),
+            view.description(),
+            view.price(),
+            view.category(),
+            view.createdAt(),
+            view.updatedAt()
+        );
+        
+        RatingHistogram histogram = view.ratingHistogram();
+        dto.setAverageRating(histogram.average());
+        dto.setReviewCount(histogram.total());
+        dto.setPositiveReviewCount(histogram.positiveCount());
+        dto.setNegativeReviewCount(histogram.negativeCount());
+        dto.setRatingDistribution(histogram.toArray());
+        
+        if (view.reviewsLoaded() && !view.reviews().isEmpty()) {
+            dto.setReviews(view.reviews().stream()
+                .map(ReviewDTO::from)
+                .collect(Collectors.toList()));
+        }
+        
+        return dto;
+    }
+    
+    /**
+     * Map a view loaded with a fetch plan; a sparse fieldset only fills the requested fields
+     */
+    public static ProductDTO from(ProductView view, FetchPlan fetchPlan) {
+        return fetchPlan.getShape() == FetchPlan.Shape.FIELDS ? from(view, fetchPlan.getFields()) : from(view);
+    }
+    
+    public static ProductDTO from(ProductView view, Set<ProductField> fields) {
+        ProductDTO dto = new ProductDTO();
+        dto.setId(view.id());
+        RatingHistogram histogram = view.ratingHistogram();
+        for (ProductField field : fields) {
+            switch (field) {
+                case ID -> { }
+                case NAME -> dto.setName(view.name());
+                case DESCRIPTION -> dto.setDescription(view.description());
+                case PRICE -> dto.setPrice(view.price());
+                case CATEGORY -> dto.setCategory(view.category());
+                case CREATED_AT -> dto.setCreatedAt(view.createdAt());
+                case UPDATED_AT -> dto.setUpdatedAt(view.updatedAt());
+                case AVERAGE_RATING -> dto.setAverageRating(histogram.average());
+                case REVIEW_COUNT -> dto.setReviewCount(histogram.total());
+                case POSITIVE_REVIEW_COUNT -> dto.setPositiveReviewCount(histogram.positiveCount());
+                case NEGATIVE_REVIEW_COUNT -> dto.setNegativeReviewCount(histogram.negativeCount());
+                case RATING_DISTRIBUTION -> dto.setRatingDistribution(histogram.toArray());
+            }
+        }
+        
+        if (view.reviewsLoaded() && !view.reviews().isEmpty()) {
+            dto.setReviews(view.reviews().stream()
+                .map(ReviewDTO::from)
+                .collect(Collectors.toList()));
+        }
+        
+        return dto;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -162,6 +238,33 @@ public class ProductDTO {
         this.reviewCount = reviewCount;
     }
     
+    public Integer getPositiveReviewCount() {
+        return positiveReviewCount;
+    }
+    
+    public void setPositiveReviewCount(Integer positiveReviewCount) {
+        this.positiveReviewCount = positiveReviewCount;
+    }
+    
+    public Integer getNegativeReviewCount() {
+        return negativeReviewCount;
+    }
+    
+    public void setNegativeReviewCount(Integer negativeReviewCount) {
+        this.negativeReviewCount = negativeReviewCount;
+    }
+    
+    /**
+     * Review counts per rating, index 0 holds 1-star reviews and index 4 holds 5-star reviews
+     */
+    public int[] getRatingDistribution() {
+        return ratingDistribution;
+    }
+    
+    public void setRatingDistribution(int[] ratingDistribution) {
+        this.ratingDistribution = ratingDistribution;
+    }
+    
     public List<ReviewDTO> getReviews() {
         return reviews;
     }
@@ -170,6 +273,17 @@ public class ProductDTO {
         this.reviews = reviews;
     }
     
+    /**
+     * Keywords and sentiment of the review comments, null when none was indexed
+     */
+    public ReviewInsightsDTO getReviewInsights() {
+        return reviewInsights;
+    }
+    
+    public void setReviewInsights(ReviewInsightsDTO reviewInsights) {
+        this.reviewInsights = reviewInsights;
+    }
+    
     @Override
     public String toString() {
         return "ProductDTO{" +
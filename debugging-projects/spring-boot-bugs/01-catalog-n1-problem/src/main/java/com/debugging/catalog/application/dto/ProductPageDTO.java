@@ -0,0 +1,62 @@
+package com.debugging.catalog.application.dto;
+
+import java.util.List;
+
+/**
+ * Product Page Data Transfer Object
+ * One page of a paginated product listing and where it was answered from
+ */
+public class ProductPageDTO {
+    
+    public static final String SOURCE_INDEX = "index";
+    public static final String SOURCE_DATABASE = "database";
+    
+    private final List<ProductDTO> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+    private final String source;
+    
+    public ProductPageDTO(List<ProductDTO> content, int page, int size, long totalElements, String source) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.source = source;
+    }
+    
+    public List<ProductDTO> getContent() {
+        return content;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public long getTotalElements() {
+        return totalElements;
+    }
+    
+    public long getTotalPages() {
+        return (totalElements + size - 1) / size;
+    }
+    
+    public String getSource() {
+        return source;
+    }
+    
+    @Override
+    public String toString() {
+        return "ProductPageDTO{" +
+                "page=" + page +
+                ", size=" + size +
+                ", totalElements=" + totalElements +
+                ", source='" + source + '\'' +
+                ", contentSize=" + content.size() +
+                '}';
+    }
+}
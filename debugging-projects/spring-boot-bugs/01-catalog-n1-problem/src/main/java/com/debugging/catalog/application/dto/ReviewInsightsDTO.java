@@ -0,0 +1,69 @@
+package com.debugging.catalog.application.dto;
+
+import java.util.List;
+
+/**
+ * Review Insights Data Transfer Object
+ * Text facets of the reviews of one product, from the review text index (no database access)
+ */
+public class ReviewInsightsDTO {
+
+    private final double sentiment;
+    private final int indexedReviews;
+    private final List<Keyword> keywords;
+
+    public ReviewInsightsDTO(double sentiment, int indexedReviews, List<Keyword> keywords) {
+        this.sentiment = sentiment;
+        this.indexedReviews = indexedReviews;
+        this.keywords = keywords;
+    }
+
+    /**
+     * Average lexicon sentiment of the indexed reviews, from -1 (negative) to 1 (positive)
+     */
+    public double getSentiment() {
+        return sentiment;
+    }
+
+    public int getIndexedReviews() {
+        return indexedReviews;
+    }
+
+    /**
+     * Most frequent keywords of the comments, most frequent first
+     */
+    public List<Keyword> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public String toString() {
+        return "ReviewInsightsDTO{" +
+                "sentiment=" + sentiment +
+                ", indexedReviews=" + indexedReviews +
+                ", keywords=" + keywords.size() +
+                '}';
+    }
+
+    /**
+     * Keyword with the number of times it occurs in the comments of the product
+     */
+    public static class Keyword {
+
+        private final String term;
+        private final int count;
+
+        public Keyword(String term, int count) {
+            this.term = term;
+            this.count = count;
+        }
+
+        public String getTerm() {
+            return term;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.debugging.catalog.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Reviewer Statistics Data Transfer Object
+ * Approximate distinct reviewers from HyperLogLog sketches, for one product or the whole catalog
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReviewerStatisticsDTO {
+
+    private final Long productId;
+    private final long distinctReviewers;
+    private final double relativeStandardError;
+    private final Map<String, Long> distinctReviewersByCategory;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime lastRebuiltAt;
+
+    public ReviewerStatisticsDTO(Long productId, long distinctReviewers, double relativeStandardError,
+                                 Map<String, Long> distinctReviewersByCategory, LocalDateTime lastRebuiltAt) {
+        this.productId = productId;
+        this.distinctReviewers = distinctReviewers;
+        this.relativeStandardError = relativeStandardError;
+        this.distinctReviewersByCategory = distinctReviewersByCategory;
+        this.lastRebuiltAt = lastRebuiltAt;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public long getDistinctReviewers() {
+        return distinctReviewers;
+    }
+
+    public double getRelativeStandardError() {
+        return relativeStandardError;
+    }
+
+    public Map<String, Long> getDistinctReviewersByCategory() {
+        return distinctReviewersByCategory;
+    }
+
+    public LocalDateTime getLastRebuiltAt() {
+        return lastRebuiltAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ReviewerStatisticsDTO{" +
+                "productId=" + productId +
+                ", distinctReviewers=" + distinctReviewers +
+                ", distinctReviewersByCategory=" + distinctReviewersByCategory +
+                '}';
+    }
+}
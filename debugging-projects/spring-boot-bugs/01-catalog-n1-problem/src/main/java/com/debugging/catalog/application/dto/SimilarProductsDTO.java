@@ -0,0 +1,74 @@
+package com.debugging.catalog.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Similar Products Data Transfer Object
+ * Precomputed neighbours of one product ("customers who liked this also liked"), best first
+ */
+public class SimilarProductsDTO {
+
+    private final Long productId;
+    private final List<Neighbor> similar;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime computedAt;
+
+    public SimilarProductsDTO(Long productId, List<Neighbor> similar, LocalDateTime computedAt) {
+        this.productId = productId;
+        this.similar = similar;
+        this.computedAt = computedAt;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public List<Neighbor> getSimilar() {
+        return similar;
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SimilarProductsDTO{" +
+                "productId=" + productId +
+                ", similar=" + similar.size() +
+                ", computedAt=" + computedAt +
+                '}';
+    }
+
+    /**
+     * Similar product with its cosine similarity and the number of reviewers who liked both
+     */
+    public static class Neighbor {
+
+        private final Long productId;
+        private final double score;
+        private final int coReviewers;
+
+        public Neighbor(Long productId, double score, int coReviewers) {
+            this.productId = productId;
+            this.score = score;
+            this.coReviewers = coReviewers;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public int getCoReviewers() {
+            return coReviewers;
+        }
+    }
+}
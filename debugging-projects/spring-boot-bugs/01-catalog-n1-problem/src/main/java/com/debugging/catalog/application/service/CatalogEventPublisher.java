@@ -0,0 +1,17 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.CatalogEventDTO;
+
+import java.util.List;
+
+/**
+ * Port to the message broker used by the OutboxRelay
+ * 
+ * Batches arrive in sequence order; implementations must keep that order
+ * per product (e.g. use the product ID as partition key) and throw when
+ * the batch was not accepted, so the relay retries it.
+ */
+public interface CatalogEventPublisher {
+    
+    void publish(List<CatalogEventDTO> batch);
+}
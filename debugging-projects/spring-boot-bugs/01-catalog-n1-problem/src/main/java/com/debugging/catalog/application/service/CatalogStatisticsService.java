@@ -0,0 +1,353 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.CatalogStatisticsDTO;
+import com.debugging.catalog.domain.event.ProductCreatedEvent;
+import com.debugging.catalog.domain.event.ProductDeletedEvent;
+import com.debugging.catalog.domain.event.ProductDetailsChangedEvent;
+import com.debugging.catalog.domain.event.ProductPriceChangedEvent;
+import com.debugging.catalog.domain.event.ProductsRepricedEvent;
+import com.debugging.catalog.domain.model.CategoryCount;
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.event.ReviewAddedEvent;
+import com.debugging.catalog.domain.event.ReviewRatingChangedEvent;
+import com.debugging.catalog.domain.event.ReviewRemovedEvent;
+import com.debugging.catalog.domain.model.PriceCount;
+import com.debugging.catalog.domain.model.ProductStatistics;
+import com.debugging.catalog.domain.model.RatingCount;
+import com.debugging.catalog.domain.model.ReviewStatistics;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Catalog Statistics Service
+ *
+ * Keeps product and review statistics as in-memory counters that are
+ * updated from committed CatalogEvents, so reading them never touches
+ * the database. A scheduled reconciliation compares the counters with
+ * the SQL aggregates and rebuilds them when they drifted (writes that
+ * bypass the domain model, deleted products, data.sql seeding...).
+ * Events committed while a rebuild reads the database are replayed on
+ * the rebuilt counters before they replace the current ones.
+ */
+@Service
+public class CatalogStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogStatisticsService.class);
+
+    static final String UNCATEGORIZED = "uncategorized";
+
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final Counter driftCounter;
+
+    private final Object lock = new Object();
+    private Counters counters = new Counters();
+    private LocalDateTime lastReconciledAt;
+    // Events received while a rebuild reads the database, replayed on the rebuilt counters
+    private List<Consumer<Counters>> replay;
+
+    public CatalogStatisticsService(ProductRepository productRepository, ReviewRepository reviewRepository,
+                                    PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        // The grouped queries of a rebuild must see one snapshot, or replayed events could count twice
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.driftCounter = Counter.builder("catalog.statistics.reconciliation.drift")
+            .description("Reconciliations that found counters out of sync with the database")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Current statistics, answered from the counters only
+     */
+    public CatalogStatisticsDTO getStatistics() {
+        synchronized (lock) {
+            return counters.toDTO(lastReconciledAt);
+        }
+    }
+
+    // Event handlers - applied once the writing transaction has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductCreatedEvent event) {
+        long cents = toCents(event.price());
+        apply(target -> target.addProduct(cents, event.category()));
+    }
+
+    // The reviews deleted with the product are left to reconciliation: archived ones still count
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductDeletedEvent event) {
+        long cents = toCents(event.price());
+        apply(target -> target.removeProduct(cents, event.category()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductPriceChangedEvent event) {
+        long previousCents = toCents(event.previousPrice());
+        long newCents = toCents(event.newPrice());
+        apply(target -> target.movePrice(previousCents, newCents));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductsRepricedEvent event) {
+        apply(target -> {
+            for (PriceChange change : event.changes()) {
+                target.movePrice(toCents(change.previousPrice()), toCents(change.newPrice()));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductDetailsChangedEvent event) {
+        if (event.categoryChanged()) {
+            apply(target -> target.moveCategory(event.previousCategory(), event.newCategory()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReviewAddedEvent event) {
+        apply(target -> target.ratingCounts[event.rating() - 1]++);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReviewRemovedEvent event) {
+        apply(target -> target.ratingCounts[event.rating() - 1]--);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReviewRatingChangedEvent event) {
+        apply(target -> {
+            target.ratingCounts[event.previousRating() - 1]--;
+            target.ratingCounts[event.newRating() - 1]++;
+        });
+    }
+
+    private void apply(Consumer<Counters> change) {
+        synchronized (lock) {
+            change.accept(counters);
+            if (replay != null) {
+                replay.add(change);
+            }
+        }
+    }
+
+    /**
+     * Reconcile the counters against the SQL aggregates.
+     * The first run (on startup) always builds the counters from the database.
+     * Afterwards the grouped queries only run when the cheap aggregates disagree.
+     * Only an event whose transaction committed before the snapshot but whose listener
+     * ran after the rebuild started counts twice; the next reconciliation corrects it.
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.statistics.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        ProductStatistics productStatistics = productRepository.getProductStatistics();
+        ReviewStatistics reviewStatistics = reviewRepository.getReviewStatistics();
+
+        boolean initialized;
+        synchronized (lock) {
+            initialized = lastReconciledAt != null;
+            if (initialized && counters.matches(productStatistics, reviewStatistics)) {
+                lastReconciledAt = LocalDateTime.now();
+                return;
+            }
+            replay = new ArrayList<>();
+        }
+
+        Counters rebuilt = null;
+        try {
+            rebuilt = snapshotTransaction.execute(status -> Counters.rebuild(
+                productRepository.countProductsGroupedByPrice(),
+                productRepository.countProductsGroupedByCategory(),
+                reviewRepository.countReviewsGroupedByRating()
+            ));
+        } finally {
+            synchronized (lock) {
+                if (rebuilt != null) {
+                    if (initialized) {
+                        driftCounter.increment();
+                        logger.warn("Catalog statistics drifted from the database, rebuilding: counters={} database={} {}",
+                                   counters.toDTO(lastReconciledAt), productStatistics, reviewStatistics);
+                    }
+                    for (Consumer<Counters> change : replay) {
+                        change.accept(rebuilt);
+                    }
+                    counters = rebuilt;
+                    lastReconciledAt = LocalDateTime.now();
+                }
+                replay = null;
+            }
+        }
+        logger.info("Catalog statistics rebuilt from database: {} products, {} reviews",
+                   rebuilt.productCount, rebuilt.reviewCount());
+    }
+
+    static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Mutable counters, always accessed under the service lock
+     */
+    static final class Counters {
+
+        long productCount;
+        long priceSumCents;
+        // Multiset of prices so min/max survive price changes and removals
+        final TreeMap<Long, Long> priceCounts = new TreeMap<>();
+        // Null key holds products without category
+        final Map<String, Long> categoryCounts = new HashMap<>();
+        // Index 0 holds 1-star reviews and index 4 holds 5-star reviews
+        final long[] ratingCounts = new long[5];
+
+        static Counters rebuild(List<PriceCount> priceRows, List<CategoryCount> categoryRows,
+                                List<RatingCount> ratingRows) {
+            Counters counters = new Counters();
+            for (PriceCount row : priceRows) {
+                long cents = toCents(row.price());
+                counters.priceCounts.merge(cents, row.count(), Long::sum);
+                counters.priceSumCents += cents * row.count();
+                counters.productCount += row.count();
+            }
+            for (CategoryCount row : categoryRows) {
+                counters.categoryCounts.merge(row.category(), row.count(), Long::sum);
+            }
+            for (RatingCount row : ratingRows) {
+                counters.ratingCounts[row.rating() - 1] += row.count();
+            }
+            return counters;
+        }
+
+        void addProduct(long priceCents, String category) {
+            productCount++;
+            priceSumCents += priceCents;
+            priceCounts.merge(priceCents, 1L, Long::sum);
+            categoryCounts.merge(category, 1L, Long::sum);
+        }
+
+        void removeProduct(long priceCents, String category) {
+            // Unknown price means the counters are already stale, reconciliation will fix them
+            if (decrement(priceCounts, priceCents)) {
+                productCount--;
+                priceSumCents -= priceCents;
+                decrement(categoryCounts, category);
+            }
+        }
+
+        void movePrice(long previousCents, long newCents) {
+            // Unknown previous price means the counters are already stale, reconciliation will fix them
+            if (decrement(priceCounts, previousCents)) {
+                priceSumCents += newCents - previousCents;
+                priceCounts.merge(newCents, 1L, Long::sum);
+            }
+        }
+
+        void moveCategory(String previousCategory, String newCategory) {
+            if (decrement(categoryCounts, previousCategory)) {
+                categoryCounts.merge(newCategory, 1L, Long::sum);
+            }
+        }
+
+        long reviewCount() {
+            long total = 0;
+            for (long count : ratingCounts) {
+                total += count;
+            }
+            return total;
+        }
+
+        private long ratingSum() {
+            long sum = 0;
+            for (int i = 0; i < ratingCounts.length; i++) {
+                sum += (i + 1) * ratingCounts[i];
+            }
+            return sum;
+        }
+
+        private long categoryCount() {
+            return categoryCounts.keySet().stream().filter(Objects::nonNull).count();
+        }
+
+        boolean matches(ProductStatistics products, ReviewStatistics reviews) {
+            long reviewCount = reviewCount();
+            double averagePrice = productCount == 0 ? 0.0 : priceSumCents / 100.0 / productCount;
+            double averageRating = reviewCount == 0 ? 0.0 : (double) ratingSum() / reviewCount;
+
+            return productCount == products.totalProducts()
+                && categoryCount() == products.totalCategories()
+                && sameCents(priceCounts.isEmpty() ? null : priceCounts.firstKey(), products.minPrice())
+                && sameCents(priceCounts.isEmpty() ? null : priceCounts.lastKey(), products.maxPrice())
+                && Math.abs(averagePrice - Objects.requireNonNullElse(products.averagePrice(), 0.0)) < 0.005
+                && reviewCount == reviews.totalReviews()
+                && ratingCounts[3] + ratingCounts[4] == reviews.positiveReviews()
+                && ratingCounts[0] + ratingCounts[1] == reviews.negativeReviews()
+                && Math.abs(averageRating - Objects.requireNonNullElse(reviews.averageRating(), 0.0)) < 1e-9;
+        }
+
+        CatalogStatisticsDTO toDTO(LocalDateTime lastReconciledAt) {
+            Map<String, Long> byCategory = new TreeMap<>();
+            categoryCounts.forEach((category, count) ->
+                byCategory.merge(category != null ? category : UNCATEGORIZED, count, Long::sum));
+
+            long reviewCount = reviewCount();
+            return new CatalogStatisticsDTO(
+                productCount,
+                categoryCount(),
+                productCount == 0 ? BigDecimal.ZERO.setScale(2)
+                    : fromCents(priceSumCents).divide(BigDecimal.valueOf(productCount), 2, RoundingMode.HALF_UP),
+                priceCounts.isEmpty() ? null : fromCents(priceCounts.firstKey()),
+                priceCounts.isEmpty() ? null : fromCents(priceCounts.lastKey()),
+                byCategory,
+                reviewCount,
+                reviewCount == 0 ? 0.0 : (double) ratingSum() / reviewCount,
+                ratingCounts[3] + ratingCounts[4],
+                ratingCounts[0] + ratingCounts[1],
+                ratingCounts.clone(),
+                lastReconciledAt
+            );
+        }
+
+        private static boolean sameCents(Long cents, BigDecimal price) {
+            return cents == null ? price == null : price != null && cents == toCents(price);
+        }
+
+        private static <K> boolean decrement(Map<K, Long> counts, K key) {
+            Long count = counts.get(key);
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                counts.remove(key);
+            } else {
+                counts.put(key, count - 1);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.debugging.catalog.application.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only use case method whose concurrent identical calls
+ * (same method, equal arguments) share one in-flight execution through SingleFlight.
+ * Only for methods without side effects whose arguments implement equals/hashCode.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
@@ -0,0 +1,13 @@
+package com.debugging.catalog.application.service;
+
+import java.time.Duration;
+
+/**
+ * Raised to a caller that waited too long for an identical in-flight call it joined
+ */
+public class CoalescedCallTimeoutException extends RuntimeException {
+    
+    public CoalescedCallTimeoutException(String name, Duration timeout) {
+        super("Timed out after " + timeout.toMillis() + "ms waiting for in-flight call " + name);
+    }
+}
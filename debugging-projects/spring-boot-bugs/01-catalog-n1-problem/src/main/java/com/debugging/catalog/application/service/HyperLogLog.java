@@ -0,0 +1,172 @@
+package com.debugging.catalog.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch - approximate count of distinct strings in fixed memory
+ *
+ * 2^precision one-byte registers keep the longest run of leading zeros seen
+ * among the 64-bit hashes routed to them. The relative standard error is
+ * 1.04 / sqrt(2^precision): 1.6% at precision 12, 0.8% at precision 14.
+ * Small cardinalities use linear counting and are practically exact.
+ *
+ * Sketches start sparse (only the touched registers, as index/rank pairs) and
+ * switch to the dense register array once that would take less memory, so the
+ * many products with a handful of reviewers stay cheap. Values cannot be
+ * removed; rebuild the sketch to forget them. Not thread-safe.
+ */
+public final class HyperLogLog {
+
+    private static final int RANK_BITS = 6;
+    private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+
+    private final int precision;
+    private final int registerCount;
+    // Sparse representation: (register index << RANK_BITS | rank), one entry per touched register
+    private int[] sparse = new int[4];
+    private int sparseSize;
+    // Dense representation, null while sparse
+    private byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18");
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+    }
+
+    /**
+     * Relative standard error of the estimates for a precision
+     */
+    public static double relativeStandardError(int precision) {
+        return 1.04 / Math.sqrt(1 << precision);
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - precision));
+        // Leading zeros of the remaining bits, plus one; the sentinel bit caps it at 64 - precision + 1
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        update(index, rank);
+    }
+
+    /**
+     * Add every value seen by another sketch of the same precision (union)
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches of different precision");
+        }
+        if (other.registers != null) {
+            for (int index = 0; index < registerCount; index++) {
+                if (other.registers[index] != 0) {
+                    update(index, other.registers[index]);
+                }
+            }
+        } else {
+            for (int i = 0; i < other.sparseSize; i++) {
+                update(other.sparse[i] >>> RANK_BITS, other.sparse[i] & RANK_MASK);
+            }
+        }
+    }
+
+    public long estimate() {
+        double inverseSum = 0;
+        int zeroRegisters = 0;
+        if (registers != null) {
+            for (byte rank : registers) {
+                inverseSum += 1.0 / (1L << rank);
+                if (rank == 0) {
+                    zeroRegisters++;
+                }
+            }
+        } else {
+            zeroRegisters = registerCount - sparseSize;
+            inverseSum = zeroRegisters;
+            for (int i = 0; i < sparseSize; i++) {
+                inverseSum += 1.0 / (1L << (sparse[i] & RANK_MASK));
+            }
+        }
+
+        double estimate = alpha() * registerCount * registerCount / inverseSum;
+        if (estimate <= 2.5 * registerCount && zeroRegisters > 0) {
+            // Linear counting
+            estimate = registerCount * Math.log((double) registerCount / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    boolean isSparse() {
+        return registers == null;
+    }
+
+    private void update(int index, int rank) {
+        if (registers != null) {
+            if (rank > registers[index]) {
+                registers[index] = (byte) rank;
+            }
+            return;
+        }
+
+        // Sparse entries are sorted by register index: the rank bits never change the order
+        int position = Arrays.binarySearch(sparse, 0, sparseSize, index << RANK_BITS);
+        int insertion = position >= 0 ? position : -position - 1;
+        if (insertion < sparseSize && sparse[insertion] >>> RANK_BITS == index) {
+            if (rank > (sparse[insertion] & RANK_MASK)) {
+                sparse[insertion] = index << RANK_BITS | rank;
+            }
+            return;
+        }
+        // 4 bytes per sparse entry against 1 byte per dense register
+        if (sparseSize + 1 > registerCount / 4) {
+            toDense();
+            update(index, rank);
+            return;
+        }
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparse.length * 2);
+        }
+        System.arraycopy(sparse, insertion, sparse, insertion + 1, sparseSize - insertion);
+        sparse[insertion] = index << RANK_BITS | rank;
+        sparseSize++;
+    }
+
+    private void toDense() {
+        registers = new byte[registerCount];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> RANK_BITS] = (byte) (sparse[i] & RANK_MASK);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    private double alpha() {
+        return switch (registerCount) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / registerCount);
+        };
+    }
+
+    // 64-bit FNV-1a over the UTF-8 bytes followed by the MurmurHash3 finalizer to spread the bits
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
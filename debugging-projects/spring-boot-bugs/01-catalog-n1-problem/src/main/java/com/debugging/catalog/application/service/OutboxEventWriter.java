@@ -0,0 +1,117 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.domain.event.CatalogEvent;
+import com.debugging.catalog.domain.event.ProductCreatedEvent;
+import com.debugging.catalog.domain.event.ProductDeletedEvent;
+import com.debugging.catalog.domain.event.ProductDetailsChangedEvent;
+import com.debugging.catalog.domain.event.ProductPriceChangedEvent;
+import com.debugging.catalog.domain.event.ProductsRepricedEvent;
+import com.debugging.catalog.domain.event.ReviewAddedEvent;
+import com.debugging.catalog.domain.event.ReviewRatingChangedEvent;
+import com.debugging.catalog.domain.event.ReviewRemovedEvent;
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox Event Writer
+ *
+ * Turns every CatalogEvent into an outbox row right before the writing
+ * transaction commits, so the change and its event are stored atomically.
+ * Events raised outside a transaction are not written.
+ * Bulk price updates are written as one ProductPriceChanged row per product,
+ * so consumers see the same events as for single-product updates, all in one
+ * JDBC batch. Rows are only inserted once the transaction's product changes
+ * are flushed and locked, so the events of a product keep their commit order.
+ */
+@Service
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(CatalogEvent event) {
+        outboxEventRepository.append(List.of(
+            outboxEvent(event.productId(), event.getClass().getSimpleName().replace("Event", ""), payload(event))));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(ProductsRepricedEvent event) {
+        String type = ProductPriceChangedEvent.class.getSimpleName().replace("Event", "");
+        List<OutboxEvent> events = new ArrayList<>(event.changes().size());
+        for (PriceChange change : event.changes()) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("productId", change.productId());
+            payload.put("previousPrice", change.previousPrice());
+            payload.put("newPrice", change.newPrice());
+            events.add(outboxEvent(change.productId(), type, payload));
+        }
+        outboxEventRepository.append(events);
+    }
+
+    private OutboxEvent outboxEvent(Long productId, String type, Map<String, Object> payload) {
+        try {
+            return new OutboxEvent(productId, type, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + type + " event", e);
+        }
+    }
+
+    private static Map<String, Object> payload(CatalogEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("productId", event.productId());
+
+        if (event instanceof ProductCreatedEvent created) {
+            Product product = created.product();
+            payload.put("name", product.getName());
+            payload.put("price", created.price());
+            payload.put("category", created.category());
+        } else if (event instanceof ProductDeletedEvent deleted) {
+            payload.put("price", deleted.price());
+            payload.put("category", deleted.category());
+        } else if (event instanceof ProductPriceChangedEvent priceChanged) {
+            payload.put("previousPrice", priceChanged.previousPrice());
+            payload.put("newPrice", priceChanged.newPrice());
+        } else if (event instanceof ProductDetailsChangedEvent detailsChanged) {
+            payload.put("name", detailsChanged.product().getName());
+            payload.put("previousCategory", detailsChanged.previousCategory());
+            payload.put("newCategory", detailsChanged.newCategory());
+        } else if (event instanceof ReviewAddedEvent added) {
+            putReview(payload, added.review());
+            payload.put("rating", added.rating());
+        } else if (event instanceof ReviewRemovedEvent removed) {
+            putReview(payload, removed.review());
+            payload.put("rating", removed.rating());
+        } else if (event instanceof ReviewRatingChangedEvent ratingChanged) {
+            putReview(payload, ratingChanged.review());
+            payload.put("previousRating", ratingChanged.previousRating());
+            payload.put("newRating", ratingChanged.newRating());
+        }
+        return payload;
+    }
+
+    private static void putReview(Map<String, Object> payload, Review review) {
+        if (review.getId() != null) {
+            payload.put("reviewId", review.getId());
+        }
+        payload.put("userName", review.getUserName());
+    }
+}
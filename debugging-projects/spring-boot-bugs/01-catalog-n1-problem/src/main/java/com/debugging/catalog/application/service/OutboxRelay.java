@@ -0,0 +1,100 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.CatalogEventDTO;
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Relay
+ *
+ * Publishes pending outbox events in batches, oldest first, and assigns each
+ * one the next sequence number in the same transaction. Events are published
+ * by a single scheduler thread in insertion order, which keeps the order of
+ * the events of every product. When the publisher fails the transaction rolls
+ * back and the whole batch is retried on the next run (at-least-once delivery).
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CatalogEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedCounter;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, CatalogEventPublisher publisher,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       @Value("${app.catalog.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.catalog.outbox.retention-hours:168}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = Counter.builder("catalog.outbox.published")
+            .description("Catalog events published from the outbox")
+            .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Publish every pending event, one batch per transaction
+     * @return Number of published events
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.outbox.relay-interval-ms:1000}")
+    public int relay() {
+        int total = 0;
+        int published;
+        try {
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+                total += published;
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Outbox relay failed after {} events, retrying on next run: {}", total, e.getMessage());
+        }
+        return total;
+    }
+
+    /**
+     * Delete published events past the retention period
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status ->
+            outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> pending = outboxEventRepository.findPending(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long sequence = outboxEventRepository.findLastSequenceNumber();
+        for (OutboxEvent event : pending) {
+            event.markPublished(++sequence);
+        }
+        publisher.publish(pending.stream().map(CatalogEventDTO::from).toList());
+        publishedCounter.increment(pending.size());
+        return pending.size();
+    }
+}
@@ -0,0 +1,557 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.domain.event.ProductCreatedEvent;
+import com.debugging.catalog.domain.event.ProductDeletedEvent;
+import com.debugging.catalog.domain.event.ProductDetailsChangedEvent;
+import com.debugging.catalog.domain.event.ProductPriceChangedEvent;
+import com.debugging.catalog.domain.event.ProductsRepricedEvent;
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceEntry;
+import com.debugging.catalog.domain.model.ProductStatistics;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Price Index
+ *
+ * In-memory copy of every product price, as long cents in sorted primitive
+ * arrays: one for the whole catalog and one per category. Price range queries
+ * binary-search the bounds, so the match count and any page of the result
+ * (ascending or descending) are found without a database round-trip.
+ *
+ * The arrays follow committed CatalogEvents. An event that does not match the
+ * index (several changes of one product in the same transaction, writes that
+ * bypass the domain model...) marks it stale: queries fall back to SQL until
+ * the scheduled reconciliation rebuilds it from the database.
+ */
+@Service
+public class PriceIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceIndex.class);
+
+    public static final String QUERIES_METRIC = "catalog.price.index.queries";
+
+    private final ProductRepository productRepository;
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Entries entries = new Entries();
+    private boolean ready;
+    // Events received while a rebuild reads the database, replayed on the rebuilt entries
+    private List<Consumer<Entries>> replay;
+
+    public PriceIndex(ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.hitCounter = queriesCounter(meterRegistry, "hit");
+        this.fallbackCounter = queriesCounter(meterRegistry, "fallback");
+        Gauge.builder("catalog.price.index.size", this, PriceIndex::size)
+            .description("Products in the in-memory price index")
+            .register(meterRegistry);
+    }
+
+    private static Counter queriesCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(QUERIES_METRIC)
+            .description("Price range queries answered by the index or by the database")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Answer a price range query from memory
+     * @param query Category, price range, sort direction and page
+     * @return IDs of the requested page and the match count, empty while the index is stale
+     */
+    public Optional<Page> find(PriceRangeQuery query) {
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                fallbackCounter.increment();
+                return Optional.empty();
+            }
+            SortedPrices prices = query.category() == null ? entries.all : entries.byCategory.get(query.category());
+            Page page = prices == null
+                ? new Page(List.of(), 0)
+                : prices.page(lowerCents(query.minPrice()), upperCents(query.maxPrice()),
+                              query.descending(), query.offset(), query.size());
+            hitCounter.increment();
+            return Optional.of(page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.all.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Event handlers - applied once the writing transaction has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductCreatedEvent event) {
+        long cents = CatalogStatisticsService.toCents(event.price());
+        Long id = event.productId();
+        apply(target -> target.add(id, cents, event.category()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductDeletedEvent event) {
+        long cents = CatalogStatisticsService.toCents(event.price());
+        Long id = event.productId();
+        apply(target -> target.remove(id, cents, event.category()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductPriceChangedEvent event) {
+        long previousCents = CatalogStatisticsService.toCents(event.previousPrice());
+        long newCents = CatalogStatisticsService.toCents(event.newPrice());
+        Long id = event.productId();
+        String category = event.product().getCategory();
+        apply(target -> target.reprice(id, previousCents, newCents, category));
+    }
+
+    // One lock acquisition and one merge per array for a whole bulk update batch
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductsRepricedEvent event) {
+        List<PriceChange> changes = event.changes();
+        apply(target -> target.reprice(changes));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductDetailsChangedEvent event) {
+        if (!event.categoryChanged()) {
+            return;
+        }
+        long cents = CatalogStatisticsService.toCents(event.product().getPrice());
+        Long id = event.productId();
+        apply(target -> target.moveCategory(id, cents, event.previousCategory(), event.newCategory()));
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (!change.applyTo(entries) && ready) {
+                ready = false;
+                logger.warn("Price index out of sync with the catalog, serving price queries from the database");
+            }
+            if (replay != null) {
+                replay.add(change::applyTo);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconcile the index against the product aggregates.
+     * The first run (on startup) always builds the index from the database.
+     * Afterwards the index is rebuilt when it is stale or the aggregates disagree.
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.price-index.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        ProductStatistics statistics = productRepository.getProductStatistics();
+        lock.writeLock().lock();
+        try {
+            if (ready && entries.matches(statistics)) {
+                return;
+            }
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startTime = System.currentTimeMillis();
+        Entries rebuilt = null;
+        try {
+            rebuilt = Entries.rebuild(productRepository.findAllPriceEntries());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    // Replayed changes may already be part of the rebuilt entries
+                    for (Consumer<Entries> change : replay) {
+                        change.accept(rebuilt);
+                    }
+                    entries = rebuilt;
+                    ready = true;
+                }
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.info("Price index rebuilt from database: {} products in {} categories in {}ms",
+                   rebuilt.all.size, rebuilt.byCategory.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // Smallest whole cent amount >= price, clamped to the long range
+    private static long lowerCents(BigDecimal price) {
+        return clampedCents(price.setScale(2, RoundingMode.CEILING));
+    }
+
+    // Largest whole cent amount <= price, clamped to the long range
+    private static long upperCents(BigDecimal price) {
+        return clampedCents(price.setScale(2, RoundingMode.FLOOR));
+    }
+
+    private static long clampedCents(BigDecimal price) {
+        BigDecimal cents = price.movePointRight(2);
+        if (cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (cents.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValueExact();
+    }
+
+    /**
+     * One page of a price range query
+     * @param productIds IDs in price order
+     * @param totalElements Products matching the range
+     */
+    public record Page(List<Long> productIds, long totalElements) {
+    }
+
+    /**
+     * Change of the index triggered by one event
+     */
+    @FunctionalInterface
+    private interface Change {
+        /**
+         * @return false when the entries did not contain what the event expected
+         */
+        boolean applyTo(Entries entries);
+    }
+
+    /**
+     * Global and per-category sorted prices, always accessed under the index lock
+     */
+    static final class Entries {
+
+        final SortedPrices all = new SortedPrices();
+        // Products without category are only in the global entries
+        final Map<String, SortedPrices> byCategory = new HashMap<>();
+
+        static Entries rebuild(List<PriceEntry> rows) {
+            Entries entries = new Entries();
+            // Rows come ordered by price and ID, so every array is filled in order
+            for (PriceEntry row : rows) {
+                long id = row.productId();
+                long cents = CatalogStatisticsService.toCents(row.price());
+                entries.all.append(cents, id);
+                if (row.category() != null) {
+                    entries.byCategory.computeIfAbsent(row.category(), category -> new SortedPrices())
+                        .append(cents, id);
+                }
+            }
+            return entries;
+        }
+
+        boolean add(long id, long cents, String category) {
+            boolean added = all.add(cents, id);
+            if (category != null) {
+                added &= byCategory.computeIfAbsent(category, key -> new SortedPrices()).add(cents, id);
+            }
+            return added;
+        }
+
+        boolean remove(long id, long cents, String category) {
+            boolean removed = all.remove(cents, id);
+            if (category != null) {
+                SortedPrices prices = byCategory.get(category);
+                removed &= prices != null && prices.remove(cents, id);
+            }
+            return removed;
+        }
+
+        boolean reprice(long id, long previousCents, long newCents, String category) {
+            boolean repriced = all.move(id, previousCents, newCents);
+            if (category != null) {
+                SortedPrices prices = byCategory.get(category);
+                repriced &= prices != null && prices.move(id, previousCents, newCents);
+            }
+            return repriced;
+        }
+
+        boolean reprice(List<PriceChange> changes) {
+            Map<String, List<PriceChange>> changesByCategory = new HashMap<>();
+            for (PriceChange change : changes) {
+                if (change.category() != null) {
+                    changesByCategory.computeIfAbsent(change.category(), category -> new ArrayList<>()).add(change);
+                }
+            }
+            boolean repriced = all.merge(changes);
+            for (Map.Entry<String, List<PriceChange>> categoryChanges : changesByCategory.entrySet()) {
+                SortedPrices prices = byCategory.get(categoryChanges.getKey());
+                repriced &= prices != null && prices.merge(categoryChanges.getValue());
+            }
+            return repriced;
+        }
+
+        boolean moveCategory(long id, long cents, String previousCategory, String newCategory) {
+            boolean moved = true;
+            if (previousCategory != null) {
+                SortedPrices prices = byCategory.get(previousCategory);
+                moved = prices != null && prices.remove(cents, id);
+            }
+            if (newCategory != null) {
+                moved &= byCategory.computeIfAbsent(newCategory, key -> new SortedPrices()).add(cents, id);
+            }
+            return moved;
+        }
+
+        boolean matches(ProductStatistics statistics) {
+            long categories = byCategory.values().stream().filter(prices -> prices.size > 0).count();
+            return all.size == statistics.totalProducts()
+                && categories == statistics.totalCategories()
+                && Objects.equals(all.size == 0 ? null : all.cents[0], cents(statistics.minPrice()))
+                && Objects.equals(all.size == 0 ? null : all.cents[all.size - 1], cents(statistics.maxPrice()));
+        }
+
+        private static Long cents(BigDecimal price) {
+            return price == null ? null : CatalogStatisticsService.toCents(price);
+        }
+    }
+
+    /**
+     * Parallel arrays of prices (cents) and product IDs sorted by (price, ID)
+     * Lookups are binary searches; inserts and removals shift the tail with System.arraycopy,
+     * a price change only shifts the entries between its old and new position, and
+     * a batch of price changes is merged into new arrays in one pass.
+     */
+    static final class SortedPrices {
+
+        long[] cents = new long[16];
+        long[] ids = new long[16];
+        int size;
+
+        void append(long priceCents, long id) {
+            ensureCapacity(size + 1);
+            cents[size] = priceCents;
+            ids[size] = id;
+            size++;
+        }
+
+        /**
+         * @return false when the entry was already present
+         */
+        boolean add(long priceCents, long id) {
+            int index = search(priceCents, id);
+            if (index >= 0) {
+                return false;
+            }
+            int insertion = -index - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(cents, insertion, cents, insertion + 1, size - insertion);
+            System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+            cents[insertion] = priceCents;
+            ids[insertion] = id;
+            size++;
+            return true;
+        }
+
+        /**
+         * @return false when the entry was not present
+         */
+        boolean remove(long priceCents, long id) {
+            int index = search(priceCents, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(cents, index + 1, cents, index, size - index - 1);
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * @return false when (previousCents, id) was not present or (newCents, id) already was
+         */
+        boolean move(long id, long previousCents, long newCents) {
+            int from = search(previousCents, id);
+            if (from < 0) {
+                return false;
+            }
+            if (previousCents == newCents) {
+                return true;
+            }
+            int to = search(newCents, id);
+            if (to >= 0) {
+                return false;
+            }
+            // Insertion point with the moved entry still in place
+            to = -to - 1;
+            if (to > from) {
+                to--;
+                System.arraycopy(cents, from + 1, cents, from, to - from);
+                System.arraycopy(ids, from + 1, ids, from, to - from);
+            } else {
+                System.arraycopy(cents, to, cents, to + 1, from - to);
+                System.arraycopy(ids, to, ids, to + 1, from - to);
+            }
+            cents[to] = newCents;
+            ids[to] = id;
+            return true;
+        }
+
+        /**
+         * Remove the previous price and add the new price of every change in one pass
+         * @return false when a previous price was not present or a new price already was
+         */
+        boolean merge(List<PriceChange> changes) {
+            long[][] removed = new long[changes.size()][];
+            long[][] added = new long[changes.size()][];
+            for (int i = 0; i < changes.size(); i++) {
+                PriceChange change = changes.get(i);
+                removed[i] = new long[] {CatalogStatisticsService.toCents(change.previousPrice()), change.productId()};
+                added[i] = new long[] {CatalogStatisticsService.toCents(change.newPrice()), change.productId()};
+            }
+            Arrays.sort(removed, SortedPrices::compare);
+            Arrays.sort(added, SortedPrices::compare);
+
+            long[] mergedCents = new long[Math.max(16, size + added.length)];
+            long[] mergedIds = new long[mergedCents.length];
+            int merged = 0;
+            int current = 0;
+            int removal = 0;
+            int addition = 0;
+            boolean matched = true;
+            while (current < size || addition < added.length) {
+                // Removals before the current entry are not in the arrays
+                while (removal < removed.length
+                        && (current == size || compare(removed[removal], cents[current], ids[current]) < 0)) {
+                    matched = false;
+                    removal++;
+                }
+                if (current < size && removal < removed.length
+                        && compare(removed[removal], cents[current], ids[current]) == 0) {
+                    current++;
+                    removal++;
+                    continue;
+                }
+                int comparison = current == size ? 1
+                    : addition == added.length ? -1
+                    : -compare(added[addition], cents[current], ids[current]);
+                if (comparison <= 0) {
+                    mergedCents[merged] = cents[current];
+                    mergedIds[merged++] = ids[current++];
+                    if (comparison == 0) {
+                        matched = false;
+                        addition++;
+                    }
+                } else {
+                    mergedCents[merged] = added[addition][0];
+                    mergedIds[merged++] = added[addition++][1];
+                }
+            }
+            matched &= removal == removed.length;
+
+            cents = mergedCents;
+            ids = mergedIds;
+            size = merged;
+            return matched;
+        }
+
+        private static int compare(long[] entry, long priceCents, long id) {
+            return entry[0] != priceCents ? Long.compare(entry[0], priceCents) : Long.compare(entry[1], id);
+        }
+
+        private static int compare(long[] left, long[] right) {
+            return compare(left, right[0], right[1]);
+        }
+
+        Page page(long minCents, long maxCents, boolean descending, long offset, int limit) {
+            int from = minCents == Long.MIN_VALUE ? 0 : firstIndexAbove(minCents - 1);
+            int to = firstIndexAbove(maxCents);
+            long total = Math.max(0, to - from);
+            if (offset >= total) {
+                return new Page(List.of(), total);
+            }
+
+            int count = (int) Math.min(limit, total - offset);
+            Long[] page = new Long[count];
+            for (int i = 0; i < count; i++) {
+                page[i] = descending ? ids[(int) (to - 1 - offset - i)] : ids[(int) (from + offset + i)];
+            }
+            return new Page(Arrays.asList(page), total);
+        }
+
+        // First index whose price is greater than priceCents
+        private int firstIndexAbove(long priceCents) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cents[middle] <= priceCents) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        // Index of (priceCents, id), or (-(insertion point) - 1) like Arrays.binarySearch
+        private int search(long priceCents, long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = cents[middle] != priceCents
+                    ? Long.compare(cents[middle], priceCents)
+                    : Long.compare(ids[middle], id);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > cents.length) {
+                int grown = Math.max(capacity, cents.length + (cents.length >> 1));
+                cents = Arrays.copyOf(cents, grown);
+                ids = Arrays.copyOf(ids, grown);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.domain.event.CatalogEvent;
+import com.debugging.catalog.domain.event.ProductsRepricedEvent;
+import com.debugging.catalog.domain.model.PriceChange;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Product Read Cache
+ *
+ * Product DTOs by ID, with and without reviews, in the "products" cache
+ * (Caffeine: bounded size and time-to-live, see spring.cache.caffeine.spec).
+ * Entries are evicted once a change of the product commits: any CatalogEvent
+ * (price, details, reviews) and bulk repricing. A read that raced with a
+ * change can put the old state back; the time-to-live bounds how long it lives.
+ */
+@Service
+public class ProductReadCache {
+
+    public static final String CACHE_NAME = "products";
+
+    private final Cache cache;
+
+    public ProductReadCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "Missing cache " + CACHE_NAME);
+    }
+
+    /**
+     * @return Cached product, or null when it is not cached
+     */
+    public ProductDTO get(Long productId, boolean withReviews) {
+        return cache.get(new Key(productId, withReviews), ProductDTO.class);
+    }
+
+    public void put(ProductDTO product, boolean withReviews) {
+        cache.put(new Key(product.getId(), withReviews), product);
+    }
+
+    public void evict(Long productId) {
+        cache.evict(new Key(productId, false));
+        cache.evict(new Key(productId, true));
+    }
+
+    // Event handlers - applied once the writing transaction has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CatalogEvent event) {
+        evict(event.productId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductsRepricedEvent event) {
+        for (PriceChange change : event.changes()) {
+            evict(change.productId());
+        }
+    }
+
+    private record Key(Long productId, boolean withReviews) {}
+}
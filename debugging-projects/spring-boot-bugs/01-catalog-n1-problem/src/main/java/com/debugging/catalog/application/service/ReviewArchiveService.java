@@ -0,0 +1,195 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.model.ReviewArchiveSegment;
+import com.debugging.catalog.domain.repository.ReviewArchiveRepository;
+import com.debugging.catalog.domain.repository.ReviewArchiveSegmentRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Review Archive Service
+ *
+ * Reviews are partitioned by the month of created_at. The reviews table only
+ * keeps the last app.catalog.reviews.archive.hot-months months (hot tier), so
+ * its indexes stay small; older partitions are moved to compressed, read-only
+ * columnar segment files on local disk (archive tier), one transaction per
+ * segment: the file is written first, then its reviews are deleted and its
+ * manifest row saved together. A crash in between leaves an orphan file that
+ * the next run deletes, never a review counted twice or lost.
+ *
+ * Archiving does not go through the Product aggregate: the rating histograms
+ * keep counting archived reviews, and the manifest keeps a histogram per
+ * segment for the catalog-wide aggregates. Only history reads open the files.
+ *
+ * The manifest lives in the shared database but the files on local disk:
+ * enable archiving on a single instance, or point the directory to shared storage.
+ */
+@Service
+public class ReviewArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewArchiveService.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveSegmentRepository segmentRepository;
+    private final ReviewArchiveRepository archiveRepository;
+    private final ProductReadCache productReadCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedCounter;
+    private final boolean enabled;
+    private final int hotMonths;
+    private final int batchSize;
+
+    public ReviewArchiveService(ReviewRepository reviewRepository, ReviewArchiveSegmentRepository segmentRepository,
+                                ReviewArchiveRepository archiveRepository, ProductReadCache productReadCache,
+                                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                @Value("${app.catalog.reviews.archive.enabled:true}") boolean enabled,
+                                @Value("${app.catalog.reviews.archive.hot-months:6}") int hotMonths,
+                                @Value("${app.catalog.reviews.archive.batch-size:10000}") int batchSize) {
+        if (hotMonths < 1) {
+            throw new IllegalArgumentException("app.catalog.reviews.archive.hot-months must be at least 1");
+        }
+        this.reviewRepository = reviewRepository;
+        this.segmentRepository = segmentRepository;
+        this.archiveRepository = archiveRepository;
+        this.productReadCache = productReadCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedCounter = Counter.builder("catalog.reviews.archived")
+            .description("Reviews moved from the reviews table to the archive tier")
+            .register(meterRegistry);
+        this.enabled = enabled;
+        this.hotMonths = hotMonths;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Move every review older than the hot tier to the archive, one segment per month and batch
+     * @return Number of archived reviews
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.reviews.archive.interval-ms:3600000}")
+    public int archive() {
+        if (!enabled) {
+            return 0;
+        }
+        deleteOrphanFiles();
+
+        LocalDateTime cutoff = cutoff(LocalDate.now());
+        int total = 0;
+        try {
+            List<ArchivedReview> batch;
+            do {
+                batch = reviewRepository.findCreatedBefore(cutoff, batchSize);
+                total += archiveBatch(batch);
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Review archiving failed after {} reviews, retrying on next run: {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            logger.info("Archived {} reviews created before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * Archived reviews of one product, newest first
+     */
+    public List<Review> findArchivedReviews(Long productId) {
+        List<ArchivedReview> archived = new ArrayList<>();
+        for (ReviewArchiveSegment segment : segmentRepository.findSegmentsForProduct(productId)) {
+            archived.addAll(archiveRepository.findByProductId(segment, productId));
+        }
+        return archived.stream()
+            .sorted(Comparator.comparing(ArchivedReview::createdAt).thenComparing(ArchivedReview::id).reversed())
+            .map(ArchivedReview::toReview)
+            .toList();
+    }
+
+    /**
+     * Stream the (productId, userName) pair of every archived review, reading only those two columns
+     */
+    public void forEachArchivedReviewer(BiConsumer<Long, String> consumer) {
+        for (ReviewArchiveSegment segment : segmentRepository.findAllSegments()) {
+            archiveRepository.forEachReviewer(segment, consumer);
+        }
+    }
+
+    /**
+     * First instant of the hot tier: reviews created before it are archived
+     */
+    LocalDateTime cutoff(LocalDate today) {
+        return YearMonth.from(today).minusMonths(hotMonths - 1L).atDay(1).atStartOfDay();
+    }
+
+    private int archiveBatch(List<ArchivedReview> batch) {
+        Map<YearMonth, List<ArchivedReview>> byMonth = batch.stream()
+            .collect(Collectors.groupingBy(review -> YearMonth.from(review.createdAt()), TreeMap::new,
+                Collectors.toList()));
+
+        int archived = 0;
+        for (Map.Entry<YearMonth, List<ArchivedReview>> partition : byMonth.entrySet()) {
+            List<ArchivedReview> reviews = partition.getValue();
+            ReviewArchiveSegment segment = archiveRepository.write(partition.getKey(), reviews);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    int deleted = reviewRepository.deleteArchived(reviews);
+                    if (deleted != reviews.size()) {
+                        // Rolls back: a review changed or was removed after it was read
+                        throw new IllegalStateException("Reviews of " + segment.getFileName()
+                            + " changed while archiving (" + deleted + "/" + reviews.size() + " deleted)");
+                    }
+                    segmentRepository.save(segment);
+                });
+            } catch (RuntimeException e) {
+                archiveRepository.delete(segment.getFileName());
+                throw e;
+            }
+
+            Set<Long> productIds = new HashSet<>();
+            for (ArchivedReview review : reviews) {
+                if (productIds.add(review.productId())) {
+                    productReadCache.evict(review.productId());
+                }
+            }
+            archivedCounter.increment(reviews.size());
+            archived += reviews.size();
+            logger.debug("Archived {} reviews to {} ({} bytes)", reviews.size(), segment.getFileName(),
+                        segment.getSizeBytes());
+        }
+        return archived;
+    }
+
+    // Files written by a run that failed or crashed before its manifest row committed
+    private void deleteOrphanFiles() {
+        Set<String> saved = segmentRepository.findAllSegments().stream()
+            .map(ReviewArchiveSegment::getFileName)
+            .collect(Collectors.toSet());
+        for (String fileName : archiveRepository.listFileNames()) {
+            if (!saved.contains(fileName)) {
+                logger.warn("Deleting review archive file {} missing from the manifest", fileName);
+                archiveRepository.delete(fileName);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.debugging.catalog.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer and lexicon-based sentiment of review comments (English)
+ *
+ * Tokens are lower-cased runs of letters, digits and inner apostrophes.
+ * Keywords are the tokens of at least 3 characters that are neither stop
+ * words nor negations. Sentiment counts the lexicon words of the comment,
+ * a positive or negative word within three tokens after a negation
+ * ("not good", "never disappointed") counting for the opposite side, and
+ * scores the comment (positive - negative) / (positive + negative), from -1
+ * to 1, 0 when it has no lexicon word.
+ */
+public final class ReviewTextAnalyzer {
+
+    private static final int MIN_KEYWORD_LENGTH = 3;
+    private static final int NEGATION_SCOPE = 3;
+
+    private static final Set<String> POSITIVE = Set.of(
+        "amazing", "awesome", "beautiful", "best", "brilliant", "comfortable", "durable", "easy", "excellent",
+        "fantastic", "fast", "favorite", "good", "great", "happy", "impressive", "incredible", "lightweight",
+        "love", "loved", "lovely", "nice", "outstanding", "perfect", "pleasant", "powerful", "recommend",
+        "recommended", "reliable", "solid", "sturdy", "superb", "useful", "wonderful", "worth");
+
+    private static final Set<String> NEGATIVE = Set.of(
+        "awful", "bad", "broke", "broken", "cheap", "defective", "difficult", "disappointed", "disappointing",
+        "expensive", "fail", "failed", "flimsy", "hate", "heavy", "horrible", "junk", "noisy", "overpriced",
+        "poor", "problem", "refund", "slow", "terrible", "uncomfortable", "useless", "waste", "worse", "worst");
+
+    private static final Set<String> NEGATIONS = Set.of(
+        "not", "no", "never", "nothing", "hardly", "isn't", "wasn't", "aren't", "don't", "doesn't", "didn't",
+        "can't", "won't", "isnt", "wasnt", "dont", "doesnt", "didnt", "cant", "wont");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "the", "and", "for", "with", "but", "this", "that", "these", "those", "was", "were", "are", "been",
+        "have", "has", "had", "you", "your", "its", "it's", "from", "they", "them", "their", "very", "too",
+        "just", "all", "any", "our", "out", "one", "can", "could", "would", "should", "will", "than", "then",
+        "also", "really", "much", "more", "most", "what", "when", "which", "who", "i've", "i'm", "ever", "every",
+        "because", "about", "into", "over", "only", "some", "such", "there", "here", "after", "before");
+
+    private ReviewTextAnalyzer() {
+    }
+
+    /**
+     * Keywords and sentiment of one comment
+     * @param keywords Keywords in order of appearance, repeated as often as they occur
+     * @param positive Positive lexicon hits (negated negative words included)
+     * @param negative Negative lexicon hits (negated positive words included)
+     */
+    public record Analysis(List<String> keywords, int positive, int negative) {
+
+        static final Analysis EMPTY = new Analysis(List.of(), 0, 0);
+
+        /**
+         * @return (positive - negative) / (positive + negative), 0 without lexicon words
+         */
+        public double sentiment() {
+            int hits = positive + negative;
+            return hits == 0 ? 0.0 : (double) (positive - negative) / hits;
+        }
+    }
+
+    /**
+     * Analyze a review comment
+     * @param comment Comment, may be null
+     */
+    public static Analysis analyze(String comment) {
+        if (comment == null || comment.isBlank()) {
+            return Analysis.EMPTY;
+        }
+        List<String> keywords = new ArrayList<>();
+        int positive = 0;
+        int negative = 0;
+        int negatedTokens = 0;
+        String text = comment.toLowerCase(Locale.ROOT);
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            // Apostrophes only inside a word: "don't", not quotes around one
+            boolean inWord = Character.isLetterOrDigit(c)
+                || (c == '\'' && start >= 0 && i + 1 < length && Character.isLetterOrDigit(text.charAt(i + 1)));
+            if (inWord) {
+                if (start < 0) {
+                    start = i;
+                }
+                continue;
+            }
+            if (start < 0) {
+                continue;
+            }
+            String token = text.substring(start, i);
+            start = -1;
+
+            boolean negated = negatedTokens > 0;
+            if (negated) {
+                negatedTokens--;
+            }
+            if (NEGATIONS.contains(token)) {
+                negatedTokens = NEGATION_SCOPE;
+                continue;
+            }
+            if (POSITIVE.contains(token)) {
+                if (negated) {
+                    negative++;
+                } else {
+                    positive++;
+                }
+            } else if (NEGATIVE.contains(token)) {
+                if (negated) {
+                    positive++;
+                } else {
+                    negative++;
+                }
+            }
+            if (token.length() >= MIN_KEYWORD_LENGTH && !STOP_WORDS.contains(token)) {
+                keywords.add(token);
+            }
+        }
+        return new Analysis(keywords, positive, negative);
+    }
+
+    /**
+     * Normalize a keyword typed by a user the way comments are tokenized
+     * @return The keyword, or null when it would never be indexed
+     */
+    public static String normalizeKeyword(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        List<String> keywords = analyze(keyword).keywords();
+        return keywords.size() == 1 ? keywords.get(0) : null;
+    }
+}
@@ -0,0 +1,523 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.ReviewInsightsDTO;
+import com.debugging.catalog.domain.event.ReviewAddedEvent;
+import com.debugging.catalog.domain.event.ReviewRemovedEvent;
+import com.debugging.catalog.domain.model.ReviewComment;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Review Text Index
+ *
+ * Keyword frequencies and lexicon sentiment (ReviewTextAnalyzer) of the
+ * review comments of every product, served from memory for ProductDTO and
+ * the keyword filter. Committed ReviewAddedEvents and ReviewRemovedEvents
+ * are only queued on the request thread; a scheduled job drains the queue,
+ * tokenizes the comments outside the index lock and applies them in batches.
+ * Lookups never wait for tokenization.
+ *
+ * Products are numbered densely (LongIntHashMap) and keywords are interned
+ * to int IDs, so each product keeps its keyword counts in a primitive
+ * int-to-int hash map plus a review count and a sentiment sum in flat arrays.
+ *
+ * The scheduled rebuild re-reads the comments of the reviews table (archived
+ * reviews drop out of the index) and repairs what the queue missed: events
+ * dropped when it was full and comments edited in place. It reads keyset pages
+ * of batch-size in one read-only REPEATABLE_READ transaction, so all pages see
+ * one snapshot. Events queued before the read started are in that snapshot and
+ * dropped; events queued while it ran are checked against the same snapshot and
+ * only applied for the reviews it missed.
+ */
+@Service
+public class ReviewTextIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewTextIndex.class);
+
+    public static final int MAX_RESULTS = 100;
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final int batchSize;
+    private final int keywordsPerProduct;
+    private final BlockingQueue<PendingReview> queue;
+    // Sequence number of the last queued event
+    private final AtomicLong enqueued = new AtomicLong();
+    private final Counter indexedCounter;
+    private final Counter rebuiltCounter;
+    private final Counter droppedCounter;
+    private final DistributionSummary indexThroughput;
+    private final DistributionSummary rebuildThroughput;
+
+    // Serializes the writers (drain and rebuild), readers only take the index lock
+    private final Object writer = new Object();
+    private final Object lock = new Object();
+    private Index index = new Index(1024);
+    private volatile LocalDateTime lastRebuiltAt;
+
+    public ReviewTextIndex(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.catalog.reviews.text-index.batch-size:1000}") int batchSize,
+                           @Value("${app.catalog.reviews.text-index.queue-capacity:100000}") int queueCapacity,
+                           @Value("${app.catalog.reviews.text-index.keywords-per-product:10}") int keywordsPerProduct) {
+        if (batchSize < 1 || queueCapacity < 1 || keywordsPerProduct < 1) {
+            throw new IllegalArgumentException("app.catalog.reviews.text-index requires batch-size, "
+                + "queue-capacity and keywords-per-product >= 1");
+        }
+        this.reviewRepository = reviewRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.batchSize = batchSize;
+        this.keywordsPerProduct = keywordsPerProduct;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.indexedCounter = Counter.builder("catalog.reviews.text.indexed")
+            .description("Review comments applied to the text index")
+            .tag("source", "event")
+            .register(meterRegistry);
+        this.rebuiltCounter = Counter.builder("catalog.reviews.text.indexed")
+            .description("Review comments applied to the text index")
+            .tag("source", "rebuild")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("catalog.reviews.text.index.dropped")
+            .description("Review events not queued because the text index queue was full (repaired by the rebuild)")
+            .register(meterRegistry);
+        this.indexThroughput = throughput(meterRegistry, "event");
+        this.rebuildThroughput = throughput(meterRegistry, "rebuild");
+        Gauge.builder("catalog.reviews.text.index.queue", queue, BlockingQueue::size)
+            .description("Review events waiting to be indexed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Keywords and sentiment of one product (no database access)
+     * @return Insights, null when no review of the product was indexed
+     */
+    public ReviewInsightsDTO insights(Long productId) {
+        synchronized (lock) {
+            return index.insights(productId, keywordsPerProduct);
+        }
+    }
+
+    /**
+     * Products whose reviews mention a keyword and/or reach a sentiment (no database access)
+     * @param keyword Keyword, ranked by occurrences; null to rank by sentiment only
+     * @param minSentiment Minimum average sentiment (-1 to 1), null for any
+     * @param limit Maximum number of products, 1 to MAX_RESULTS
+     * @return Matching products, best first
+     */
+    public List<Match> search(String keyword, Double minSentiment, int limit) {
+        if (keyword == null && minSentiment == null) {
+            throw new IllegalArgumentException("A keyword or a minimum sentiment is required");
+        }
+        if (minSentiment != null && (minSentiment < -1 || minSentiment > 1)) {
+            throw new IllegalArgumentException("minSentiment must be between -1 and 1");
+        }
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_RESULTS);
+        }
+        String term = ReviewTextAnalyzer.normalizeKeyword(keyword);
+        if (keyword != null && term == null) {
+            throw new IllegalArgumentException("Not an indexed keyword: " + keyword);
+        }
+        synchronized (lock) {
+            return index.search(term, minSentiment, limit);
+        }
+    }
+
+    /**
+     * @return Review events waiting to be indexed
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    public LocalDateTime getLastRebuiltAt() {
+        return lastRebuiltAt;
+    }
+
+    // Event handlers - queue only, once the writing transaction has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReviewAddedEvent event) {
+        enqueue(event.review().getId(), event.productId(), event.review().getComment(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReviewRemovedEvent event) {
+        enqueue(event.review().getId(), event.productId(), event.review().getComment(), -1);
+    }
+
+    /**
+     * Index the queued reviews, batch after batch until the queue is empty
+     * @return Number of indexed reviews
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.reviews.text-index.drain-interval-ms:200}")
+    public int drain() {
+        synchronized (writer) {
+            long start = System.nanoTime();
+            List<PendingReview> batch = new ArrayList<>(Math.min(batchSize, 1024));
+            int indexed = 0;
+            while (queue.drainTo(batch, batchSize) > 0) {
+                // Tokenize outside the lock: readers only wait for the counter updates
+                List<ReviewTextAnalyzer.Analysis> analyses = new ArrayList<>(batch.size());
+                for (PendingReview review : batch) {
+                    analyses.add(ReviewTextAnalyzer.analyze(review.comment()));
+                }
+                synchronized (lock) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        index.apply(batch.get(i).productId(), analyses.get(i), batch.get(i).sign());
+                    }
+                }
+                indexed += batch.size();
+                batch.clear();
+            }
+            if (indexed > 0) {
+                indexedCounter.increment(indexed);
+                indexThroughput.record(perSecond(indexed, System.nanoTime() - start));
+            }
+            return indexed;
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the comments of the reviews table (on startup, then periodically)
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.reviews.text-index.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        synchronized (writer) {
+            long start = System.nanoTime();
+            // Queued up to here: committed before the snapshot below is taken
+            long position = enqueued.get();
+            int[] rows = new int[1];
+            Index rebuilt = snapshotTransaction.execute(status -> {
+                Index read = new Index(1024);
+                long afterReviewId = 0;
+                List<ReviewComment> page;
+                do {
+                    page = reviewRepository.findCommentsAfter(afterReviewId, batchSize);
+                    for (ReviewComment row : page) {
+                        read.apply(row.productId(), ReviewTextAnalyzer.analyze(row.comment()), 1);
+                        afterReviewId = row.reviewId();
+                    }
+                    rows[0] += page.size();
+                } while (page.size() == batchSize);
+                applyMissed(read, position);
+                return read;
+            });
+            synchronized (lock) {
+                index = rebuilt;
+            }
+            lastRebuiltAt = LocalDateTime.now();
+
+            long elapsed = System.nanoTime() - start;
+            rebuiltCounter.increment(rows[0]);
+            rebuildThroughput.record(perSecond(rows[0], elapsed));
+            logger.info("Review text index rebuilt from {} reviews of {} products ({} keywords) in {}ms",
+                rows[0], rebuilt.products(), rebuilt.keywords(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    /**
+     * Apply the events queued after position that the snapshot missed. Starting from whether
+     * the snapshot has the review, an addition only counts while the review is absent and a
+     * removal while it is present.
+     */
+    private void applyMissed(Index read, long position) {
+        List<PendingReview> queued = new ArrayList<>();
+        queue.drainTo(queued);
+        List<PendingReview> missed = queued.stream().filter(review -> review.sequence() > position).toList();
+
+        List<Long> reviewIds = missed.stream().map(PendingReview::reviewId).filter(Objects::nonNull).distinct().toList();
+        Map<Long, Boolean> present = new HashMap<>();
+        for (int from = 0; from < reviewIds.size(); from += batchSize) {
+            List<Long> chunk = reviewIds.subList(from, Math.min(from + batchSize, reviewIds.size()));
+            chunk.forEach(reviewId -> present.put(reviewId, false));
+            reviewRepository.findExistingIds(chunk).forEach(reviewId -> present.put(reviewId, true));
+        }
+        for (PendingReview review : missed) {
+            boolean adds = review.sign() > 0;
+            if (review.reviewId() != null && present.get(review.reviewId()) == adds) {
+                continue;
+            }
+            read.apply(review.productId(), ReviewTextAnalyzer.analyze(review.comment()), review.sign());
+            if (review.reviewId() != null) {
+                present.put(review.reviewId(), adds);
+            }
+        }
+    }
+
+    private void enqueue(Long reviewId, Long productId, String comment, int sign) {
+        if (!queue.offer(new PendingReview(enqueued.incrementAndGet(), reviewId, productId, comment, sign))) {
+            droppedCounter.increment();
+        }
+    }
+
+    private static DistributionSummary throughput(MeterRegistry meterRegistry, String source) {
+        return DistributionSummary.builder("catalog.reviews.text.index.throughput")
+            .description("Review comments tokenized and applied to the text index per second, per run")
+            .baseUnit("reviews/s")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    private static double perSecond(int reviews, long nanos) {
+        return reviews / (Math.max(1, nanos) / 1e9);
+    }
+
+    private record PendingReview(long sequence, Long reviewId, Long productId, String comment, int sign) {}
+
+    /**
+     * Product matching a search: occurrences of the keyword (0 without keyword) and average sentiment
+     */
+    public record Match(long productId, int occurrences, double sentiment, int indexedReviews) {}
+
+    /**
+     * Keyword counts and sentiment sums of every product; not thread-safe, guarded by the service lock
+     */
+    static final class Index {
+
+        private final SimilarProductsIndex.LongIntHashMap rows;
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private String[] terms = new String[1024];
+        private long[] productIds;
+        private IntIntHashMap[] termCounts;
+        private int[] reviewCounts;
+        private double[] sentimentSums;
+
+        Index(int expectedProducts) {
+            this.rows = new SimilarProductsIndex.LongIntHashMap(expectedProducts);
+            this.productIds = new long[expectedProducts];
+            this.termCounts = new IntIntHashMap[expectedProducts];
+            this.reviewCounts = new int[expectedProducts];
+            this.sentimentSums = new double[expectedProducts];
+        }
+
+        /**
+         * Add (sign 1) or remove (sign -1) one review comment
+         */
+        void apply(long productId, ReviewTextAnalyzer.Analysis analysis, int sign) {
+            int row = sign > 0 ? row(productId) : rows.get(productId);
+            if (row < 0 || (sign < 0 && reviewCounts[row] == 0)) {
+                return;
+            }
+            reviewCounts[row] += sign;
+            sentimentSums[row] += sign * analysis.sentiment();
+            if (reviewCounts[row] == 0) {
+                // Drop the rounding left over by removals
+                sentimentSums[row] = 0;
+            }
+            for (String keyword : analysis.keywords()) {
+                int term = sign > 0 ? termId(keyword) : termIds.getOrDefault(keyword, -1);
+                if (term >= 0) {
+                    termCounts[row].addTo(term, sign);
+                }
+            }
+        }
+
+        ReviewInsightsDTO insights(long productId, int keywordLimit) {
+            int row = rows.get(productId);
+            if (row < 0 || reviewCounts[row] == 0) {
+                return null;
+            }
+            IntIntHashMap counts = termCounts[row];
+            List<int[]> entries = new ArrayList<>(counts.size());
+            counts.forEach((term, count) -> entries.add(new int[] {term, count}));
+            entries.sort(Comparator.<int[]>comparingInt(entry -> -entry[1]).thenComparing(entry -> terms[entry[0]]));
+            List<ReviewInsightsDTO.Keyword> keywords = entries.stream()
+                .limit(keywordLimit)
+                .map(entry -> new ReviewInsightsDTO.Keyword(terms[entry[0]], entry[1]))
+                .toList();
+            return new ReviewInsightsDTO(sentimentSums[row] / reviewCounts[row], reviewCounts[row], keywords);
+        }
+
+        // One scan of the products, one primitive probe each: no inverted lists to maintain
+        List<Match> search(String keyword, Double minSentiment, int limit) {
+            int term = -1;
+            if (keyword != null) {
+                term = termIds.getOrDefault(keyword, -1);
+                if (term < 0) {
+                    return List.of();
+                }
+            }
+            List<Match> matches = new ArrayList<>();
+            for (int row = 0; row < rows.size(); row++) {
+                if (reviewCounts[row] == 0) {
+                    continue;
+                }
+                double sentiment = sentimentSums[row] / reviewCounts[row];
+                if (minSentiment != null && sentiment < minSentiment) {
+                    continue;
+                }
+                int occurrences = term >= 0 ? termCounts[row].get(term) : 0;
+                if (term >= 0 && occurrences <= 0) {
+                    continue;
+                }
+                matches.add(new Match(productIds[row], occurrences, sentiment, reviewCounts[row]));
+            }
+            matches.sort(Comparator.comparingInt(Match::occurrences).reversed()
+                .thenComparing(Comparator.comparingDouble(Match::sentiment).reversed())
+                .thenComparingLong(Match::productId));
+            return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+        }
+
+        int products() {
+            return rows.size();
+        }
+
+        int keywords() {
+            return termIds.size();
+        }
+
+        private int row(long productId) {
+            int row = rows.putIfAbsent(productId, rows.size());
+            if (row == productIds.length) {
+                int capacity = productIds.length * 2;
+                productIds = Arrays.copyOf(productIds, capacity);
+                termCounts = Arrays.copyOf(termCounts, capacity);
+                reviewCounts = Arrays.copyOf(reviewCounts, capacity);
+                sentimentSums = Arrays.copyOf(sentimentSums, capacity);
+            }
+            if (termCounts[row] == null) {
+                productIds[row] = productId;
+                termCounts[row] = new IntIntHashMap(8);
+            }
+            return row;
+        }
+
+        private int termId(String keyword) {
+            Integer existing = termIds.get(keyword);
+            if (existing != null) {
+                return existing;
+            }
+            int term = termIds.size();
+            termIds.put(keyword, term);
+            if (term == terms.length) {
+                terms = Arrays.copyOf(terms, terms.length * 2);
+            }
+            terms[term] = keyword;
+            return term;
+        }
+    }
+
+    /**
+     * Open-addressing hash map from non-negative int keys to int counts, no boxing
+     * Keys are never removed: a count back to 0 stays as an entry until the next rebuild
+     */
+    static final class IntIntHashMap {
+
+        private int[] keys;
+        private int[] values;
+        private int size;
+
+        IntIntHashMap(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+            this.keys = new int[capacity];
+            this.values = new int[capacity];
+            Arrays.fill(keys, -1);
+        }
+
+        /**
+         * @return Count of the key, 0 when absent
+         */
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; keys[slot] >= 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Add to the count of a key, never below 0
+         */
+        void addTo(int key, int delta) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            for (; keys[slot] >= 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    values[slot] = Math.max(0, values[slot] + delta);
+                    return;
+                }
+            }
+            if (delta <= 0) {
+                return;
+            }
+            keys[slot] = key;
+            values[slot] = delta;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Visit every key with a positive count
+         */
+        void forEach(IntIntConsumer consumer) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] >= 0 && values[slot] > 0) {
+                    consumer.accept(keys[slot], values[slot]);
+                }
+            }
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            Arrays.fill(keys, -1);
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] >= 0) {
+                    int slot = mix(oldKeys[i]) & mask;
+                    while (keys[slot] >= 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        // Fibonacci hashing: dense term IDs spread over the table
+        private static int mix(int key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+        }
+    }
+
+    @FunctionalInterface
+    interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.debugging.catalog.application.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional use case method working on one product whose ID is its first argument.
+ * With a sharded catalog the transaction runs on the shard holding that product, so the
+ * aggregate (lazy collections included) is loaded and saved in one local transaction.
+ * Without sharding it has no effect.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RoutedByProduct {
+}
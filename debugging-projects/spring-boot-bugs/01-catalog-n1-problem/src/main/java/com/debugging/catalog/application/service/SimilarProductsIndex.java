@@ -0,0 +1,558 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.SimilarProductsDTO;
+import com.debugging.catalog.domain.model.ProductLike;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Similar Products Index
+ *
+ * "Customers who liked this also liked": item-item cosine similarity between
+ * products, where each product is a sparse binary vector of the reviewers who
+ * rated it 4 or 5 (hot tier). Precomputed by a scheduled job and served from
+ * memory; a lookup is one primitive hash probe plus a slice of flat arrays.
+ *
+ * The job maps product IDs and reviewer names to dense ints and builds both
+ * adjacency lists (product -> reviewers, reviewer -> products) as CSR arrays.
+ * Products are then split across a ForkJoinPool: each worker counts the
+ * co-reviewers of one product in a dense int scratch array (touched entries
+ * only are reset) and keeps its top-K neighbours in a primitive min-heap.
+ * The cost is the sum of squared reviewer activity, not products squared;
+ * reviewers with more than max-products-per-reviewer likes (bulk or bot
+ * accounts) still count in the norms but are not expanded.
+ *
+ * Rebuilds swap the whole index, readers never see a partial one.
+ */
+@Service
+public class SimilarProductsIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarProductsIndex.class);
+
+    // Products per fork-join leaf: small enough to balance popular products across workers
+    private static final int LEAF_PRODUCTS = 64;
+
+    private final ReviewRepository reviewRepository;
+    private final MeterRegistry meterRegistry;
+    private final int topK;
+    private final int minCoReviewers;
+    private final int maxProductsPerReviewer;
+    private final int parallelism;
+
+    private volatile Neighbors neighbors = Neighbors.EMPTY;
+    private volatile LocalDateTime lastRebuiltAt;
+
+    public SimilarProductsIndex(ReviewRepository reviewRepository, MeterRegistry meterRegistry,
+                                @Value("${app.catalog.similar-products.top-k:10}") int topK,
+                                @Value("${app.catalog.similar-products.min-co-reviewers:2}") int minCoReviewers,
+                                @Value("${app.catalog.similar-products.max-products-per-reviewer:1000}") int maxProductsPerReviewer,
+                                @Value("${app.catalog.similar-products.parallelism:0}") int parallelism) {
+        if (topK < 1 || minCoReviewers < 1 || maxProductsPerReviewer < 2 || parallelism < 0) {
+            throw new IllegalArgumentException("app.catalog.similar-products requires top-k >= 1, "
+                + "min-co-reviewers >= 1, max-products-per-reviewer >= 2 and parallelism >= 0");
+        }
+        this.reviewRepository = reviewRepository;
+        this.meterRegistry = meterRegistry;
+        this.topK = topK;
+        this.minCoReviewers = minCoReviewers;
+        this.maxProductsPerReviewer = maxProductsPerReviewer;
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    /**
+     * Most similar products of one product, best first (no database access)
+     * @param limit Number of neighbours, 1 to top-k
+     */
+    public SimilarProductsDTO find(Long productId, int limit) {
+        if (limit < 1 || limit > topK) {
+            throw new IllegalArgumentException("limit must be between 1 and " + topK);
+        }
+        List<SimilarProductsDTO.Neighbor> similar = neighbors.get(productId, limit).stream()
+            .map(neighbor -> new SimilarProductsDTO.Neighbor(neighbor.productId(), neighbor.score(),
+                neighbor.coReviewers()))
+            .toList();
+        return new SimilarProductsDTO(productId, similar, lastRebuiltAt);
+    }
+
+    /**
+     * Recompute every product's neighbours from the positive reviews (first run at startup)
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.similar-products.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        List<ProductLike> rows = reviewRepository.findPositiveReviewers();
+        long[] productIds = new long[rows.size()];
+        int[] reviewers = new int[rows.size()];
+        Map<String, Integer> reviewerIds = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ProductLike row = rows.get(i);
+            productIds[i] = row.productId();
+            reviewers[i] = reviewerIds.computeIfAbsent(row.userName(), name -> reviewerIds.size());
+        }
+        long loadNanos = System.nanoTime() - start;
+
+        Neighbors computed = compute(productIds, reviewers, reviewerIds.size(), topK, minCoReviewers,
+            maxProductsPerReviewer, parallelism);
+        neighbors = computed;
+        lastRebuiltAt = LocalDateTime.now();
+
+        Timer.builder("catalog.similar.products.rebuild")
+            .description("Similarity computation of the similar products job, by worker threads")
+            .tag("parallelism", String.valueOf(parallelism))
+            .register(meterRegistry)
+            .record(computed.computeNanos(), TimeUnit.NANOSECONDS);
+        logger.info("Similar products of {} products from {} positive reviews by {} reviewers: "
+                + "loaded in {}ms, computed in {}ms on {} threads",
+            computed.products(), rows.size(), reviewerIds.size(), TimeUnit.NANOSECONDS.toMillis(loadNanos),
+            TimeUnit.NANOSECONDS.toMillis(computed.computeNanos()), parallelism);
+    }
+
+    /**
+     * Compute the top-K neighbours of every product from (product, reviewer) likes
+     * @param productIds Product of each like
+     * @param reviewers Dense reviewer ID (0 to reviewerCount - 1) of each like, duplicates allowed
+     * @param parallelism Fork-join worker threads
+     */
+    public static Neighbors compute(long[] productIds, int[] reviewers, int reviewerCount, int topK,
+                                    int minCoReviewers, int maxProductsPerReviewer, int parallelism) {
+        long start = System.nanoTime();
+
+        // Dense product numbering, in order of first appearance
+        LongIntHashMap rows = new LongIntHashMap(1024);
+        long[] denseIds = new long[1024];
+        int[] likeProducts = new int[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            int row = rows.putIfAbsent(productIds[i], rows.size());
+            if (row == denseIds.length) {
+                denseIds = Arrays.copyOf(denseIds, denseIds.length * 2);
+            }
+            denseIds[row] = productIds[i];
+            likeProducts[i] = row;
+        }
+        int products = rows.size();
+
+        Csr byProduct = Csr.of(likeProducts, reviewers, products, true);
+        Csr byReviewer = byProduct.transpose(reviewerCount);
+
+        Matrix matrix = new Matrix(byProduct, byReviewer, topK, minCoReviewers, maxProductsPerReviewer);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new SimilarityTask(matrix, 0, products));
+        } finally {
+            pool.shutdown();
+        }
+        return new Neighbors(rows, Arrays.copyOf(denseIds, products), topK, matrix.counts, matrix.neighbors,
+            matrix.scores, matrix.coReviewers, System.nanoTime() - start);
+    }
+
+    /**
+     * One neighbour: cosine similarity and number of reviewers who liked both products
+     */
+    public record Neighbor(long productId, double score, int coReviewers) {}
+
+    /**
+     * Immutable top-K neighbours of every product, rows of K slots in flat arrays
+     */
+    public static final class Neighbors {
+
+        static final Neighbors EMPTY = new Neighbors(new LongIntHashMap(0), new long[0], 1, new int[0],
+            new int[0], new float[0], new int[0], 0);
+
+        private final LongIntHashMap rows;
+        private final long[] productIds;
+        private final int topK;
+        private final int[] counts;
+        private final int[] neighbors;
+        private final float[] scores;
+        private final int[] coReviewers;
+        private final long computeNanos;
+
+        private Neighbors(LongIntHashMap rows, long[] productIds, int topK, int[] counts, int[] neighbors,
+                          float[] scores, int[] coReviewers, long computeNanos) {
+            this.rows = rows;
+            this.productIds = productIds;
+            this.topK = topK;
+            this.counts = counts;
+            this.neighbors = neighbors;
+            this.scores = scores;
+            this.coReviewers = coReviewers;
+            this.computeNanos = computeNanos;
+        }
+
+        /**
+         * @return Up to limit neighbours, best first; empty for a product without likes
+         */
+        public List<Neighbor> get(long productId, int limit) {
+            int row = rows.get(productId);
+            if (row < 0) {
+                return List.of();
+            }
+            int count = Math.min(limit, counts[row]);
+            List<Neighbor> result = new ArrayList<>(count);
+            for (int slot = row * topK; slot < row * topK + count; slot++) {
+                result.add(new Neighbor(productIds[neighbors[slot]], scores[slot], coReviewers[slot]));
+            }
+            return result;
+        }
+
+        public int products() {
+            return productIds.length;
+        }
+
+        public long computeNanos() {
+            return computeNanos;
+        }
+    }
+
+    /**
+     * Compressed sparse rows: the columns of row r are values[offsets[r] .. offsets[r + 1])
+     */
+    private record Csr(int[] offsets, int[] values) {
+
+        static Csr of(int[] rowOfEntry, int[] columnOfEntry, int rowCount, boolean deduplicate) {
+            int[] offsets = new int[rowCount + 1];
+            for (int row : rowOfEntry) {
+                offsets[row + 1]++;
+            }
+            for (int row = 0; row < rowCount; row++) {
+                offsets[row + 1] += offsets[row];
+            }
+            int[] values = new int[rowOfEntry.length];
+            int[] next = Arrays.copyOf(offsets, rowCount);
+            for (int i = 0; i < rowOfEntry.length; i++) {
+                values[next[rowOfEntry[i]]++] = columnOfEntry[i];
+            }
+            if (!deduplicate) {
+                return new Csr(offsets, values);
+            }
+            // Sort every row and drop repeated columns (several positive reviews by one reviewer)
+            int write = 0;
+            int from = 0;
+            for (int row = 0; row < rowCount; row++) {
+                int to = offsets[row + 1];
+                Arrays.sort(values, from, to);
+                offsets[row] = write;
+                for (int i = from; i < to; i++) {
+                    if (i == from || values[i] != values[i - 1]) {
+                        values[write++] = values[i];
+                    }
+                }
+                from = to;
+            }
+            offsets[rowCount] = write;
+            return new Csr(offsets, Arrays.copyOf(values, write));
+        }
+
+        // Rows filled in increasing order, so every transposed row is sorted
+        Csr transpose(int columnCount) {
+            int[] rowOfEntry = new int[values.length];
+            for (int row = 0; row < offsets.length - 1; row++) {
+                Arrays.fill(rowOfEntry, offsets[row], offsets[row + 1], row);
+            }
+            return of(values, rowOfEntry, columnCount, false);
+        }
+
+        int size(int row) {
+            return offsets[row + 1] - offsets[row];
+        }
+    }
+
+    /**
+     * Input adjacency and output rows shared by the fork-join tasks; each task writes its own rows only
+     */
+    private static final class Matrix {
+
+        final Csr byProduct;
+        final Csr byReviewer;
+        final int topK;
+        final int minCoReviewers;
+        final int maxProductsPerReviewer;
+        final int[] counts;
+        final int[] neighbors;
+        final float[] scores;
+        final int[] coReviewers;
+        // One scratch per worker thread, discarded with the pool
+        final ThreadLocal<Scratch> scratch;
+
+        Matrix(Csr byProduct, Csr byReviewer, int topK, int minCoReviewers, int maxProductsPerReviewer) {
+            this.byProduct = byProduct;
+            this.byReviewer = byReviewer;
+            this.topK = topK;
+            this.minCoReviewers = minCoReviewers;
+            this.maxProductsPerReviewer = maxProductsPerReviewer;
+            int products = byProduct.offsets().length - 1;
+            this.counts = new int[products];
+            this.neighbors = new int[products * topK];
+            this.scores = new float[products * topK];
+            this.coReviewers = new int[products * topK];
+            this.scratch = ThreadLocal.withInitial(() -> new Scratch(products, topK));
+        }
+
+        void computeRow(int product) {
+            Scratch work = scratch.get();
+            int[] shared = work.shared;
+            int[] touched = work.touched;
+            int touchedCount = 0;
+            for (int i = byProduct.offsets()[product]; i < byProduct.offsets()[product + 1]; i++) {
+                int reviewer = byProduct.values()[i];
+                if (byReviewer.size(reviewer) > maxProductsPerReviewer) {
+                    continue;
+                }
+                for (int j = byReviewer.offsets()[reviewer]; j < byReviewer.offsets()[reviewer + 1]; j++) {
+                    int other = byReviewer.values()[j];
+                    if (other != product && shared[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                }
+            }
+
+            TopK top = work.top;
+            top.clear();
+            double norm = byProduct.size(product);
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                int together = shared[other];
+                shared[other] = 0;
+                if (together >= minCoReviewers) {
+                    top.offer(other, (float) (together / Math.sqrt(norm * byProduct.size(other))), together);
+                }
+            }
+            counts[product] = top.drainSorted(product * topK, neighbors, scores, coReviewers);
+        }
+    }
+
+    private static final class Scratch {
+
+        // Co-reviewer count per product, back to zero after every row
+        final int[] shared;
+        final int[] touched;
+        final TopK top;
+
+        Scratch(int products, int topK) {
+            this.shared = new int[products];
+            this.touched = new int[products];
+            this.top = new TopK(topK);
+        }
+    }
+
+    /**
+     * Bounded min-heap on parallel primitive arrays, the worst kept neighbour at the root
+     * Order: higher score, then more co-reviewers, then lower product index
+     */
+    static final class TopK {
+
+        private final int[] products;
+        private final float[] scores;
+        private final int[] together;
+        private int size;
+
+        TopK(int capacity) {
+            this.products = new int[capacity];
+            this.scores = new float[capacity];
+            this.together = new int[capacity];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void offer(int product, float score, int coReviewers) {
+            if (size < products.length) {
+                set(size, product, score, coReviewers);
+                siftUp(size++);
+            } else if (better(product, score, coReviewers, 0)) {
+                set(0, product, score, coReviewers);
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Write the kept neighbours best first from offset, and empty the heap
+         * @return Number of neighbours written
+         */
+        int drainSorted(int offset, int[] outProducts, float[] outScores, int[] outTogether) {
+            int count = size;
+            // Pop the worst into the last free slot until empty
+            for (int slot = count - 1; slot >= 0; slot--) {
+                outProducts[offset + slot] = products[0];
+                outScores[offset + slot] = scores[0];
+                outTogether[offset + slot] = together[0];
+                size--;
+                if (size > 0) {
+                    set(0, products[size], scores[size], together[size]);
+                    siftDown(0);
+                }
+            }
+            return count;
+        }
+
+        private boolean better(int product, float score, int coReviewers, int slot) {
+            if (score != scores[slot]) {
+                return score > scores[slot];
+            }
+            if (coReviewers != together[slot]) {
+                return coReviewers > together[slot];
+            }
+            return product < products[slot];
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (!better(products[parent], scores[parent], together[parent], slot)) {
+                    return;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int worst = slot;
+                for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child < size; child++) {
+                    if (better(products[worst], scores[worst], together[worst], child)) {
+                        worst = child;
+                    }
+                }
+                if (worst == slot) {
+                    return;
+                }
+                swap(slot, worst);
+                slot = worst;
+            }
+        }
+
+        private void set(int slot, int product, float score, int coReviewers) {
+            products[slot] = product;
+            scores[slot] = score;
+            together[slot] = coReviewers;
+        }
+
+        private void swap(int a, int b) {
+            int product = products[a];
+            float score = scores[a];
+            int coReviewers = together[a];
+            set(a, products[b], scores[b], together[b]);
+            set(b, product, score, coReviewers);
+        }
+    }
+
+    private static final class SimilarityTask extends RecursiveAction {
+
+        private final Matrix matrix;
+        private final int from;
+        private final int to;
+
+        SimilarityTask(Matrix matrix, int from, int to) {
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_PRODUCTS) {
+                for (int product = from; product < to; product++) {
+                    matrix.computeRow(product);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SimilarityTask(matrix, from, middle), new SimilarityTask(matrix, middle, to));
+        }
+    }
+
+    /**
+     * Open-addressing hash map from long keys to non-negative ints, no boxing
+     */
+    static final class LongIntHashMap {
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        LongIntHashMap(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+            this.keys = new long[capacity];
+            this.values = new int[capacity];
+            Arrays.fill(values, -1);
+        }
+
+        /**
+         * @return Value of the key, -1 when absent
+         */
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; values[slot] >= 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return Existing value of the key, or value once stored
+         */
+        int putIfAbsent(long key, int value) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            for (; values[slot] >= 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+            return value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            Arrays.fill(values, -1);
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] >= 0) {
+                    int slot = mix(oldKeys[i]) & mask;
+                    while (values[slot] >= 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        // Fibonacci hashing: sequential IDs spread over the table
+        private static int mix(long key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.debugging.catalog.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single Flight - Request coalescing for identical concurrent reads
+ *
+ * The first caller for a key (the leader) runs the call on its own thread; callers
+ * arriving while it is in flight wait for the same result instead of querying again.
+ * Failures of the leader are rethrown to every waiting caller, and waiting callers
+ * give up with CoalescedCallTimeoutException after the configured timeout.
+ *
+ * Joined callers may observe a result whose query started just before their own
+ * request, so this is only meant for reads that tolerate that staleness.
+ */
+@Service
+public class SingleFlight {
+
+    static final String CALLS_METRIC = "catalog.singleflight.calls";
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${app.catalog.coalescing.timeout-ms:5000}") long timeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        Gauge.builder("catalog.singleflight.in.flight", inFlight, Map::size)
+            .description("Distinct calls currently in flight")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Run the call, or join the identical call already in flight for the key
+     *
+     * @param name Call name used as metric tag (e.g. the use case method)
+     * @param key Identity of the call, equal keys are coalesced
+     * @param call The call to run when no identical call is in flight
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Call<T> call) throws Throwable {
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+
+        if (existing == null) {
+            counter(name, "executed").increment();
+            try {
+                T result = call.call();
+                leader.complete(result);
+                return result;
+            } catch (Throwable e) {
+                leader.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, leader);
+            }
+        }
+
+        counter(name, "coalesced").increment();
+        try {
+            return (T) existing.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            counter(name, "timeout").increment();
+            throw new CoalescedCallTimeoutException(name, timeout);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder(CALLS_METRIC)
+            .description("Calls through single flight by outcome (executed, coalesced, timeout)")
+            .tag("name", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * A call that may throw anything its caller declared
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+}
@@ -0,0 +1,51 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.AddReviewRequest;
+import com.debugging.catalog.application.dto.ReviewDTO;
+import com.debugging.catalog.application.service.RoutedByProduct;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductNotFoundException;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: Add a review to a product
+ * 
+ * Goes through the Product aggregate so the rating histogram is updated
+ * and the ReviewAddedEvent is published when the product is saved.
+ * The reviews collection is not initialized: Hibernate queues the add.
+ * The product row is locked first: concurrent reviews of one product update
+ * the rating counters one after another instead of overwriting each other.
+ * With a sharded catalog the transaction runs on the product's shard.
+ */
+@Service
+@Transactional
+public class AddReviewUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AddReviewUseCase.class);
+    
+    private final ProductRepository productRepository;
+    
+    public AddReviewUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+    
+    @Timed("catalog.reviews.add")
+    @RoutedByProduct
+    public ReviewDTO execute(Long productId, AddReviewRequest request) {
+        Product product = productRepository.findByIdForUpdate(productId)
+            .orElseThrow(() -> new ProductNotFoundException(productId));
+        
+        Review review = new Review(request.getUserName(), request.getRating(), request.getComment());
+        product.addReview(review);
+        productRepository.save(product);
+        
+        logger.debug("Added review with rating {} to product {}", review.getRating(), productId);
+        return ReviewDTO.from(review);
+    }
+}
@@ -0,0 +1,183 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.BulkPriceUpdateDTO;
+import com.debugging.catalog.application.dto.BulkPriceUpdateRequest;
+import com.debugging.catalog.application.dto.PriceAdjustmentRequest;
+import com.debugging.catalog.domain.event.ProductsRepricedEvent;
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceEntry;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Use Case: Reprice many products at once
+ * 
+ * Either explicit (product ID, new price) pairs or a percentage applied to a
+ * category. Products are processed in batches of app.catalog.bulk-update.batch-size,
+ * one transaction per batch: a projection read of [id, price, category], then one
+ * batched UPDATE of the explicit prices, or for a percentage a single UPDATE that
+ * multiplies the prices of the keyset chunk in the database. The chunk's rows are
+ * locked by the read, so the changes computed from it for the events are the ones
+ * the UPDATE writes. No Product entity is loaded, so instead of a ProductPriceChangedEvent
+ * per aggregate every batch publishes a ProductsRepricedEvent, which keeps the outbox
+ * and the in-memory views (price index, statistics) in step with the table.
+ * 
+ * Batches commit independently: when a run fails, the earlier batches stay applied.
+ */
+@Service
+public class BulkUpdatePricesUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BulkUpdatePricesUseCase.class);
+    
+    private static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
+    
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    
+    public BulkUpdatePricesUseCase(ProductRepository productRepository, ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.catalog.bulk-update.batch-size:1000}") int batchSize) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * Set the price of every listed product
+     * @param request (product ID, new price) pairs, each product at most once
+     * @return Number of updated, unchanged, missing and conflicting products
+     */
+    @Timed("catalog.products.prices.bulk-update")
+    public BulkPriceUpdateDTO execute(BulkPriceUpdateRequest request) {
+        long startTime = System.currentTimeMillis();
+        Map<Long, BigDecimal> prices = new LinkedHashMap<>();
+        for (BulkPriceUpdateRequest.Item item : request.getPrices()) {
+            if (item.getPrice() == null || item.getPrice().compareTo(MIN_PRICE) < 0) {
+                throw new IllegalArgumentException("Invalid price for product " + item.getProductId());
+            }
+            if (prices.put(item.getProductId(), item.getPrice()) != null) {
+                throw new IllegalArgumentException("Duplicate product ID: " + item.getProductId());
+            }
+        }
+        
+        List<Long> ids = new ArrayList<>(prices.keySet());
+        Outcome outcome = new Outcome();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                List<PriceEntry> entries = productRepository.findPriceEntriesByIds(batch);
+                outcome.missing += batch.size() - entries.size();
+                List<PriceChange> changes = changes(entries, entry -> prices.get(entry.productId()), outcome);
+                record(changes, productRepository.updatePrices(changes), outcome);
+            });
+        }
+        
+        BulkPriceUpdateDTO result = outcome.toDTO(startTime);
+        logger.info("Bulk price update: {}", result);
+        return result;
+    }
+    
+    /**
+     * Raise or lower every price of a category by a percentage, rounded half-up to cents
+     * @param request Category (null for the whole catalog) and percentage (-100 exclusive to 1000)
+     * @return Number of updated, unchanged and conflicting products
+     */
+    @Timed("catalog.products.prices.adjust")
+    public BulkPriceUpdateDTO adjust(PriceAdjustmentRequest request) {
+        long startTime = System.currentTimeMillis();
+        BigDecimal percentage = request.getPercentage();
+        if (percentage == null || percentage.compareTo(BigDecimal.valueOf(-100)) <= 0) {
+            throw new IllegalArgumentException("Percentage must be greater than -100");
+        }
+        BigDecimal factor = BigDecimal.ONE.add(percentage.movePointLeft(2));
+        String category = request.getCategory();
+        
+        Outcome outcome = new Outcome();
+        long afterId = 0;
+        while (true) {
+            long lastId = afterId;
+            Long nextId = transactionTemplate.execute(status -> {
+                List<PriceEntry> entries = productRepository.findPriceEntriesAfter(category, lastId, batchSize);
+                if (entries.isEmpty()) {
+                    return null;
+                }
+                // Large cuts of cheap products would round to zero; the UPDATE applies the same rule
+                List<PriceChange> changes = changes(entries, entry -> entry.price().multiply(factor)
+                    .setScale(2, RoundingMode.HALF_UP).max(MIN_PRICE), outcome);
+                int updated = productRepository.adjustPrices(category, factor, MIN_PRICE, changes);
+                if (updated != changes.size()) {
+                    // A product moved into the category: the events would miss it, roll the chunk back
+                    throw new IllegalStateException("Repricing products " + changes.get(0).productId() + " to "
+                        + changes.get(changes.size() - 1).productId() + " updated " + updated + " rows, expected "
+                        + changes.size());
+                }
+                record(changes, changes, outcome);
+                return entries.get(entries.size() - 1).productId();
+            });
+            if (nextId == null) {
+                break;
+            }
+            afterId = nextId;
+        }
+        
+        BulkPriceUpdateDTO result = outcome.toDTO(startTime);
+        logger.info("Price adjustment of {}% in category {}: {}", percentage, category, result);
+        return result;
+    }
+    
+    private static List<PriceChange> changes(List<PriceEntry> entries, Function<PriceEntry, BigDecimal> newPrice,
+                                             Outcome outcome) {
+        List<PriceChange> changes = new ArrayList<>(entries.size());
+        for (PriceEntry entry : entries) {
+            BigDecimal previousPrice = entry.price();
+            BigDecimal price = newPrice.apply(entry);
+            if (price.compareTo(previousPrice) == 0) {
+                outcome.unchanged++;
+            } else {
+                changes.add(new PriceChange(entry.productId(), entry.category(), previousPrice, price));
+            }
+        }
+        return changes;
+    }
+    
+    private void record(List<PriceChange> changes, List<PriceChange> applied, Outcome outcome) {
+        outcome.updated += applied.size();
+        outcome.conflicting += changes.size() - applied.size();
+        outcome.batches++;
+        if (!applied.isEmpty()) {
+            // Listeners run on commit of the batch transaction (outbox rows right before it)
+            eventPublisher.publishEvent(new ProductsRepricedEvent(applied));
+        }
+    }
+    
+    private static final class Outcome {
+        int updated;
+        int unchanged;
+        int missing;
+        int conflicting;
+        int batches;
+        
+        BulkPriceUpdateDTO toDTO(long startTime) {
+            return new BulkPriceUpdateDTO(updated, unchanged, missing, conflicting, batches,
+                System.currentTimeMillis() - startTime);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.ProductBatchDTO;
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.service.ProductReadCache;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Use Case: Multi-get of products by ID (cart, recommendations)
+ * 
+ * Replaces one findByIdWithReviews round-trip per product: the read cache
+ * answers what it can, then the misses are loaded together in one read-only
+ * transaction (1 product query, plus 1 review query when reviews are included).
+ * A batch fully served from the cache does not borrow a connection.
+ */
+@Service
+public class GetProductsBatchUseCase {
+    
+    public static final int MAX_IDS = 100;
+    
+    private final ProductRepository productRepository;
+    private final ProductReadCache productReadCache;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    public GetProductsBatchUseCase(ProductRepository productRepository, ProductReadCache productReadCache,
+                                   PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productReadCache = productReadCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    /**
+     * @param ids Product IDs, duplicates allowed (1 to MAX_IDS)
+     * @param includeReviews Whether every review of each product is returned
+     * @return One result per requested ID, in request order
+     */
+    @Timed("catalog.get.products.batch")
+    public ProductBatchDTO execute(List<Long> ids, boolean includeReviews) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_IDS + " product IDs are required");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Product IDs must not be null");
+        }
+        
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, ProductDTO> products = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ProductDTO cached = productReadCache.get(id, includeReviews);
+            if (cached != null) {
+                products.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        int cacheHits = products.size();
+        
+        if (!misses.isEmpty()) {
+            List<ProductView> loaded = readOnlyTransaction.execute(status -> includeReviews
+                ? productRepository.findByIdsWithReviews(misses)
+                : productRepository.findByIds(misses, FetchPlan.productOnly()));
+            for (ProductView view : loaded) {
+                ProductDTO product = ProductDTO.from(view);
+                productReadCache.put(product, includeReviews);
+                products.put(product.getId(), product);
+            }
+        }
+        
+        List<ProductBatchDTO.Result> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ProductDTO product = products.get(id);
+            results.add(product != null ? ProductBatchDTO.Result.found(product) : ProductBatchDTO.Result.notFound(id));
+        }
+        return new ProductBatchDTO(results, cacheHits);
+    }
+}
@@ -0,0 +1,42 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.CatalogEventDTO;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use Case: Incremental sync of catalog changes
+ * 
+ * Consumers keep the last sequence they processed and ask for what came
+ * after it, instead of re-reading the whole catalog to detect changes.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListCatalogEventsUseCase {
+    
+    public static final int MAX_LIMIT = 1000;
+    
+    private final OutboxEventRepository outboxEventRepository;
+    
+    public ListCatalogEventsUseCase(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+    
+    @Timed("catalog.events.since")
+    public List<CatalogEventDTO> executeSince(long sequence, int limit) {
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence must not be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        return outboxEventRepository.findPublishedSince(sequence, limit).stream()
+            .map(CatalogEventDTO::from)
+            .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.ReviewDTO;
+import com.debugging.catalog.application.service.ReviewArchiveService;
+import com.debugging.catalog.domain.model.ProductNotFoundException;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case: List the reviews of a product
+ * 
+ * Reads the reviews table (hot tier) through the (product_id, created_at) index.
+ * Archived partitions are only read when the caller asks for the history.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListProductReviewsUseCase {
+    
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveService reviewArchiveService;
+    
+    public ListProductReviewsUseCase(ProductRepository productRepository, ReviewRepository reviewRepository,
+                                     ReviewArchiveService reviewArchiveService) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        this.reviewArchiveService = reviewArchiveService;
+    }
+    
+    /**
+     * @param productId Product ID
+     * @param includeHistory Whether archived reviews are appended
+     * @return Reviews newest first
+     */
+    @Timed("catalog.reviews.list")
+    public List<ReviewDTO> execute(Long productId, boolean includeHistory) {
+        List<Review> reviews = reviewRepository.findByProductId(productId);
+        if (reviews.isEmpty() && !productRepository.existsById(productId)) {
+            throw new ProductNotFoundException(productId);
+        }
+        if (!includeHistory) {
+            return reviews.stream().map(ReviewDTO::from).toList();
+        }
+        
+        // Archived partitions are all older than the hot tier
+        List<ReviewDTO> all = new ArrayList<>(reviews.size());
+        reviews.forEach(review -> all.add(ReviewDTO.from(review)));
+        reviewArchiveService.findArchivedReviews(productId).forEach(review -> all.add(ReviewDTO.from(review)));
+        return all;
+    }
+}
@@ -1,8 +1,11 @@
 package com.debugging.catalog.application.usecase;
 
 import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.service.Coalesced;
+import com.debugging.catalog.application.service.ReviewTextIndex;
 import com.debugging.catalog.domain.model.Product;
 import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.FetchPlan;
 import com.debugging.catalog.domain.repository.ProductRepository;
 import com.debugging.catalog.domain.repository.ReviewRepository;
 import io.micrometer.core.annotation.Timed;
@@ -22,6 +25,9 @@ import java.util.stream.Collectors;
  * - First query: SELECT * FROM products (1 query)
  * - For each product: SELECT * FROM reviews WHERE product_id = ? (N queries)
  * - Total: 1 + N queries = N+1 problem
+ * 
+ * Read methods marked @Coalesced share one execution among identical concurrent calls
+ * Fetch-plan listings carry the review keywords and sentiment of ReviewTextIndex
  */
 @Service
 @Transactional(readOnly = true)
@@ -31,10 +37,13 @@ public class ListProductsUseCase {
     
     private final ProductRepository productRepository;
     private final ReviewRepository reviewRepository;
+    private final ReviewTextIndex reviewTextIndex;
     
-    public ListProductsUseCase(ProductRepository productRepository, ReviewRepository reviewRepository) {
+    public ListProductsUseCase(ProductRepository productRepository, ReviewRepository reviewRepository,
+                               ReviewTextIndex reviewTextIndex) {
         this.productRepository = productRepository;
         this.reviewRepository = reviewRepository;
+        this.reviewTextIndex = reviewTextIndex;
     }
     
     /**
@@ -57,11 +66,14 @@ public class ListProductsUseCase {
         List<Product> products = productRepository.findAllProducts(); // 1 query
         logger.info("Found {} products", products.size());
         
+        boolean debug = logger.isDebugEnabled();
         List<ProductDTO> result = products.stream()
             .map(product -> {
                 // ❌ BUG: This causes N additional queries
                 List<Review> reviews = reviewRepository.findByProductId(product.getId()); // N queries
-                logger.debug("Fetched {} reviews for product {}", reviews.size(), product.getId());
+                if (debug) {
+                    logger.debug("Fetched {} reviews for product {}", reviews.size(), product.getId());
+                }
                 return ProductDTO.from(product, reviews);
             })
             .collect(Collectors.toList());
@@ -81,26 +93,77 @@ public class ListProductsUseCase {
      * 2. Total queries = 1
      */
     @Timed("catalog.list.products.optimized")
+    @Coalesced
     @Counted("catalog.list.products.optimized.count")
     public List<ProductDTO> executeOptimized() {
-        logger.info("Starting optimized implementation");
+        logger.debug("Starting optimized implementation");
         long startTime = System.currentTimeMillis();
         
-        // ✅ CORRECT: Single optimized query
-        List<Product> products = productRepository.findAllWithReviews(); // 1 query
-        logger.info("Found {} products with reviews", products.size());
+        // ✅ CORRECT: Single join query, or products then reviews (app.catalog.reviews.fetch-strategy)
+        List<Product> products = productRepository.findAllWithReviews();
+        logger.debug("Found {} products with reviews", products.size());
         
         List<ProductDTO> result = products.stream()
             .map(ProductDTO::fromWithReviews)
             .collect(Collectors.toList());
         
         long executionTime = System.currentTimeMillis() - startTime;
-        logger.info("Optimized implementation completed in {}ms for {} products", 
+        logger.debug("Optimized implementation completed in {}ms for {} products", 
                    executionTime, products.size());
         
         return result;
     }
     
+    /**
+     * ✅ FETCH PLAN: Load only what the caller renders
+     * 
+     * At most 2 queries whatever the shape (see FetchPlan)
+     */
+    @Timed("catalog.list.products.fetch.plan")
+    @Coalesced
+    public List<ProductDTO> execute(FetchPlan fetchPlan) {
+        logger.debug("Listing products with {}", fetchPlan);
+        
+        return productRepository.findAll(fetchPlan).stream()
+            .map(view -> withReviewInsights(ProductDTO.from(view, fetchPlan), fetchPlan))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * ✅ LATEST REVIEWS: Products with only their N most recent reviews
+     * 
+     * 2 queries: products + one ROW_NUMBER() window query over reviews,
+     * so the payload no longer grows with the number of reviews
+     */
+    @Timed("catalog.list.products.latest.reviews")
+    @Coalesced
+    public List<ProductDTO> executeWithLatestReviews(int reviewLimit) {
+        return execute(FetchPlan.withLatestReviews(reviewLimit));
+    }
+    
+    /**
+     * ✅ FETCH PLAN: Load the products of one category
+     */
+    @Timed("catalog.list.products.by.category")
+    @Coalesced
+    public List<ProductDTO> executeByCategory(String category, FetchPlan fetchPlan) {
+        logger.debug("Listing products in category {} with {}", category, fetchPlan);
+        
+        return productRepository.findByCategory(category, fetchPlan).stream()
+            .map(view -> withReviewInsights(ProductDTO.from(view, fetchPlan), fetchPlan))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Review keywords and sentiment from memory, except for sparse fieldsets
+     */
+    private ProductDTO withReviewInsights(ProductDTO dto, FetchPlan fetchPlan) {
+        if (fetchPlan.getShape() != FetchPlan.Shape.FIELDS) {
+            dto.setReviewInsights(reviewTextIndex.insights(dto.getId()));
+        }
+        return dto;
+    }
+    
     /**
      * Compare performance between buggy and optimized implementations
      */
@@ -0,0 +1,73 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.dto.ProductPageDTO;
+import com.debugging.catalog.application.service.PriceIndex;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Storefront price filter
+ * 
+ * Category + price range + sort by price, paginated. The in-memory PriceIndex
+ * resolves the filter, the order, the page and the total count; the database
+ * only loads the rows of the page by primary key. While the index is stale
+ * the whole query runs in SQL (range scan on (category, price) + COUNT).
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchProductsByPriceUseCase {
+    
+    private final PriceIndex priceIndex;
+    private final ProductRepository productRepository;
+    
+    public SearchProductsByPriceUseCase(PriceIndex priceIndex, ProductRepository productRepository) {
+        this.priceIndex = priceIndex;
+        this.productRepository = productRepository;
+    }
+    
+    @Timed("catalog.search.products.by.price")
+    public ProductPageDTO execute(PriceRangeQuery query) {
+        Optional<PriceIndex.Page> indexed = priceIndex.find(query);
+        if (indexed.isEmpty()) {
+            return executeFromDatabase(query);
+        }
+        
+        PriceIndex.Page page = indexed.get();
+        Map<Long, ProductView> views = productRepository.findByIds(page.productIds(), FetchPlan.productOnly()).stream()
+            .collect(Collectors.toMap(ProductView::id, Function.identity()));
+        // Keep the index order; a product deleted since the index was read is skipped
+        List<ProductDTO> content = page.productIds().stream()
+            .map(views::get)
+            .filter(view -> view != null)
+            .map(ProductDTO::from)
+            .toList();
+        return new ProductPageDTO(content, query.page(), query.size(), page.totalElements(), ProductPageDTO.SOURCE_INDEX);
+    }
+    
+    /**
+     * SQL path, also used to compare against the index
+     */
+    @Timed("catalog.search.products.by.price.database")
+    public ProductPageDTO executeFromDatabase(PriceRangeQuery query) {
+        List<ProductDTO> content = productRepository.findByPriceRange(query).stream()
+            .map(ProductDTO::from)
+            .toList();
+        // Like Spring Data, the COUNT is skipped when the page itself reveals the total
+        long total = content.size() < query.size() && (query.page() == 0 || !content.isEmpty())
+            ? query.offset() + content.size()
+            : productRepository.countByPriceRange(query);
+        return new ProductPageDTO(content, query.page(), query.size(), total, ProductPageDTO.SOURCE_DATABASE);
+    }
+}
@@ -0,0 +1,63 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.service.ReviewTextIndex;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Filter products by what their reviews say
+ *
+ * The in-memory ReviewTextIndex matches the keyword and the minimum sentiment
+ * and ranks the products; the database only loads the matching rows by
+ * primary key. No review comment is read or tokenized on the request path.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchProductsByReviewsUseCase {
+
+    private final ReviewTextIndex reviewTextIndex;
+    private final ProductRepository productRepository;
+
+    public SearchProductsByReviewsUseCase(ReviewTextIndex reviewTextIndex, ProductRepository productRepository) {
+        this.reviewTextIndex = reviewTextIndex;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * @param keyword Keyword the reviews mention, null to filter by sentiment only
+     * @param minSentiment Minimum average review sentiment (-1 to 1), null for any
+     * @param limit Maximum number of products (1 to ReviewTextIndex.MAX_RESULTS)
+     * @return Products with their review insights, most mentions first then best sentiment
+     */
+    @Timed("catalog.search.products.by.reviews")
+    public List<ProductDTO> execute(String keyword, Double minSentiment, int limit) {
+        List<ReviewTextIndex.Match> matches = reviewTextIndex.search(keyword, minSentiment, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = matches.stream().map(ReviewTextIndex.Match::productId).toList();
+        Map<Long, ProductView> views = productRepository.findByIds(productIds, FetchPlan.productOnly()).stream()
+            .collect(Collectors.toMap(ProductView::id, Function.identity()));
+        // Keep the index order; a product deleted since it was indexed is skipped
+        return productIds.stream()
+            .map(views::get)
+            .filter(view -> view != null)
+            .map(view -> {
+                ProductDTO dto = ProductDTO.from(view);
+                dto.setReviewInsights(reviewTextIndex.insights(view.id()));
+                return dto;
+            })
+            .toList();
+    }
+}
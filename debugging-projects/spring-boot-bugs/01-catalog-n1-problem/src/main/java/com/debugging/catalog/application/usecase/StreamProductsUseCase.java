@@ -0,0 +1,41 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.domain.model.ProductNotFoundException;
+import com.debugging.catalog.domain.repository.ReactiveProductRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use Case: Stream Products with Reviews (reactive read path)
+ * 
+ * Same product + reviews shape as the optimized listing, but served as a
+ * non-blocking stream: no request thread waits on the database and slow
+ * clients only pull the next page when they have consumed the previous one.
+ */
+@Service
+public class StreamProductsUseCase {
+    
+    private final ReactiveProductRepository reactiveProductRepository;
+    
+    public StreamProductsUseCase(ReactiveProductRepository reactiveProductRepository) {
+        this.reactiveProductRepository = reactiveProductRepository;
+    }
+    
+    public Flux<ProductDTO> streamAll() {
+        return reactiveProductRepository.streamAllWithReviews()
+            .map(ProductDTO::from);
+    }
+    
+    public Flux<ProductDTO> streamByCategory(String category) {
+        return reactiveProductRepository.streamByCategoryWithReviews(category)
+            .map(ProductDTO::from);
+    }
+    
+    public Mono<ProductDTO> findById(Long productId) {
+        return reactiveProductRepository.findByIdWithReviews(productId)
+            .map(ProductDTO::from)
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(productId)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.debugging.catalog.domain.event;
+
+/**
+ * Catalog Domain Event
+ * Registered by the Product/Review domain methods and published by
+ * Spring Data when the aggregate is saved (or deleted) through its repository
+ */
+public sealed interface CatalogEvent permits ProductCreatedEvent, ProductPriceChangedEvent,
+        ProductDetailsChangedEvent, ProductDeletedEvent, ReviewAddedEvent, ReviewRemovedEvent, ReviewRatingChangedEvent {
+
+    /**
+     * Identifier of the product the event belongs to.
+     * Resolved lazily because new aggregates only get their ID once persisted.
+     */
+    Long productId();
+}
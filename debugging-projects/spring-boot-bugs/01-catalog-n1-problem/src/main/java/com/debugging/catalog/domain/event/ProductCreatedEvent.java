@@ -0,0 +1,17 @@
+package com.debugging.catalog.domain.event;
+
+import com.debugging.catalog.domain.model.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * Raised when a new product is created
+ * Price and category are captured at creation so later change events apply on top of them
+ */
+public record ProductCreatedEvent(Product product, BigDecimal price, String category) implements CatalogEvent {
+
+    @Override
+    public Long productId() {
+        return product.getId();
+    }
+}
@@ -0,0 +1,17 @@
+package com.debugging.catalog.domain.event;
+
+import com.debugging.catalog.domain.model.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * Raised when a product is deleted
+ * Price and category are captured at deletion so views can drop the entries they were indexed under
+ */
+public record ProductDeletedEvent(Product product, BigDecimal price, String category) implements CatalogEvent {
+
+    @Override
+    public Long productId() {
+        return product.getId();
+    }
+}
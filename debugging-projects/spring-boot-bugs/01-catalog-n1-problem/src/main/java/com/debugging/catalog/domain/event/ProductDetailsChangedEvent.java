@@ -0,0 +1,21 @@
+package com.debugging.catalog.domain.event;
+
+import com.debugging.catalog.domain.model.Product;
+
+import java.util.Objects;
+
+/**
+ * Raised when the name, description or category of a product changes
+ */
+public record ProductDetailsChangedEvent(Product product, String previousCategory, String newCategory)
+        implements CatalogEvent {
+
+    @Override
+    public Long productId() {
+        return product.getId();
+    }
+
+    public boolean categoryChanged() {
+        return !Objects.equals(previousCategory, newCategory);
+    }
+}
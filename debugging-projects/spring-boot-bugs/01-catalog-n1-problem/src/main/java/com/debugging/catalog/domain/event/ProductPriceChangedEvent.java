@@ -0,0 +1,17 @@
+package com.debugging.catalog.domain.event;
+
+import com.debugging.catalog.domain.model.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * Raised when the price of a product changes
+ */
+public record ProductPriceChangedEvent(Product product, BigDecimal previousPrice, BigDecimal newPrice)
+        implements CatalogEvent {
+
+    @Override
+    public Long productId() {
+        return product.getId();
+    }
+}
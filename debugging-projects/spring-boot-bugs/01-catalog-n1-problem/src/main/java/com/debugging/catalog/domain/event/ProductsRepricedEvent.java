@@ -0,0 +1,15 @@
+package com.debugging.catalog.domain.event;
+
+import com.debugging.catalog.domain.model.PriceChange;
+
+import java.util.List;
+
+/**
+ * Raised once per batch of a bulk price update
+ *
+ * Bulk updates bypass the Product aggregate (set-based SQL), so there is no
+ * entity to register a ProductPriceChangedEvent on: this event carries the
+ * applied changes of the batch instead and listeners treat each of them as a
+ * price change of that product.
+ */
+public record ProductsRepricedEvent(List<PriceChange> changes) {}
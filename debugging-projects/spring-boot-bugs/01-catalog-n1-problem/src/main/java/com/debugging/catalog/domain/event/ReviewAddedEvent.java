@@ -0,0 +1,16 @@
+package com.debugging.catalog.domain.event;
+
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.Review;
+
+/**
+ * Raised when a review is added to a product
+ * The rating is captured when the event is raised
+ */
+public record ReviewAddedEvent(Product product, Review review, int rating) implements CatalogEvent {
+
+    @Override
+    public Long productId() {
+        return product.getId();
+    }
+}
@@ -0,0 +1,14 @@
+package com.debugging.catalog.domain.event;
+
+import com.debugging.catalog.domain.model.Review;
+
+/**
+ * Raised when the rating of an existing review changes
+ */
+public record ReviewRatingChangedEvent(Review review, int previousRating, int newRating) implements CatalogEvent {
+
+    @Override
+    public Long productId() {
+        return review.getProduct() != null ? review.getProduct().getId() : null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.debugging.catalog.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Review row moved from the reviews table to the archive tier, detached from the Product aggregate
+ */
+public record ArchivedReview(Long id, Long productId, String userName, int rating, String comment,
+                             LocalDateTime createdAt) {
+
+    /**
+     * Read-only review for API responses
+     */
+    public Review toReview() {
+        return Review.snapshot(id, userName, rating, comment, createdAt);
+    }
+}
@@ -0,0 +1,6 @@
+package com.debugging.catalog.domain.model;
+
+/**
+ * Number of products of one category, null for products without category
+ */
+public record CategoryCount(String category, Long count) {}
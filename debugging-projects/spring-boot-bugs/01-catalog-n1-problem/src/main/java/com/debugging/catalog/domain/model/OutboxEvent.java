@@ -0,0 +1,104 @@
+package com.debugging.catalog.domain.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Outbox Event - Catalog change written in the same transaction as the change itself
+ * 
+ * The relay publishes pending events in insertion order and only then assigns
+ * the public sequence number, so consumers reading "events since N" never miss
+ * an event that committed after a later one was already visible.
+ */
+@Entity
+@Table(name = "catalog_outbox", indexes = {
+    @Index(name = "idx_outbox_sequence", columnList = "sequence_number")
+})
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+    
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+    
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Assigned by the relay when the event is published
+    @Column(name = "sequence_number", unique = true)
+    private Long sequenceNumber;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    // Constructor for JPA
+    protected OutboxEvent() {}
+    
+    public OutboxEvent(Long productId, String eventType, String payload) {
+        this.productId = Objects.requireNonNull(productId, "Product ID cannot be null");
+        this.eventType = Objects.requireNonNull(eventType, "Event type cannot be null");
+        this.payload = Objects.requireNonNull(payload, "Payload cannot be null");
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    // Domain methods
+    public void markPublished(long sequenceNumber) {
+        if (isPublished()) {
+            throw new IllegalStateException("Outbox event " + id + " already published");
+        }
+        this.sequenceNumber = sequenceNumber;
+        this.publishedAt = LocalDateTime.now();
+    }
+    
+    public boolean isPublished() {
+        return sequenceNumber != null;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getProductId() {
+        return productId;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public Long getSequenceNumber() {
+        return sequenceNumber;
+    }
+    
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "id=" + id +
+                ", productId=" + productId +
+                ", eventType='" + eventType + '\'' +
+                ", sequenceNumber=" + sequenceNumber +
+                '}';
+    }
+}
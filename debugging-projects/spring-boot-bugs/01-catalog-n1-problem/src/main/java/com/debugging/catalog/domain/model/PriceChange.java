@@ -0,0 +1,8 @@
+package com.debugging.catalog.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Price change of one product in a bulk update, with the category it had when repriced
+ */
+public record PriceChange(Long productId, String category, BigDecimal previousPrice, BigDecimal newPrice) {}
@@ -0,0 +1,8 @@
+package com.debugging.catalog.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Number of products with one price
+ */
+public record PriceCount(BigDecimal price, Long count) {}
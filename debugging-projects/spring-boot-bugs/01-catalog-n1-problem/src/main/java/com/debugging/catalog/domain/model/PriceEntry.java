@@ -0,0 +1,8 @@
+package com.debugging.catalog.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Price and category of one product, read without loading the Product aggregate
+ */
+public record PriceEntry(Long productId, BigDecimal price, String category) {}
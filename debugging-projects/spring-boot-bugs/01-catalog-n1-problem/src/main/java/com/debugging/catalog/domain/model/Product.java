@@ -1,6 +1,14 @@
 package com.debugging.catalog.domain.model;
 
+import com.debugging.catalog.domain.event.ProductCreatedEvent;
+import com.debugging.catalog.domain.event.ProductDeletedEvent;
+import com.debugging.catalog.domain.event.ProductDetailsChangedEvent;
+import com.debugging.catalog.domain.event.ProductPriceChangedEvent;
+import com.debugging.catalog.domain.event.ReviewAddedEvent;
+import com.debugging.catalog.domain.event.ReviewRemovedEvent;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,10 +19,14 @@ import java.util.Objects;
 /**
  * Product Aggregate Root
  * Contains business logic for product management
+ * Domain methods register CatalogEvents that are published when the product is saved
  */
 @Entity
 @Table(name = "products")
-public class Product {
+@NamedEntityGraph(name = Product.WITH_REVIEWS_GRAPH, attributeNodes = @NamedAttributeNode("reviews"))
+public class Product extends AbstractAggregateRoot<Product> {
+    
+    public static final String WITH_REVIEWS_GRAPH = "Product.withReviews";
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,10 +50,16 @@ public class Product {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
-    // ❌ BUG INTENCIONAL: Lazy loading por defecto causará N+1
+    // Lazy: initialized on first access for up to 50 loaded products per query (@BatchSize),
+    // so only ListProductsUseCase.executeWithN1Bug, which queries reviews per product, still shows the N+1
     @OneToMany(mappedBy = "product", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     private List<Review> reviews = new ArrayList<>();
     
+    // Rating counters kept in sync by the domain methods so aggregates never need the reviews collection
+    @Embedded
+    private RatingHistogram ratingHistogram = new RatingHistogram();
+    
     // Constructor for JPA
     protected Product() {}
     
@@ -53,6 +71,7 @@ public class Product {
         this.category = category;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new ProductCreatedEvent(this, price, category));
     }
     
     // Domain methods
@@ -60,46 +79,75 @@ public class Product {
         Objects.requireNonNull(review, "Review cannot be null");
         reviews.add(review);
         review.setProduct(this);
+        histogram().record(review.getRating());
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new ReviewAddedEvent(this, review, review.getRating()));
     }
     
     public void removeReview(Review review) {
         if (reviews.remove(review)) {
             review.setProduct(null);
+            histogram().unrecord(review.getRating());
             this.updatedAt = LocalDateTime.now();
+            registerEvent(new ReviewRemovedEvent(this, review, review.getRating()));
         }
     }
     
+    // Called by Review.updateRating to keep the histogram in sync
+    void onReviewRatingChanged(int previousRating, int newRating) {
+        histogram().move(previousRating, newRating);
+        this.updatedAt = LocalDateTime.now();
+    }
+    
     public double getAverageRating() {
-        if (reviews.isEmpty()) {
-            return 0.0;
-        }
-        return reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
+        return histogram().average();
     }
     
     public int getReviewCount() {
-        return reviews.size();
+        return histogram().total();
     }
     
+    // Whether the reviews collection has elements; review counts come from the histogram (getReviewCount)
     public boolean hasReviews() {
         return !reviews.isEmpty();
     }
     
+    public int getPositiveReviewCount() {
+        return histogram().positiveCount();
+    }
+    
+    public int getNegativeReviewCount() {
+        return histogram().negativeCount();
+    }
+    
+    /**
+     * Review counts per rating, index 0 holds 1-star reviews and index 4 holds 5-star reviews
+     */
+    public int[] getRatingDistribution() {
+        return histogram().toArray();
+    }
+    
     public void updatePrice(BigDecimal newPrice) {
+        BigDecimal previousPrice = this.price;
         this.price = Objects.requireNonNull(newPrice, "Price cannot be null");
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new ProductPriceChangedEvent(this, previousPrice, newPrice));
     }
     
     public void updateDetails(String name, String description, String category) {
+        String previousCategory = this.category;
         if (name != null && !name.trim().isEmpty()) {
             this.name = name;
         }
         this.description = description;
         this.category = category;
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new ProductDetailsChangedEvent(this, previousCategory, category));
+    }
+    
+    // Called right before the repository deletes the product, which publishes the event
+    public void markDeleted() {
+        registerEvent(new ProductDeletedEvent(this, price, category));
     }
     
     // Getters
@@ -135,6 +183,14 @@ public class Product {
         return Collections.unmodifiableList(reviews);
     }
     
+    // Hibernate leaves embeddables null when every column is null
+    private RatingHistogram histogram() {
+        if (ratingHistogram == null) {
+            ratingHistogram = new RatingHistogram();
+        }
+        return ratingHistogram;
+    }
+    
     // Equals and HashCode
     @Override
     public boolean equals(Object o) {
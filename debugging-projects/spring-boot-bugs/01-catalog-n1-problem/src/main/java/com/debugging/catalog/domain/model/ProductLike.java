@@ -0,0 +1,6 @@
+package com.debugging.catalog.domain.model;
+
+/**
+ * Positive review (rating >= 4) of one product by one user
+ */
+public record ProductLike(Long productId, String userName) {}
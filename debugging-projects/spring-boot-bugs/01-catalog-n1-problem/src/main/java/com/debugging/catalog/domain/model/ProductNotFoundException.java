@@ -0,0 +1,18 @@
+package com.debugging.catalog.domain.model;
+
+/**
+ * Raised when an operation targets a product that does not exist
+ */
+public class ProductNotFoundException extends RuntimeException {
+    
+    private final Long productId;
+    
+    public ProductNotFoundException(Long productId) {
+        super("Product not found: " + productId);
+        this.productId = productId;
+    }
+    
+    public Long getProductId() {
+        return productId;
+    }
+}
@@ -0,0 +1,6 @@
+package com.debugging.catalog.domain.model;
+
+/**
+ * User name of one review with its ID, its product and the product's category
+ */
+public record ProductReviewer(Long reviewId, Long productId, String userName, String category) {}
@@ -0,0 +1,14 @@
+package com.debugging.catalog.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Product Statistics - Catalog-wide product aggregates computed by the database
+ */
+public record ProductStatistics(
+    Long totalProducts,
+    Long totalCategories,
+    Double averagePrice,
+    BigDecimal minPrice,
+    BigDecimal maxPrice
+) {}
@@ -0,0 +1,47 @@
+package com.debugging.catalog.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Product View - Read model returned by fetch-plan queries
+ * 
+ * Only the parts requested by the fetch plan are populated: fields that
+ * were not loaded are null and reviews is null when reviews were not requested.
+ */
+public record ProductView(
+    Long id,
+    String name,
+    String description,
+    BigDecimal price,
+    String category,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    RatingHistogram ratingHistogram,
+    List<Review> reviews
+) {
+    
+    public static ProductView of(Product product, List<Review> reviews) {
+        return new ProductView(
+            product.getId(),
+            product.getName(),
+            product.getDescription(),
+            product.getPrice(),
+            product.getCategory(),
+            product.getCreatedAt(),
+            product.getUpdatedAt(),
+            RatingHistogram.of(product.getRatingDistribution()),
+            reviews
+        );
+    }
+    
+    public static ProductView aggregates(Long id, String name, String category, RatingHistogram ratingHistogram) {
+        return new ProductView(id, name, null, null, category, null, null,
+            ratingHistogram != null ? ratingHistogram : new RatingHistogram(), null);
+    }
+    
+    public boolean reviewsLoaded() {
+        return reviews != null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.debugging.catalog.domain.model;
+
+/**
+ * Number of reviews with one rating (1-5)
+ */
+public record RatingCount(Integer rating, Long count) {}
@@ -0,0 +1,133 @@
+package com.debugging.catalog.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * Rating Histogram - Value object embedded in the Product aggregate
+ * Keeps one primitive counter per star (1..5) so rating aggregates
+ * can be answered in O(1) without loading the reviews collection
+ */
+@Embeddable
+public class RatingHistogram {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_1_count", nullable = false)
+    private int oneStar;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_2_count", nullable = false)
+    private int twoStars;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_3_count", nullable = false)
+    private int threeStars;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_4_count", nullable = false)
+    private int fourStars;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_5_count", nullable = false)
+    private int fiveStars;
+
+    public RatingHistogram() {}
+
+    /**
+     * Build a histogram from counts per rating (index 0 holds 1-star reviews)
+     */
+    public static RatingHistogram of(int[] counts) {
+        if (counts.length != MAX_RATING) {
+            throw new IllegalArgumentException("Expected " + MAX_RATING + " rating counts");
+        }
+        RatingHistogram histogram = new RatingHistogram();
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            histogram.add(rating, counts[rating - 1]);
+        }
+        return histogram;
+    }
+
+    // Domain methods
+    public void record(int rating) {
+        add(rating, 1);
+    }
+
+    public void unrecord(int rating) {
+        if (countFor(rating) == 0) {
+            throw new IllegalStateException("No reviews with rating " + rating + " to remove");
+        }
+        add(rating, -1);
+    }
+
+    public void move(int previousRating, int newRating) {
+        if (previousRating != newRating) {
+            unrecord(previousRating);
+            record(newRating);
+        }
+    }
+
+    public int countFor(int rating) {
+        return switch (rating) {
+            case 1 -> oneStar;
+            case 2 -> twoStars;
+            case 3 -> threeStars;
+            case 4 -> fourStars;
+            case 5 -> fiveStars;
+            default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+        };
+    }
+
+    public int total() {
+        return oneStar + twoStars + threeStars + fourStars + fiveStars;
+    }
+
+    public long ratingSum() {
+        return oneStar + 2L * twoStars + 3L * threeStars + 4L * fourStars + 5L * fiveStars;
+    }
+
+    public double average() {
+        int total = total();
+        return total == 0 ? 0.0 : (double) ratingSum() / total;
+    }
+
+    public int positiveCount() {
+        return fourStars + fiveStars;
+    }
+
+    public int negativeCount() {
+        return oneStar + twoStars;
+    }
+
+    /**
+     * Counts per rating, index 0 holds 1-star reviews and index 4 holds 5-star reviews
+     */
+    public int[] toArray() {
+        return new int[] {oneStar, twoStars, threeStars, fourStars, fiveStars};
+    }
+
+    private void add(int rating, int delta) {
+        switch (rating) {
+            case 1 -> oneStar += delta;
+            case 2 -> twoStars += delta;
+            case 3 -> threeStars += delta;
+            case 4 -> fourStars += delta;
+            case 5 -> fiveStars += delta;
+            default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RatingHistogram{" +
+                "1=" + oneStar +
+                ", 2=" + twoStars +
+                ", 3=" + threeStars +
+                ", 4=" + fourStars +
+                ", 5=" + fiveStars +
+                '}';
+    }
+}
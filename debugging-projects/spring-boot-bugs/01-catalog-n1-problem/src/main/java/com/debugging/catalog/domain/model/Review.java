@@ -1,16 +1,19 @@
 package com.debugging.catalog.domain.model;
 
+import com.debugging.catalog.domain.event.ReviewRatingChangedEvent;
 import jakarta.persistence.*;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
  * Review Entity - Part of Product Aggregate
  * Contains review information and business logic
+ * Rating changes register a CatalogEvent that is published when the review is saved
  */
 @Entity
 @Table(name = "reviews")
-public class Review {
+public class Review extends AbstractAggregateRoot<Review> {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -43,6 +46,16 @@ public class Review {
         this.createdAt = LocalDateTime.now();
     }
     
+    /**
+     * Rebuild a detached, read-only review from a row loaded outside JPA (reactive read path)
+     */
+    public static Review snapshot(Long id, String userName, Integer rating, String comment, LocalDateTime createdAt) {
+        Review review = new Review(userName, rating, comment);
+        review.id = id;
+        review.createdAt = createdAt;
+        return review;
+    }
+    
     // Domain methods
     private Integer validateRating(Integer rating) {
         if (rating == null || rating < 1 || rating > 5) {
@@ -52,7 +65,14 @@ public class Review {
     }
     
     public void updateRating(Integer newRating) {
+        int previousRating = this.rating;
         this.rating = validateRating(newRating);
+        if (product != null) {
+            product.onReviewRatingChanged(previousRating, this.rating);
+        }
+        if (previousRating != this.rating) {
+            registerEvent(new ReviewRatingChangedEvent(this, previousRating, this.rating));
+        }
     }
     
     public void updateComment(String newComment) {
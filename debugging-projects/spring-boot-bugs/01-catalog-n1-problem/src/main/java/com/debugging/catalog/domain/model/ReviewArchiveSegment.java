@@ -0,0 +1,174 @@
+package com.debugging.catalog.domain.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Review Archive Segment - Manifest entry of one read-only file of the archive tier
+ * 
+ * A segment holds reviews of one monthly partition (by created_at), sorted by
+ * product. The file is only part of the archive once this row commits, in the
+ * same transaction that deletes its reviews from the reviews table, so every
+ * review is counted in exactly one tier. The embedded histogram keeps the
+ * rating counts of the segment for catalog-wide aggregates, and the product ID
+ * range lets history reads skip segments without opening them.
+ */
+@Entity
+@Table(name = "review_archive_segments", indexes = {
+    @Index(name = "idx_review_archive_segments_products", columnList = "min_product_id, max_product_id")
+})
+public class ReviewArchiveSegment {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // yyyy-MM
+    @Column(name = "partition_month", nullable = false, length = 7)
+    private String partitionMonth;
+    
+    // Relative to the archive directory
+    @Column(name = "file_name", nullable = false, unique = true)
+    private String fileName;
+    
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+    
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+    
+    @Column(name = "min_product_id", nullable = false)
+    private Long minProductId;
+    
+    @Column(name = "max_product_id", nullable = false)
+    private Long maxProductId;
+    
+    @Column(name = "min_created_at", nullable = false)
+    private LocalDateTime minCreatedAt;
+    
+    @Column(name = "max_created_at", nullable = false)
+    private LocalDateTime maxCreatedAt;
+    
+    @Embedded
+    private RatingHistogram ratingHistogram = new RatingHistogram();
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructor for JPA
+    protected ReviewArchiveSegment() {}
+    
+    /**
+     * Describe a segment file written from the reviews of one month
+     * @param month Partition of the reviews
+     * @param fileName File name relative to the archive directory
+     * @param sizeBytes Compressed size of the file
+     * @param reviews Reviews in the file (at least one)
+     */
+    public ReviewArchiveSegment(YearMonth month, String fileName, long sizeBytes, List<ArchivedReview> reviews) {
+        if (reviews.isEmpty()) {
+            throw new IllegalArgumentException("A segment needs at least one review");
+        }
+        this.partitionMonth = month.toString();
+        this.fileName = Objects.requireNonNull(fileName, "File name cannot be null");
+        this.sizeBytes = sizeBytes;
+        this.rowCount = reviews.size();
+        for (ArchivedReview review : reviews) {
+            if (!YearMonth.from(review.createdAt()).equals(month)) {
+                throw new IllegalArgumentException("Review " + review.id() + " is not from " + month);
+            }
+            if (minProductId == null || review.productId() < minProductId) {
+                minProductId = review.productId();
+            }
+            if (maxProductId == null || review.productId() > maxProductId) {
+                maxProductId = review.productId();
+            }
+            if (minCreatedAt == null || review.createdAt().isBefore(minCreatedAt)) {
+                minCreatedAt = review.createdAt();
+            }
+            if (maxCreatedAt == null || review.createdAt().isAfter(maxCreatedAt)) {
+                maxCreatedAt = review.createdAt();
+            }
+            ratingHistogram.record(review.rating());
+        }
+        this.archivedAt = LocalDateTime.now();
+    }
+    
+    // Domain methods
+    public boolean mayContainProduct(Long productId) {
+        return productId >= minProductId && productId <= maxProductId;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public YearMonth getPartitionMonth() {
+        return YearMonth.parse(partitionMonth);
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+    
+    public Long getMinProductId() {
+        return minProductId;
+    }
+    
+    public Long getMaxProductId() {
+        return maxProductId;
+    }
+    
+    public LocalDateTime getMinCreatedAt() {
+        return minCreatedAt;
+    }
+    
+    public LocalDateTime getMaxCreatedAt() {
+        return maxCreatedAt;
+    }
+    
+    public RatingHistogram getRatingHistogram() {
+        return ratingHistogram != null ? ratingHistogram : new RatingHistogram();
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    // Equals and HashCode
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReviewArchiveSegment segment = (ReviewArchiveSegment) o;
+        return Objects.equals(fileName, segment.fileName);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileName);
+    }
+    
+    @Override
+    public String toString() {
+        return "ReviewArchiveSegment{" +
+                "partitionMonth='" + partitionMonth + '\'' +
+                ", fileName='" + fileName + '\'' +
+                ", rowCount=" + rowCount +
+                ", sizeBytes=" + sizeBytes +
+                ", products=" + minProductId + ".." + maxProductId +
+                '}';
+    }
+}
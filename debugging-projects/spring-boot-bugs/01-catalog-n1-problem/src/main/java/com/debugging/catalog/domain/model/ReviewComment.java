@@ -0,0 +1,6 @@
+package com.debugging.catalog.domain.model;
+
+/**
+ * Comment of one review with its ID and its product
+ */
+public record ReviewComment(Long reviewId, Long productId, String comment) {}
@@ -0,0 +1,39 @@
+package com.debugging.catalog.domain.model;
+
+/**
+ * Review Statistics - Catalog-wide review aggregates computed by the database
+ */
+public record ReviewStatistics(
+    Long totalReviews,
+    Double averageRating,
+    Long positiveReviews,
+    Long negativeReviews
+) {
+
+    /**
+     * Add reviews counted outside the reviews table (archive tier)
+     * @param ratingCounts Counts per rating, index 0 holds 1-star reviews
+     * @return Statistics of both sets of reviews
+     */
+    public ReviewStatistics plus(long[] ratingCounts) {
+        long archived = 0;
+        long archivedRatingSum = 0;
+        for (int i = 0; i < ratingCounts.length; i++) {
+            archived += ratingCounts[i];
+            archivedRatingSum += (i + 1) * ratingCounts[i];
+        }
+        if (archived == 0) {
+            return this;
+        }
+
+        long hot = totalReviews != null ? totalReviews : 0;
+        double hotRatingSum = hot == 0 || averageRating == null ? 0.0 : averageRating * hot;
+        long total = hot + archived;
+        return new ReviewStatistics(
+            total,
+            (hotRatingSum + archivedRatingSum) / total,
+            (positiveReviews != null ? positiveReviews : 0) + ratingCounts[3] + ratingCounts[4],
+            (negativeReviews != null ? negativeReviews : 0) + ratingCounts[0] + ratingCounts[1]
+        );
+    }
+}
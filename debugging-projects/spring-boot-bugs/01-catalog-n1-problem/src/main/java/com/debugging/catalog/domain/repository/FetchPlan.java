@@ -0,0 +1,157 @@
+package com.debugging.catalog.domain.repository;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fetch Plan - Describes which parts of the Product aggregate a caller needs
+ * 
+ * Each shape is loaded with at most two queries:
+ * - AGGREGATES: product id/name/category and rating histogram only (1 query)
+ * - PRODUCT: all product fields, reviews left unloaded (1 query)
+ * - REVIEWS: product fields and every review (1 query)
+ * - LATEST_REVIEWS: product fields and the latest N reviews per product (2 queries)
+ * - FIELDS: only the selected product columns (1 query), plus all or the latest N
+ *   reviews of the products when included (second query, never a join)
+ */
+public final class FetchPlan {
+    
+    public static final int DEFAULT_REVIEW_LIMIT = 3;
+    
+    public enum Shape {
+        AGGREGATES,
+        PRODUCT,
+        REVIEWS,
+        LATEST_REVIEWS,
+        FIELDS
+    }
+    
+    private final Shape shape;
+    private final int reviewLimit;
+    // Selected fields of the FIELDS shape, empty for the other shapes
+    private final Set<ProductField> fields;
+    
+    private FetchPlan(Shape shape, int reviewLimit) {
+        this(shape, reviewLimit, Set.of());
+    }
+    
+    private FetchPlan(Shape shape, int reviewLimit, Set<ProductField> fields) {
+        this.shape = Objects.requireNonNull(shape, "Fetch plan shape cannot be null");
+        this.reviewLimit = reviewLimit;
+        this.fields = fields;
+    }
+    
+    // Factory methods
+    public static FetchPlan aggregatesOnly() {
+        return new FetchPlan(Shape.AGGREGATES, 0);
+    }
+    
+    public static FetchPlan productOnly() {
+        return new FetchPlan(Shape.PRODUCT, 0);
+    }
+    
+    public static FetchPlan withReviews() {
+        return new FetchPlan(Shape.REVIEWS, Integer.MAX_VALUE);
+    }
+    
+    public static FetchPlan withLatestReviews(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Review limit must be at least 1");
+        }
+        return new FetchPlan(Shape.LATEST_REVIEWS, limit);
+    }
+    
+    /**
+     * Sparse fieldset: only the given product fields, reviews only when reviewLimit is positive
+     * @param fields Product fields to select (the id is always added)
+     * @param reviewLimit 0 for no reviews, Integer.MAX_VALUE for all, N for the latest N per product
+     */
+    public static FetchPlan fields(Set<ProductField> fields, int reviewLimit) {
+        if (reviewLimit < 0) {
+            throw new IllegalArgumentException("Review limit must not be negative");
+        }
+        Set<ProductField> selected = EnumSet.of(ProductField.ID);
+        selected.addAll(fields);
+        return new FetchPlan(Shape.FIELDS, reviewLimit, Collections.unmodifiableSet(selected));
+    }
+    
+    /**
+     * Parse a fetch plan from the listing parameters. A sparse fieldset (fields=, include=)
+     * takes precedence over the named shape (fetch=).
+     * @param fetch Shape name (aggregates, product, reviews, latest-reviews)
+     * @param fields Comma separated product fields, null for all of them
+     * @param include reviews | latest-reviews, null for none
+     * @param reviewLimit Number of reviews per product for latest-reviews
+     * @return Matching fetch plan
+     */
+    public static FetchPlan parse(String fetch, String fields, String include, int reviewLimit) {
+        if (fields == null && include == null) {
+            return parse(fetch, reviewLimit);
+        }
+        Set<ProductField> selected = fields == null ? EnumSet.allOf(ProductField.class) : ProductField.parse(fields);
+        int limit = include == null || include.isBlank() ? 0 : switch (include.trim().toLowerCase(Locale.ROOT)) {
+            case "reviews" -> Integer.MAX_VALUE;
+            case "latest-reviews" -> withLatestReviews(reviewLimit).getReviewLimit();
+            default -> throw new IllegalArgumentException("Unknown include: " + include);
+        };
+        return fields(selected, limit);
+    }
+    
+    /**
+     * Parse a fetch plan from its API name (aggregates, product, reviews, latest-reviews)
+     * @param name Shape name, case insensitive
+     * @param reviewLimit Number of reviews per product for latest-reviews
+     * @return Matching fetch plan
+     */
+    public static FetchPlan parse(String name, int reviewLimit) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "aggregates" -> aggregatesOnly();
+            case "product" -> productOnly();
+            case "reviews" -> withReviews();
+            case "latest-reviews" -> withLatestReviews(reviewLimit);
+            default -> throw new IllegalArgumentException("Unknown fetch plan: " + name);
+        };
+    }
+    
+    public Shape getShape() {
+        return shape;
+    }
+    
+    public int getReviewLimit() {
+        return reviewLimit;
+    }
+    
+    public Set<ProductField> getFields() {
+        return fields;
+    }
+    
+    public boolean includesReviews() {
+        return shape == Shape.REVIEWS || shape == Shape.LATEST_REVIEWS
+            || (shape == Shape.FIELDS && reviewLimit > 0);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FetchPlan fetchPlan = (FetchPlan) o;
+        return reviewLimit == fetchPlan.reviewLimit && shape == fetchPlan.shape && fields.equals(fetchPlan.fields);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(shape, reviewLimit, fields);
+    }
+    
+    @Override
+    public String toString() {
+        return switch (shape) {
+            case LATEST_REVIEWS -> "FetchPlan{" + shape + ", reviewLimit=" + reviewLimit + '}';
+            case FIELDS -> "FetchPlan{" + shape + ", fields=" + fields + ", reviewLimit=" + reviewLimit + '}';
+            default -> "FetchPlan{" + shape + '}';
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.debugging.catalog.domain.repository;
+
+import com.debugging.catalog.domain.model.OutboxEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Event Repository Interface
+ * Defines contract for the transactional outbox of catalog changes
+ */
+public interface OutboxEventRepository {
+    
+    /**
+     * Save an outbox event (joins the caller's transaction)
+     * @param event Event to save
+     * @return Saved event
+     */
+    OutboxEvent save(OutboxEvent event);
+    
+    /**
+     * Insert events in one batch (joins the caller's transaction).
+     * The caller's pending changes are written first, so the products the
+     * events describe are locked before the events get their position.
+     * @param events Events to insert, in order
+     */
+    void append(List<OutboxEvent> events);
+    
+    /**
+     * Find events not yet published, oldest first
+     * @param limit Maximum number of events
+     * @return Pending events in insertion order
+     */
+    List<OutboxEvent> findPending(int limit);
+    
+    /**
+     * Find published events after a sequence number
+     * @param sequenceNumber Last sequence number the consumer has seen
+     * @param limit Maximum number of events
+     * @return Published events ordered by sequence number
+     */
+    List<OutboxEvent> findPublishedSince(long sequenceNumber, int limit);
+    
+    /**
+     * Highest sequence number assigned so far
+     * @return Last sequence number, 0 when nothing was published yet
+     */
+    long findLastSequenceNumber();
+    
+    /**
+     * Delete published events older than a point in time.
+     * The last published event is always kept so sequence numbers keep growing.
+     * @param publishedBefore Retention limit
+     * @return Number of deleted events
+     */
+    int deletePublishedBefore(LocalDateTime publishedBefore);
+}
@@ -0,0 +1,54 @@
+package com.debugging.catalog.domain.repository;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Price Range Query - Storefront filter on price, optionally within one category,
+ * sorted by price and paginated
+ * 
+ * Products with the same price are ordered by ID so pages are stable.
+ */
+public record PriceRangeQuery(
+    String category,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    boolean descending,
+    int page,
+    int size
+) {
+    
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    public PriceRangeQuery {
+        Objects.requireNonNull(minPrice, "Minimum price cannot be null");
+        Objects.requireNonNull(maxPrice, "Maximum price cannot be null");
+        if (minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot be greater than maximum price");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+    
+    /**
+     * Parse the sort direction from its API name (asc, desc)
+     * @param sort Sort direction, case insensitive
+     * @return true for descending order
+     */
+    public static boolean parseDescending(String sort) {
+        return switch (sort.trim().toLowerCase(Locale.ROOT)) {
+            case "asc" -> false;
+            case "desc" -> true;
+            default -> throw new IllegalArgumentException("Unknown price sort: " + sort);
+        };
+    }
+    
+    public long offset() {
+        return (long) page * size;
+    }
+}
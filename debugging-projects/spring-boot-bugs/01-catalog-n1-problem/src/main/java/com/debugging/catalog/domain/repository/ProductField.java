@@ -0,0 +1,72 @@
+package com.debugging.catalog.domain.repository;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Product Field - One field of the product representation, selectable with a sparse fieldset
+ * 
+ * Each field names the JSON property it fills and the Product attribute that has to be
+ * selected for it; the rating fields are all derived from the embedded rating histogram.
+ */
+public enum ProductField {
+    
+    ID("id", "id"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    PRICE("price", "price"),
+    CATEGORY("category", "category"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    AVERAGE_RATING("averageRating", "ratingHistogram"),
+    REVIEW_COUNT("reviewCount", "ratingHistogram"),
+    POSITIVE_REVIEW_COUNT("positiveReviewCount", "ratingHistogram"),
+    NEGATIVE_REVIEW_COUNT("negativeReviewCount", "ratingHistogram"),
+    RATING_DISTRIBUTION("ratingDistribution", "ratingHistogram");
+    
+    private final String apiName;
+    private final String attribute;
+    
+    ProductField(String apiName, String attribute) {
+        this.apiName = apiName;
+        this.attribute = attribute;
+    }
+    
+    /**
+     * Parse a comma separated list of API names (id,name,price,averageRating...).
+     * The id is always included: results are keyed and ordered by it.
+     * @param fields API names, case insensitive
+     * @return Requested fields
+     */
+    public static Set<ProductField> parse(String fields) {
+        Set<ProductField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.add(fromApiName(trimmed));
+            }
+        }
+        return parsed;
+    }
+    
+    public static ProductField fromApiName(String name) {
+        for (ProductField field : values()) {
+            if (field.apiName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown product field: " + name.toLowerCase(Locale.ROOT));
+    }
+    
+    public String getApiName() {
+        return apiName;
+    }
+    
+    /**
+     * Product attribute selected for this field
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+}
@@ -1,6 +1,13 @@
 package com.debugging.catalog.domain.repository;
 
+import com.debugging.catalog.domain.model.CategoryCount;
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceCount;
+import com.debugging.catalog.domain.model.PriceEntry;
 import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductStatistics;
+import com.debugging.catalog.domain.model.ProductView;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +39,14 @@ public interface ProductRepository {
      */
     Optional<Product> findById(Long id);
     
+    /**
+     * Find product by ID and lock its row until the transaction ends.
+     * Concurrent read-modify-writes of the aggregate (rating counters) then run one after another.
+     * @param id Product ID
+     * @return Optional containing the locked product if found
+     */
+    Optional<Product> findByIdForUpdate(Long id);
+    
     /**
      * Find product by ID with reviews loaded
      * @param id Product ID
@@ -53,6 +68,29 @@ public interface ProductRepository {
      */
     List<Product> findByCategoryWithReviews(String category);
     
+    /**
+     * Find all products loading only what the fetch plan asks for
+     * @param fetchPlan Parts of the aggregate to load
+     * @return Product views ordered by ID
+     */
+    List<ProductView> findAll(FetchPlan fetchPlan);
+    
+    /**
+     * Find products by category loading only what the fetch plan asks for
+     * @param category Product category
+     * @param fetchPlan Parts of the aggregate to load
+     * @return Product views in the category ordered by ID
+     */
+    List<ProductView> findByCategory(String category, FetchPlan fetchPlan);
+    
+    /**
+     * Find product by ID loading only what the fetch plan asks for
+     * @param id Product ID
+     * @param fetchPlan Parts of the aggregate to load
+     * @return Optional containing the product view if found
+     */
+    Optional<ProductView> findById(Long id, FetchPlan fetchPlan);
+    
     /**
      * Find products by price range
      * @param minPrice Minimum price
@@ -61,6 +99,83 @@ public interface ProductRepository {
      */
     List<Product> findByPriceRange(java.math.BigDecimal minPrice, java.math.BigDecimal maxPrice);
     
+    /**
+     * Find one page of products by price range, sorted by price, without reviews
+     * @param query Category, price range, sort direction and page
+     * @return Product views of the requested page
+     */
+    List<ProductView> findByPriceRange(PriceRangeQuery query);
+    
+    /**
+     * Count products matching a price range query (ignores its page)
+     * @param query Category and price range
+     * @return Number of matching products
+     */
+    long countByPriceRange(PriceRangeQuery query);
+    
+    /**
+     * Find products by ID loading only what the fetch plan asks for
+     * @param ids Product IDs
+     * @param fetchPlan Parts of the aggregate to load
+     * @return Product views of the existing IDs ordered by ID
+     */
+    List<ProductView> findByIds(List<Long> ids, FetchPlan fetchPlan);
+    
+    /**
+     * Find products by ID with all their reviews: one product query and one review query,
+     * instead of a join that repeats every product row once per review
+     * @param ids Product IDs
+     * @return Product views of the existing IDs ordered by ID, reviews newest first
+     */
+    List<ProductView> findByIdsWithReviews(List<Long> ids);
+    
+    /**
+     * Get the price index entries of every product
+     * @return Price entries ordered by price and ID
+     */
+    List<PriceEntry> findAllPriceEntries();
+    
+    /**
+     * Get the price entries of some products
+     * @param ids Product IDs
+     * @return Price entries of the existing IDs
+     */
+    List<PriceEntry> findPriceEntriesByIds(List<Long> ids);
+    
+    /**
+     * Get the next price entries after a product ID, optionally within one category.
+     * The rows stay locked until the transaction ends, so their prices cannot change before adjustPrices.
+     * @param category Category, or null for the whole catalog
+     * @param afterId Last product ID of the previous batch (0 to start)
+     * @param limit Maximum number of rows
+     * @return Price entries ordered by product ID
+     */
+    List<PriceEntry> findPriceEntriesAfter(String category, long afterId, int limit);
+    
+    /**
+     * Apply price changes with set-based SQL, bypassing the Product aggregate.
+     * A change is skipped when the product no longer has its previous price.
+     * Bumps updated_at, refreshes the products managed by the persistence context
+     * and evicts them from the second-level cache.
+     * @param changes Price changes (product ID, previous price, new price)
+     * @return Changes that were applied
+     */
+    List<PriceChange> updatePrices(List<PriceChange> changes);
+    
+    /**
+     * Multiply prices in the database: price = max(round(price * factor, 2), minPrice), one UPDATE
+     * over the products of the category between the first and last ID of the changes, skipping
+     * the prices it would not change. The changes are the expected result, computed by the caller
+     * from rows it locked with findPriceEntriesAfter. Bumps updated_at, refreshes the products
+     * managed by the persistence context and evicts them from the second-level cache.
+     * @param category Category, or null for the whole catalog
+     * @param factor Price multiplier
+     * @param minPrice Lowest price after rounding
+     * @param changes Expected price changes, ordered by product ID
+     * @return Number of products updated: the number of changes, unless a product entered the category concurrently
+     */
+    int adjustPrices(String category, BigDecimal factor, BigDecimal minPrice, List<PriceChange> changes);
+    
     /**
      * Save product
      * @param product Product to save
@@ -93,4 +208,22 @@ public interface ProductRepository {
      * @return List of products with high ratings
      */
     List<Product> findByAverageRatingGreaterThan(double minRating);
+    
+    /**
+     * Get catalog-wide product aggregates (count, categories, average/min/max price)
+     * @return Product statistics computed by the database
+     */
+    ProductStatistics getProductStatistics();
+    
+    /**
+     * Count products grouped by category
+     * @return One count per category, including null for products without category
+     */
+    List<CategoryCount> countProductsGroupedByCategory();
+    
+    /**
+     * Count products grouped by price
+     * @return One count per distinct price
+     */
+    List<PriceCount> countProductsGroupedByPrice();
 }
@@ -0,0 +1,33 @@
+package com.debugging.catalog.domain.repository;
+
+import com.debugging.catalog.domain.model.ProductView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Product Repository Interface
+ * Non-blocking read-only access to products with their reviews.
+ * Writes keep going through ProductRepository (JPA).
+ */
+public interface ReactiveProductRepository {
+    
+    /**
+     * Stream all products with reviews, one page of products (plus one reviews query) per demand
+     * @return Products ordered by id
+     */
+    Flux<ProductView> streamAllWithReviews();
+    
+    /**
+     * Stream the products of a category with reviews
+     * @param category Product category
+     * @return Products ordered by id
+     */
+    Flux<ProductView> streamByCategoryWithReviews(String category);
+    
+    /**
+     * Find one product with its reviews
+     * @param id Product ID
+     * @return Product, or empty when it does not exist
+     */
+    Mono<ProductView> findByIdWithReviews(Long id);
+}
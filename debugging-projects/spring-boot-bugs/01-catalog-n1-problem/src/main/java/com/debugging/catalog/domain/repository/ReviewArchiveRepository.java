@@ -0,0 +1,50 @@
+package com.debugging.catalog.domain.repository;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.ReviewArchiveSegment;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Review Archive Repository Interface
+ * Defines contract for the compressed, read-only segment files of the archive tier
+ */
+public interface ReviewArchiveRepository {
+    
+    /**
+     * Write reviews of one monthly partition to a new read-only segment file.
+     * The file is not part of the archive until the returned segment is saved.
+     * @param month Partition of the reviews
+     * @param reviews Reviews created in that month
+     * @return Unsaved manifest entry describing the file
+     */
+    ReviewArchiveSegment write(YearMonth month, List<ArchivedReview> reviews);
+    
+    /**
+     * Read the reviews of one product from a segment
+     * @param segment Segment to read
+     * @param productId Product ID
+     * @return Reviews of the product in the segment, oldest first
+     */
+    List<ArchivedReview> findByProductId(ReviewArchiveSegment segment, Long productId);
+    
+    /**
+     * Read only the product and reviewer columns of a segment
+     * @param segment Segment to read
+     * @param consumer Receives (productId, userName) for every review
+     */
+    void forEachReviewer(ReviewArchiveSegment segment, BiConsumer<Long, String> consumer);
+    
+    /**
+     * List every file on disk: saved segments, unsaved ones and leftovers of interrupted writes
+     * @return File names relative to the archive directory
+     */
+    List<String> listFileNames();
+    
+    /**
+     * Delete a file that never made it into the manifest
+     * @param fileName File name relative to the archive directory
+     */
+    void delete(String fileName);
+}
@@ -0,0 +1,31 @@
+package com.debugging.catalog.domain.repository;
+
+import com.debugging.catalog.domain.model.ReviewArchiveSegment;
+import java.util.List;
+
+/**
+ * Review Archive Segment Repository Interface
+ * Defines contract for the manifest of the review archive tier
+ */
+public interface ReviewArchiveSegmentRepository {
+    
+    /**
+     * Save a segment (joins the caller's transaction)
+     * @param segment Segment whose file has been written
+     * @return Saved segment
+     */
+    ReviewArchiveSegment save(ReviewArchiveSegment segment);
+    
+    /**
+     * Find every segment of the archive
+     * @return Segments ordered by partition month and ID
+     */
+    List<ReviewArchiveSegment> findAllSegments();
+    
+    /**
+     * Find the segments whose product ID range covers a product
+     * @param productId Product ID
+     * @return Candidate segments, newest partition first
+     */
+    List<ReviewArchiveSegment> findSegmentsForProduct(Long productId);
+}
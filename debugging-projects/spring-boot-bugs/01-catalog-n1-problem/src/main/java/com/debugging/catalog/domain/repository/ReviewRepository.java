@@ -1,12 +1,24 @@
 package com.debugging.catalog.domain.repository;
 
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.ProductLike;
+import com.debugging.catalog.domain.model.ProductReviewer;
+import com.debugging.catalog.domain.model.RatingCount;
 import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.model.ReviewComment;
+import com.debugging.catalog.domain.model.ReviewStatistics;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Review Repository Interface
  * Defines contract for review persistence operations
+ * 
+ * Finders read the reviews table only (hot tier, recent partitions). Reviews
+ * moved to the archive tier are read through ReviewArchiveService; the rating
+ * aggregates below count both tiers.
  */
 public interface ReviewRepository {
     
@@ -23,6 +35,21 @@ public interface ReviewRepository {
      */
     List<Review> findByProductId(Long productId);
     
+    /**
+     * Find the latest reviews of each product in a single windowed query
+     * @param productIds Product IDs
+     * @param limit Maximum number of reviews per product
+     * @return Reviews ordered by product ID, newest first within each product
+     */
+    List<Review> findLatestByProductIds(Collection<Long> productIds, int limit);
+    
+    /**
+     * Find every review of several products in a single query
+     * @param productIds Product IDs
+     * @return Reviews ordered by product ID, newest first within each product
+     */
+    List<Review> findByProductIds(Collection<Long> productIds);
+    
     /**
      * Find review by ID
      * @param id Review ID
@@ -95,4 +122,69 @@ public interface ReviewRepository {
      * @return Average rating or 0.0 if no reviews
      */
     double getAverageRatingByProductId(Long productId);
+    
+    /**
+     * Find the best rated products (at least 3 reviews, both tiers)
+     * @param limit Maximum number of products
+     * @return Product IDs, highest average rating first
+     */
+    List<Long> findTopRatedProductIds(int limit);
+    
+    /**
+     * Get catalog-wide review aggregates (count, average rating, positive/negative split), archive included
+     * @return Review statistics computed by the database
+     */
+    ReviewStatistics getReviewStatistics();
+    
+    /**
+     * Count reviews grouped by rating, archive included
+     * @return One count per rating that has reviews
+     */
+    List<RatingCount> countReviewsGroupedByRating();
+    
+    /**
+     * Get the reviewers of the hot tier after a review ID, with their product and category (keyset pagination)
+     * @param afterReviewId Last review ID of the previous page, 0 for the first page
+     * @param limit Maximum number of reviewers
+     * @return One reviewer per review, ordered by review ID
+     */
+    List<ProductReviewer> findReviewersAfter(long afterReviewId, int limit);
+    
+    /**
+     * Get the reviewer of every positive review (rating >= 4) of the hot tier with its product
+     * @return One like per positive review
+     */
+    List<ProductLike> findPositiveReviewers();
+    
+    /**
+     * Get the comments of the hot tier after a review ID, with their product (keyset pagination)
+     * @param afterReviewId Last review ID of the previous page, 0 for the first page
+     * @param limit Maximum number of comments
+     * @return One comment per review (null when the review has none), ordered by review ID
+     */
+    List<ReviewComment> findCommentsAfter(long afterReviewId, int limit);
+    
+    /**
+     * Find which of some review IDs are in the hot tier
+     * @param reviewIds Review IDs
+     * @return The IDs that exist, in no particular order
+     */
+    List<Long> findExistingIds(Collection<Long> reviewIds);
+    
+    /**
+     * Find reviews of the hot tier created before a point in time
+     * @param createdBefore Exclusive upper bound of created_at
+     * @param limit Maximum number of reviews
+     * @return Reviews, lowest ID first
+     */
+    List<ArchivedReview> findCreatedBefore(LocalDateTime createdBefore, int limit);
+    
+    /**
+     * Delete archived reviews from the reviews table with set-based SQL, bypassing the
+     * Product aggregate: the rating histograms keep counting them.
+     * A review is only deleted while it still has the rating it was archived with.
+     * @param reviews Reviews written to the archive tier
+     * @return Number of deleted reviews
+     */
+    int deleteArchived(List<ArchivedReview> reviews);
 }
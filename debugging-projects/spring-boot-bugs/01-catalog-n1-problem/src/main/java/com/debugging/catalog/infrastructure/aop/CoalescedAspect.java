@@ -0,0 +1,43 @@
+package com.debugging.catalog.infrastructure.aop;
+
+import com.debugging.catalog.application.service.SingleFlight;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routes @Coalesced methods through SingleFlight, keyed by method and arguments
+ *
+ * Ordered before the transaction interceptor so callers that join an in-flight
+ * call never open a transaction or borrow a connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CoalescedAspect {
+
+    private final SingleFlight singleFlight;
+
+    public CoalescedAspect(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @Around("@annotation(com.debugging.catalog.application.service.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        CallKey key = new CallKey(method, Arrays.asList(joinPoint.getArgs()));
+        return singleFlight.execute(name, key, joinPoint::proceed);
+    }
+
+    private record CallKey(Method method, List<Object> arguments) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.debugging.catalog.infrastructure.aop;
+
+import com.debugging.catalog.infrastructure.shard.ShardContext;
+import com.debugging.catalog.infrastructure.shard.ShardedProductRepository;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Binds @RoutedByProduct use cases to the shard holding their product
+ *
+ * Ordered after the profiling aspect and before the transaction interceptor:
+ * the transaction takes its connection from the shard bound here. A call made
+ * inside a transaction already running on another shard is rejected instead of
+ * silently reading the wrong shard.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "app.catalog.sharding.enabled", havingValue = "true")
+public class ShardRoutingAspect {
+
+    private final ShardedProductRepository productRepository;
+
+    public ShardRoutingAspect(ShardedProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Around("@annotation(com.debugging.catalog.application.service.RoutedByProduct) && args(productId, ..)")
+    public Object route(ProceedingJoinPoint joinPoint, Long productId) throws Throwable {
+        int shard = productRepository.locate(productId, null);
+        if (TransactionSynchronizationManager.isActualTransactionActive() && ShardContext.current() != shard) {
+            throw new IllegalStateException("Product " + productId + " is on shard " + shard
+                + " but the current transaction runs on shard " + ShardContext.current());
+        }
+        return ShardContext.on(shard, joinPoint::proceed);
+    }
+}
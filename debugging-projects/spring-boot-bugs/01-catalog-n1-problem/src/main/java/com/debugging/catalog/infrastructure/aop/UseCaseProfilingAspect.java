@@ -0,0 +1,94 @@
+package com.debugging.catalog.infrastructure.aop;
+
+import com.debugging.catalog.infrastructure.jdbc.JdbcProfile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breaks every synchronous use-case invocation down into pool wait, JDBC and mapping time
+ *
+ * Ordered after CoalescedAspect (callers that join an in-flight call are not
+ * profiled) and before the transaction interceptor, so the connection borrowed
+ * when the transaction begins is part of the profile. Publishes, tagged by
+ * use case (Class.method):
+ * - catalog.usecase.connection.acquire: waiting for a pooled connection
+ * - catalog.usecase.jdbc.execution: executing statements and fetching rows
+ * - catalog.usecase.mapping: everything else (entity hydration, DTO mapping, application code)
+ * - catalog.usecase.jdbc.statements / catalog.usecase.jdbc.rows: per invocation
+ * High acquire time with normal execution time means pool starvation, not slow queries.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class UseCaseProfilingAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public UseCaseProfilingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Reactive use cases return before any query runs and do not use the JDBC pool
+    @Around("execution(public * com.debugging.catalog.application.usecase..*(..))"
+            + " && !execution(org.reactivestreams.Publisher+ *(..))")
+    public Object profile(ProceedingJoinPoint joinPoint) throws Throwable {
+        JdbcProfile profile = JdbcProfile.start();
+        if (profile == null) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long total = System.nanoTime() - start;
+            profile.stop();
+            record(useCase(joinPoint), profile, total);
+        }
+    }
+
+    private void record(String useCase, JdbcProfile profile, long totalNanos) {
+        long mapping = Math.max(0, totalNanos - profile.getConnectionAcquireNanos() - profile.getExecutionNanos());
+        timer("catalog.usecase.connection.acquire", "Time waiting for a pooled JDBC connection", useCase)
+            .record(profile.getConnectionAcquireNanos(), TimeUnit.NANOSECONDS);
+        timer("catalog.usecase.jdbc.execution", "Time executing statements and fetching rows", useCase)
+            .record(profile.getExecutionNanos(), TimeUnit.NANOSECONDS);
+        timer("catalog.usecase.mapping", "Time outside JDBC: entity hydration, mapping and application code", useCase)
+            .record(mapping, TimeUnit.NANOSECONDS);
+        summary("catalog.usecase.jdbc.statements", "JDBC statements executed per invocation", "statements", useCase)
+            .record(profile.getStatements());
+        summary("catalog.usecase.jdbc.rows", "Rows fetched per invocation", "rows", useCase)
+            .record(profile.getRows());
+    }
+
+    private Timer timer(String name, String description, String useCase) {
+        return Timer.builder(name)
+            .description(description)
+            .tag("usecase", useCase)
+            .register(meterRegistry);
+    }
+
+    private DistributionSummary summary(String name, String description, String unit, String useCase) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit(unit)
+            .tag("usecase", useCase)
+            .register(meterRegistry);
+    }
+
+    private static String useCase(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,172 @@
+package com.debugging.catalog.infrastructure.archive;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.ReviewArchiveSegment;
+import com.debugging.catalog.domain.repository.ReviewArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Local-disk implementation of the review archive tier
+ *
+ * One directory per monthly partition ({directory}/2026-03/), one columnar
+ * segment file per archiving batch (see ReviewSegmentCodec). Files are written
+ * to a temporary name, forced to disk, atomically renamed and made read-only:
+ * a segment on disk is always complete and never changes afterwards.
+ */
+@Repository
+public class FileReviewArchiveRepository implements ReviewArchiveRepository {
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    public FileReviewArchiveRepository(@Value("${app.catalog.reviews.archive.directory:target/review-archive}") Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public ReviewArchiveSegment write(YearMonth month, List<ArchivedReview> reviews) {
+        // Reviews are archived oldest ID first, so the first ID names the batch uniquely
+        long firstId = reviews.stream().mapToLong(ArchivedReview::id).min()
+            .orElseThrow(() -> new IllegalArgumentException("Nothing to archive"));
+        String fileName = month + "/reviews-" + firstId + SEGMENT_SUFFIX;
+        Path target = resolve(fileName);
+        try {
+            byte[] content = ReviewSegmentCodec.encode(reviews);
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), "reviews-", TEMPORARY_SUFFIX);
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            target.toFile().setReadOnly();
+            return new ReviewArchiveSegment(month, fileName, content.length, reviews);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write review segment " + fileName, e);
+        }
+    }
+
+    @Override
+    public List<ArchivedReview> findByProductId(ReviewArchiveSegment segment, Long productId) {
+        try (RandomAccessFile file = open(segment)) {
+            ReviewSegmentCodec.Reader reader = ReviewSegmentCodec.open(file);
+            long[] productIds = reader.productIds();
+            // Rows are sorted by product: binary search the first one, stop after the last
+            int from = firstIndexOf(productIds, productId);
+            if (from < 0) {
+                return List.of();
+            }
+            boolean[] selected = new boolean[reader.rowCount()];
+            int to = from;
+            while (to < productIds.length && productIds[to] == productId) {
+                selected[to++] = true;
+            }
+
+            LocalDateTime[] createdAt = reader.createdAt(productIds);
+            long[] ids = reader.ids();
+            byte[] ratings = reader.ratings();
+            String[] userNames = reader.userNames();
+            String[] comments = reader.comments(selected);
+            List<ArchivedReview> reviews = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                reviews.add(new ArchivedReview(ids[i], productIds[i], userNames[i], ratings[i], comments[i],
+                    createdAt[i]));
+            }
+            return reviews;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read review segment " + segment.getFileName(), e);
+        }
+    }
+
+    @Override
+    public void forEachReviewer(ReviewArchiveSegment segment, BiConsumer<Long, String> consumer) {
+        try (RandomAccessFile file = open(segment)) {
+            ReviewSegmentCodec.Reader reader = ReviewSegmentCodec.open(file);
+            long[] productIds = reader.productIds();
+            String[] userNames = reader.userNames();
+            for (int i = 0; i < productIds.length; i++) {
+                consumer.accept(productIds[i], userNames[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read review segment " + segment.getFileName(), e);
+        }
+    }
+
+    @Override
+    public List<String> listFileNames() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            return files
+                .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)
+                    || path.getFileName().toString().endsWith(TEMPORARY_SUFFIX))
+                .map(path -> directory.relativize(path).toString().replace('\\', '/'))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list review segments in " + directory, e);
+        }
+    }
+
+    @Override
+    public void delete(String fileName) {
+        try {
+            Files.deleteIfExists(resolve(fileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete review segment " + fileName, e);
+        }
+    }
+
+    private RandomAccessFile open(ReviewArchiveSegment segment) throws IOException {
+        return new RandomAccessFile(resolve(segment.getFileName()).toFile(), "r");
+    }
+
+    private Path resolve(String fileName) {
+        Path path = directory.resolve(fileName).normalize();
+        if (!path.startsWith(directory)) {
+            throw new IllegalArgumentException("Segment outside the archive directory: " + fileName);
+        }
+        return path;
+    }
+
+    private static int firstIndexOf(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                if (sorted[middle] == value) {
+                    found = middle;
+                }
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,349 @@
+package com.debugging.catalog.infrastructure.archive;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Columnar file format of a review archive segment
+ *
+ * Rows are sorted by (product ID, created_at, ID) and every column is stored
+ * as its own deflate-compressed block, so a reader only inflates the columns
+ * it needs (the reviewer rebuild never touches the comments):
+ * <pre>
+ *   int magic, int version, int rowCount, int columnCount
+ *   columnCount x (int compressedLength)     in COLUMNS order
+ *   column blocks
+ * </pre>
+ * Encodings: product ID and created_at (epoch microseconds, UTC) as varint
+ * deltas, review ID as zigzag varint delta, rating as one byte, user name
+ * dictionary-encoded, comment as length-prefixed UTF-8 (0 for null).
+ */
+final class ReviewSegmentCodec {
+
+    static final int MAGIC = 0x52565347; // "RVSG"
+    static final int VERSION = 1;
+
+    static final int PRODUCT_ID = 0;
+    static final int CREATED_AT = 1;
+    static final int ID = 2;
+    static final int RATING = 3;
+    static final int USER_NAME = 4;
+    static final int COMMENT = 5;
+    private static final int COLUMNS = 6;
+
+    private static final Comparator<ArchivedReview> ROW_ORDER = Comparator
+        .comparing(ArchivedReview::productId)
+        .thenComparing(ArchivedReview::createdAt)
+        .thenComparing(ArchivedReview::id);
+
+    private ReviewSegmentCodec() {}
+
+    /**
+     * Encode reviews into a complete segment file
+     */
+    static byte[] encode(List<ArchivedReview> reviews) throws IOException {
+        List<ArchivedReview> rows = new ArrayList<>(reviews);
+        rows.sort(ROW_ORDER);
+
+        byte[][] blocks = new byte[COLUMNS][];
+        blocks[PRODUCT_ID] = compress(out -> {
+            long previous = 0;
+            for (ArchivedReview row : rows) {
+                writeVarLong(out, row.productId() - previous);
+                previous = row.productId();
+            }
+        });
+        blocks[CREATED_AT] = compress(out -> {
+            long previousProduct = -1;
+            long previous = 0;
+            for (ArchivedReview row : rows) {
+                // Deltas restart with every product so they stay non-negative
+                if (row.productId() != previousProduct) {
+                    previous = 0;
+                    previousProduct = row.productId();
+                }
+                long micros = toEpochMicros(row.createdAt());
+                writeVarLong(out, micros - previous);
+                previous = micros;
+            }
+        });
+        blocks[ID] = compress(out -> {
+            long previous = 0;
+            for (ArchivedReview row : rows) {
+                writeVarLong(out, zigZag(row.id() - previous));
+                previous = row.id();
+            }
+        });
+        blocks[RATING] = compress(out -> {
+            for (ArchivedReview row : rows) {
+                out.writeByte(row.rating());
+            }
+        });
+        blocks[USER_NAME] = compress(out -> {
+            Map<String, Integer> dictionary = new HashMap<>();
+            List<String> names = new ArrayList<>();
+            int[] codes = new int[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                String name = rows.get(i).userName();
+                Integer code = dictionary.get(name);
+                if (code == null) {
+                    code = names.size();
+                    dictionary.put(name, code);
+                    names.add(name);
+                }
+                codes[i] = code;
+            }
+            writeVarLong(out, names.size());
+            for (String name : names) {
+                writeString(out, name);
+            }
+            for (int code : codes) {
+                writeVarLong(out, code);
+            }
+        });
+        blocks[COMMENT] = compress(out -> {
+            for (ArchivedReview row : rows) {
+                if (row.comment() == null) {
+                    writeVarLong(out, 0);
+                } else {
+                    byte[] bytes = row.comment().getBytes(StandardCharsets.UTF_8);
+                    writeVarLong(out, bytes.length + 1L);
+                    out.write(bytes);
+                }
+            }
+        });
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(file);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(rows.size());
+        out.writeInt(COLUMNS);
+        for (byte[] block : blocks) {
+            out.writeInt(block.length);
+        }
+        for (byte[] block : blocks) {
+            out.write(block);
+        }
+        out.flush();
+        return file.toByteArray();
+    }
+
+    /**
+     * Open a segment file and read its header; columns are inflated on demand
+     */
+    static Reader open(RandomAccessFile file) throws IOException {
+        if (file.readInt() != MAGIC) {
+            throw new IOException("Not a review segment file");
+        }
+        int version = file.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported review segment version " + version);
+        }
+        int rowCount = file.readInt();
+        int columnCount = file.readInt();
+        if (columnCount != COLUMNS) {
+            throw new IOException("Unexpected column count " + columnCount);
+        }
+        int[] lengths = new int[columnCount];
+        long[] offsets = new long[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            lengths[i] = file.readInt();
+        }
+        long offset = file.getFilePointer();
+        for (int i = 0; i < columnCount; i++) {
+            offsets[i] = offset;
+            offset += lengths[i];
+        }
+        return new Reader(file, rowCount, offsets, lengths);
+    }
+
+    /**
+     * Column reader over one open segment file
+     */
+    static final class Reader {
+
+        private final RandomAccessFile file;
+        private final int rowCount;
+        private final long[] offsets;
+        private final int[] lengths;
+
+        private Reader(RandomAccessFile file, int rowCount, long[] offsets, int[] lengths) {
+            this.file = file;
+            this.rowCount = rowCount;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+
+        int rowCount() {
+            return rowCount;
+        }
+
+        long[] productIds() throws IOException {
+            DataInputStream in = column(PRODUCT_ID);
+            long[] values = new long[rowCount];
+            long previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                previous += readVarLong(in);
+                values[i] = previous;
+            }
+            return values;
+        }
+
+        LocalDateTime[] createdAt(long[] productIds) throws IOException {
+            DataInputStream in = column(CREATED_AT);
+            LocalDateTime[] values = new LocalDateTime[rowCount];
+            long previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                if (i == 0 || productIds[i] != productIds[i - 1]) {
+                    previous = 0;
+                }
+                previous += readVarLong(in);
+                values[i] = fromEpochMicros(previous);
+            }
+            return values;
+        }
+
+        long[] ids() throws IOException {
+            DataInputStream in = column(ID);
+            long[] values = new long[rowCount];
+            long previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                previous += unZigZag(readVarLong(in));
+                values[i] = previous;
+            }
+            return values;
+        }
+
+        byte[] ratings() throws IOException {
+            byte[] values = new byte[rowCount];
+            column(RATING).readFully(values);
+            return values;
+        }
+
+        String[] userNames() throws IOException {
+            DataInputStream in = column(USER_NAME);
+            String[] dictionary = new String[(int) readVarLong(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(in);
+            }
+            String[] values = new String[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                values[i] = dictionary[(int) readVarLong(in)];
+            }
+            return values;
+        }
+
+        /**
+         * Comments of the selected rows only, the others are skipped without decoding
+         */
+        String[] comments(boolean[] selected) throws IOException {
+            DataInputStream in = column(COMMENT);
+            String[] values = new String[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                int length = (int) readVarLong(in);
+                if (length == 0) {
+                    continue;
+                }
+                byte[] bytes = new byte[length - 1];
+                in.readFully(bytes);
+                if (selected[i]) {
+                    values[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+            return values;
+        }
+
+        private DataInputStream column(int column) throws IOException {
+            byte[] block = new byte[lengths[column]];
+            file.seek(offsets[column]);
+            file.readFully(block);
+            return new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(block)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    private static byte[] compress(ColumnWriter writer) throws IOException {
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(block, deflater))) {
+            writer.write(out);
+        } finally {
+            deflater.end();
+        }
+        return block.toByteArray();
+    }
+
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Unsigned LEB128: 7 bits per byte, high bit set on every byte but the last
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
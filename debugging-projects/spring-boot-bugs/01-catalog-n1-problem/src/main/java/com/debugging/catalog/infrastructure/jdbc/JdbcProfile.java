@@ -0,0 +1,74 @@
+package com.debugging.catalog.infrastructure.jdbc;
+
+/**
+ * JDBC activity of one use-case invocation, bound to the calling thread
+ *
+ * Filled by ProfilingDataSource while the invocation runs: time spent waiting
+ * for a pooled connection, time spent executing statements and fetching rows,
+ * number of statements and number of rows read.
+ */
+public final class JdbcProfile {
+
+    private static final ThreadLocal<JdbcProfile> CURRENT = new ThreadLocal<>();
+
+    private long connectionAcquireNanos;
+    private long executionNanos;
+    private long statements;
+    private long rows;
+
+    private JdbcProfile() {
+    }
+
+    /**
+     * Start profiling the current thread
+     * @return New profile, or null when an enclosing invocation is already being profiled
+     */
+    public static JdbcProfile start() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        JdbcProfile profile = new JdbcProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static JdbcProfile current() {
+        return CURRENT.get();
+    }
+
+    public void stop() {
+        CURRENT.remove();
+    }
+
+    void addConnectionAcquire(long nanos) {
+        connectionAcquireNanos += nanos;
+    }
+
+    void addExecution(long nanos) {
+        executionNanos += nanos;
+    }
+
+    void addStatement() {
+        statements++;
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    public long getConnectionAcquireNanos() {
+        return connectionAcquireNanos;
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,134 @@
+package com.debugging.catalog.infrastructure.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource that records JDBC activity into the current JdbcProfile
+ *
+ * Connections borrowed outside a profiled invocation are returned untouched,
+ * so code outside use cases pays nothing. Inside one, getConnection() is timed
+ * (pool wait) and the connection is wrapped so that statement execution and
+ * ResultSet.next() are timed and counted.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    public ProfilingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        JdbcProfile profile = JdbcProfile.current();
+        if (profile == null) {
+            return super.getConnection();
+        }
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        profile.addConnectionAcquire(System.nanoTime() - start);
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        JdbcProfile profile = JdbcProfile.current();
+        if (profile == null) {
+            return super.getConnection(username, password);
+        }
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        profile.addConnectionAcquire(System.nanoTime() - start);
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    private static <T> T wrap(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Wraps the statements created by a profiled connection
+     */
+    private record ConnectionHandler(Connection connection) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ProfilingDataSource.invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrap(CallableStatement.class, statement, new StatementHandler(statement));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrap(PreparedStatement.class, statement, new StatementHandler(statement));
+            }
+            if (result instanceof Statement statement) {
+                return wrap(Statement.class, statement, new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Times execute* calls and wraps the result sets they return
+     */
+    private record StatementHandler(Statement statement) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            JdbcProfile profile = JdbcProfile.current();
+            boolean execution = method.getName().startsWith("execute");
+            if (profile == null || !(execution || method.getName().equals("getResultSet"))) {
+                return ProfilingDataSource.invoke(statement, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object result = ProfilingDataSource.invoke(statement, method, args);
+            if (execution) {
+                profile.addExecution(System.nanoTime() - start);
+                profile.addStatement();
+            }
+            return result instanceof ResultSet resultSet
+                ? wrap(ResultSet.class, resultSet, new ResultSetHandler(resultSet))
+                : result;
+        }
+    }
+
+    /**
+     * Times and counts ResultSet.next(); the time between calls is hydration and mapping
+     */
+    private record ResultSetHandler(ResultSet resultSet) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            JdbcProfile profile = JdbcProfile.current();
+            if (profile == null || !method.getName().equals("next")) {
+                return ProfilingDataSource.invoke(resultSet, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object hasRow = ProfilingDataSource.invoke(resultSet, method, args);
+            profile.addExecution(System.nanoTime() - start);
+            if (Boolean.TRUE.equals(hasRow)) {
+                profile.addRow();
+            }
+            return hasRow;
+        }
+    }
+}
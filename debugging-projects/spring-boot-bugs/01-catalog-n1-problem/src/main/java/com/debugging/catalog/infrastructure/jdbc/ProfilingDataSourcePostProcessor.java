@@ -0,0 +1,24 @@
+package com.debugging.catalog.infrastructure.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource (Hikari) in a ProfilingDataSource
+ *
+ * The wrapper implements java.sql.Wrapper, so Boot still finds the Hikari
+ * pool behind it for the hikaricp.* metrics.
+ */
+@Component
+public class ProfilingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProfilingDataSource)) {
+            return new ProfilingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,62 @@
+package com.debugging.catalog.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that lets through 1 of every sampleRate DEBUG/TRACE events
+ * of the loggers under loggerPrefix (org.hibernate.SQL by default)
+ *
+ * Turbo filters also answer isDebugEnabled(), so unsampled statements are dropped
+ * before the caller builds or formats the message. Hibernate (through JBoss Logging)
+ * checks the level more than once per statement, so a level check only peeks at the
+ * shared counter when it lets the statement through: the counter moves on with the
+ * log call that follows, or with the level check of an unsampled statement. No state
+ * is kept per thread; under contention a statement is occasionally built and then
+ * dropped, or one more is logged.
+ *
+ * Configured in logback-spring.xml for the prod profile.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "org.hibernate.SQL";
+    private int sampleRate = 100;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level.isGreaterOrEqual(Level.INFO) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (format == null) {
+            // Level check guarding a log statement: a denied statement is never logged, so it counts here
+            long next = counter.get();
+            if (next % sampleRate == 0) {
+                return FilterReply.NEUTRAL;
+            }
+            counter.compareAndSet(next, next + 1);
+            return FilterReply.DENY;
+        }
+
+        // Log call, guarded or not
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        this.sampleRate = sampleRate;
+    }
+}
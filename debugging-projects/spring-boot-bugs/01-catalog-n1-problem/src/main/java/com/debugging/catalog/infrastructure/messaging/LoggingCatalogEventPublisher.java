@@ -0,0 +1,27 @@
+package com.debugging.catalog.infrastructure.messaging;
+
+import com.debugging.catalog.application.dto.CatalogEventDTO;
+import com.debugging.catalog.application.service.CatalogEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default CatalogEventPublisher: no broker is configured in this project,
+ * so published batches are only logged. Consumers sync through GET /events.
+ */
+@Component
+public class LoggingCatalogEventPublisher implements CatalogEventPublisher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoggingCatalogEventPublisher.class);
+    
+    @Override
+    public void publish(List<CatalogEventDTO> batch) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Published {} catalog events, sequences {}..{}", batch.size(),
+                        batch.get(0).getSequence(), batch.get(batch.size() - 1).getSequence());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA Implementation of Outbox Event Repository
+ */
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventRepository,
+        OutboxEventBatchRepository {
+    
+    @Override
+    default List<OutboxEvent> findPending(int limit) {
+        return findPending(Limit.of(limit));
+    }
+    
+    // Row locks serialize relays running on several instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.sequenceNumber IS NULL ORDER BY e.id")
+    List<OutboxEvent> findPending(Limit limit);
+    
+    @Override
+    default List<OutboxEvent> findPublishedSince(long sequenceNumber, int limit) {
+        return findPublishedSince(sequenceNumber, Limit.of(limit));
+    }
+    
+    @Query("SELECT e FROM OutboxEvent e WHERE e.sequenceNumber > :sequenceNumber ORDER BY e.sequenceNumber")
+    List<OutboxEvent> findPublishedSince(@Param("sequenceNumber") long sequenceNumber, Limit limit);
+    
+    @Override
+    @Query("SELECT COALESCE(MAX(e.sequenceNumber), 0) FROM OutboxEvent e")
+    long findLastSequenceNumber();
+    
+    @Override
+    @Modifying
+    @Query("""
+        DELETE FROM OutboxEvent e
+        WHERE e.publishedAt < :publishedBefore
+        AND e.sequenceNumber < (SELECT MAX(o.sequenceNumber) FROM OutboxEvent o)
+        """)
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
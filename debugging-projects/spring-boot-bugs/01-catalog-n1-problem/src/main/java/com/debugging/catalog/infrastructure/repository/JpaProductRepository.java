@@ -1,10 +1,16 @@
 package com.debugging.catalog.infrastructure.repository;
 
+import com.debugging.catalog.domain.model.CategoryCount;
+import com.debugging.catalog.domain.model.PriceCount;
+import com.debugging.catalog.domain.model.PriceEntry;
 import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductStatistics;
 import com.debugging.catalog.domain.repository.ProductRepository;
+import jakarta.persistence.LockModeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,11 +22,16 @@ import java.util.Optional;
 /**
  * JPA Implementation of Product Repository
  * 
- * ❌ BUG INTENCIONAL: The default findAll() method will cause N+1 queries
- * when accessing reviews due to lazy loading
+ * The default findAll() loads reviews lazily on access, one query per
+ * 50 products (@BatchSize on Product.reviews)
+ * 
+ * Fetch-plan queries and listings with reviews (findAllWithReviews, findByCategoryWithReviews:
+ * one join, 1 + ceil(N / 50) queries with in-list or two with subselect, see ReviewFetchStrategy)
+ * are implemented in ProductFetchPlanRepositoryImpl, bulk price updates in ProductBulkUpdateRepositoryImpl
  */
 @Repository
-public interface JpaProductRepository extends JpaRepository<Product, Long>, ProductRepository {
+public interface JpaProductRepository extends JpaRepository<Product, Long>, ProductRepository,
+        ProductFetchPlanRepository, ProductBulkUpdateRepository {
     
     /**
      * ❌ BUGGY IMPLEMENTATION: Default findAll() causes N+1
@@ -35,14 +46,26 @@ public interface JpaProductRepository extends JpaRepository<Product, Long>, Prod
     List<Product> findAllProducts();
     
     /**
-     * ✅ OPTIMIZED IMPLEMENTATION: Single query with JOIN FETCH
-     * 
-     * This method uses a single optimized query to fetch all products
-     * with their reviews, avoiding the N+1 problem.
+     * Row lock (SELECT ... FOR UPDATE) held until commit, so two reviews cannot both
+     * increment the rating counters of the same stale copy of the product
+     */
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+    
+    /**
+     * Deletes through the aggregate: delete(entity) publishes the ProductDeletedEvent it registers,
+     * while the inherited deleteById would remove the row without any event
      */
     @Override
-    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.reviews")
-    List<Product> findAllWithReviews();
+    default void deleteById(Long id) {
+        // Through the domain interface: the CrudRepository overload would make findById ambiguous
+        ((ProductRepository) this).findById(id).ifPresent(product -> {
+            product.markDeleted();
+            delete(product);
+        });
+    }
     
     /**
      * ✅ OPTIMIZED: Find by ID with reviews
@@ -58,37 +81,52 @@ public interface JpaProductRepository extends JpaRepository<Product, Long>, Prod
     List<Product> findByCategory(String category);
     
     /**
-     * ✅ OPTIMIZED: Find by category with reviews
+     * Find products by price range
      */
     @Override
-    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.reviews WHERE p.category = :category")
-    List<Product> findByCategoryWithReviews(@Param("category") String category);
+    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice")
+    List<Product> findByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
     
     /**
-     * Find products by price range
+     * Price index entries, streamed into PriceIndex on rebuild
      */
     @Override
-    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice")
-    List<Product> findByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
+    @Query("""
+        SELECT new com.debugging.catalog.domain.model.PriceEntry(p.id, p.price, p.category)
+        FROM Product p
+        ORDER BY p.price, p.id
+        """)
+    List<PriceEntry> findAllPriceEntries();
     
     /**
      * ✅ OPTIMIZED: Find products with high average rating
-     * This uses a subquery to calculate average ratings
+     * Compares the rating histogram (sum >= minRating * count) instead of a correlated
+     * AVG over the reviews table, so archived reviews still count
      */
     @Override
     @Query("""
         SELECT p FROM Product p 
-        WHERE (SELECT AVG(r.rating) FROM Review r WHERE r.product = p) >= :minRating
+        WHERE p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+            + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars > 0
+        AND 1.0 * p.ratingHistogram.oneStar + 2 * p.ratingHistogram.twoStars + 3 * p.ratingHistogram.threeStars
+            + 4 * p.ratingHistogram.fourStars + 5 * p.ratingHistogram.fiveStars
+            >= :minRating * (p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+            + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars)
         """)
     List<Product> findByAverageRatingGreaterThan(@Param("minRating") double minRating);
     
     /**
-     * ✅ OPTIMIZED: Find products with high average rating including reviews
+     * ✅ OPTIMIZED: Find products with high average rating including reviews (hot tier only)
      */
     @Query("""
         SELECT DISTINCT p FROM Product p 
         LEFT JOIN FETCH p.reviews 
-        WHERE (SELECT AVG(r.rating) FROM Review r WHERE r.product = p) >= :minRating
+        WHERE p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+            + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars > 0
+        AND 1.0 * p.ratingHistogram.oneStar + 2 * p.ratingHistogram.twoStars + 3 * p.ratingHistogram.threeStars
+            + 4 * p.ratingHistogram.fourStars + 5 * p.ratingHistogram.fiveStars
+            >= :minRating * (p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+            + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars)
         """)
     List<Product> findByAverageRatingGreaterThanWithReviews(@Param("minRating") double minRating);
     
@@ -101,14 +139,37 @@ public interface JpaProductRepository extends JpaRepository<Product, Long>, Prod
     /**
      * Get product statistics
      */
+    @Override
+    @Query("""
+        SELECT new com.debugging.catalog.domain.model.ProductStatistics(
+            COUNT(p),
+            COUNT(DISTINCT p.category),
+            AVG(p.price),
+            MIN(p.price),
+            MAX(p.price))
+        FROM Product p
+        """)
+    ProductStatistics getProductStatistics();
+    
+    /**
+     * Count products grouped by category
+     */
+    @Override
+    @Query("""
+        SELECT new com.debugging.catalog.domain.model.CategoryCount(p.category, COUNT(p))
+        FROM Product p
+        GROUP BY p.category
+        """)
+    List<CategoryCount> countProductsGroupedByCategory();
+    
+    /**
+     * Count products grouped by price
+     */
+    @Override
     @Query("""
-        SELECT 
-            COUNT(p) as totalProducts,
-            COUNT(DISTINCT p.category) as totalCategories,
-            AVG(p.price) as averagePrice,
-            MIN(p.price) as minPrice,
-            MAX(p.price) as maxPrice
+        SELECT new com.debugging.catalog.domain.model.PriceCount(p.price, COUNT(p))
         FROM Product p
+        GROUP BY p.price
         """)
-    Object[] getProductStatistics();
+    List<PriceCount> countProductsGroupedByPrice();
 }
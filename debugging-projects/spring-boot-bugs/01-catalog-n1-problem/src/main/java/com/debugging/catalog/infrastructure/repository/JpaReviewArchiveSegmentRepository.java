@@ -0,0 +1,31 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.ReviewArchiveSegment;
+import com.debugging.catalog.domain.repository.ReviewArchiveSegmentRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA Implementation of Review Archive Segment Repository
+ */
+@Repository
+public interface JpaReviewArchiveSegmentRepository extends JpaRepository<ReviewArchiveSegment, Long>,
+        ReviewArchiveSegmentRepository {
+    
+    @Override
+    @Query("SELECT s FROM ReviewArchiveSegment s ORDER BY s.partitionMonth, s.id")
+    List<ReviewArchiveSegment> findAllSegments();
+    
+    // Zone map: segments are sorted by product, so [min, max] prunes the ones that cannot hold it
+    @Override
+    @Query("""
+        SELECT s FROM ReviewArchiveSegment s
+        WHERE :productId BETWEEN s.minProductId AND s.maxProductId
+        ORDER BY s.partitionMonth DESC, s.id DESC
+        """)
+    List<ReviewArchiveSegment> findSegmentsForProduct(@Param("productId") Long productId);
+}
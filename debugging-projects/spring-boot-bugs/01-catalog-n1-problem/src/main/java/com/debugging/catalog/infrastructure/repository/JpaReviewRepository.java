@@ -1,20 +1,34 @@
 package com.debugging.catalog.infrastructure.repository;
 
+import com.debugging.catalog.domain.model.ProductLike;
+import com.debugging.catalog.domain.model.ProductReviewer;
+import com.debugging.catalog.domain.model.RatingCount;
 import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.model.ReviewComment;
+import com.debugging.catalog.domain.model.ReviewStatistics;
 import com.debugging.catalog.domain.repository.ReviewRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * JPA Implementation of Review Repository
+ * 
+ * Rating aggregates must count archived reviews too: per-product ones read the
+ * rating histogram of the product (kept by the aggregate, untouched by archiving),
+ * catalog-wide ones add the histograms of the archive segments to the reviews table.
+ * Moving reviews to the archive is implemented in ReviewArchivingRepositoryImpl
  */
 @Repository
-public interface JpaReviewRepository extends JpaRepository<Review, Long>, ReviewRepository {
+public interface JpaReviewRepository extends JpaRepository<Review, Long>, ReviewRepository,
+        ReviewArchivingRepository {
     
     /**
      * Find reviews by product ID
@@ -23,6 +37,33 @@ public interface JpaReviewRepository extends JpaRepository<Review, Long>, Review
     @Query("SELECT r FROM Review r WHERE r.product.id = :productId ORDER BY r.createdAt DESC")
     List<Review> findByProductId(@Param("productId") Long productId);
     
+    /**
+     * ✅ OPTIMIZED: Reviews of many products in one query (index on product_id)
+     * Grouped by product so callers merge them with products ordered by ID in one pass
+     */
+    @Override
+    @Query("SELECT r FROM Review r WHERE r.product.id IN :productIds ORDER BY r.product.id, r.createdAt DESC, r.id DESC")
+    List<Review> findByProductIds(@Param("productIds") Collection<Long> productIds);
+    
+    /**
+     * ✅ OPTIMIZED: Latest N reviews per product with ROW_NUMBER()
+     * 
+     * One query whatever the number of products, and only N rows per product
+     * leave the database. Standard SQL window function (H2 and PostgreSQL).
+     */
+    @Override
+    @Query(value = """
+        SELECT r.id, r.product_id, r.user_name, r.rating, r.comment, r.created_at
+        FROM (
+            SELECT rv.*, ROW_NUMBER() OVER (PARTITION BY rv.product_id ORDER BY rv.created_at DESC, rv.id DESC) AS rn
+            FROM reviews rv
+            WHERE rv.product_id IN (:productIds)
+        ) r
+        WHERE r.rn <= :limit
+        ORDER BY r.product_id, r.rn
+        """, nativeQuery = true)
+    List<Review> findLatestByProductIds(@Param("productIds") Collection<Long> productIds, @Param("limit") int limit);
+    
     /**
      * Find reviews by rating
      */
@@ -52,41 +93,169 @@ public interface JpaReviewRepository extends JpaRepository<Review, Long>, Review
     List<Review> findNegativeReviews();
     
     /**
-     * Count reviews by product ID
+     * Count reviews by product ID (both tiers, from the product rating histogram)
      */
     @Override
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.product.id = :productId")
+    @Query("""
+        SELECT COALESCE(SUM(p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+            + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars), 0)
+        FROM Product p WHERE p.id = :productId
+        """)
     long countByProductId(@Param("productId") Long productId);
     
     /**
-     * Get average rating for a product
+     * Get average rating for a product (both tiers, from the product rating histogram)
      */
     @Override
-    @Query("SELECT COALESCE(AVG(r.rating), 0.0) FROM Review r WHERE r.product.id = :productId")
+    @Query("""
+        SELECT COALESCE(
+            SUM(1.0 * p.ratingHistogram.oneStar + 2 * p.ratingHistogram.twoStars + 3 * p.ratingHistogram.threeStars
+                + 4 * p.ratingHistogram.fourStars + 5 * p.ratingHistogram.fiveStars)
+            / NULLIF(SUM(p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+                + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars), 0),
+            0.0)
+        FROM Product p WHERE p.id = :productId
+        """)
     double getAverageRatingByProductId(@Param("productId") Long productId);
     
     /**
-     * Get review statistics
+     * Get review statistics of both tiers
      */
+    @Override
+    default ReviewStatistics getReviewStatistics() {
+        return getHotReviewStatistics().plus(getArchivedRatingCounts());
+    }
+    
+    /**
+     * Review statistics of the reviews table only
+     */
+    @Query("""
+        SELECT new com.debugging.catalog.domain.model.ReviewStatistics(
+            COUNT(r),
+            AVG(r.rating),
+            COUNT(CASE WHEN r.rating >= 4 THEN 1 END),
+            COUNT(CASE WHEN r.rating <= 2 THEN 1 END))
+        FROM Review r
+        """)
+    ReviewStatistics getHotReviewStatistics();
+    
+    /**
+     * Count reviews of both tiers grouped by rating
+     */
+    @Override
+    default List<RatingCount> countReviewsGroupedByRating() {
+        long[] counts = getArchivedRatingCounts();
+        for (RatingCount row : countHotReviewsGroupedByRating()) {
+            counts[row.rating() - 1] += row.count();
+        }
+        List<RatingCount> rows = new ArrayList<>();
+        for (int rating = 1; rating <= counts.length; rating++) {
+            if (counts[rating - 1] > 0) {
+                rows.add(new RatingCount(rating, counts[rating - 1]));
+            }
+        }
+        return rows;
+    }
+    
     @Query("""
-        SELECT 
-            COUNT(r) as totalReviews,
-            AVG(r.rating) as averageRating,
-            COUNT(CASE WHEN r.rating >= 4 THEN 1 END) as positiveReviews,
-            COUNT(CASE WHEN r.rating <= 2 THEN 1 END) as negativeReviews
+        SELECT new com.debugging.catalog.domain.model.RatingCount(r.rating, COUNT(r))
         FROM Review r
+        GROUP BY r.rating
         """)
-    Object[] getReviewStatistics();
+    List<RatingCount> countHotReviewsGroupedByRating();
     
     /**
-     * Get top rated products
+     * Rating counts of the archive tier, index 0 holds 1-star reviews
      */
+    default long[] getArchivedRatingCounts() {
+        long[] counts = new long[5];
+        List<Object[]> rows = sumArchivedRatings();
+        if (!rows.isEmpty()) {
+            Object[] row = rows.get(0);
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = row[i] != null ? ((Number) row[i]).longValue() : 0;
+            }
+        }
+        return counts;
+    }
+    
     @Query("""
-        SELECT r.product.id, AVG(r.rating) as avgRating, COUNT(r) as reviewCount
-        FROM Review r 
-        GROUP BY r.product.id 
-        HAVING COUNT(r) >= 3
+        SELECT SUM(s.ratingHistogram.oneStar), SUM(s.ratingHistogram.twoStars), SUM(s.ratingHistogram.threeStars),
+            SUM(s.ratingHistogram.fourStars), SUM(s.ratingHistogram.fiveStars)
+        FROM ReviewArchiveSegment s
+        """)
+    List<Object[]> sumArchivedRatings();
+    
+    @Override
+    default List<Long> findTopRatedProductIds(int limit) {
+        return getTopRatedProducts(Limit.of(limit)).stream()
+            .map(row -> (Long) row[0])
+            .toList();
+    }
+    
+    /**
+     * Get top rated products (both tiers, from the product rating histograms)
+     */
+    @Query("""
+        SELECT p.id,
+            (1.0 * p.ratingHistogram.oneStar + 2 * p.ratingHistogram.twoStars + 3 * p.ratingHistogram.threeStars
+                + 4 * p.ratingHistogram.fourStars + 5 * p.ratingHistogram.fiveStars)
+            / (p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+                + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars) as avgRating,
+            p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+                + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars as reviewCount
+        FROM Product p
+        WHERE p.ratingHistogram.oneStar + p.ratingHistogram.twoStars + p.ratingHistogram.threeStars
+            + p.ratingHistogram.fourStars + p.ratingHistogram.fiveStars >= 3
         ORDER BY avgRating DESC, reviewCount DESC
         """)
-    List<Object[]> getTopRatedProducts();
+    List<Object[]> getTopRatedProducts(Limit limit);
+    
+    @Override
+    default List<ProductReviewer> findReviewersAfter(long afterReviewId, int limit) {
+        return findReviewersAfter(afterReviewId, Limit.of(limit));
+    }
+    
+    /**
+     * Reviewers read page by page into the HyperLogLog sketches on rebuild
+     */
+    @Query("""
+        SELECT new com.debugging.catalog.domain.model.ProductReviewer(r.id, r.product.id, r.userName,
+            r.product.category)
+        FROM Review r
+        WHERE r.id > :afterReviewId
+        ORDER BY r.id
+        """)
+    List<ProductReviewer> findReviewersAfter(@Param("afterReviewId") long afterReviewId, Limit limit);
+    
+    /**
+     * "Likes" read by the similar products rebuild
+     */
+    @Override
+    @Query("""
+        SELECT new com.debugging.catalog.domain.model.ProductLike(r.product.id, r.userName)
+        FROM Review r
+        WHERE r.rating >= 4
+        """)
+    List<ProductLike> findPositiveReviewers();
+    
+    @Override
+    default List<ReviewComment> findCommentsAfter(long afterReviewId, int limit) {
+        return findCommentsAfter(afterReviewId, Limit.of(limit));
+    }
+    
+    /**
+     * Comments read page by page into ReviewTextIndex on rebuild
+     */
+    @Query("""
+        SELECT new com.debugging.catalog.domain.model.ReviewComment(r.id, r.product.id, r.comment)
+        FROM Review r
+        WHERE r.id > :afterReviewId
+        ORDER BY r.id
+        """)
+    List<ReviewComment> findCommentsAfter(@Param("afterReviewId") long afterReviewId, Limit limit);
+    
+    @Override
+    @Query("SELECT r.id FROM Review r WHERE r.id IN :reviewIds")
+    List<Long> findExistingIds(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -0,0 +1,13 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Custom fragment of JpaOutboxEventRepository for writing events in one batch
+ */
+public interface OutboxEventBatchRepository {
+    
+    void append(List<OutboxEvent> events);
+}
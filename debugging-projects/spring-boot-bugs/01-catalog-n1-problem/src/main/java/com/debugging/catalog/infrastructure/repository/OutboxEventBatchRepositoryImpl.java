@@ -0,0 +1,50 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes outbox events with one batched JDBC INSERT
+ *
+ * The relay publishes in id order, and IDENTITY ids are taken when the row is
+ * inserted. Pending changes are flushed first, so the UPDATE or DELETE of every
+ * product the events describe has run, and holds its row lock, before the
+ * events get their ids: a concurrent transaction changing the same product
+ * waits for this one to commit before it can write its own events, and the
+ * events of one product are stored in the order their changes commit.
+ */
+public class OutboxEventBatchRepositoryImpl implements OutboxEventBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO catalog_outbox (product_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxEventBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+
+        List<Object[]> arguments = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            arguments.add(new Object[] {event.getProductId(), event.getEventType(), event.getPayload(),
+                Timestamp.valueOf(event.getCreatedAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, arguments);
+    }
+}
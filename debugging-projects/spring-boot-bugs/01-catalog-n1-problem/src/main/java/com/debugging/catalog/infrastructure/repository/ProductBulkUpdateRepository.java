@@ -0,0 +1,21 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceEntry;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Custom fragment of JpaProductRepository for set-based bulk updates
+ */
+public interface ProductBulkUpdateRepository {
+    
+    List<PriceEntry> findPriceEntriesByIds(List<Long> ids);
+    
+    List<PriceEntry> findPriceEntriesAfter(String category, long afterId, int limit);
+    
+    List<PriceChange> updatePrices(List<PriceChange> changes);
+    
+    int adjustPrices(String category, BigDecimal factor, BigDecimal minPrice, List<PriceChange> changes);
+}
@@ -0,0 +1,156 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceEntry;
+import com.debugging.catalog.domain.model.Product;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk price updates for products
+ *
+ * Explicit prices are written with one batched JDBC UPDATE per call instead of
+ * loading and dirty-checking every entity. Each row is only updated while it
+ * still has the price the change was computed from, so a concurrent
+ * single-product update is never overwritten. Percentage adjustments compute
+ * the new prices in the database: one UPDATE per keyset chunk, over rows the
+ * caller locked. The JDBC statements bypass Hibernate: pending changes are
+ * flushed first; afterwards the updated products still managed by the
+ * persistence context are refreshed, the rest of it is left alone, and their
+ * second-level cache entries are evicted so no stale price is read back.
+ */
+public class ProductBulkUpdateRepositoryImpl implements ProductBulkUpdateRepository {
+
+    private static final String UPDATE_PRICE_SQL =
+        "UPDATE products SET price = ?, updated_at = ? WHERE id = ? AND price = ?";
+
+    // The same rounding as BigDecimal.setScale(2, HALF_UP) for positive prices
+    private static final String ADJUSTED_PRICE = "GREATEST(ROUND(price * ?, 2), ?)";
+    private static final String PRICE_ENTRY = "new " + PriceEntry.class.getName() + "(p.id, p.price, p.category)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductBulkUpdateRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PriceEntry> findPriceEntriesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                "SELECT " + PRICE_ENTRY + " FROM Product p WHERE p.id IN :ids", PriceEntry.class)
+            .setParameter("ids", ids)
+            .getResultList();
+    }
+
+    // Keyset pagination on the primary key: every batch is an index range scan, however deep
+    @Override
+    public List<PriceEntry> findPriceEntriesAfter(String category, long afterId, int limit) {
+        TypedQuery<PriceEntry> query = entityManager.createQuery(
+            "SELECT " + PRICE_ENTRY + " FROM Product p WHERE p.id > :afterId"
+                + (category != null ? " AND p.category = :category" : "")
+                + " ORDER BY p.id", PriceEntry.class);
+        query.setParameter("afterId", afterId);
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        return query.setMaxResults(limit).setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+    }
+
+    @Override
+    public List<PriceChange> updatePrices(List<PriceChange> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(changes.size());
+        for (PriceChange change : changes) {
+            arguments.add(new Object[] {change.newPrice(), updatedAt, change.productId(), change.previousPrice()});
+        }
+        int[] updatedRows = jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, arguments);
+
+        // A driver may run the batch without row counts: those rows are read back
+        Map<Long, BigDecimal> currentPrices = new HashMap<>();
+        List<Long> unknown = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            if (updatedRows[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(changes.get(i).productId());
+            }
+        }
+        for (PriceEntry entry : findPriceEntriesByIds(unknown)) {
+            currentPrices.put(entry.productId(), entry.price());
+        }
+
+        List<PriceChange> applied = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            PriceChange change = changes.get(i);
+            boolean updated = updatedRows[i] == Statement.SUCCESS_NO_INFO
+                ? change.newPrice().compareTo(currentPrices.getOrDefault(change.productId(), change.previousPrice())) == 0
+                : updatedRows[i] > 0;
+            if (updated) {
+                applied.add(change);
+            }
+        }
+        refresh(applied);
+        return applied;
+    }
+
+    @Override
+    public int adjustPrices(String category, BigDecimal factor, BigDecimal minPrice, List<PriceChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+
+        List<Object> arguments = new ArrayList<>(List.of(factor, minPrice, Timestamp.valueOf(LocalDateTime.now()),
+            changes.get(0).productId(), changes.get(changes.size() - 1).productId(), factor, minPrice));
+        if (category != null) {
+            arguments.add(category);
+        }
+        int updated = jdbcTemplate.update(
+            "UPDATE products SET price = " + ADJUSTED_PRICE + ", updated_at = ?"
+                + " WHERE id BETWEEN ? AND ? AND " + ADJUSTED_PRICE + " <> price"
+                + (category != null ? " AND category = ?" : ""),
+            arguments.toArray());
+
+        refresh(changes);
+        return updated;
+    }
+
+    // Instead of clear(): the caller's other managed entities, and its references to these, stay valid
+    private void refresh(List<PriceChange> changes) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Product.class);
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        for (PriceChange change : changes) {
+            Object managed = session.getPersistenceContextInternal()
+                .getEntity(session.generateEntityKey(change.productId(), persister));
+            cache.evict(Product.class, change.productId());
+            if (managed != null) {
+                entityManager.refresh(managed);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom fragment of JpaProductRepository for fetch-plan driven queries
+ * and listings with reviews loaded as configured by ReviewFetchStrategy
+ */
+public interface ProductFetchPlanRepository {
+    
+    List<Product> findAllWithReviews();
+    
+    List<Product> findByCategoryWithReviews(String category);
+    
+    List<ProductView> findAll(FetchPlan fetchPlan);
+    
+    List<ProductView> findByCategory(String category, FetchPlan fetchPlan);
+    
+    Optional<ProductView> findById(Long id, FetchPlan fetchPlan);
+    
+    List<ProductView> findByIds(List<Long> ids, FetchPlan fetchPlan);
+    
+    List<ProductView> findByIdsWithReviews(List<Long> ids);
+    
+    List<ProductView> findByPriceRange(PriceRangeQuery query);
+    
+    long countByPriceRange(PriceRangeQuery query);
+}
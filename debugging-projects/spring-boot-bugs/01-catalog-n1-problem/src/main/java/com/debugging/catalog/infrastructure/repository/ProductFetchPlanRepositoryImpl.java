@@ -0,0 +1,370 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.model.RatingHistogram;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductField;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Fetch-plan queries for products
+ *
+ * Product entities are loaded through JPA entity graphs ("jakarta.persistence.fetchgraph"),
+ * so the same JPQL serves every shape and only the graph decides what is joined.
+ * Aggregates are projected straight from the rating histogram columns and
+ * latest reviews come from a ROW_NUMBER() window query. Sparse fieldsets select
+ * only the requested columns and load reviews, when included, with a second query.
+ * All reviews are joined or loaded by a second query depending on ReviewFetchStrategy.
+ * Second review queries are ordered by product ID and merged with the products in one pass;
+ * they bind at most ids-per-query product IDs each, the listing is split over several queries past that.
+ * Price range pages are the SQL fallback of the in-memory PriceIndex.
+ */
+public class ProductFetchPlanRepositoryImpl implements ProductFetchPlanRepository {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // The JPA repository itself: runs on the shard of the calling transaction
+    private final JpaReviewRepository reviewRepository;
+    private final ReviewFetchStrategy reviewFetchStrategy;
+    // Bound parameters are capped per statement (32767 on PostgreSQL, 1000 IN elements on Oracle)
+    private final int idsPerQuery;
+
+    public ProductFetchPlanRepositoryImpl(JpaReviewRepository reviewRepository,
+                                          @Value("${app.catalog.reviews.fetch-strategy:join}") String reviewFetchStrategy,
+                                          @Value("${app.catalog.reviews.ids-per-query:1000}") int idsPerQuery) {
+        if (idsPerQuery < 1) {
+            throw new IllegalArgumentException("app.catalog.reviews.ids-per-query must be positive: " + idsPerQuery);
+        }
+        this.reviewRepository = reviewRepository;
+        this.reviewFetchStrategy = ReviewFetchStrategy.fromProperty(reviewFetchStrategy);
+        this.idsPerQuery = idsPerQuery;
+    }
+
+    @Override
+    public List<Product> findAllWithReviews() {
+        return loadProductsWithReviews(Filter.NONE);
+    }
+
+    @Override
+    public List<Product> findByCategoryWithReviews(String category) {
+        return loadProductsWithReviews(new Filter("p.category = :value", category));
+    }
+
+    @Override
+    public List<ProductView> findAll(FetchPlan fetchPlan) {
+        return load(Filter.NONE, fetchPlan);
+    }
+
+    @Override
+    public List<ProductView> findByCategory(String category, FetchPlan fetchPlan) {
+        return load(new Filter("p.category = :value", category), fetchPlan);
+    }
+
+    @Override
+    public Optional<ProductView> findById(Long id, FetchPlan fetchPlan) {
+        return load(new Filter("p.id = :value", id), fetchPlan).stream().findFirst();
+    }
+
+    @Override
+    public List<ProductView> findByIds(List<Long> ids, FetchPlan fetchPlan) {
+        return ids.isEmpty() ? List.of() : load(new Filter("p.id IN :value", ids), fetchPlan);
+    }
+
+    // 2 queries: products by primary key, then their reviews by product_id
+    @Override
+    public List<ProductView> findByIdsWithReviews(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Product> products = loadProducts(new Filter("p.id IN :value", ids), entityManager.createEntityGraph(Product.class));
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+        return views(products,
+            reviewsPerProduct(productIds, reviewsByProductIds(productIds, reviewRepository::findByProductIds)));
+    }
+
+    // 1 query: range scan on (category, price), sorted and paginated by the database
+    @Override
+    public List<ProductView> findByPriceRange(PriceRangeQuery query) {
+        String direction = query.descending() ? " DESC" : " ASC";
+        TypedQuery<Product> select = entityManager.createQuery(
+            "SELECT p FROM Product p WHERE " + priceRangeCondition(query)
+                + " ORDER BY p.price" + direction + ", p.id" + direction, Product.class);
+        bindPriceRange(select, query);
+        select.setFirstResult(Math.toIntExact(query.offset()));
+        select.setMaxResults(query.size());
+        return select.getResultList().stream()
+            .map(product -> ProductView.of(product, null))
+            .toList();
+    }
+
+    @Override
+    public long countByPriceRange(PriceRangeQuery query) {
+        TypedQuery<Long> count = entityManager.createQuery(
+            "SELECT COUNT(p) FROM Product p WHERE " + priceRangeCondition(query), Long.class);
+        bindPriceRange(count, query);
+        return count.getSingleResult();
+    }
+
+    private static String priceRangeCondition(PriceRangeQuery query) {
+        return (query.category() != null ? "p.category = :category AND " : "")
+            + "p.price BETWEEN :minPrice AND :maxPrice";
+    }
+
+    private static void bindPriceRange(TypedQuery<?> typedQuery, PriceRangeQuery query) {
+        if (query.category() != null) {
+            typedQuery.setParameter("category", query.category());
+        }
+        typedQuery.setParameter("minPrice", query.minPrice());
+        typedQuery.setParameter("maxPrice", query.maxPrice());
+    }
+
+    private List<ProductView> load(Filter filter, FetchPlan fetchPlan) {
+        return switch (fetchPlan.getShape()) {
+            case AGGREGATES -> loadAggregates(filter);
+            case PRODUCT -> loadProducts(filter, entityManager.createEntityGraph(Product.class)).stream()
+                .map(product -> ProductView.of(product, null))
+                .toList();
+            case REVIEWS -> loadWithReviews(filter);
+            case LATEST_REVIEWS -> loadWithLatestReviews(filter, fetchPlan.getReviewLimit());
+            case FIELDS -> loadFields(filter, fetchPlan);
+        };
+    }
+
+    // 1 query selecting only the attributes behind the requested fields, +1 review query when included
+    private List<ProductView> loadFields(Filter filter, FetchPlan fetchPlan) {
+        List<String> attributes = new ArrayList<>(selectedAttributes(fetchPlan.getFields()));
+        TypedQuery<Object[]> query = entityManager.createQuery(
+            "SELECT " + String.join(", ", attributes.stream().map(attribute -> "p." + attribute).toList())
+                + " FROM Product p" + filter.where() + " ORDER BY p.id",
+            Object[].class);
+        filter.bind(query);
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<List<Review>> reviewsPerProduct = null;
+        if (fetchPlan.includesReviews()) {
+            List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+            int limit = fetchPlan.getReviewLimit();
+            List<Review> reviews = limit == Integer.MAX_VALUE
+                ? reviewsByProductIds(ids, reviewRepository::findByProductIds)
+                : reviewsByProductIds(ids, chunk -> reviewRepository.findLatestByProductIds(chunk, limit));
+            reviewsPerProduct = reviewsPerProduct(ids, reviews);
+        }
+
+        List<ProductView> views = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < attributes.size(); i++) {
+                values.put(attributes.get(i), row[i]);
+            }
+            Long id = (Long) row[0];
+            views.add(new ProductView(
+                id,
+                (String) values.get("name"),
+                (String) values.get("description"),
+                (BigDecimal) values.get("price"),
+                (String) values.get("category"),
+                (LocalDateTime) values.get("createdAt"),
+                (LocalDateTime) values.get("updatedAt"),
+                values.containsKey("ratingHistogram")
+                    ? Optional.ofNullable((RatingHistogram) values.get("ratingHistogram")).orElseGet(RatingHistogram::new)
+                    : null,
+                reviewsPerProduct == null ? null : reviewsPerProduct.get(views.size())));
+        }
+        return views;
+    }
+
+    // Distinct attributes, id first
+    private static Set<String> selectedAttributes(Set<ProductField> fields) {
+        Set<String> attributes = new LinkedHashSet<>();
+        attributes.add(ProductField.ID.getAttribute());
+        for (ProductField field : fields) {
+            attributes.add(field.getAttribute());
+        }
+        return attributes;
+    }
+
+    // 1 query: scalar projection, no entity hydration
+    private List<ProductView> loadAggregates(Filter filter) {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+            "SELECT p.id, p.name, p.category, p.ratingHistogram FROM Product p" + filter.where() + " ORDER BY p.id",
+            Object[].class);
+        filter.bind(query);
+        return query.getResultList().stream()
+            .map(row -> ProductView.aggregates((Long) row[0], (String) row[1], (String) row[2], (RatingHistogram) row[3]))
+            .toList();
+    }
+
+    // 1 query: the entity graph decides whether reviews are joined
+    private List<Product> loadProducts(Filter filter, EntityGraph<?> graph) {
+        TypedQuery<Product> query = entityManager.createQuery(
+            "SELECT p FROM Product p" + filter.where() + " ORDER BY p.id", Product.class);
+        filter.bind(query);
+        query.setHint(FETCH_GRAPH_HINT, graph);
+        return query.getResultList();
+    }
+
+    // 2 queries: products, then at most `limit` reviews per product from the window query
+    private List<ProductView> loadWithLatestReviews(Filter filter, int limit) {
+        List<Product> products = loadProducts(filter, entityManager.createEntityGraph(Product.class));
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = products.stream().map(Product::getId).toList();
+        return views(products, reviewsPerProduct(ids,
+            reviewsByProductIds(ids, chunk -> reviewRepository.findLatestByProductIds(chunk, limit))));
+    }
+
+    // 1 join query, or 2 queries: products, then all their reviews by ID list or subselect
+    private List<ProductView> loadWithReviews(Filter filter) {
+        if (reviewFetchStrategy == ReviewFetchStrategy.JOIN) {
+            return loadProducts(filter, entityManager.getEntityGraph(Product.WITH_REVIEWS_GRAPH)).stream()
+                .map(product -> ProductView.of(product, product.getReviews()))
+                .toList();
+        }
+        List<Product> products = loadProducts(filter, entityManager.createEntityGraph(Product.class));
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = products.stream().map(Product::getId).toList();
+        List<Review> reviews = reviewFetchStrategy == ReviewFetchStrategy.IN_LIST
+            ? reviewsByProductIds(ids, reviewRepository::findByProductIds)
+            : loadReviewsBySubselect(filter);
+        return views(products, reviewsPerProduct(ids, reviews));
+    }
+
+    // Same filter as the product query, so no ID list is bound
+    private List<Review> loadReviewsBySubselect(Filter filter) {
+        String where = filter.condition() == null
+            ? ""
+            : " WHERE r.product.id IN (SELECT p.id FROM Product p" + filter.where() + ")";
+        TypedQuery<Review> query = entityManager.createQuery(
+            "SELECT r FROM Review r" + where + " ORDER BY r.product.id, r.createdAt DESC, r.id DESC", Review.class);
+        filter.bind(query);
+        return query.getResultList();
+    }
+
+    /**
+     * Product entities with an initialized reviews collection. IN_LIST lets Hibernate initialize the
+     * collections in IN-list batches of 50 (@BatchSize on Product.reviews), so N products take
+     * 1 + ceil(N / 50) queries and ids-per-query does not apply; SUBSELECT turns on subselect
+     * fetching for the product query, so the first initialization loads the reviews of every listed
+     * product with one query: WHERE product_id IN (SELECT id FROM the product query)
+     */
+    private List<Product> loadProductsWithReviews(Filter filter) {
+        if (reviewFetchStrategy == ReviewFetchStrategy.JOIN) {
+            return loadProducts(filter, entityManager.getEntityGraph(Product.WITH_REVIEWS_GRAPH));
+        }
+        Session session = entityManager.unwrap(Session.class);
+        boolean subselect = reviewFetchStrategy == ReviewFetchStrategy.SUBSELECT
+            && !session.isSubselectFetchingEnabled();
+        if (subselect) {
+            session.setSubselectFetchingEnabled(true);
+        }
+        try {
+            List<Product> products = loadProducts(filter, entityManager.createEntityGraph(Product.class));
+            // getReviews() is an unmodifiable view: size() initializes the persistent collection behind it
+            products.forEach(product -> product.getReviews().size());
+            return products;
+        } finally {
+            if (subselect) {
+                session.setSubselectFetchingEnabled(false);
+            }
+        }
+    }
+
+    /**
+     * Reviews of the listed products, one query per idsPerQuery IDs
+     * @param productIds Product IDs in ascending order
+     * @param query Reviews of some products ordered by product ID
+     * @return Reviews ordered by product ID: the chunks follow the ID order
+     */
+    private List<Review> reviewsByProductIds(List<Long> productIds, Function<List<Long>, List<Review>> query) {
+        if (productIds.size() <= idsPerQuery) {
+            return query.apply(productIds);
+        }
+        List<Review> reviews = new ArrayList<>();
+        for (int from = 0; from < productIds.size(); from += idsPerQuery) {
+            reviews.addAll(query.apply(productIds.subList(from, Math.min(from + idsPerQuery, productIds.size()))));
+        }
+        return reviews;
+    }
+
+    /**
+     * Split reviews ordered by product ID into one list per product, in one pass
+     * @param productIds Product IDs in ascending order
+     * @return Reviews of each product (sublists of reviews), in the order of productIds
+     */
+    private static List<List<Review>> reviewsPerProduct(List<Long> productIds, List<Review> reviews) {
+        List<List<Review>> perProduct = new ArrayList<>(productIds.size());
+        int next = 0;
+        for (Long productId : productIds) {
+            // Skip reviews of products that are not listed (created between the two queries)
+            while (next < reviews.size() && reviews.get(next).getProduct().getId() < productId) {
+                next++;
+            }
+            int from = next;
+            while (next < reviews.size() && reviews.get(next).getProduct().getId().equals(productId)) {
+                next++;
+            }
+            perProduct.add(reviews.subList(from, next));
+        }
+        return perProduct;
+    }
+
+    private static List<ProductView> views(List<Product> products, List<List<Review>> reviewsPerProduct) {
+        List<ProductView> views = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            views.add(ProductView.of(products.get(i), reviewsPerProduct.get(i)));
+        }
+        return views;
+    }
+
+    /**
+     * Optional single-parameter WHERE clause shared by every shape
+     */
+    private record Filter(String condition, Object value) {
+
+        static final Filter NONE = new Filter(null, null);
+
+        String where() {
+            return condition == null ? "" : " WHERE " + condition;
+        }
+
+        void bind(TypedQuery<?> query) {
+            if (condition != null) {
+                query.setParameter("value", value);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.model.RatingHistogram;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.ReactiveProductRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive product reads over R2DBC
+ *
+ * Products are read in keyset pages (id > last id of the previous page) and every page
+ * gets its reviews with a single IN query, so a stream costs 2 queries per page and
+ * at most one page is read ahead of what the subscriber has consumed.
+ *
+ * The connection pool is owned by this repository instead of being a bean:
+ * a ConnectionFactory bean would make Spring Boot back off from the JDBC DataSource
+ * that JPA still needs for the write side.
+ */
+@Repository
+public class R2dbcProductRepository implements ReactiveProductRepository, DisposableBean {
+
+    private static final String PRODUCT_COLUMNS =
+        "p.id, p.name, p.description, p.price, p.category, p.created_at, p.updated_at, " +
+        "p.rating_1_count, p.rating_2_count, p.rating_3_count, p.rating_4_count, p.rating_5_count";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final int pageSize;
+
+    @Autowired
+    public R2dbcProductRepository(@Value("${app.catalog.reactive.url}") String url,
+                                  @Value("${app.catalog.reactive.username}") String username,
+                                  @Value("${app.catalog.reactive.password:}") String password,
+                                  @Value("${app.catalog.reactive.pool.max-size:10}") int maxPoolSize,
+                                  @Value("${app.catalog.reactive.page-size:50}") int pageSize) {
+        this(new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                    .option(ConnectionFactoryOptions.USER, username)
+                    .option(ConnectionFactoryOptions.PASSWORD, password)
+                    .build()))
+                .maxSize(maxPoolSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build()),
+            pageSize);
+    }
+
+    R2dbcProductRepository(ConnectionFactory connectionFactory, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Flux<ProductView> streamAllWithReviews() {
+        return stream(null, null);
+    }
+
+    @Override
+    public Flux<ProductView> streamByCategoryWithReviews(String category) {
+        return stream("p.category = :value", category);
+    }
+
+    @Override
+    public Mono<ProductView> findByIdWithReviews(Long id) {
+        return databaseClient.sql("SELECT " + PRODUCT_COLUMNS + " FROM products p WHERE p.id = :id")
+            .bind("id", id)
+            .map(R2dbcProductRepository::toProductRow)
+            .all()
+            .collectList()
+            .filter(rows -> !rows.isEmpty())
+            .flatMapMany(this::withReviews)
+            .next();
+    }
+
+    /**
+     * Keyset cursors are fed back through a sink and consumed one at a time (concatMap without prefetch),
+     * so page N+1 is only queried once every product of page N has been handed downstream
+     */
+    private Flux<ProductView> stream(String condition, Object value) {
+        return Flux.defer(() -> {
+            Sinks.Many<Long> cursors = Sinks.many().unicast().onBackpressureBuffer();
+            cursors.tryEmitNext(0L);
+            return cursors.asFlux().concatMap(afterId -> page(condition, value, afterId)
+                .doOnNext(page -> {
+                    if (page.size() < pageSize) {
+                        cursors.tryEmitComplete();
+                    } else {
+                        cursors.tryEmitNext(page.get(page.size() - 1).id());
+                    }
+                })
+                .filter(page -> !page.isEmpty())
+                .flatMapMany(this::withReviews), 0);
+        });
+    }
+
+    private Mono<List<ProductRow>> page(String condition, Object value, long afterId) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "SELECT " + PRODUCT_COLUMNS + " FROM products p WHERE p.id > :afterId" +
+                (condition != null ? " AND " + condition : "") +
+                " ORDER BY p.id LIMIT :limit")
+            .bind("afterId", afterId)
+            .bind("limit", pageSize);
+        if (condition != null) {
+            spec = spec.bind("value", value);
+        }
+        return spec.map(R2dbcProductRepository::toProductRow).all().collectList();
+    }
+
+    // 1 query per page: reviews of every product in the page, newest first
+    private Flux<ProductView> withReviews(List<ProductRow> products) {
+        List<Long> ids = products.stream().map(ProductRow::id).toList();
+        return databaseClient.sql(
+                "SELECT r.id, r.product_id, r.user_name, r.rating, r.comment, r.created_at FROM reviews r " +
+                "WHERE r.product_id IN (:ids) ORDER BY r.product_id, r.created_at DESC, r.id DESC")
+            .bind("ids", ids)
+            .map(row -> Map.entry(
+                row.get("product_id", Long.class),
+                Review.snapshot(
+                    row.get("id", Long.class),
+                    row.get("user_name", String.class),
+                    row.get("rating", Integer.class),
+                    row.get("comment", String.class),
+                    row.get("created_at", LocalDateTime.class))))
+            .all()
+            .collect(HashMap<Long, List<Review>>::new,
+                (byProduct, entry) -> byProduct.computeIfAbsent(entry.getKey(), id -> new ArrayList<>()).add(entry.getValue()))
+            .flatMapIterable(byProduct -> products.stream()
+                .map(product -> product.toView(byProduct.getOrDefault(product.id(), List.of())))
+                .toList());
+    }
+
+    private static ProductRow toProductRow(Readable row) {
+        return new ProductRow(
+            row.get("id", Long.class),
+            row.get("name", String.class),
+            row.get("description", String.class),
+            row.get("price", BigDecimal.class),
+            row.get("category", String.class),
+            row.get("created_at", LocalDateTime.class),
+            row.get("updated_at", LocalDateTime.class),
+            RatingHistogram.of(new int[] {
+                row.get("rating_1_count", Integer.class),
+                row.get("rating_2_count", Integer.class),
+                row.get("rating_3_count", Integer.class),
+                row.get("rating_4_count", Integer.class),
+                row.get("rating_5_count", Integer.class)
+            })
+        );
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof ConnectionPool pool) {
+            pool.dispose();
+        }
+    }
+
+    /**
+     * Product columns of one page, waiting for its reviews
+     */
+    private record ProductRow(Long id, String name, String description, BigDecimal price, String category,
+                              LocalDateTime createdAt, LocalDateTime updatedAt, RatingHistogram ratingHistogram) {
+
+        ProductView toView(List<Review> reviews) {
+            return new ProductView(id, name, description, price, category, createdAt, updatedAt, ratingHistogram, reviews);
+        }
+    }
+}
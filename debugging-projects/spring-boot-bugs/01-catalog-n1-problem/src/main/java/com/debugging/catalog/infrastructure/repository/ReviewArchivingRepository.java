@@ -0,0 +1,16 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom fragment of JpaReviewRepository for moving reviews to the archive tier
+ */
+public interface ReviewArchivingRepository {
+    
+    List<ArchivedReview> findCreatedBefore(LocalDateTime createdBefore, int limit);
+    
+    int deleteArchived(List<ArchivedReview> reviews);
+}
@@ -0,0 +1,80 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.Review;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves reviews out of the reviews table
+ *
+ * Old reviews are read as a projection (no entity, no Product proxy) through
+ * the created_at index, and deleted with one batched JDBC DELETE. A review is
+ * only deleted while it still has the rating that was written to the archive,
+ * the same optimistic check as bulk repricing. The JDBC statements bypass
+ * Hibernate: pending changes are flushed first, and the persistence context and
+ * second-level cache entries of the reviews and their products are dropped afterwards.
+ */
+public class ReviewArchivingRepositoryImpl implements ReviewArchivingRepository {
+
+    private static final String DELETE_ARCHIVED_SQL = "DELETE FROM reviews WHERE id = ? AND rating = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewArchivingRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ArchivedReview> findCreatedBefore(LocalDateTime createdBefore, int limit) {
+        return entityManager.createQuery("""
+                SELECT r.id, r.product.id, r.userName, r.rating, r.comment, r.createdAt
+                FROM Review r
+                WHERE r.createdAt < :createdBefore
+                ORDER BY r.id
+                """, Object[].class)
+            .setParameter("createdBefore", createdBefore)
+            .setMaxResults(limit)
+            // A list, not a stream: outside a transaction the entity manager closes when the call returns
+            .getResultList()
+            .stream()
+            .map(row -> new ArchivedReview((Long) row[0], (Long) row[1], (String) row[2], (Integer) row[3],
+                (String) row[4], (LocalDateTime) row[5]))
+            .toList();
+    }
+
+    @Override
+    public int deleteArchived(List<ArchivedReview> reviews) {
+        if (reviews.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+
+        List<Object[]> arguments = new ArrayList<>(reviews.size());
+        for (ArchivedReview review : reviews) {
+            arguments.add(new Object[] {review.id(), review.rating()});
+        }
+        int deleted = 0;
+        for (int rows : jdbcTemplate.batchUpdate(DELETE_ARCHIVED_SQL, arguments)) {
+            deleted += Math.max(rows, 0);
+        }
+
+        entityManager.clear();
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        for (ArchivedReview review : reviews) {
+            cache.evict(Review.class, review.id());
+            cache.evict(Product.class, review.productId());
+        }
+        return deleted;
+    }
+}
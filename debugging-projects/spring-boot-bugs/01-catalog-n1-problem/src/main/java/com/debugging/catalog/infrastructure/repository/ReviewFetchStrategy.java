@@ -0,0 +1,45 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * How product listings with all their reviews load the reviews (app.catalog.reviews.fetch-strategy)
+ *
+ * JOIN returns one wide row per review with every product column repeated, and
+ * Hibernate deduplicates the products in memory: rows grow with reviews x product
+ * width. The other strategies load the products first and their reviews with a
+ * second query, so each product row is transferred once.
+ */
+public enum ReviewFetchStrategy {
+
+    /**
+     * 1 query: products LEFT JOIN reviews
+     */
+    JOIN,
+
+    /**
+     * 2 queries: products, then reviews WHERE product_id IN (the loaded IDs), merged in a linear pass.
+     * Product entities (findAllWithReviews, findByCategoryWithReviews) initialize their collections
+     * through @BatchSize instead: 1 + ceil(N / 50) queries for N products
+     */
+    IN_LIST,
+
+    /**
+     * 2 queries: products, then reviews WHERE product_id IN (SELECT id FROM products WHERE the same filter).
+     * Binds no ID list, for listings too large for an IN list
+     */
+    SUBSELECT;
+
+    /**
+     * @param value Strategy name, case insensitive, dashes or underscores (e.g. in-list)
+     */
+    public static ReviewFetchStrategy fromProperty(String value) {
+        String name = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        return Arrays.stream(values())
+            .filter(strategy -> strategy.name().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("app.catalog.reviews.fetch-strategy must be one of "
+                + "join, in-list, subselect, was: " + value));
+    }
+}
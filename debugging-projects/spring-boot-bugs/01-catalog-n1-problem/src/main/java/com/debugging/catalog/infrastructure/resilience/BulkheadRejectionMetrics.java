@@ -0,0 +1,36 @@
+package com.debugging.catalog.infrastructure.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the calls rejected by every resilience4j bulkhead
+ *
+ * resilience4j-micrometer only publishes bulkhead gauges (available and max
+ * concurrent calls), so load shedding would be invisible in the metrics.
+ * Bulkheads created later (first use of an unconfigured name) are bound too.
+ */
+@Component
+public class BulkheadRejectionMetrics {
+
+    public static final String REJECTED_METRIC = "catalog.admission.rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadRejectionMetrics(BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        bulkheadRegistry.getAllBulkheads().forEach(this::bind);
+        bulkheadRegistry.getEventPublisher().onEntryAdded(event -> bind(event.getAddedEntry()));
+    }
+
+    private void bind(Bulkhead bulkhead) {
+        Counter rejected = Counter.builder(REJECTED_METRIC)
+            .description("Requests rejected because their endpoint reached its concurrency limit")
+            .tag("bulkhead", bulkhead.getName())
+            .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+    }
+}
@@ -0,0 +1,44 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.application.dto.CatalogEventDTO;
+import com.debugging.catalog.application.usecase.ListCatalogEventsUseCase;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for the catalog change stream
+ * 
+ * Replaces polling the full catalog: consumers page through published
+ * events with ?since=<last sequence they processed>
+ */
+@RestController
+@RequestMapping("/events")
+@Timed("catalog.events.controller")
+public class CatalogEventController {
+    
+    private final ListCatalogEventsUseCase listCatalogEventsUseCase;
+    
+    public CatalogEventController(ListCatalogEventsUseCase listCatalogEventsUseCase) {
+        this.listCatalogEventsUseCase = listCatalogEventsUseCase;
+    }
+    
+    /**
+     * 🔄 EVENTS SINCE: Product and review changes after a sequence number
+     * 
+     * @param since Last sequence the consumer processed (0 for the beginning)
+     * @param limit Maximum number of events
+     * @return Events ordered by sequence, empty when the consumer is up to date
+     */
+    @GetMapping
+    public ResponseEntity<List<CatalogEventDTO>> eventsSince(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(listCatalogEventsUseCase.executeSince(since, limit));
+    }
+}
@@ -1,13 +1,24 @@
 package com.debugging.catalog.infrastructure.rest;
 
+import com.debugging.catalog.application.dto.ProductBatchDTO;
 import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.dto.ProductPageDTO;
+import com.debugging.catalog.application.dto.SimilarProductsDTO;
+import com.debugging.catalog.application.service.SimilarProductsIndex;
+import com.debugging.catalog.application.usecase.GetProductsBatchUseCase;
 import com.debugging.catalog.application.usecase.ListProductsUseCase;
+import com.debugging.catalog.application.usecase.SearchProductsByPriceUseCase;
+import com.debugging.catalog.application.usecase.SearchProductsByReviewsUseCase;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
@@ -24,9 +35,21 @@ public class ProductController {
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
     
     private final ListProductsUseCase listProductsUseCase;
+    private final SearchProductsByPriceUseCase searchProductsByPriceUseCase;
+    private final GetProductsBatchUseCase getProductsBatchUseCase;
+    private final SimilarProductsIndex similarProductsIndex;
+    private final SearchProductsByReviewsUseCase searchProductsByReviewsUseCase;
     
-    public ProductController(ListProductsUseCase listProductsUseCase) {
+    public ProductController(ListProductsUseCase listProductsUseCase,
+                             SearchProductsByPriceUseCase searchProductsByPriceUseCase,
+                             GetProductsBatchUseCase getProductsBatchUseCase,
+                             SimilarProductsIndex similarProductsIndex,
+                             SearchProductsByReviewsUseCase searchProductsByReviewsUseCase) {
         this.listProductsUseCase = listProductsUseCase;
+        this.searchProductsByPriceUseCase = searchProductsByPriceUseCase;
+        this.getProductsBatchUseCase = getProductsBatchUseCase;
+        this.similarProductsIndex = similarProductsIndex;
+        this.searchProductsByReviewsUseCase = searchProductsByReviewsUseCase;
     }
     
     /**
@@ -40,6 +63,7 @@ public class ProductController {
      */
     @GetMapping("/with-n1-bug")
     @Timed("catalog.products.list.with.n1.bug")
+    @Bulkhead(name = "n1-bug")
     public ResponseEntity<List<ProductDTO>> listProductsWithN1Bug() {
         logger.info("🐛 Executing N+1 buggy endpoint");
         long startTime = System.currentTimeMillis();
@@ -64,7 +88,7 @@ public class ProductController {
     @GetMapping("/optimized")
     @Timed("catalog.products.list.optimized")
     public ResponseEntity<List<ProductDTO>> listProductsOptimized() {
-        logger.info("✅ Executing optimized endpoint");
+        logger.debug("✅ Executing optimized endpoint");
         long startTime = System.currentTimeMillis();
         
         List<ProductDTO> products = listProductsUseCase.executeOptimized();
@@ -76,6 +100,132 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
     
+    /**
+     * ✅ LATEST REVIEWS ENDPOINT: Listing with the N most recent reviews per product
+     * 
+     * @param limit Reviews per product
+     * @return List of products with their latest reviews (2 queries)
+     */
+    @GetMapping("/with-latest-reviews")
+    @Timed("catalog.products.list.latest.reviews")
+    public ResponseEntity<List<ProductDTO>> listProductsWithLatestReviews(
+            @RequestParam(defaultValue = "" + FetchPlan.DEFAULT_REVIEW_LIMIT) int limit) {
+        return ResponseEntity.ok(listProductsUseCase.executeWithLatestReviews(limit));
+    }
+    
+    /**
+     * 🎯 FETCH PLAN ENDPOINT: Load only what the screen renders
+     * 
+     * @param fetch aggregates | product | reviews | latest-reviews
+     * @param fields Sparse fieldset, e.g. id,name,price,averageRating (only these columns are selected)
+     * @param include reviews | latest-reviews, loaded with a second query (with fields=, defaults to none)
+     * @param reviewLimit Reviews per product for latest-reviews
+     * @return List of products shaped by the fetch plan (1-2 queries)
+     */
+    @GetMapping
+    @Timed("catalog.products.list.fetch.plan")
+    public ResponseEntity<List<ProductDTO>> listProducts(
+            @RequestParam(defaultValue = "product") String fetch,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "" + FetchPlan.DEFAULT_REVIEW_LIMIT) int reviewLimit) {
+        return ResponseEntity.ok(listProductsUseCase.execute(FetchPlan.parse(fetch, fields, include, reviewLimit)));
+    }
+    
+    /**
+     * 🎯 CATEGORY LISTING: Products of one category shaped by a fetch plan
+     * 
+     * @param category Product category
+     * @param fetch aggregates | product | reviews | latest-reviews
+     * @param fields Sparse fieldset, e.g. id,name,price,averageRating
+     * @param include reviews | latest-reviews
+     * @param reviewLimit Reviews per product for latest-reviews
+     * @return List of products in the category
+     */
+    @GetMapping("/category/{category}")
+    @Timed("catalog.products.list.by.category")
+    public ResponseEntity<List<ProductDTO>> listProductsByCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "product") String fetch,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "" + FetchPlan.DEFAULT_REVIEW_LIMIT) int reviewLimit) {
+        return ResponseEntity.ok(listProductsUseCase.executeByCategory(category,
+            FetchPlan.parse(fetch, fields, include, reviewLimit)));
+    }
+    
+    /**
+     * 💰 PRICE FILTER: Storefront price range, optionally within a category, sorted by price
+     * 
+     * @param minPrice Minimum price (inclusive)
+     * @param maxPrice Maximum price (inclusive)
+     * @param category Optional product category
+     * @param sort asc | desc
+     * @param page Page number, starting at 0
+     * @param size Page size (max 100)
+     * @return One page of products without reviews, answered from the price index
+     */
+    @GetMapping("/price-range")
+    @Timed("catalog.products.list.price.range")
+    public ResponseEntity<ProductPageDTO> listProductsByPriceRange(
+            @RequestParam BigDecimal minPrice,
+            @RequestParam BigDecimal maxPrice,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "asc") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PriceRangeQuery query = new PriceRangeQuery(category, minPrice, maxPrice,
+            PriceRangeQuery.parseDescending(sort), page, size);
+        return ResponseEntity.ok(searchProductsByPriceUseCase.execute(query));
+    }
+    
+    /**
+     * 🧺 BATCH: Several products by ID in one call (read cache, then at most 2 queries)
+     * 
+     * @param ids Product IDs, comma separated (max 100)
+     * @param includeReviews Whether every review of each product is returned
+     * @return One result per ID in request order, with found=false for unknown IDs
+     */
+    @GetMapping("/batch")
+    @Timed("catalog.products.list.batch")
+    public ResponseEntity<ProductBatchDTO> getProductsBatch(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "false") boolean includeReviews) {
+        return ResponseEntity.ok(getProductsBatchUseCase.execute(ids, includeReviews));
+    }
+    
+    /**
+     * 🤝 SIMILAR: Customers who liked this product also liked (precomputed, no database access)
+     * 
+     * @param productId Product ID
+     * @param limit Number of similar products (1 to app.catalog.similar-products.top-k)
+     * @return Similar product IDs best first, empty for a product without positive reviews
+     */
+    @GetMapping("/{productId}/similar")
+    @Timed("catalog.products.similar")
+    public ResponseEntity<SimilarProductsDTO> getSimilarProducts(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(similarProductsIndex.find(productId, limit));
+    }
+    
+    /**
+     * 🔎 REVIEW INSIGHTS: Products whose reviews mention a keyword and/or are positive enough
+     * 
+     * @param keyword Keyword of the review comments (single word)
+     * @param minSentiment Minimum average review sentiment, from -1 to 1
+     * @param limit Number of products (max 100)
+     * @return Products without reviews but with their review insights, most mentions first then best sentiment
+     */
+    @GetMapping("/review-insights")
+    @Timed("catalog.products.review.insights")
+    public ResponseEntity<List<ProductDTO>> searchProductsByReviews(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Double minSentiment,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchProductsByReviewsUseCase.execute(keyword, minSentiment, limit));
+    }
+    
     /**
      * 📊 PERFORMANCE COMPARISON: Compare both implementations
      * 
@@ -83,6 +233,7 @@ public class ProductController {
      */
     @GetMapping("/performance-comparison")
     @Timed("catalog.products.performance.comparison")
+    @Bulkhead(name = "performance-comparison")
     public ResponseEntity<Map<String, Object>> comparePerformance() {
         logger.info("📊 Starting performance comparison");
         
@@ -114,12 +265,23 @@ public class ProductController {
             "status", "UP",
             "application", "Catalog N+1 Problem Demo",
             "description", "Spring Boot application demonstrating N+1 query problem and solution",
-            "endpoints", Map.of(
-                "n1Bug", "/api/v1/products/with-n1-bug",
-                "optimized", "/api/v1/products/optimized",
-                "comparison", "/api/v1/products/performance-comparison",
-                "h2Console", "/h2-console",
-                "actuator", "/actuator"
+            "endpoints", Map.ofEntries(
+                Map.entry("n1Bug", "/api/v1/products/with-n1-bug"),
+                Map.entry("optimized", "/api/v1/products/optimized"),
+                Map.entry("latestReviews", "/api/v1/products/with-latest-reviews?limit=3"),
+                Map.entry("fetchPlan", "/api/v1/products?fetch=aggregates|product|reviews|latest-reviews"),
+                Map.entry("sparseFields", "/api/v1/products?fields=id,name,price,averageRating&include=reviews|latest-reviews"),
+                Map.entry("category", "/api/v1/products/category/{category}?fetch=..."),
+                Map.entry("priceRange", "/api/v1/products/price-range?minPrice=&maxPrice=&category=&sort=asc|desc&page=0&size=20"),
+                Map.entry("batch", "/api/v1/products/batch?ids=1,2,3&includeReviews=true"),
+                Map.entry("reviews", "/api/v1/products/{id}/reviews?history=true"),
+                Map.entry("similar", "/api/v1/products/{id}/similar?limit=10"),
+                Map.entry("bulkPrices", "PUT /api/v1/products/prices, POST /api/v1/products/prices/adjustments"),
+                Map.entry("reactive", "/api/v1/reactive/products (application/x-ndjson)"),
+                Map.entry("events", "/api/v1/events?since=0&limit=100"),
+                Map.entry("comparison", "/api/v1/products/performance-comparison"),
+                Map.entry("h2Console", "/h2-console"),
+                Map.entry("actuator", "/actuator")
             )
         ));
     }
@@ -136,8 +298,11 @@ public class ProductController {
             "availableMetrics", Map.of(
                 "catalog.list.products.with.n1.bug", "Timer for N+1 buggy implementation",
                 "catalog.list.products.optimized", "Timer for optimized implementation",
-                "catalog.products.controller", "Timer for controller operations"
+                "catalog.products.controller", "Timer for controller operations",
+                "http.server.requests", "Request timer per route with percentile histogram and SLO bucket",
+                "catalog.slo.burn.rate", "Error-budget burn rate per route and window"
             ),
+            "latencySlo", "/api/v1/statistics/slo",
             "actuatorEndpoints", Map.of(
                 "metrics", "/actuator/metrics",
                 "prometheus", "/actuator/prometheus",
@@ -0,0 +1,47 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.application.dto.BulkPriceUpdateDTO;
+import com.debugging.catalog.application.dto.BulkPriceUpdateRequest;
+import com.debugging.catalog.application.dto.PriceAdjustmentRequest;
+import com.debugging.catalog.application.usecase.BulkUpdatePricesUseCase;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for bulk price write operations (repricing jobs)
+ */
+@RestController
+@RequestMapping("/products/prices")
+@Timed("catalog.prices.controller")
+public class ProductPriceController {
+    
+    private final BulkUpdatePricesUseCase bulkUpdatePricesUseCase;
+    
+    public ProductPriceController(BulkUpdatePricesUseCase bulkUpdatePricesUseCase) {
+        this.bulkUpdatePricesUseCase = bulkUpdatePricesUseCase;
+    }
+    
+    /**
+     * 💲 BULK PRICES: Sets the price of many products with batched set-based UPDATEs
+     * 
+     * @param request (productId, price) pairs
+     * @return Updated, unchanged, missing and conflicting product counts
+     */
+    @PutMapping
+    public ResponseEntity<BulkPriceUpdateDTO> updatePrices(@Valid @RequestBody BulkPriceUpdateRequest request) {
+        return ResponseEntity.ok(bulkUpdatePricesUseCase.execute(request));
+    }
+    
+    /**
+     * 💲 PRICE ADJUSTMENT: Raises or lowers every price of a category by a percentage
+     * 
+     * @param request Category (omit for the whole catalog) and percentage
+     * @return Updated, unchanged and conflicting product counts
+     */
+    @PostMapping("/adjustments")
+    public ResponseEntity<BulkPriceUpdateDTO> adjustPrices(@Valid @RequestBody PriceAdjustmentRequest request) {
+        return ResponseEntity.ok(bulkUpdatePricesUseCase.adjust(request));
+    }
+}
@@ -0,0 +1,115 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.usecase.StreamProductsUseCase;
+import com.debugging.catalog.domain.model.ProductNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive HTTP handler for the R2DBC read path
+ *
+ * Served by its own servlet (ReactiveServletConfiguration) through Spring's
+ * ServletHttpHandlerAdapter instead of the MVC DispatcherServlet: the response is
+ * written with Servlet non-blocking I/O, so no thread waits on a slow client.
+ * A product is only encoded when the connection accepts more data, and that
+ * demand reaches the R2DBC driver: the next page is queried once the previous
+ * one has been written. Listings are newline-delimited JSON.
+ */
+public class ReactiveProductHandler implements HttpHandler {
+
+    private static final ResolvableType PRODUCT = ResolvableType.forClass(ProductDTO.class);
+    private static final ResolvableType ERROR = ResolvableType.forClass(Map.class);
+
+    private final StreamProductsUseCase streamProductsUseCase;
+    private final Jackson2JsonEncoder encoder;
+
+    public ReactiveProductHandler(StreamProductsUseCase streamProductsUseCase, ObjectMapper objectMapper) {
+        this.streamProductsUseCase = streamProductsUseCase;
+        this.encoder = new Jackson2JsonEncoder(objectMapper);
+    }
+
+    /**
+     * Routes relative to the servlet mapping: /products, /products/category/{category}, /products/{productId}
+     */
+    @Override
+    public Mono<Void> handle(ServerHttpRequest request, ServerHttpResponse response) {
+        List<String> path = request.getPath().pathWithinApplication().elements().stream()
+            .filter(PathContainer.PathSegment.class::isInstance)
+            .map(segment -> ((PathContainer.PathSegment) segment).valueToMatch())
+            .toList();
+        if (path.isEmpty() || !path.get(0).equals("products")) {
+            return error(response, HttpStatus.NOT_FOUND, "No reactive endpoint at " + request.getPath().value());
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            return error(response, HttpStatus.METHOD_NOT_ALLOWED, "Reactive endpoints are read-only");
+        }
+
+        if (path.size() == 1) {
+            routed(request, "/reactive/products");
+            return stream(response, streamProductsUseCase.streamAll());
+        }
+        if (path.size() == 3 && path.get(1).equals("category")) {
+            routed(request, "/reactive/products/category/{category}");
+            return stream(response, streamProductsUseCase.streamByCategory(path.get(2)));
+        }
+        if (path.size() == 2) {
+            routed(request, "/reactive/products/{productId}");
+            Long productId;
+            try {
+                productId = Long.valueOf(path.get(1));
+            } catch (NumberFormatException e) {
+                return error(response, HttpStatus.BAD_REQUEST, "Invalid product ID: " + path.get(1));
+            }
+            return streamProductsUseCase.findById(productId)
+                .flatMap(product -> write(response, HttpStatus.OK, product, PRODUCT))
+                .onErrorResume(ProductNotFoundException.class,
+                    e -> error(response, HttpStatus.NOT_FOUND, e.getMessage()));
+        }
+        return error(response, HttpStatus.NOT_FOUND, "No reactive endpoint at " + request.getPath().value());
+    }
+
+    // One flush per product, like WebFlux does for streaming media types
+    private Mono<Void> stream(ServerHttpResponse response, Flux<ProductDTO> products) {
+        response.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+        return response.writeAndFlushWith(
+            encoder.encode(products, response.bufferFactory(), PRODUCT, MediaType.APPLICATION_NDJSON, Map.of())
+                .map(Mono::just));
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, HttpStatus status, Object body, ResolvableType type) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer buffer = encoder.encodeValue(body, response.bufferFactory(), type, MediaType.APPLICATION_JSON, Map.of());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    // Same body as RestExceptionHandler gives the MVC endpoints
+    private Mono<Void> error(ServerHttpResponse response, HttpStatus status, String message) {
+        return write(response, status, RestExceptionHandler.error(status, message).getBody(), ERROR);
+    }
+
+    // Route template for the http.server.requests metrics and the latency SLO, which MVC would set from the mapping
+    private static void routed(ServerHttpRequest request, String pathPattern) {
+        HttpServletRequest servletRequest = ServerHttpRequestDecorator.getNativeRequest(request);
+        ServerHttpObservationFilter.findObservationContext(servletRequest)
+            .ifPresent(context -> context.setPathPattern(pathPattern));
+    }
+}
@@ -0,0 +1,32 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.application.usecase.StreamProductsUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.ServletHttpHandlerAdapter;
+
+/**
+ * Reactive read path (/reactive/*) as a separate servlet next to the DispatcherServlet
+ *
+ * Returning Flux from an MVC controller still writes the response with blocking
+ * servlet I/O, one thread per slow client. ServletHttpHandlerAdapter (spring-web)
+ * runs ReactiveProductHandler on Servlet 3.1 non-blocking reads and writes in the
+ * same Tomcat, without adding the WebFlux stack next to MVC.
+ */
+@Configuration
+public class ReactiveServletConfiguration {
+
+    @Bean
+    public ServletRegistrationBean<ServletHttpHandlerAdapter> reactiveProductServlet(
+            StreamProductsUseCase streamProductsUseCase, ObjectMapper objectMapper) {
+        ServletRegistrationBean<ServletHttpHandlerAdapter> registration = new ServletRegistrationBean<>(
+            new ServletHttpHandlerAdapter(new ReactiveProductHandler(streamProductsUseCase, objectMapper)),
+            "/reactive/*");
+        registration.setName("reactiveProducts");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
@@ -0,0 +1,80 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.application.service.CoalescedCallTimeoutException;
+import com.debugging.catalog.domain.model.ProductNotFoundException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Maps application exceptions to HTTP responses for all REST controllers
+ */
+@RestControllerAdvice
+public class RestExceptionHandler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RestExceptionHandler.class);
+    
+    /**
+     * Invalid request parameters (unknown fetch plan, invalid rating...)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        logger.debug("Rejected request: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+    
+    /**
+     * Request body failing bean validation
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getFieldErrors().stream()
+            .map(error -> error.getField() + " " + error.getDefaultMessage())
+            .findFirst()
+            .orElse("Invalid request");
+        return error(HttpStatus.BAD_REQUEST, message);
+    }
+    
+    @ExceptionHandler(ProductNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleProductNotFound(ProductNotFoundException e) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+    
+    /**
+     * Joined an identical in-flight query that did not finish in time
+     */
+    @ExceptionHandler(CoalescedCallTimeoutException.class)
+    public ResponseEntity<Map<String, Object>> handleCoalescedCallTimeout(CoalescedCallTimeoutException e) {
+        logger.warn(e.getMessage());
+        return error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+    
+    /**
+     * Endpoint at its concurrency limit (resilience4j bulkhead): shed the request
+     * right away instead of queueing it behind the calls holding the connections
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String, Object>> handleBulkheadFull(BulkheadFullException e) {
+        logger.debug(e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()).getBody());
+    }
+    
+    static ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(Map.of(
+            "status", status.value(),
+            "error", status.getReasonPhrase(),
+            "message", message != null ? message : status.getReasonPhrase(),
+            "timestamp", System.currentTimeMillis()
+        ));
+    }
+}
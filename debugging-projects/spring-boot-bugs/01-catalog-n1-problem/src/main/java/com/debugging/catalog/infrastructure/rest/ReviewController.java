@@ -0,0 +1,56 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.application.dto.AddReviewRequest;
+import com.debugging.catalog.application.dto.ReviewDTO;
+import com.debugging.catalog.application.usecase.AddReviewUseCase;
+import com.debugging.catalog.application.usecase.ListProductReviewsUseCase;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for review operations
+ */
+@RestController
+@RequestMapping("/products/{productId}/reviews")
+@Timed("catalog.reviews.controller")
+public class ReviewController {
+    
+    private final AddReviewUseCase addReviewUseCase;
+    private final ListProductReviewsUseCase listProductReviewsUseCase;
+    
+    public ReviewController(AddReviewUseCase addReviewUseCase, ListProductReviewsUseCase listProductReviewsUseCase) {
+        this.addReviewUseCase = addReviewUseCase;
+        this.listProductReviewsUseCase = listProductReviewsUseCase;
+    }
+    
+    /**
+     * 📜 LIST REVIEWS: Reviews of a product, newest first
+     * 
+     * @param productId Product ID
+     * @param history Whether archived (older) partitions are read too
+     * @return Reviews of the hot tier, followed by the archived ones with history=true
+     */
+    @GetMapping
+    public ResponseEntity<List<ReviewDTO>> listReviews(@PathVariable Long productId,
+                                                       @RequestParam(defaultValue = "false") boolean history) {
+        return ResponseEntity.ok(listProductReviewsUseCase.execute(productId, history));
+    }
+    
+    /**
+     * ✍️ ADD REVIEW: Adds a review through the Product aggregate
+     * 
+     * @param productId Product ID
+     * @param request Review data
+     * @return Created review
+     */
+    @PostMapping
+    public ResponseEntity<ReviewDTO> addReview(@PathVariable Long productId,
+                                               @Valid @RequestBody AddReviewRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(addReviewUseCase.execute(productId, request));
+    }
+}
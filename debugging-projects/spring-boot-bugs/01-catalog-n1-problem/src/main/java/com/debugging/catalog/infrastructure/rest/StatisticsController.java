@@ -0,0 +1,78 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.application.dto.CatalogStatisticsDTO;
+import com.debugging.catalog.application.dto.LatencySloReportDTO;
+import com.debugging.catalog.application.dto.ReviewerStatisticsDTO;
+import com.debugging.catalog.application.service.CatalogStatisticsService;
+import com.debugging.catalog.application.service.ReviewerCardinalityService;
+import com.debugging.catalog.infrastructure.slo.LatencySloTracker;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for catalog statistics
+ * 
+ * Served from in-memory counters, safe to poll from dashboards
+ */
+@RestController
+@RequestMapping("/statistics")
+@Timed("catalog.statistics.controller")
+public class StatisticsController {
+    
+    private final CatalogStatisticsService statisticsService;
+    private final ReviewerCardinalityService reviewerCardinalityService;
+    private final LatencySloTracker latencySloTracker;
+    
+    public StatisticsController(CatalogStatisticsService statisticsService,
+                                ReviewerCardinalityService reviewerCardinalityService,
+                                LatencySloTracker latencySloTracker) {
+        this.statisticsService = statisticsService;
+        this.reviewerCardinalityService = reviewerCardinalityService;
+        this.latencySloTracker = latencySloTracker;
+    }
+    
+    /**
+     * 📊 STATISTICS: Product and review totals, prices, categories and rating split
+     * 
+     * @return Current catalog statistics (no database access)
+     */
+    @GetMapping
+    public ResponseEntity<CatalogStatisticsDTO> getStatistics() {
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+    
+    /**
+     * 👥 REVIEWERS: Approximate distinct reviewers, globally and per category
+     * 
+     * @return HyperLogLog estimates (no database access)
+     */
+    @GetMapping("/reviewers")
+    public ResponseEntity<ReviewerStatisticsDTO> getReviewerStatistics() {
+        return ResponseEntity.ok(reviewerCardinalityService.getStatistics());
+    }
+    
+    /**
+     * 👥 PRODUCT REVIEWERS: Approximate distinct reviewers of one product
+     * 
+     * @param productId Product ID
+     * @return HyperLogLog estimate for the product
+     */
+    @GetMapping("/reviewers/products/{productId}")
+    public ResponseEntity<ReviewerStatisticsDTO> getProductReviewerStatistics(@PathVariable Long productId) {
+        return ResponseEntity.ok(reviewerCardinalityService.getProductStatistics(productId));
+    }
+    
+    /**
+     * ⏱️ LATENCY SLO: p50/p95/p99, SLO compliance and error-budget burn rate per route
+     * 
+     * @return Short and long window of every route, worst burn rate first
+     */
+    @GetMapping("/slo")
+    public ResponseEntity<LatencySloReportDTO> getLatencySlo() {
+        return ResponseEntity.ok(latencySloTracker.report());
+    }
+}
@@ -0,0 +1,56 @@
+package com.debugging.catalog.infrastructure.shard;
+
+/**
+ * Shard the current thread talks to, read by ShardRoutingDataSource
+ *
+ * A transaction takes its connection when it begins, so the shard must be
+ * bound before the transaction starts and stays the same until it ends.
+ * Nothing bound means the home shard.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return Shard bound to the current thread, ShardRouter.HOME when none is bound
+     */
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard != null ? shard : ShardRouter.HOME;
+    }
+
+    /**
+     * @return true when a shard was bound explicitly (ShardExecutor, ShardRoutingAspect)
+     */
+    public static boolean isBound() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Run with a shard bound to the current thread, then restore the previous one
+     * @param shard Shard index
+     * @param work Work opening its transaction (or plain connections) on that shard
+     * @return Result of the work
+     */
+    public static <T, E extends Throwable> T on(int shard, Work<T, E> work) throws E {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Work<T, E extends Throwable> {
+        T run() throws E;
+    }
+}
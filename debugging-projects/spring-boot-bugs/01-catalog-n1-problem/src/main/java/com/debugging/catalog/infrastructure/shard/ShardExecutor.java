@@ -0,0 +1,155 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs repository work on shards: one shard, or scatter-gather over several in parallel
+ *
+ * Each shard runs the work in its own local transaction on a pool thread, bound
+ * to that shard, so results come back detached. A shard the caller's transaction
+ * is already bound to (ShardContext, see ShardRoutingAspect) runs the work inline
+ * in that transaction instead: reads see its changes and writes commit with it.
+ * A shard that does not answer within app.catalog.sharding.timeout-ms fails the
+ * whole call with a QueryTimeoutException: results are never silently partial.
+ */
+public class ShardExecutor {
+
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final long timeoutNanos;
+    private final ExecutorService pool;
+
+    public ShardExecutor(PlatformTransactionManager transactionManager, long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("app.catalog.sharding.timeout-ms must be positive");
+        }
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        // Unbounded: a shard transaction may itself wait for the home shard (outbox); connection pools bound the load
+        AtomicInteger threads = new AtomicInteger();
+        this.pool = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "shard-query-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Read from one shard
+     */
+    public <T> T read(int shard, Supplier<T> work) {
+        return run(List.of(shard), ignored -> work.get(), readTransaction).get(0);
+    }
+
+    /**
+     * Write to one shard, committed before returning unless the caller's transaction is bound to that shard
+     */
+    public <T> T write(int shard, Supplier<T> work) {
+        return run(List.of(shard), ignored -> work.get(), writeTransaction).get(0);
+    }
+
+    /**
+     * Read from several shards in parallel
+     * @return One result per shard, in the order of the shards
+     */
+    public <T> List<T> scatter(List<Integer> shards, Supplier<T> work) {
+        return run(shards, ignored -> work.get(), readTransaction);
+    }
+
+    /**
+     * Read from several shards in parallel, with work depending on the shard
+     * @param work Work for a shard index
+     * @return One result per shard, in the order of the shards
+     */
+    public <T> List<T> scatterByShard(List<Integer> shards, IntFunction<T> work) {
+        return run(shards, work, readTransaction);
+    }
+
+    /**
+     * Write to several shards in parallel, each committing on its own
+     * @param work Work for a shard index
+     * @return One result per shard, in the order of the shards
+     */
+    public <T> List<T> writeByShard(List<Integer> shards, IntFunction<T> work) {
+        return run(shards, work, writeTransaction);
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private <T> List<T> run(List<Integer> shards, IntFunction<T> work, TransactionTemplate transaction) {
+        boolean writing = transaction == writeTransaction;
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        int inline = -1;
+        for (int i = 0; i < shards.size(); i++) {
+            int shard = shards.get(i);
+            if (inline < 0 && joinable(shard, writing)) {
+                inline = i;
+                futures.add(null);
+            } else {
+                futures.add(pool.submit(() -> ShardContext.on(shard, () -> transaction.execute(status -> work.apply(shard)))));
+            }
+        }
+
+        boolean completed = false;
+        try {
+            T inlineResult = inline >= 0 ? work.apply(shards.get(inline)) : null;
+            long deadline = System.nanoTime() + timeoutNanos;
+            List<T> results = new ArrayList<>(shards.size());
+            for (int i = 0; i < shards.size(); i++) {
+                results.add(i == inline ? inlineResult : await(futures.get(i), shards.get(i), deadline));
+            }
+            completed = true;
+            return results;
+        } finally {
+            if (!completed) {
+                futures.stream().filter(Objects::nonNull).forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private static boolean joinable(int shard, boolean writing) {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && ShardContext.current() == shard
+            && !(writing && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+
+    private <T> T await(Future<T> future, int shard, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Shard " + shard + " did not answer within "
+                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Shard " + shard + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shard " + shard, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * What decides the shard of a product and its reviews (app.catalog.sharding.key)
+ *
+ * Reviews always live on the shard of their product, so a product and its
+ * reviews are read and written in one local transaction.
+ */
+public enum ShardKey {
+
+    /**
+     * Hash of the category: a category listing reads one shard, a product ID lookup asks every shard
+     */
+    CATEGORY,
+
+    /**
+     * Product ID modulo the shard count: an ID lookup reads one shard, a category listing asks every shard.
+     * Each shard only hands out IDs it owns, so new products are spread round-robin
+     */
+    PRODUCT_ID;
+
+    /**
+     * @param value Key name, case insensitive, dashes or underscores (e.g. product-id)
+     */
+    public static ShardKey fromProperty(String value) {
+        String name = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        return Arrays.stream(values())
+            .filter(key -> key.name().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("app.catalog.sharding.key must be one of "
+                + "category, product-id, was: " + value));
+    }
+}
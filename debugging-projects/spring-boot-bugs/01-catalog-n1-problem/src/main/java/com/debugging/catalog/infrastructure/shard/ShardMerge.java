@@ -0,0 +1,114 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Streaming k-way merge of per-shard results that are already sorted
+ *
+ * Only the head of every shard is compared (a heap of k entries), so merging
+ * n rows costs O(n log k) and a limit stops the merge after limit rows instead
+ * of sorting everything the shards returned. Equal rows keep shard order.
+ */
+final class ShardMerge {
+
+    private ShardMerge() {
+    }
+
+    /**
+     * Lazily merge sorted sources; a source is only advanced when its head was taken
+     * @param sources One sorted iterator per shard
+     * @param order Order every source is sorted by
+     */
+    static <T> Iterator<T> mergeLazily(List<? extends Iterator<? extends T>> sources, Comparator<? super T> order) {
+        return new MergeIterator<>(sources, order);
+    }
+
+    /**
+     * @return Every row of the sorted per-shard lists, in order
+     */
+    static <T> List<T> merge(List<List<T>> perShard, Comparator<? super T> order) {
+        return merge(perShard, order, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param skip Rows to drop from the head of the merged order
+     * @param limit Maximum number of rows to return after the skipped ones
+     * @return Rows [skip, skip + limit) of the merged order
+     */
+    static <T> List<T> merge(List<List<T>> perShard, Comparator<? super T> order, long skip, int limit) {
+        List<Iterator<T>> sources = new ArrayList<>(perShard.size());
+        long rows = 0;
+        for (List<T> shard : perShard) {
+            sources.add(shard.iterator());
+            rows += shard.size();
+        }
+        return take(mergeLazily(sources, order), skip, limit, (int) Math.min(limit, Math.max(0, rows - skip)));
+    }
+
+    /**
+     * @return Rows [skip, skip + limit) of an iterator
+     */
+    static <T> List<T> take(Iterator<T> rows, long skip, int limit, int expectedSize) {
+        for (long skipped = 0; skipped < skip && rows.hasNext(); skipped++) {
+            rows.next();
+        }
+        List<T> taken = new ArrayList<>(expectedSize);
+        while (taken.size() < limit && rows.hasNext()) {
+            taken.add(rows.next());
+        }
+        return taken;
+    }
+
+    /**
+     * Per-shard results without an order: shard after shard
+     */
+    static <T> List<T> concat(List<List<T>> perShard) {
+        List<T> rows = new ArrayList<>(perShard.stream().mapToInt(List::size).sum());
+        perShard.forEach(rows::addAll);
+        return rows;
+    }
+
+    private static final class MergeIterator<T> implements Iterator<T> {
+
+        private final List<? extends Iterator<? extends T>> sources;
+        private final PriorityQueue<Head<T>> heads;
+
+        MergeIterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> order) {
+            this.sources = sources;
+            Comparator<Head<T>> byValue = (a, b) -> order.compare(a.value(), b.value());
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()), byValue.thenComparingInt(Head::source));
+            for (int source = 0; source < sources.size(); source++) {
+                advance(source);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Head<T> head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            advance(head.source());
+            return head.value();
+        }
+
+        private void advance(int source) {
+            Iterator<? extends T> rows = sources.get(source);
+            if (rows.hasNext()) {
+                heads.add(new Head<>(rows.next(), source));
+            }
+        }
+    }
+
+    private record Head<T>(T value, int source) {}
+}
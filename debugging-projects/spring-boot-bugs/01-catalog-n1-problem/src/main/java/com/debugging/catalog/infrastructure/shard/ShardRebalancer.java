@@ -0,0 +1,172 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Moves every product, with its reviews, to the shard that owns it
+ *
+ * Runs once the SQL initialization is done, so the sample data (data.sql, loaded
+ * into the home shard) is spread before anything reads it, and then on a schedule
+ * for products whose category changed. A move copies the rows into the owner and
+ * deletes them from the source while holding their locks on the source, so a
+ * concurrent update of a moving product waits and then fails instead of being
+ * lost. The copy is idempotent: a move interrupted between the two commits is
+ * redone by the next run (until then both shards answer for the product).
+ *
+ * Also makes the shard identity columns hand out disjoint IDs (see
+ * ShardRouter.firstGeneratedId), with the standard identity column options.
+ */
+@Component
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(name = "app.catalog.sharding.enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    private static final String PRODUCT_COLUMNS = "id, name, description, price, category, rating_1_count, "
+        + "rating_2_count, rating_3_count, rating_4_count, rating_5_count, created_at, updated_at";
+    private static final String REVIEW_COLUMNS = "id, product_id, user_name, rating, comment, created_at";
+
+    private static final RowMapper<Object[]> ROW = (resultSet, rowNum) -> {
+        Object[] row = new Object[resultSet.getMetaData().getColumnCount()];
+        for (int column = 0; column < row.length; column++) {
+            row[column] = resultSet.getObject(column + 1);
+        }
+        return row;
+    };
+
+    private final ShardRouter router;
+    private final List<NamedParameterJdbcTemplate> jdbc = new ArrayList<>();
+    private final List<TransactionTemplate> transactions = new ArrayList<>();
+    private final int batchSize;
+    private final Counter movedCounter;
+
+    public ShardRebalancer(DataSource dataSource, ShardRouter router, MeterRegistry meterRegistry,
+                           @Value("${app.catalog.sharding.rebalance-batch-size:500}") int batchSize)
+            throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.catalog.sharding.rebalance-batch-size must be positive");
+        }
+        // Bypass the routing: every move talks to two shards at once
+        ShardRoutingDataSource shards = dataSource.unwrap(ShardRoutingDataSource.class);
+        for (int shard : router.all()) {
+            jdbc.add(new NamedParameterJdbcTemplate(shards.shard(shard)));
+            transactions.add(new TransactionTemplate(new DataSourceTransactionManager(shards.shard(shard))));
+        }
+        this.router = router;
+        this.batchSize = batchSize;
+        this.movedCounter = Counter.builder("catalog.sharding.rebalanced")
+            .description("Products moved, with their reviews, to the shard that owns them")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void initialize() {
+        int moved = rebalance();
+        separateIdentities("products");
+        separateIdentities("reviews");
+        logger.info("Catalog sharded over {} shards by {}: {} products moved to their shard",
+                   router.shardCount(), router.key(), moved);
+    }
+
+    /**
+     * Move every misplaced product, one batch per pair of shards at a time
+     * @return Number of moved products
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.sharding.rebalance-interval-ms:60000}",
+               initialDelayString = "${app.catalog.sharding.rebalance-interval-ms:60000}")
+    public int rebalance() {
+        int moved = 0;
+        for (int shard : router.all()) {
+            long afterId = 0;
+            List<Object[]> rows;
+            do {
+                rows = jdbc.get(shard).query(
+                    "SELECT id, category FROM products WHERE id > :afterId ORDER BY id LIMIT :limit",
+                    new MapSqlParameterSource("afterId", afterId).addValue("limit", batchSize), ROW);
+                Map<Integer, List<Long>> misplaced = new TreeMap<>();
+                for (Object[] row : rows) {
+                    Long id = ((Number) row[0]).longValue();
+                    int owner = router.owner(id, (String) row[1]);
+                    if (owner != shard) {
+                        misplaced.computeIfAbsent(owner, key -> new ArrayList<>()).add(id);
+                    }
+                    afterId = id;
+                }
+                for (Map.Entry<Integer, List<Long>> move : misplaced.entrySet()) {
+                    moved += move(move.getValue(), shard, move.getKey());
+                }
+            } while (rows.size() == batchSize);
+        }
+        if (moved > 0) {
+            movedCounter.increment(moved);
+            logger.info("Moved {} products to the shard that owns them", moved);
+        }
+        return moved;
+    }
+
+    private int move(List<Long> ids, int from, int to) {
+        NamedParameterJdbcTemplate source = jdbc.get(from);
+        NamedParameterJdbcTemplate target = jdbc.get(to);
+        Map<String, List<Long>> parameters = Map.of("ids", ids);
+        Integer moved = transactions.get(from).execute(sourceStatus -> {
+            List<Object[]> products = source.query(
+                "SELECT " + PRODUCT_COLUMNS + " FROM products WHERE id IN (:ids) FOR UPDATE", parameters, ROW);
+            List<Object[]> reviews = source.query(
+                "SELECT " + REVIEW_COLUMNS + " FROM reviews WHERE product_id IN (:ids)", parameters, ROW);
+
+            transactions.get(to).executeWithoutResult(targetStatus -> {
+                target.update("DELETE FROM reviews WHERE product_id IN (:ids)", parameters);
+                target.update("DELETE FROM products WHERE id IN (:ids)", parameters);
+                target.getJdbcTemplate().batchUpdate(insert("products", PRODUCT_COLUMNS), products);
+                target.getJdbcTemplate().batchUpdate(insert("reviews", REVIEW_COLUMNS), reviews);
+            });
+
+            source.update("DELETE FROM reviews WHERE product_id IN (:ids)", parameters);
+            source.update("DELETE FROM products WHERE id IN (:ids)", parameters);
+            return products.size();
+        });
+        return moved != null ? moved : 0;
+    }
+
+    private void separateIdentities(String table) {
+        long maxUsedId = 0;
+        for (int shard : router.all()) {
+            Long max = jdbc.get(shard).getJdbcTemplate()
+                .queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            maxUsedId = Math.max(maxUsedId, max != null ? max : 0);
+        }
+        for (int shard : router.all()) {
+            jdbc.get(shard).getJdbcTemplate().execute("ALTER TABLE " + table + " ALTER COLUMN id SET INCREMENT BY "
+                + router.shardCount() + " RESTART WITH " + router.firstGeneratedId(shard, maxUsedId));
+        }
+    }
+
+    private static String insert(String table, String columns) {
+        int count = columns.split(",").length;
+        return "INSERT INTO " + table + " (" + columns + ") VALUES ("
+            + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+}
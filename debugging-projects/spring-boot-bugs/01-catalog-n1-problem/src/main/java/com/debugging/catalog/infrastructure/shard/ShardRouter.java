@@ -0,0 +1,142 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Decides which shard owns a product (and its reviews)
+ *
+ * Shard 0 is the home shard (spring.datasource): besides its share of the
+ * catalog it keeps every table that is not sharded (outbox, archive registry).
+ * Ownership is a pure function of the key, so every instance routes alike and
+ * nothing is looked up: floorMod(category.hashCode(), shards) or
+ * floorMod(id, shards). Products without category live on the home shard.
+ */
+public class ShardRouter {
+
+    public static final int HOME = 0;
+
+    private final int shardCount;
+    private final ShardKey key;
+    private final List<Integer> shards;
+    private final AtomicInteger nextNewProduct = new AtomicInteger();
+
+    public ShardRouter(int shardCount, ShardKey key) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1");
+        }
+        this.shardCount = shardCount;
+        this.key = key;
+        this.shards = IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public ShardKey key() {
+        return key;
+    }
+
+    /**
+     * @return Every shard index, home first
+     */
+    public List<Integer> all() {
+        return shards;
+    }
+
+    /**
+     * Shard owning a stored product
+     * @param id Product ID
+     * @param category Product category, may be null
+     */
+    public int owner(Long id, String category) {
+        return key == ShardKey.CATEGORY ? byCategory(category) : byProductId(id);
+    }
+
+    /**
+     * Shard for a product not stored yet: by category, or round-robin when the
+     * shard identity columns decide the ID
+     * @param category Product category, may be null
+     */
+    public int ownerOfNewProduct(String category) {
+        return key == ShardKey.CATEGORY
+            ? byCategory(category)
+            : Math.floorMod(nextNewProduct.getAndIncrement(), shardCount);
+    }
+
+    /**
+     * Shards that can hold a product known by ID only. A transaction bound to a shard
+     * (a use case routed by ShardRoutingAspect) only looks at its own shard
+     * @param id Product ID
+     * @return One shard with the product-id key, every shard with the category key
+     */
+    public List<Integer> candidatesForProduct(Long id) {
+        if (boundTransaction()) {
+            return List.of(ShardContext.current());
+        }
+        return key == ShardKey.PRODUCT_ID ? List.of(byProductId(id)) : shards;
+    }
+
+    /**
+     * Shards that can hold the products of a category
+     * @param category Category, null for the whole catalog
+     * @return One shard with the category key, every shard otherwise
+     */
+    public List<Integer> candidatesForCategory(String category) {
+        return key == ShardKey.CATEGORY && category != null ? List.of(byCategory(category)) : shards;
+    }
+
+    /**
+     * Split product IDs by the shards that can hold them
+     * @param ids Product IDs
+     * @return IDs to ask every shard for, by ascending shard: each ID once with the
+     * product-id key, every ID on every shard with the category key
+     */
+    public Map<Integer, List<Long>> partitionProducts(Collection<Long> ids) {
+        Map<Integer, List<Long>> partition = new TreeMap<>();
+        if (key == ShardKey.CATEGORY || boundTransaction()) {
+            List<Long> all = List.copyOf(ids);
+            for (int shard : candidatesForProduct(null)) {
+                partition.put(shard, all);
+            }
+            return partition;
+        }
+        for (Long id : ids) {
+            partition.computeIfAbsent(byProductId(id), shard -> new ArrayList<>()).add(id);
+        }
+        return partition;
+    }
+
+    /**
+     * First ID an identity column of a shard may hand out once the highest used ID is known:
+     * with the product-id key each shard only generates the IDs it owns, and with any key
+     * the shards never generate the same ID
+     * @param shard Shard index
+     * @param maxUsedId Highest ID stored on any shard
+     * @return Smallest ID above maxUsedId congruent to the shard index modulo the shard count
+     */
+    public long firstGeneratedId(int shard, long maxUsedId) {
+        long next = maxUsedId + 1;
+        return next + Math.floorMod(shard - next, (long) shardCount);
+    }
+
+    private static boolean boundTransaction() {
+        return ShardContext.isBound() && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private int byCategory(String category) {
+        return category == null ? HOME : Math.floorMod(category.hashCode(), shardCount);
+    }
+
+    private int byProductId(Long id) {
+        return (int) Math.floorMod(id, (long) shardCount);
+    }
+}
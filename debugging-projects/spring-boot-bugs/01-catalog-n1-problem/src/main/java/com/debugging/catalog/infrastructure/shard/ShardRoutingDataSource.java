@@ -0,0 +1,56 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application DataSource with sharding enabled: every connection comes from
+ * the shard bound to the calling thread (ShardContext), the home shard otherwise
+ *
+ * JPA, JdbcTemplate and the SQL initialization (schema.sql, data.sql) keep
+ * using one DataSource; only the shard the work was bound to changes.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(ShardRouter.HOME));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * DataSource of one shard, for work that must bypass the routing (moving rows between shards)
+     * @param shard Shard index
+     */
+    public DataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource shard : shards) {
+            if (shard instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import com.debugging.catalog.infrastructure.repository.JpaOutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Event Repository kept on the home shard
+ *
+ * The outbox is not sharded: events of a change on another shard are written
+ * to the home shard in their own transaction, committed just before the change
+ * (OutboxEventWriter runs before commit). They are no longer atomic: a change
+ * whose commit fails after its events were written still gets published.
+ * The change is flushed on its own shard first, so its products are locked
+ * there before the events get their position on the home shard.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "app.catalog.sharding.enabled", havingValue = "true")
+public class ShardedOutboxEventRepository implements OutboxEventRepository {
+
+    // Domain view of the JPA repository: the CrudRepository save overload would make save ambiguous
+    private final OutboxEventRepository events;
+    private final ShardExecutor executor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ShardedOutboxEventRepository(JpaOutboxEventRepository events, ShardExecutor executor) {
+        this.events = events;
+        this.executor = executor;
+    }
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        return ShardContext.current() == ShardRouter.HOME
+            ? events.save(event)
+            : executor.write(ShardRouter.HOME, () -> events.save(event));
+    }
+
+    @Override
+    public void append(List<OutboxEvent> events) {
+        if (ShardContext.current() == ShardRouter.HOME) {
+            this.events.append(events);
+        } else {
+            entityManager.flush();
+            executor.write(ShardRouter.HOME, () -> {
+                this.events.append(events);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> findPending(int limit) {
+        return events.findPending(limit);
+    }
+
+    @Override
+    public List<OutboxEvent> findPublishedSince(long sequenceNumber, int limit) {
+        return events.findPublishedSince(sequenceNumber, limit);
+    }
+
+    @Override
+    public long findLastSequenceNumber() {
+        return events.findLastSequenceNumber();
+    }
+
+    @Override
+    public int deletePublishedBefore(LocalDateTime publishedBefore) {
+        return events.deletePublishedBefore(publishedBefore);
+    }
+}
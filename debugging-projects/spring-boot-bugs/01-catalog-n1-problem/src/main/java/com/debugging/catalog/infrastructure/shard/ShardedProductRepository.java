@@ -0,0 +1,380 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import com.debugging.catalog.domain.model.CategoryCount;
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceCount;
+import com.debugging.catalog.domain.model.PriceEntry;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductStatistics;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.infrastructure.repository.JpaProductRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Product Repository over the catalog shards
+ *
+ * Sends every call to the shards that can answer it (ShardRouter) and merges
+ * their answers: lookups by ID return the first shard that has the product,
+ * listings ordered by ID or price are k-way merged (ShardMerge), counts and
+ * histograms are added up. Each shard runs the JPA repository unchanged.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "app.catalog.sharding.enabled", havingValue = "true")
+public class ShardedProductRepository implements ProductRepository {
+
+    private static final Comparator<Product> PRODUCTS_BY_ID = Comparator.comparing(Product::getId);
+    private static final Comparator<ProductView> VIEWS_BY_ID = Comparator.comparing(ProductView::id);
+    private static final Comparator<PriceEntry> ENTRIES_BY_ID = Comparator.comparing(PriceEntry::productId);
+    private static final Comparator<PriceEntry> ENTRIES_BY_PRICE =
+        Comparator.comparing(PriceEntry::price).thenComparing(ENTRIES_BY_ID);
+    private static final Comparator<ProductView> VIEWS_BY_PRICE =
+        Comparator.comparing(ProductView::price).thenComparing(VIEWS_BY_ID);
+
+    // Domain view of the JPA repository: CrudRepository overloads would make findById, save... ambiguous
+    private final ProductRepository products;
+    private final ShardRouter router;
+    private final ShardExecutor executor;
+
+    public ShardedProductRepository(JpaProductRepository products, ShardRouter router, ShardExecutor executor) {
+        this.products = products;
+        this.router = router;
+        this.executor = executor;
+    }
+
+    @Override
+    public List<Product> findAllProducts() {
+        return ShardMerge.concat(executor.scatter(router.all(), products::findAllProducts));
+    }
+
+    @Override
+    public List<Product> findAllWithReviews() {
+        return ShardMerge.merge(executor.scatter(router.all(), products::findAllWithReviews), PRODUCTS_BY_ID);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return first(router.candidatesForProduct(id), () -> products.findById(id));
+    }
+
+    // A write: joins the caller's transaction on the product's shard, which holds the lock until it commits
+    @Override
+    public Optional<Product> findByIdForUpdate(Long id) {
+        return executor.write(locate(id, null), () -> products.findByIdForUpdate(id));
+    }
+
+    @Override
+    public Optional<Product> findByIdWithReviews(Long id) {
+        return first(router.candidatesForProduct(id), () -> products.findByIdWithReviews(id));
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return ShardMerge.concat(executor.scatter(router.candidatesForCategory(category),
+            () -> products.findByCategory(category)));
+    }
+
+    @Override
+    public List<Product> findByCategoryWithReviews(String category) {
+        return ShardMerge.merge(executor.scatter(router.candidatesForCategory(category),
+            () -> products.findByCategoryWithReviews(category)), PRODUCTS_BY_ID);
+    }
+
+    @Override
+    public List<ProductView> findAll(FetchPlan fetchPlan) {
+        return ShardMerge.merge(executor.scatter(router.all(), () -> products.findAll(fetchPlan)), VIEWS_BY_ID);
+    }
+
+    @Override
+    public List<ProductView> findByCategory(String category, FetchPlan fetchPlan) {
+        return ShardMerge.merge(executor.scatter(router.candidatesForCategory(category),
+            () -> products.findByCategory(category, fetchPlan)), VIEWS_BY_ID);
+    }
+
+    @Override
+    public Optional<ProductView> findById(Long id, FetchPlan fetchPlan) {
+        return first(router.candidatesForProduct(id), () -> products.findById(id, fetchPlan));
+    }
+
+    @Override
+    public List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return ShardMerge.concat(executor.scatter(router.all(), () -> products.findByPriceRange(minPrice, maxPrice)));
+    }
+
+    // Each shard is read page by page and only as far as the merge needs it:
+    // the first page of every shard in parallel, later pages on demand
+    @Override
+    public List<ProductView> findByPriceRange(PriceRangeQuery query) {
+        List<Integer> shards = router.candidatesForCategory(query.category());
+        if (shards.size() == 1) {
+            return executor.read(shards.get(0), () -> products.findByPriceRange(query));
+        }
+        List<List<ProductView>> firstPages = executor.scatter(shards, () -> products.findByPriceRange(page(query, 0)));
+        List<PageCursor> cursors = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            cursors.add(new PageCursor(shards.get(i), query, firstPages.get(i)));
+        }
+        Comparator<ProductView> order = query.descending() ? VIEWS_BY_PRICE.reversed() : VIEWS_BY_PRICE;
+        return ShardMerge.take(ShardMerge.mergeLazily(cursors, order), query.offset(), query.size(), query.size());
+    }
+
+    @Override
+    public long countByPriceRange(PriceRangeQuery query) {
+        return sum(executor.scatter(router.candidatesForCategory(query.category()),
+            () -> products.countByPriceRange(query)));
+    }
+
+    @Override
+    public List<ProductView> findByIds(List<Long> ids, FetchPlan fetchPlan) {
+        Map<Integer, List<Long>> partition = router.partitionProducts(ids);
+        return ShardMerge.merge(executor.scatterByShard(new ArrayList<>(partition.keySet()),
+            shard -> products.findByIds(partition.get(shard), fetchPlan)), VIEWS_BY_ID);
+    }
+
+    @Override
+    public List<ProductView> findByIdsWithReviews(List<Long> ids) {
+        Map<Integer, List<Long>> partition = router.partitionProducts(ids);
+        return ShardMerge.merge(executor.scatterByShard(new ArrayList<>(partition.keySet()),
+            shard -> products.findByIdsWithReviews(partition.get(shard))), VIEWS_BY_ID);
+    }
+
+    @Override
+    public List<PriceEntry> findAllPriceEntries() {
+        return ShardMerge.merge(executor.scatter(router.all(), products::findAllPriceEntries), ENTRIES_BY_PRICE);
+    }
+
+    @Override
+    public List<PriceEntry> findPriceEntriesByIds(List<Long> ids) {
+        Map<Integer, List<Long>> partition = router.partitionProducts(ids);
+        return ShardMerge.concat(executor.scatterByShard(new ArrayList<>(partition.keySet()),
+            shard -> products.findPriceEntriesByIds(partition.get(shard))));
+    }
+
+    // The row locks end with each shard's read transaction, not with the caller's
+    @Override
+    public List<PriceEntry> findPriceEntriesAfter(String category, long afterId, int limit) {
+        return ShardMerge.merge(executor.scatter(router.candidatesForCategory(category),
+            () -> products.findPriceEntriesAfter(category, afterId, limit)), ENTRIES_BY_ID, 0, limit);
+    }
+
+    // One local transaction per shard: a batch spanning shards is not atomic
+    @Override
+    public List<PriceChange> updatePrices(List<PriceChange> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PriceChange> byId = new LinkedHashMap<>();
+        changes.forEach(change -> byId.put(change.productId(), change));
+        Map<Integer, List<PriceChange>> byShard = new TreeMap<>();
+        locate(new ArrayList<>(byId.keySet())).forEach((id, shard) ->
+            byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(byId.get(id)));
+        return ShardMerge.concat(executor.writeByShard(new ArrayList<>(byShard.keySet()),
+            shard -> products.updatePrices(byShard.get(shard))));
+    }
+
+    // Each shard updates the ID range of its own changes; not atomic across shards either
+    @Override
+    public int adjustPrices(String category, BigDecimal factor, BigDecimal minPrice, List<PriceChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        Map<Long, PriceChange> byId = new TreeMap<>();
+        changes.forEach(change -> byId.put(change.productId(), change));
+        Map<Integer, List<PriceChange>> byShard = new TreeMap<>();
+        locate(new ArrayList<>(byId.keySet())).forEach((id, shard) ->
+            byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(byId.get(id)));
+        // locate() does not keep the ID order the range needs
+        byShard.values().forEach(shardChanges -> shardChanges.sort(Comparator.comparing(PriceChange::productId)));
+        return (int) sum(executor.writeByShard(new ArrayList<>(byShard.keySet()),
+            shard -> (long) products.adjustPrices(category, factor, minPrice, byShard.get(shard))));
+    }
+
+    @Override
+    public Product save(Product product) {
+        int shard = product.getId() == null
+            ? router.ownerOfNewProduct(product.getCategory())
+            : locate(product.getId(), product.getCategory());
+        return executor.write(shard, () -> products.save(product));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        executor.write(locate(id, null), () -> {
+            products.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return executor.scatter(router.candidatesForProduct(id), () -> products.existsById(id)).contains(true);
+    }
+
+    @Override
+    public long count() {
+        return sum(executor.scatter(router.all(), products::count));
+    }
+
+    @Override
+    public List<Product> findByAverageRatingGreaterThan(double minRating) {
+        return ShardMerge.concat(executor.scatter(router.all(), () -> products.findByAverageRatingGreaterThan(minRating)));
+    }
+
+    @Override
+    public ProductStatistics getProductStatistics() {
+        long totalProducts = 0;
+        long totalCategories = 0;
+        double priceSum = 0;
+        BigDecimal minPrice = null;
+        BigDecimal maxPrice = null;
+        for (ProductStatistics shard : executor.scatter(router.all(), products::getProductStatistics)) {
+            if (shard.totalProducts() == null || shard.totalProducts() == 0) {
+                continue;
+            }
+            totalProducts += shard.totalProducts();
+            totalCategories += shard.totalCategories();
+            priceSum += shard.averagePrice() * shard.totalProducts();
+            minPrice = minPrice == null || shard.minPrice().compareTo(minPrice) < 0 ? shard.minPrice() : minPrice;
+            maxPrice = maxPrice == null || shard.maxPrice().compareTo(maxPrice) > 0 ? shard.maxPrice() : maxPrice;
+        }
+        if (router.key() != ShardKey.CATEGORY) {
+            // A category spans shards: count the distinct ones
+            totalCategories = countProductsGroupedByCategory().stream().filter(row -> row.category() != null).count();
+        }
+        return new ProductStatistics(totalProducts, totalCategories,
+            totalProducts > 0 ? priceSum / totalProducts : null, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<CategoryCount> countProductsGroupedByCategory() {
+        Map<String, Long> counts = sumByKey(executor.scatter(router.all(), products::countProductsGroupedByCategory),
+            CategoryCount::category, CategoryCount::count, new HashMap<>());
+        List<CategoryCount> rows = new ArrayList<>(counts.size());
+        counts.forEach((category, count) -> rows.add(new CategoryCount(category, count)));
+        return rows;
+    }
+
+    @Override
+    public List<PriceCount> countProductsGroupedByPrice() {
+        // Sorted map: prices of different shards may differ in scale
+        Map<BigDecimal, Long> counts = sumByKey(executor.scatter(router.all(), products::countProductsGroupedByPrice),
+            PriceCount::price, PriceCount::count, new TreeMap<>());
+        List<PriceCount> rows = new ArrayList<>(counts.size());
+        counts.forEach((price, count) -> rows.add(new PriceCount(price, count)));
+        return rows;
+    }
+
+    /**
+     * Shard holding a product, to route a use case before its transaction starts
+     * @param id Product ID
+     * @param category Category of the product when known, may be null
+     * @return Shard holding the product, or the shard that would own it when it is not stored
+     */
+    public int locate(Long id, String category) {
+        List<Integer> candidates = router.candidatesForProduct(id);
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        int found = executor.scatter(candidates, () -> products.existsById(id)).indexOf(true);
+        return found >= 0 ? candidates.get(found) : router.owner(id, category);
+    }
+
+    private Map<Long, Integer> locate(List<Long> ids) {
+        Map<Integer, List<Long>> partition = router.partitionProducts(ids);
+        List<Integer> shards = new ArrayList<>(partition.keySet());
+        if (shards.size() == 1 || router.key() == ShardKey.PRODUCT_ID) {
+            Map<Long, Integer> located = new HashMap<>();
+            partition.forEach((shard, shardIds) -> shardIds.forEach(id -> located.put(id, shard)));
+            return located;
+        }
+        List<List<PriceEntry>> found = executor.scatterByShard(shards,
+            shard -> products.findPriceEntriesByIds(partition.get(shard)));
+        Map<Long, Integer> located = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            for (PriceEntry entry : found.get(i)) {
+                located.putIfAbsent(entry.productId(), shards.get(i));
+            }
+        }
+        return located;
+    }
+
+    private <T> Optional<T> first(List<Integer> shards, Supplier<Optional<T>> lookup) {
+        return executor.scatter(shards, lookup).stream().flatMap(Optional::stream).findFirst();
+    }
+
+    private static long sum(List<Long> counts) {
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static <R, K> Map<K, Long> sumByKey(List<List<R>> perShard, Function<R, K> key, Function<R, Long> count,
+                                                Map<K, Long> counts) {
+        for (List<R> rows : perShard) {
+            for (R row : rows) {
+                counts.merge(key.apply(row), count.apply(row), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static PriceRangeQuery page(PriceRangeQuery query, int page) {
+        return new PriceRangeQuery(query.category(), query.minPrice(), query.maxPrice(),
+            query.descending(), page, query.size());
+    }
+
+    /**
+     * Rows of one shard for a price range, fetching the next page when the current one is used up
+     */
+    private final class PageCursor implements Iterator<ProductView> {
+
+        private final int shard;
+        private final PriceRangeQuery query;
+        private int page;
+        private Iterator<ProductView> rows;
+        private boolean lastPage;
+
+        PageCursor(int shard, PriceRangeQuery query, List<ProductView> firstPage) {
+            this.shard = shard;
+            this.query = query;
+            this.rows = firstPage.iterator();
+            this.lastPage = firstPage.size() < query.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!rows.hasNext() && !lastPage) {
+                List<ProductView> next = executor.read(shard, () -> products.findByPriceRange(page(query, page + 1)));
+                page++;
+                rows = next.iterator();
+                lastPage = next.size() < query.size();
+            }
+            return rows.hasNext();
+        }
+
+        @Override
+        public ProductView next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.next();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.ProductLike;
+import com.debugging.catalog.domain.model.ProductReviewer;
+import com.debugging.catalog.domain.model.RatingCount;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.model.ReviewComment;
+import com.debugging.catalog.domain.model.ReviewStatistics;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import com.debugging.catalog.infrastructure.repository.JpaReviewRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Review Repository over the catalog shards
+ *
+ * Reviews live on the shard of their product, so per-product calls go to
+ * that shard and catalog-wide ones are scattered and merged like products
+ * (see ShardedProductRepository). Archived rating counts are read from the
+ * home shard, which keeps the archive registry; the archive itself is not
+ * sharded and its operations are rejected.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "app.catalog.sharding.enabled", havingValue = "true")
+public class ShardedReviewRepository implements ReviewRepository {
+
+    private static final Comparator<Review> NEWEST_FIRST =
+        Comparator.comparing(Review::getCreatedAt).thenComparing(Review::getId).reversed();
+    private static final Comparator<Review> BY_PRODUCT = Comparator.comparing(review -> review.getProduct().getId());
+    private static final Comparator<ProductReviewer> REVIEWERS_BY_ID = Comparator.comparing(ProductReviewer::reviewId);
+    private static final Comparator<ReviewComment> COMMENTS_BY_ID = Comparator.comparing(ReviewComment::reviewId);
+    // Rows of [product ID, average rating, review count]
+    private static final Comparator<Object[]> TOP_RATED = Comparator
+        .<Object[]>comparingDouble(row -> ((Number) row[1]).doubleValue())
+        .thenComparingLong(row -> ((Number) row[2]).longValue())
+        .reversed();
+
+    // Domain view of the JPA repository: CrudRepository overloads would make findById, save... ambiguous
+    private final ReviewRepository reviews;
+    // Per-shard aggregates that the domain interface only exposes merged
+    private final JpaReviewRepository shardAggregates;
+    private final ShardedProductRepository products;
+    private final ShardRouter router;
+    private final ShardExecutor executor;
+
+    public ShardedReviewRepository(JpaReviewRepository reviews, ShardedProductRepository products,
+                                   ShardRouter router, ShardExecutor executor) {
+        this.reviews = reviews;
+        this.shardAggregates = reviews;
+        this.products = products;
+        this.router = router;
+        this.executor = executor;
+    }
+
+    @Override
+    public List<Review> findAll() {
+        return ShardMerge.concat(executor.scatter(router.all(), reviews::findAll));
+    }
+
+    @Override
+    public List<Review> findByProductId(Long productId) {
+        return executor.read(products.locate(productId, null), () -> reviews.findByProductId(productId));
+    }
+
+    @Override
+    public List<Review> findLatestByProductIds(Collection<Long> productIds, int limit) {
+        Map<Integer, List<Long>> partition = router.partitionProducts(productIds);
+        return ShardMerge.merge(executor.scatterByShard(new ArrayList<>(partition.keySet()),
+            shard -> reviews.findLatestByProductIds(partition.get(shard), limit)), BY_PRODUCT);
+    }
+
+    @Override
+    public List<Review> findByProductIds(Collection<Long> productIds) {
+        Map<Integer, List<Long>> partition = router.partitionProducts(productIds);
+        return ShardMerge.merge(executor.scatterByShard(new ArrayList<>(partition.keySet()),
+            shard -> reviews.findByProductIds(partition.get(shard))), BY_PRODUCT);
+    }
+
+    @Override
+    public Optional<Review> findById(Long id) {
+        return executor.scatter(router.all(), () -> reviews.findById(id)).stream()
+            .flatMap(Optional::stream)
+            .findFirst();
+    }
+
+    @Override
+    public List<Review> findByRating(Integer rating) {
+        return ShardMerge.merge(executor.scatter(router.all(), () -> reviews.findByRating(rating)), NEWEST_FIRST);
+    }
+
+    @Override
+    public List<Review> findByUserName(String userName) {
+        return ShardMerge.merge(executor.scatter(router.all(), () -> reviews.findByUserName(userName)), NEWEST_FIRST);
+    }
+
+    @Override
+    public List<Review> findPositiveReviews() {
+        return ShardMerge.merge(executor.scatter(router.all(), reviews::findPositiveReviews), NEWEST_FIRST);
+    }
+
+    @Override
+    public List<Review> findNegativeReviews() {
+        return ShardMerge.merge(executor.scatter(router.all(), reviews::findNegativeReviews), NEWEST_FIRST);
+    }
+
+    @Override
+    public Review save(Review review) {
+        Long productId = review.getProduct().getId();
+        return executor.write(products.locate(productId, review.getProduct().getCategory()), () -> reviews.save(review));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        List<Boolean> found = executor.scatter(router.all(), () -> reviews.existsById(id));
+        if (found.contains(true)) {
+            executor.write(router.all().get(found.indexOf(true)), () -> {
+                reviews.deleteById(id);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return executor.scatter(router.all(), () -> reviews.existsById(id)).contains(true);
+    }
+
+    @Override
+    public long count() {
+        return executor.scatter(router.all(), reviews::count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long countByProductId(Long productId) {
+        return executor.read(products.locate(productId, null), () -> reviews.countByProductId(productId));
+    }
+
+    @Override
+    public double getAverageRatingByProductId(Long productId) {
+        return executor.read(products.locate(productId, null), () -> reviews.getAverageRatingByProductId(productId));
+    }
+
+    // The top N of the catalog is within the top N of the shards
+    @Override
+    public List<Long> findTopRatedProductIds(int limit) {
+        List<List<Object[]>> perShard = executor.scatter(router.all(), () -> shardAggregates.getTopRatedProducts(Limit.of(limit)));
+        return ShardMerge.merge(perShard, TOP_RATED, 0, limit).stream()
+            .map(row -> (Long) row[0])
+            .toList();
+    }
+
+    @Override
+    public ReviewStatistics getReviewStatistics() {
+        return new ReviewStatistics(0L, null, 0L, 0L).plus(ratingCounts());
+    }
+
+    @Override
+    public List<RatingCount> countReviewsGroupedByRating() {
+        long[] counts = ratingCounts();
+        List<RatingCount> rows = new ArrayList<>();
+        for (int rating = 1; rating <= counts.length; rating++) {
+            if (counts[rating - 1] > 0) {
+                rows.add(new RatingCount(rating, counts[rating - 1]));
+            }
+        }
+        return rows;
+    }
+
+    // Review IDs are unique across shards (see ShardRebalancer), so the merged pages are a keyset too
+    @Override
+    public List<ProductReviewer> findReviewersAfter(long afterReviewId, int limit) {
+        return ShardMerge.merge(executor.scatter(router.all(), () -> reviews.findReviewersAfter(afterReviewId, limit)),
+            REVIEWERS_BY_ID, 0, limit);
+    }
+
+    @Override
+    public List<ProductLike> findPositiveReviewers() {
+        return ShardMerge.concat(executor.scatter(router.all(), reviews::findPositiveReviewers));
+    }
+
+    @Override
+    public List<ReviewComment> findCommentsAfter(long afterReviewId, int limit) {
+        return ShardMerge.merge(executor.scatter(router.all(), () -> reviews.findCommentsAfter(afterReviewId, limit)),
+            COMMENTS_BY_ID, 0, limit);
+    }
+
+    @Override
+    public List<Long> findExistingIds(Collection<Long> reviewIds) {
+        return ShardMerge.concat(executor.scatter(router.all(), () -> reviews.findExistingIds(reviewIds)));
+    }
+
+    @Override
+    public List<ArchivedReview> findCreatedBefore(LocalDateTime createdBefore, int limit) {
+        throw new UnsupportedOperationException("The review archive is not available with sharding");
+    }
+
+    @Override
+    public int deleteArchived(List<ArchivedReview> archived) {
+        throw new UnsupportedOperationException("The review archive is not available with sharding");
+    }
+
+    /**
+     * Review counts per rating of every shard and of the archive, index 0 holds 1-star reviews
+     */
+    private long[] ratingCounts() {
+        long[] counts = executor.read(ShardRouter.HOME, shardAggregates::getArchivedRatingCounts);
+        for (List<RatingCount> rows : executor.scatter(router.all(), shardAggregates::countHotReviewsGroupedByRating)) {
+            for (RatingCount row : rows) {
+                counts[row.rating() - 1] += row.count();
+            }
+        }
+        return counts;
+    }
+}
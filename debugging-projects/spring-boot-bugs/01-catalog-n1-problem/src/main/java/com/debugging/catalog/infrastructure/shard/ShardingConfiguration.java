@@ -0,0 +1,69 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sharded catalog storage (app.catalog.sharding.enabled)
+ *
+ * The products and reviews tables are spread over the home database
+ * (spring.datasource, shard 0) and one database per app.catalog.sharding.urls
+ * entry, with the same credentials. The application DataSource routes every
+ * transaction to the shard bound to its thread, so the JPA repositories run
+ * unchanged on any shard; ShardedProductRepository and ShardedReviewRepository
+ * decide which shards a call goes to.
+ *
+ * Only the catalog is sharded: the outbox and the review archive registry
+ * stay on the home shard, and the extra shards only get the catalog tables
+ * (schema.sql). The review archive moves reviews and registers segments in one
+ * transaction, so it cannot be enabled together with sharding.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.catalog.sharding.enabled", havingValue = "true")
+public class ShardingConfiguration {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 @Value("${app.catalog.sharding.urls:}") String[] urls,
+                                 @Value("${app.catalog.reviews.archive.enabled:true}") boolean archiveEnabled) {
+        if (archiveEnabled) {
+            throw new IllegalStateException("app.catalog.sharding.enabled requires "
+                + "app.catalog.reviews.archive.enabled=false: the archive is not sharded");
+        }
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(properties.initializeDataSourceBuilder().build());
+        for (String url : shardUrls(urls)) {
+            DataSource shard = properties.initializeDataSourceBuilder().url(url).build();
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(shard);
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public ShardRouter shardRouter(@Value("${app.catalog.sharding.urls:}") String[] urls,
+                                   @Value("${app.catalog.sharding.key:category}") String key) {
+        return new ShardRouter(1 + shardUrls(urls).size(), ShardKey.fromProperty(key));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ShardExecutor shardExecutor(PlatformTransactionManager transactionManager,
+                                       @Value("${app.catalog.sharding.timeout-ms:5000}") long timeoutMs) {
+        return new ShardExecutor(transactionManager, timeoutMs);
+    }
+
+    private static List<String> shardUrls(String[] urls) {
+        return Arrays.stream(urls).map(String::trim).filter(url -> !url.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,301 @@
+package com.debugging.catalog.infrastructure.slo;
+
+import com.debugging.catalog.application.dto.LatencySloReportDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency SLO per route
+ *
+ * Objective: a share (app.catalog.slo.objective) of the requests of every route
+ * answer without a server error within app.catalog.max-response-time-ms. The
+ * http.server.requests timers carry the same threshold as an SLO bucket for
+ * Prometheus; this tracker keeps its own cumulative log-scale histogram per
+ * route (method + path pattern), fed by the server request observations, and
+ * samples it on a schedule so percentiles, compliance and error-budget burn
+ * rate can be read over a short and a long window.
+ *
+ * Burn rate = bad share in the window / error budget (1 - objective): 1 spends
+ * the budget exactly over the SLO period. A route is breaching when both
+ * windows burn faster than app.catalog.slo.alert-burn-rate.
+ */
+@Component
+public class LatencySloTracker implements ObservationHandler<ServerRequestObservationContext> {
+
+    public static final String BURN_RATE_METRIC = "catalog.slo.burn.rate";
+
+    // Bucket upper bounds: 100 µs to ~60 s, four per doubling (<= 19% apart), plus the threshold itself
+    private static final long MIN_BOUND_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_BOUND_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final double objective;
+    private final long shortWindowMillis;
+    private final long longWindowMillis;
+    private final double alertBurnRate;
+    private final long[] bounds;
+    private final int thresholdBucket;
+    private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    public LatencySloTracker(MeterRegistry meterRegistry,
+                             @Value("${app.catalog.max-response-time-ms:500}") long maxResponseTimeMs,
+                             @Value("${app.catalog.slo.objective:0.99}") double objective,
+                             @Value("${app.catalog.slo.short-window-minutes:5}") long shortWindowMinutes,
+                             @Value("${app.catalog.slo.long-window-minutes:60}") long longWindowMinutes,
+                             @Value("${app.catalog.slo.alert-burn-rate:14.4}") double alertBurnRate) {
+        if (maxResponseTimeMs < 1 || objective <= 0 || objective >= 1
+                || shortWindowMinutes < 1 || longWindowMinutes < shortWindowMinutes || alertBurnRate <= 0) {
+            throw new IllegalArgumentException("app.catalog.slo requires max-response-time-ms >= 1, "
+                + "0 < objective < 1, 1 <= short-window-minutes <= long-window-minutes and alert-burn-rate > 0");
+        }
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(maxResponseTimeMs);
+        this.objective = objective;
+        this.shortWindowMillis = TimeUnit.MINUTES.toMillis(shortWindowMinutes);
+        this.longWindowMillis = TimeUnit.MINUTES.toMillis(longWindowMinutes);
+        this.alertBurnRate = alertBurnRate;
+        this.bounds = bounds(thresholdNanos);
+        this.thresholdBucket = Arrays.binarySearch(bounds, thresholdNanos);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext;
+    }
+
+    @Override
+    public void onStart(ServerRequestObservationContext context) {
+        context.put(StartTime.class, new StartTime(System.nanoTime()));
+    }
+
+    @Override
+    public void onStop(ServerRequestObservationContext context) {
+        StartTime start = context.get(StartTime.class);
+        String pathPattern = context.getPathPattern();
+        // Unmatched requests (404 without a handler) would add one route per URL
+        if (start == null || pathPattern == null) {
+            return;
+        }
+        boolean serverError = context.getError() != null
+            || (context.getResponse() != null && context.getResponse().getStatus() >= 500);
+        record(context.getCarrier().getMethod() + " " + pathPattern, System.nanoTime() - start.nanos(), serverError);
+    }
+
+    void record(String route, long nanos, boolean serverError) {
+        Route stats = routes.computeIfAbsent(route, this::newRoute);
+        int bucket = Arrays.binarySearch(bounds, nanos);
+        stats.counts.incrementAndGet(bucket >= 0 ? bucket : -bucket - 1);
+        if (serverError && nanos <= thresholdNanos) {
+            // Slow server errors are already counted by the buckets above the threshold
+            stats.fastErrors.increment();
+        }
+    }
+
+    /**
+     * Snapshot every route so windows can be measured, and refresh the burn-rate gauges
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.slo.sample-interval-ms:15000}")
+    public void sample() {
+        sample(System.currentTimeMillis());
+    }
+
+    void sample(long nowMillis) {
+        for (Route route : routes.values()) {
+            Sample current = route.read(nowMillis);
+            synchronized (route) {
+                route.samples.addLast(current);
+                // Keep the newest sample at or before the long window start, drop older ones
+                while (route.samples.size() > 1) {
+                    Sample oldest = route.samples.removeFirst();
+                    if (route.samples.getFirst().atMillis() > nowMillis - longWindowMillis) {
+                        route.samples.addFirst(oldest);
+                        break;
+                    }
+                }
+                route.shortBurnRate = burnRate(route.since(current, nowMillis - shortWindowMillis));
+                route.longBurnRate = burnRate(route.since(current, nowMillis - longWindowMillis));
+            }
+        }
+    }
+
+    /**
+     * Latency percentiles, SLO compliance and burn rate of every route, worst short-window burn rate first
+     */
+    public LatencySloReportDTO report() {
+        return report(System.currentTimeMillis());
+    }
+
+    LatencySloReportDTO report(long nowMillis) {
+        List<LatencySloReportDTO.Route> report = new ArrayList<>();
+        for (Route route : routes.values()) {
+            Sample current = route.read(nowMillis);
+            Sample shortDelta;
+            Sample longDelta;
+            synchronized (route) {
+                shortDelta = route.since(current, nowMillis - shortWindowMillis);
+                longDelta = route.since(current, nowMillis - longWindowMillis);
+            }
+            LatencySloReportDTO.Window shortWindow = window("short", shortDelta, nowMillis);
+            LatencySloReportDTO.Window longWindow = window("long", longDelta, nowMillis);
+            boolean breaching = shortWindow.getBurnRate() > alertBurnRate && longWindow.getBurnRate() > alertBurnRate;
+            report.add(new LatencySloReportDTO.Route(route.name, total(current.counts()), breaching,
+                List.of(shortWindow, longWindow)));
+        }
+        report.sort(Comparator.comparingDouble((LatencySloReportDTO.Route route) ->
+            route.getWindows().get(0).getBurnRate()).reversed().thenComparing(LatencySloReportDTO.Route::getRoute));
+        return new LatencySloReportDTO(objective, TimeUnit.NANOSECONDS.toMillis(thresholdNanos), alertBurnRate,
+            report);
+    }
+
+    private LatencySloReportDTO.Window window(String name, Sample delta, long nowMillis) {
+        long requests = total(delta.counts());
+        long bad = bad(delta);
+        return new LatencySloReportDTO.Window(
+            name,
+            Math.max(0, nowMillis - delta.atMillis()) / 1000,
+            requests,
+            requests == 0 ? null : quantileMillis(delta.counts(), requests, 0.50),
+            requests == 0 ? null : quantileMillis(delta.counts(), requests, 0.95),
+            requests == 0 ? null : quantileMillis(delta.counts(), requests, 0.99),
+            requests == 0 ? null : 1.0 - (double) bad / requests,
+            burnRate(delta));
+    }
+
+    private double burnRate(Sample delta) {
+        long requests = total(delta.counts());
+        return requests == 0 ? 0 : (double) bad(delta) / requests / (1 - objective);
+    }
+
+    private long bad(Sample delta) {
+        long slow = 0;
+        for (int bucket = thresholdBucket + 1; bucket < delta.counts().length; bucket++) {
+            slow += delta.counts()[bucket];
+        }
+        return slow + delta.fastErrors();
+    }
+
+    // Linear interpolation inside the bucket holding the rank, as histogram_quantile does
+    private double quantileMillis(long[] counts, long requests, double quantile) {
+        double rank = quantile * requests;
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0 && seen + counts[bucket] >= rank) {
+                if (bucket == bounds.length) {
+                    // Overflow bucket: report its lower bound
+                    return bounds[bounds.length - 1] / 1e6;
+                }
+                double lower = bucket == 0 ? 0 : bounds[bucket - 1];
+                double fraction = (rank - seen) / counts[bucket];
+                return (lower + (bounds[bucket] - lower) * fraction) / 1e6;
+            }
+            seen += counts[bucket];
+        }
+        return 0;
+    }
+
+    private static long total(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    private Route newRoute(String name) {
+        Route route = new Route(name, bounds.length + 1);
+        Gauge.builder(BURN_RATE_METRIC, route, r -> r.shortBurnRate)
+            .description("Error-budget burn rate of the route latency SLO")
+            .tags("route", name, "window", "short")
+            .register(meterRegistry);
+        Gauge.builder(BURN_RATE_METRIC, route, r -> r.longBurnRate)
+            .description("Error-budget burn rate of the route latency SLO")
+            .tags("route", name, "window", "long")
+            .register(meterRegistry);
+        return route;
+    }
+
+    private static long[] bounds(long thresholdNanos) {
+        List<Long> bounds = new ArrayList<>();
+        for (int step = 0; ; step++) {
+            long bound = Math.round(MIN_BOUND_NANOS * Math.pow(2, step / 4.0));
+            if (bound > MAX_BOUND_NANOS) {
+                break;
+            }
+            bounds.add(bound);
+        }
+        bounds.add(thresholdNanos);
+        return bounds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    private record StartTime(long nanos) {}
+
+    /**
+     * Cumulative counts at one point in time: requests per bucket and fast server errors
+     * (atMillis of a window delta is the start of the window it covers)
+     */
+    private record Sample(long atMillis, long[] counts, long fastErrors) {}
+
+    private static final class Route {
+
+        final String name;
+        final AtomicLongArray counts;
+        final LongAdder fastErrors = new LongAdder();
+        final ArrayDeque<Sample> samples = new ArrayDeque<>();
+        final long createdAtMillis = System.currentTimeMillis();
+        volatile double shortBurnRate;
+        volatile double longBurnRate;
+
+        Route(String name, int buckets) {
+            this.name = name;
+            this.counts = new AtomicLongArray(buckets);
+        }
+
+        Sample read(long nowMillis) {
+            long[] snapshot = new long[counts.length()];
+            for (int bucket = 0; bucket < snapshot.length; bucket++) {
+                snapshot[bucket] = counts.get(bucket);
+            }
+            return new Sample(nowMillis, snapshot, fastErrors.sum());
+        }
+
+        /**
+         * Requests since the newest sample taken at or before the window start; since the
+         * route was first seen while the window is not covered by samples yet
+         */
+        Sample since(Sample current, long windowStartMillis) {
+            Sample baseline = null;
+            for (Sample sample : samples) {
+                if (sample.atMillis() > windowStartMillis) {
+                    break;
+                }
+                baseline = sample;
+            }
+            if (baseline == null) {
+                return new Sample(createdAtMillis, current.counts(), current.fastErrors());
+            }
+            long[] counts = new long[current.counts().length];
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                counts[bucket] = current.counts()[bucket] - baseline.counts()[bucket];
+            }
+            return new Sample(baseline.atMillis(), counts, current.fastErrors() - baseline.fastErrors());
+        }
+    }
+}
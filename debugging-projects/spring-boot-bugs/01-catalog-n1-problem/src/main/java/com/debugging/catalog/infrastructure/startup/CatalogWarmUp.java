@@ -0,0 +1,258 @@
+package com.debugging.catalog.infrastructure.startup;
+
+import com.debugging.catalog.application.service.PriceIndex;
+import com.debugging.catalog.application.usecase.GetProductsBatchUseCase;
+import com.debugging.catalog.application.usecase.ListProductsUseCase;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Catalog Warm-Up
+ *
+ * Runs the hot read paths before the instance takes traffic, so the first
+ * requests after a deploy do not pay for Hibernate query compilation, cold
+ * database pages and connections, class loading, JIT and Jackson serializer
+ * construction:
+ * - the product listing and the listings of app.catalog.warmup.categories
+ * - the top-rated products through the batch read, which also fills the read cache
+ * - every result serialized with the application ObjectMapper
+ * - waits for the first price index build
+ *
+ * Application runners complete before Spring Boot publishes ReadinessState
+ * ACCEPTING_TRAFFIC, and this indicator stays OUT_OF_SERVICE until the warm-up
+ * ends (readiness group), so the readiness probe only reports UP afterwards.
+ * The warm-up never blocks startup longer than app.catalog.warmup.budget-ms:
+ * a step that overruns it is cancelled, the remaining steps are skipped and
+ * the instance starts cold rather than late. A failed step is logged and skipped.
+ */
+@Component("warmUp")
+public class CatalogWarmUp implements ApplicationRunner, HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogWarmUp.class);
+
+    enum State { PENDING, RUNNING, COMPLETED, DISABLED }
+
+    private final ListProductsUseCase listProductsUseCase;
+    private final GetProductsBatchUseCase getProductsBatchUseCase;
+    private final ReviewRepository reviewRepository;
+    private final PriceIndex priceIndex;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration budget;
+    private final List<String> categories;
+    private final int topRated;
+    private final int iterations;
+
+    private final AtomicInteger finishedSteps = new AtomicInteger();
+    private volatile int totalSteps;
+    private volatile State state = State.PENDING;
+    private volatile boolean budgetExceeded;
+    private volatile long elapsedMs;
+
+    public CatalogWarmUp(ListProductsUseCase listProductsUseCase, GetProductsBatchUseCase getProductsBatchUseCase,
+                         ReviewRepository reviewRepository, PriceIndex priceIndex, ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.catalog.warmup.enabled:true}") boolean enabled,
+                         @Value("${app.catalog.warmup.budget-ms:30000}") long budgetMs,
+                         @Value("${app.catalog.warmup.categories:}") List<String> categories,
+                         @Value("${app.catalog.warmup.top-rated:100}") int topRated,
+                         @Value("${app.catalog.warmup.iterations:3}") int iterations) {
+        if (budgetMs <= 0 || topRated < 0 || iterations < 1) {
+            throw new IllegalArgumentException(
+                "app.catalog.warmup requires budget-ms > 0, top-rated >= 0 and iterations >= 1");
+        }
+        this.listProductsUseCase = listProductsUseCase;
+        this.getProductsBatchUseCase = getProductsBatchUseCase;
+        this.reviewRepository = reviewRepository;
+        this.priceIndex = priceIndex;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.budget = Duration.ofMillis(budgetMs);
+        this.categories = categories.stream().map(String::trim).filter(category -> !category.isEmpty()).toList();
+        this.topRated = topRated;
+        this.iterations = iterations;
+        Gauge.builder("catalog.warmup.progress", this, CatalogWarmUp::progress)
+            .description("Fraction of the startup warm-up steps finished (1 when done or disabled)")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            state = State.DISABLED;
+            return;
+        }
+        List<Step> steps = steps();
+        totalSteps = steps.size();
+        state = State.RUNNING;
+        logger.info("Warming up {} steps, budget {}ms", steps.size(), budget.toMillis());
+
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Step step : steps) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    finish(step, "skipped", 0);
+                    continue;
+                }
+                long stepStart = System.nanoTime();
+                Future<?> future = executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        step.action().run();
+                    }
+                });
+                try {
+                    future.get(remaining, TimeUnit.NANOSECONDS);
+                    finish(step, "completed", System.nanoTime() - stepStart);
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    budgetExceeded = true;
+                    logger.warn("Warm-up step {} cancelled: budget of {}ms exhausted", step.name(), budget.toMillis());
+                    finish(step, "timed-out", System.nanoTime() - stepStart);
+                } catch (ExecutionException e) {
+                    logger.warn("Warm-up step {} failed: {}", step.name(), e.getCause().toString());
+                    finish(step, "failed", System.nanoTime() - stepStart);
+                } catch (InterruptedException e) {
+                    future.cancel(true);
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Timer.builder("catalog.warmup.duration")
+                .description("Time spent warming up before accepting traffic")
+                .register(meterRegistry)
+                .record(Duration.ofMillis(elapsedMs));
+            state = State.COMPLETED;
+        }
+        logger.info("Warm-up finished in {}ms{}", elapsedMs, budgetExceeded ? " (budget exceeded)" : "");
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = state == State.PENDING || state == State.RUNNING ? Health.outOfService() : Health.up();
+        return health
+            .withDetail("state", state)
+            .withDetail("finishedSteps", finishedSteps.get())
+            .withDetail("totalSteps", totalSteps)
+            .withDetail("elapsedMs", elapsedMs)
+            .withDetail("budgetMs", budget.toMillis())
+            .withDetail("budgetExceeded", budgetExceeded)
+            .build();
+    }
+
+    double progress() {
+        if (state == State.COMPLETED || state == State.DISABLED) {
+            return 1.0;
+        }
+        int total = totalSteps;
+        return total == 0 ? 0.0 : (double) finishedSteps.get() / total;
+    }
+
+    private record Step(String name, Runnable action) {}
+
+    // Cheapest and most requested first: a tight budget still warms the main listing
+    private List<Step> steps() {
+        List<Step> steps = new ArrayList<>();
+        steps.add(new Step("listing", () -> {
+            serialize(listProductsUseCase.execute(FetchPlan.productOnly()));
+            serialize(listProductsUseCase.execute(FetchPlan.aggregatesOnly()));
+        }));
+        for (String category : categories) {
+            steps.add(new Step("category:" + category, () -> {
+                serialize(listProductsUseCase.executeByCategory(category, FetchPlan.productOnly()));
+                serialize(listProductsUseCase.executeByCategory(category,
+                    FetchPlan.withLatestReviews(FetchPlan.DEFAULT_REVIEW_LIMIT)));
+                serialize(listProductsUseCase.executeByCategory(category, FetchPlan.withReviews()));
+            }));
+        }
+        if (topRated > 0) {
+            steps.add(new Step("top-rated", this::warmTopRated));
+        }
+        steps.add(new Step("price-index", this::awaitPriceIndex));
+        return steps;
+    }
+
+    // Batches of MAX_IDS, with and without reviews: both read cache entries of each product
+    private void warmTopRated() {
+        List<Long> ids = reviewRepository.findTopRatedProductIds(topRated);
+        for (int from = 0; from < ids.size(); from += GetProductsBatchUseCase.MAX_IDS) {
+            List<Long> batch = ids.subList(from, Math.min(from + GetProductsBatchUseCase.MAX_IDS, ids.size()));
+            serialize(getProductsBatchUseCase.execute(batch, false));
+            serialize(getProductsBatchUseCase.execute(batch, true));
+        }
+    }
+
+    // Built by its scheduled reconcile at startup; until then price-range reads fall back to the database
+    private void awaitPriceIndex() {
+        try {
+            while (!priceIndex.isReady()) {
+                Thread.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void serialize(Object response) {
+        try {
+            objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void finish(Step step, String result, long nanos) {
+        finishedSteps.incrementAndGet();
+        Counter.builder("catalog.warmup.steps")
+            .description("Startup warm-up steps by result (completed, failed, timed-out, skipped)")
+            .tag("step", step.name())
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+        if (nanos > 0) {
+            Timer.builder("catalog.warmup.step.duration")
+                .description("Duration of each startup warm-up step, all iterations")
+                .tag("step", step.name())
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        }
+        logger.debug("Warm-up step {} {} in {}ms", step.name(), result, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+}
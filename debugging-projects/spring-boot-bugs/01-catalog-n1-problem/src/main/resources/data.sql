@@ -97,3 +97,15 @@ INSERT INTO reviews (id, product_id, user_name, rating, comment, created_at) VAL
 
 -- Note: In a complete implementation, you would have 500 reviews total (5 per product for 100 products)
 -- This sample data will be sufficient to demonstrate the N+1 problem
+
+-- Rating histogram counters on products (maintained by the domain model for new reviews)
+UPDATE products p SET
+    rating_1_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 1),
+    rating_2_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 2),
+    rating_3_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 3),
+    rating_4_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 4),
+    rating_5_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 5);
+
+-- Explicit IDs above do not advance the identity columns: move them past the sample data
+ALTER TABLE products ALTER COLUMN id RESTART WITH 31;
+ALTER TABLE reviews ALTER COLUMN id RESTART WITH 31;
@@ -0,0 +1,171 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.CatalogStatisticsDTO;
+import com.debugging.catalog.domain.event.ProductCreatedEvent;
+import com.debugging.catalog.domain.event.ProductDetailsChangedEvent;
+import com.debugging.catalog.domain.event.ProductPriceChangedEvent;
+import com.debugging.catalog.domain.event.ReviewAddedEvent;
+import com.debugging.catalog.domain.event.ReviewRatingChangedEvent;
+import com.debugging.catalog.domain.model.CategoryCount;
+import com.debugging.catalog.domain.model.PriceCount;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductStatistics;
+import com.debugging.catalog.domain.model.RatingCount;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.model.ReviewStatistics;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogStatisticsService
+ * Counters are driven by domain events and reconciled against the SQL aggregates
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogStatisticsServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogStatisticsService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CatalogStatisticsService(productRepository, reviewRepository, transactionManager, meterRegistry);
+    }
+
+    @Test
+    void events_ShouldUpdateCountersWithoutQueries() {
+        // Given
+        Product phone = new Product("iPhone 15", "Latest iPhone", new BigDecimal("999.99"), "Electronics");
+        Product book = new Product("Clean Code", "Best practices", new BigDecimal("39.99"), "Books");
+        Review review = new Review("John Doe", 5, "Excellent phone!");
+
+        // When
+        service.on(new ProductCreatedEvent(phone, phone.getPrice(), phone.getCategory()));
+        service.on(new ProductCreatedEvent(book, book.getPrice(), book.getCategory()));
+        service.on(new ProductPriceChangedEvent(phone, new BigDecimal("999.99"), new BigDecimal("899.99")));
+        service.on(new ProductDetailsChangedEvent(book, "Books", "Software"));
+        service.on(new ReviewAddedEvent(phone, review, 5));
+        service.on(new ReviewAddedEvent(phone, review, 2));
+        service.on(new ReviewRatingChangedEvent(review, 2, 1));
+        CatalogStatisticsDTO statistics = service.getStatistics();
+
+        // Then
+        assertThat(statistics.getTotalProducts()).isEqualTo(2);
+        assertThat(statistics.getTotalCategories()).isEqualTo(2);
+        assertThat(statistics.getAveragePrice()).isEqualByComparingTo("469.99");
+        assertThat(statistics.getMinPrice()).isEqualByComparingTo("39.99");
+        assertThat(statistics.getMaxPrice()).isEqualByComparingTo("899.99");
+        assertThat(statistics.getProductsByCategory()).containsEntry("Electronics", 1L).containsEntry("Software", 1L);
+        assertThat(statistics.getTotalReviews()).isEqualTo(2);
+        assertThat(statistics.getAverageRating()).isEqualTo(3.0);
+        assertThat(statistics.getPositiveReviews()).isEqualTo(1);
+        assertThat(statistics.getNegativeReviews()).isEqualTo(1);
+        assertThat(statistics.getRatingDistribution()).containsExactly(1, 0, 0, 0, 1);
+        verifyNoInteractions(productRepository, reviewRepository);
+    }
+
+    @Test
+    void reconcile_OnStartup_ShouldBuildCountersFromDatabase() {
+        // Given
+        givenDatabaseWithTwoProductsAndThreeReviews();
+
+        // When
+        service.reconcile();
+        CatalogStatisticsDTO statistics = service.getStatistics();
+
+        // Then
+        assertThat(statistics.getTotalProducts()).isEqualTo(2);
+        assertThat(statistics.getTotalReviews()).isEqualTo(3);
+        assertThat(statistics.getProductsByCategory()).containsEntry("Electronics", 1L).containsEntry("uncategorized", 1L);
+        assertThat(statistics.getLastReconciledAt()).isNotNull();
+        assertThat(meterRegistry.counter("catalog.statistics.reconciliation.drift").count()).isZero();
+    }
+
+    @Test
+    void reconcile_WhenCountersMatch_ShouldNotRebuild() {
+        // Given
+        givenDatabaseWithTwoProductsAndThreeReviews();
+        service.reconcile();
+
+        // When
+        service.reconcile();
+
+        // Then
+        verify(productRepository, times(1)).countProductsGroupedByPrice();
+        assertThat(meterRegistry.counter("catalog.statistics.reconciliation.drift").count()).isZero();
+    }
+
+    @Test
+    void reconcile_WhenCountersDrifted_ShouldRebuildAndRecordDrift() {
+        // Given
+        givenDatabaseWithTwoProductsAndThreeReviews();
+        service.reconcile();
+        Product ghost = new Product("Ghost", null, new BigDecimal("1.00"), "Electronics");
+        service.on(new ProductCreatedEvent(ghost, ghost.getPrice(), ghost.getCategory()));
+
+        // When
+        service.reconcile();
+
+        // Then
+        assertThat(service.getStatistics().getTotalProducts()).isEqualTo(2);
+        assertThat(meterRegistry.counter("catalog.statistics.reconciliation.drift").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void reconcile_ShouldReplayEventsCommittedWhileRebuilding() {
+        // Given - a review committed after the grouped queries read their snapshot
+        givenDatabaseWithTwoProductsAndThreeReviews();
+        Product phone = new Product("iPhone 15", "Latest iPhone", new BigDecimal("100.00"), "Electronics");
+        when(reviewRepository.countReviewsGroupedByRating()).thenAnswer(invocation -> {
+            service.on(new ReviewAddedEvent(phone, new Review("Jane Doe", 1, "Broken"), 1));
+            return List.of(new RatingCount(3, 1L), new RatingCount(4, 1L), new RatingCount(5, 1L));
+        });
+
+        // When
+        service.reconcile();
+        CatalogStatisticsDTO statistics = service.getStatistics();
+
+        // Then
+        assertThat(statistics.getTotalReviews()).isEqualTo(4);
+        assertThat(statistics.getRatingDistribution()).containsExactly(1, 0, 1, 1, 1);
+    }
+
+    private void givenDatabaseWithTwoProductsAndThreeReviews() {
+        lenient().when(productRepository.getProductStatistics()).thenReturn(
+            new ProductStatistics(2L, 1L, 75.0, new BigDecimal("50.00"), new BigDecimal("100.00")));
+        lenient().when(reviewRepository.getReviewStatistics()).thenReturn(
+            new ReviewStatistics(3L, 4.0, 2L, 0L));
+        lenient().when(productRepository.countProductsGroupedByPrice()).thenReturn(List.of(
+            new PriceCount(new BigDecimal("50.00"), 1L),
+            new PriceCount(new BigDecimal("100.00"), 1L)));
+        lenient().when(productRepository.countProductsGroupedByCategory()).thenReturn(List.of(
+            new CategoryCount("Electronics", 1L),
+            new CategoryCount(null, 1L)));
+        lenient().when(reviewRepository.countReviewsGroupedByRating()).thenReturn(List.of(
+            new RatingCount(3, 1L),
+            new RatingCount(4, 1L),
+            new RatingCount(5, 1L)));
+    }
+}
@@ -0,0 +1,119 @@
+package com.debugging.catalog.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for HyperLogLog
+ * Estimates must stay within three standard errors of the exact distinct count
+ */
+class HyperLogLogTest {
+
+    private static final int PRECISION = ReviewerCardinalityService.PRECISION;
+
+    @Test
+    void estimate_ShouldStayWithinErrorBoundsAcrossCardinalities() {
+        double tolerance = 3 * HyperLogLog.relativeStandardError(PRECISION);
+
+        for (int distinct : new int[] {1_000, 10_000, 100_000, 1_000_000}) {
+            // Given
+            HyperLogLog sketch = new HyperLogLog(PRECISION);
+            for (int i = 0; i < distinct; i++) {
+                sketch.add("user-" + i);
+            }
+
+            // When
+            long estimate = sketch.estimate();
+
+            // Then
+            assertThat((double) estimate).as("estimate for %d distinct values", distinct)
+                .isCloseTo(distinct, within(distinct * tolerance));
+        }
+    }
+
+    @Test
+    void estimate_ForSmallCardinalities_ShouldBeNearlyExact() {
+        // Given
+        HyperLogLog empty = new HyperLogLog(PRECISION);
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            sketch.add("user-" + i);
+        }
+
+        // Then
+        assertThat(empty.estimate()).isZero();
+        assertThat(sketch.estimate()).isEqualTo(50);
+        assertThat(sketch.isSparse()).isTrue();
+    }
+
+    @Test
+    void add_ShouldIgnoreRepeatedValues() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+
+        // When
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 20; i++) {
+                sketch.add("user-" + i);
+            }
+        }
+
+        // Then
+        assertThat(sketch.estimate()).isEqualTo(20);
+    }
+
+    @Test
+    void merge_ShouldEstimateUnionAcrossSparseAndDenseSketches() {
+        // Given - overlapping sets: 0..29999 and 20000..49999
+        HyperLogLog first = new HyperLogLog(PRECISION);
+        HyperLogLog second = new HyperLogLog(PRECISION);
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        HyperLogLog small = new HyperLogLog(PRECISION);
+        for (int i = 0; i < 30_000; i++) {
+            first.add("user-" + i);
+            second.add("user-" + (i + 20_000));
+            union.add("user-" + i);
+            union.add("user-" + (i + 20_000));
+        }
+        small.add("user-1");
+        small.add("someone-else");
+        HyperLogLog expected = new HyperLogLog(PRECISION);
+        expected.merge(union);
+        expected.add("someone-else");
+
+        // When
+        first.merge(second);
+        small.merge(union);
+
+        // Then
+        assertThat(first.isSparse()).isFalse();
+        assertThat(first.estimate()).isEqualTo(union.estimate());
+        assertThat(small.estimate()).isEqualTo(expected.estimate());
+        assertThatThrownBy(() -> first.merge(new HyperLogLog(12)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void add_ShouldSwitchToDenseRegistersWhenSparseGetsLarger() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        HyperLogLog reference = new HyperLogLog(PRECISION);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add("user-" + i);
+        }
+
+        // Then
+        assertThat(sketch.isSparse()).isFalse();
+        assertThat((double) sketch.estimate()).isCloseTo(10_000,
+            within(10_000 * 3 * HyperLogLog.relativeStandardError(PRECISION)));
+        reference.merge(sketch);
+        assertThat(reference.estimate()).isEqualTo(sketch.estimate());
+    }
+}
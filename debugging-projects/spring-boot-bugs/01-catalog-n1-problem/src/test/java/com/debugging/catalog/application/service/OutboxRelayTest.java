@@ -0,0 +1,178 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.AddReviewRequest;
+import com.debugging.catalog.application.dto.CatalogEventDTO;
+import com.debugging.catalog.application.usecase.AddReviewUseCase;
+import com.debugging.catalog.application.usecase.ListCatalogEventsUseCase;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the transactional outbox
+ * Writes store their events atomically; the relay publishes them in order, at least once
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "app.catalog.outbox.relay-interval-ms=600000",
+    "app.catalog.outbox.purge-interval-ms=600000"
+})
+class OutboxRelayTest {
+    
+    @Autowired
+    private OutboxRelay outboxRelay;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private ListCatalogEventsUseCase listCatalogEventsUseCase;
+    
+    @Autowired
+    private AddReviewUseCase addReviewUseCase;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private RecordingBroker broker;
+    
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        broker.reset();
+    }
+    
+    @Test
+    void relay_ShouldPublishCommittedChangesInOrder() {
+        // Given
+        long lastSequence = outboxEventRepository.findLastSequenceNumber();
+        updatePrice(1L, "1099.00");
+        addReviewUseCase.execute(1L, new AddReviewRequest("outbox_user", 5, "Great phone"));
+        updatePrice(2L, "899.00");
+        assertThat(pendingEvents()).isEqualTo(3);
+        
+        // When
+        int published = outboxRelay.relay();
+        
+        // Then
+        assertThat(published).isEqualTo(3);
+        assertThat(pendingEvents()).isZero();
+        List<CatalogEventDTO> events = broker.received();
+        assertThat(events).extracting(CatalogEventDTO::getSequence)
+            .containsExactly(lastSequence + 1, lastSequence + 2, lastSequence + 3);
+        assertThat(events).extracting(CatalogEventDTO::getProductId).containsExactly(1L, 1L, 2L);
+        assertThat(events).extracting(CatalogEventDTO::getType)
+            .containsExactly("ProductPriceChanged", "ReviewAdded", "ProductPriceChanged");
+        assertThat(events.get(0).getPayload()).contains("\"newPrice\":1099.00");
+    }
+    
+    @Test
+    void executeSince_ShouldReturnOnlyEventsAfterSequence() {
+        // Given
+        long lastSequence = outboxEventRepository.findLastSequenceNumber();
+        updatePrice(3L, "249.00");
+        updatePrice(3L, "239.00");
+        outboxRelay.relay();
+        
+        // When
+        List<CatalogEventDTO> all = listCatalogEventsUseCase.executeSince(lastSequence, 100);
+        List<CatalogEventDTO> afterFirst = listCatalogEventsUseCase.executeSince(lastSequence + 1, 100);
+        List<CatalogEventDTO> upToDate = listCatalogEventsUseCase.executeSince(lastSequence + 2, 100);
+        
+        // Then
+        assertThat(all).hasSize(2);
+        assertThat(afterFirst).singleElement()
+            .satisfies(event -> assertThat(event.getPayload()).contains("\"newPrice\":239.00"));
+        assertThat(upToDate).isEmpty();
+    }
+    
+    @Test
+    void relay_WhenBrokerFails_ShouldKeepEventsPendingAndRetry() {
+        // Given
+        updatePrice(4L, "59.00");
+        broker.failNext();
+        
+        // When
+        int failedRun = outboxRelay.relay();
+        
+        // Then
+        assertThat(failedRun).isZero();
+        assertThat(pendingEvents()).isEqualTo(1);
+        assertThat(outboxRelay.relay()).isEqualTo(1);
+        assertThat(broker.received()).singleElement()
+            .satisfies(event -> assertThat(event.getProductId()).isEqualTo(4L));
+    }
+    
+    private void updatePrice(Long productId, String price) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Product product = productRepository.findById(productId).orElseThrow();
+            product.updatePrice(new BigDecimal(price));
+            productRepository.save(product);
+        });
+    }
+    
+    // Pending events are read with row locks, which need a transaction
+    private int pendingEvents() {
+        return new TransactionTemplate(transactionManager)
+            .execute(status -> outboxEventRepository.findPending(100).size());
+    }
+    
+    @TestConfiguration
+    static class BrokerConfiguration {
+        
+        @Bean
+        @Primary
+        RecordingBroker recordingBroker() {
+            return new RecordingBroker();
+        }
+    }
+    
+    /**
+     * In-process stand-in for the message broker
+     */
+    static class RecordingBroker implements CatalogEventPublisher {
+        
+        private final List<CatalogEventDTO> received = new CopyOnWriteArrayList<>();
+        private volatile boolean failNext;
+        
+        @Override
+        public void publish(List<CatalogEventDTO> batch) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("broker unavailable");
+            }
+            received.addAll(batch);
+        }
+        
+        List<CatalogEventDTO> received() {
+            return List.copyOf(received);
+        }
+        
+        void failNext() {
+            failNext = true;
+        }
+        
+        void reset() {
+            received.clear();
+            failNext = false;
+        }
+    }
+}
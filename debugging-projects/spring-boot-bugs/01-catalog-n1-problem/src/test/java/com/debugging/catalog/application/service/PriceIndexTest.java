@@ -0,0 +1,215 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.domain.event.ProductCreatedEvent;
+import com.debugging.catalog.domain.event.ProductDetailsChangedEvent;
+import com.debugging.catalog.domain.event.ProductPriceChangedEvent;
+import com.debugging.catalog.domain.event.ProductsRepricedEvent;
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceEntry;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductStatistics;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PriceIndex
+ * Price range queries are answered from sorted cents arrays kept current by domain events
+ */
+@ExtendWith(MockitoExtension.class)
+class PriceIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceIndex priceIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        priceIndex = new PriceIndex(productRepository, meterRegistry);
+    }
+
+    @Test
+    void find_ShouldFilterSortAndPaginateWithoutQueries() {
+        // Given
+        rebuildWith(
+            row(4L, "9.99", "Books"),
+            row(1L, "19.99", "Electronics"),
+            row(2L, "19.99", "Electronics"),
+            row(5L, "29.99", "Books"),
+            row(3L, "49.99", "Electronics"),
+            row(6L, "99.99", null)
+        );
+        clearInvocations(productRepository);
+
+        // When
+        PriceIndex.Page ascending = priceIndex.find(query("Electronics", "10", "50", false, 0, 2)).orElseThrow();
+        PriceIndex.Page secondPage = priceIndex.find(query("Electronics", "10", "50", false, 1, 2)).orElseThrow();
+        PriceIndex.Page descending = priceIndex.find(query(null, "9.995", "99.99", true, 0, 10)).orElseThrow();
+        PriceIndex.Page unknownCategory = priceIndex.find(query("Toys", "0", "100", false, 0, 10)).orElseThrow();
+
+        // Then
+        assertThat(ascending.productIds()).containsExactly(1L, 2L);
+        assertThat(ascending.totalElements()).isEqualTo(3);
+        assertThat(secondPage.productIds()).containsExactly(3L);
+        assertThat(descending.productIds()).containsExactly(6L, 3L, 5L, 2L, 1L);
+        assertThat(unknownCategory.productIds()).isEmpty();
+        assertThat(unknownCategory.totalElements()).isZero();
+        verifyNoInteractions(productRepository);
+        assertThat(meterRegistry.counter(PriceIndex.QUERIES_METRIC, "result", "hit").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    void events_ShouldKeepIndexCurrent() {
+        // Given
+        rebuildWith(row(1L, "19.99", "Electronics"), row(2L, "39.99", "Books"));
+        Product phone = product(1L, "19.99", "Electronics");
+        Product book = product(2L, "39.99", "Books");
+        Product tablet = product(3L, "24.99", "Electronics");
+
+        // When
+        priceIndex.on(new ProductCreatedEvent(tablet, tablet.getPrice(), tablet.getCategory()));
+        phone.updatePrice(new BigDecimal("29.99"));
+        priceIndex.on(new ProductPriceChangedEvent(phone, new BigDecimal("19.99"), new BigDecimal("29.99")));
+        book.updateDetails(book.getName(), book.getDescription(), "Electronics");
+        priceIndex.on(new ProductDetailsChangedEvent(book, "Books", "Electronics"));
+
+        // Then
+        assertThat(priceIndex.isReady()).isTrue();
+        assertThat(priceIndex.find(query("Electronics", "0", "100", false, 0, 10)).orElseThrow().productIds())
+            .containsExactly(3L, 1L, 2L);
+        assertThat(priceIndex.find(query("Electronics", "0", "20", false, 0, 10)).orElseThrow().productIds())
+            .isEmpty();
+        assertThat(priceIndex.find(query("Books", "0", "100", false, 0, 10)).orElseThrow().totalElements())
+            .isZero();
+    }
+
+    @Test
+    void priceChanges_ShouldMoveEntriesUpAndDownTheOrder() {
+        // Given
+        rebuildWith(row(1L, "10.00", "Books"), row(2L, "20.00", "Books"), row(3L, "30.00", "Books"),
+            row(4L, "40.00", "Books"));
+
+        // When
+        priceIndex.on(new ProductPriceChangedEvent(product(1L, "35.00", "Books"),
+            new BigDecimal("10.00"), new BigDecimal("35.00")));
+        priceIndex.on(new ProductPriceChangedEvent(product(4L, "5.00", "Books"),
+            new BigDecimal("40.00"), new BigDecimal("5.00")));
+        priceIndex.on(new ProductPriceChangedEvent(product(2L, "20.00", "Books"),
+            new BigDecimal("20.00"), new BigDecimal("20.00")));
+
+        // Then
+        assertThat(priceIndex.isReady()).isTrue();
+        assertThat(priceIndex.find(query("Books", "0", "100", false, 0, 10)).orElseThrow().productIds())
+            .containsExactly(4L, 2L, 3L, 1L);
+        assertThat(priceIndex.find(query(null, "30", "35", false, 0, 10)).orElseThrow().productIds())
+            .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void repricedEvent_ShouldMergeTheWholeBatch() {
+        // Given
+        rebuildWith(row(1L, "10.00", "Books"), row(2L, "20.00", "Electronics"), row(3L, "30.00", "Books"),
+            row(4L, "40.00", "Electronics"), row(5L, "50.00", null));
+
+        // When - 3 and 4 swap places, 5 has no category
+        priceIndex.on(new ProductsRepricedEvent(List.of(
+            change(4L, "Electronics", "40.00", "15.00"),
+            change(3L, "Books", "30.00", "45.00"),
+            change(5L, null, "50.00", "1.00"))));
+
+        // Then
+        assertThat(priceIndex.isReady()).isTrue();
+        assertThat(priceIndex.size()).isEqualTo(5);
+        assertThat(priceIndex.find(query(null, "0", "100", false, 0, 10)).orElseThrow().productIds())
+            .containsExactly(5L, 1L, 4L, 2L, 3L);
+        assertThat(priceIndex.find(query("Books", "0", "100", false, 0, 10)).orElseThrow().productIds())
+            .containsExactly(1L, 3L);
+        assertThat(priceIndex.find(query("Electronics", "0", "100", true, 0, 10)).orElseThrow().productIds())
+            .containsExactly(2L, 4L);
+    }
+
+    @Test
+    void repricedEvent_WhenAPreviousPriceIsNotIndexed_ShouldFallBackUntilRebuilt() {
+        // Given
+        rebuildWith(row(1L, "10.00", "Books"), row(2L, "20.00", "Books"));
+
+        // When
+        priceIndex.on(new ProductsRepricedEvent(List.of(
+            change(1L, "Books", "10.00", "11.00"),
+            change(2L, "Books", "25.00", "30.00"))));
+
+        // Then
+        assertThat(priceIndex.isReady()).isFalse();
+    }
+
+    @Test
+    void find_WhenEventDoesNotMatchIndex_ShouldFallBackUntilRebuilt() {
+        // Given
+        rebuildWith(row(1L, "19.99", "Electronics"));
+        Product phone = product(1L, "24.99", "Electronics");
+
+        // When
+        priceIndex.on(new ProductPriceChangedEvent(phone, new BigDecimal("21.99"), new BigDecimal("24.99")));
+
+        // Then
+        assertThat(priceIndex.find(query(null, "0", "100", false, 0, 10))).isEmpty();
+        assertThat(meterRegistry.counter(PriceIndex.QUERIES_METRIC, "result", "fallback").count()).isEqualTo(1.0);
+
+        rebuildWith(row(1L, "24.99", "Electronics"));
+        assertThat(priceIndex.find(query(null, "0", "100", false, 0, 10)).orElseThrow().productIds())
+            .containsExactly(1L);
+    }
+
+    @Test
+    void reconcile_WhenIndexMatchesAggregates_ShouldNotRebuild() {
+        // Given
+        rebuildWith(row(1L, "19.99", "Electronics"), row(2L, "39.99", "Books"));
+        when(productRepository.getProductStatistics()).thenReturn(
+            new ProductStatistics(2L, 2L, 29.99, new BigDecimal("19.99"), new BigDecimal("39.99")));
+
+        // When
+        priceIndex.reconcile();
+
+        // Then
+        verify(productRepository, times(1)).findAllPriceEntries();
+    }
+
+    private void rebuildWith(PriceEntry... rows) {
+        when(productRepository.getProductStatistics()).thenReturn(new ProductStatistics(0L, 0L, null, null, null));
+        when(productRepository.findAllPriceEntries()).thenReturn(List.of(rows));
+        priceIndex.reconcile();
+    }
+
+    private static PriceEntry row(Long id, String price, String category) {
+        return new PriceEntry(id, new BigDecimal(price), category);
+    }
+
+    private static PriceChange change(Long id, String category, String previousPrice, String newPrice) {
+        return new PriceChange(id, category, new BigDecimal(previousPrice), new BigDecimal(newPrice));
+    }
+
+    private static Product product(Long id, String price, String category) {
+        Product product = new Product("Product " + id, "Description", new BigDecimal(price), category);
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+
+    private static PriceRangeQuery query(String category, String min, String max, boolean descending, int page, int size) {
+        return new PriceRangeQuery(category, new BigDecimal(min), new BigDecimal(max), descending, page, size);
+    }
+}
@@ -0,0 +1,174 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.ReviewDTO;
+import com.debugging.catalog.application.usecase.ListProductReviewsUseCase;
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.RatingCount;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.model.ReviewArchiveSegment;
+import com.debugging.catalog.domain.model.ReviewStatistics;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.domain.repository.ReviewArchiveRepository;
+import com.debugging.catalog.domain.repository.ReviewArchiveSegmentRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Integration tests for ReviewArchiveService
+ * Moving old partitions to the archive tier must not change any rating aggregate
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "app.catalog.reviews.archive.directory=target/test-review-archive",
+    "app.catalog.reviews.archive.hot-months=6",
+    "app.catalog.reviews.archive.batch-size=2",
+    "app.catalog.reviews.archive.interval-ms=600000",
+    "app.catalog.statistics.reconcile-interval-ms=600000"
+})
+class ReviewArchiveServiceTest {
+
+    @Autowired
+    private ReviewArchiveService reviewArchiveService;
+
+    @Autowired
+    private ListProductReviewsUseCase listProductReviewsUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewArchiveSegmentRepository segmentRepository;
+
+    @Autowired
+    private ReviewArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void archive_ShouldMoveOldPartitionsOutOfTheReviewsTableKeepingAggregates() {
+        // Given - two reviews from January 2024, one from February 2024 and a recent one
+        Long productId = createProduct(new Review("alice", 5, "Loved it"), new Review("bob", 2, null),
+            new Review("carol", 4, "Good value"), new Review("dave", 3, "Recent"));
+        List<Review> reviews = reviewRepository.findByProductId(productId);
+        backdate(reviews, "alice", LocalDateTime.of(2024, 1, 10, 8, 0));
+        backdate(reviews, "bob", LocalDateTime.of(2024, 1, 25, 20, 15));
+        backdate(reviews, "carol", LocalDateTime.of(2024, 2, 3, 12, 30));
+        ReviewStatistics statisticsBefore = reviewRepository.getReviewStatistics();
+        Map<Integer, Long> ratingsBefore = byRating(reviewRepository.countReviewsGroupedByRating());
+
+        // When
+        reviewArchiveService.archive();
+
+        // Then - the hot tier only keeps the recent review
+        assertThat(reviewRepository.findByProductId(productId)).extracting(Review::getUserName)
+            .containsExactly("dave");
+        assertThat(segmentRepository.findSegmentsForProduct(productId))
+            .extracting(ReviewArchiveSegment::getPartitionMonth)
+            .contains(YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+
+        // Aggregates count both tiers
+        ReviewStatistics statisticsAfter = reviewRepository.getReviewStatistics();
+        assertThat(statisticsAfter.totalReviews()).isEqualTo(statisticsBefore.totalReviews());
+        assertThat(statisticsAfter.positiveReviews()).isEqualTo(statisticsBefore.positiveReviews());
+        assertThat(statisticsAfter.negativeReviews()).isEqualTo(statisticsBefore.negativeReviews());
+        assertThat(statisticsAfter.averageRating()).isCloseTo(statisticsBefore.averageRating(), within(1e-9));
+        assertThat(byRating(reviewRepository.countReviewsGroupedByRating())).isEqualTo(ratingsBefore);
+        assertThat(reviewRepository.countByProductId(productId)).isEqualTo(4);
+        assertThat(reviewRepository.getAverageRatingByProductId(productId)).isEqualTo(3.5);
+
+        // History reads the archive, newest first
+        assertThat(listProductReviewsUseCase.execute(productId, false)).extracting(ReviewDTO::getUserName)
+            .containsExactly("dave");
+        List<ReviewDTO> history = listProductReviewsUseCase.execute(productId, true);
+        assertThat(history).extracting(ReviewDTO::getUserName).containsExactly("dave", "carol", "bob", "alice");
+        assertThat(history.get(1).getComment()).isEqualTo("Good value");
+        assertThat(history.get(2).getComment()).isNull();
+        assertThat(history.get(3).getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 10, 8, 0));
+    }
+
+    @Test
+    void archive_ShouldReturnTheArchivedCountWhenRunOutsideATransactionLikeTheScheduler() {
+        // Given - three old reviews, read back in two batches of batch-size=2
+        Long productId = createProduct(new Review("erin", 1, "Old"), new Review("frank", 2, "Old"),
+            new Review("grace", 3, "Old"));
+        jdbcTemplate.update("UPDATE reviews SET created_at = ? WHERE product_id = ?",
+            Timestamp.valueOf(LocalDateTime.of(2023, 3, 15, 9, 0)), productId);
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+
+        // When - failures are only logged, so a broken run shows up as a short count
+        int archived = reviewArchiveService.archive();
+
+        // Then
+        assertThat(archived).isEqualTo(3);
+        assertThat(reviewRepository.findByProductId(productId)).isEmpty();
+        assertThat(reviewRepository.countByProductId(productId)).isEqualTo(3);
+    }
+
+    @Test
+    void archive_ShouldDeleteFilesMissingFromTheManifest() {
+        // Given - a segment written by a run that never committed
+        ReviewArchiveSegment orphan = archiveRepository.write(YearMonth.of(2023, 6), List.of(
+            new ArchivedReview(9_000_000L, 1L, "ghost", 1, "Never committed", LocalDateTime.of(2023, 6, 1, 0, 0))));
+
+        // When
+        reviewArchiveService.archive();
+
+        // Then
+        assertThat(archiveRepository.listFileNames()).doesNotContain(orphan.getFileName());
+    }
+
+    @Test
+    void cutoff_ShouldKeepTheCurrentMonthAndThePreviousOnesInTheHotTier() {
+        assertThat(reviewArchiveService.cutoff(LocalDate.of(2026, 10, 19)))
+            .isEqualTo(LocalDateTime.of(2026, 5, 1, 0, 0));
+    }
+
+    private Long createProduct(Review... reviews) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Product product = new Product("Archived Lamp", "Desk lamp", new BigDecimal("24.99"), "Home");
+            for (Review review : reviews) {
+                product.addReview(review);
+            }
+            return productRepository.save(product).getId();
+        });
+    }
+
+    private static Map<Integer, Long> byRating(List<RatingCount> rows) {
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (RatingCount row : rows) {
+            counts.put(row.rating(), row.count());
+        }
+        return counts;
+    }
+
+    private void backdate(List<Review> reviews, String userName, LocalDateTime createdAt) {
+        Long reviewId = reviews.stream().filter(review -> review.getUserName().equals(userName))
+            .findFirst().orElseThrow().getId();
+        jdbcTemplate.update("UPDATE reviews SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), reviewId);
+    }
+}
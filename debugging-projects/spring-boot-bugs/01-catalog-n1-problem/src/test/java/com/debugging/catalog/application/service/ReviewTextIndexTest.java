@@ -0,0 +1,256 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.ReviewInsightsDTO;
+import com.debugging.catalog.domain.event.ReviewAddedEvent;
+import com.debugging.catalog.domain.event.ReviewRemovedEvent;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.model.ReviewComment;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReviewTextIndex
+ * Keyword counts and lexicon sentiment per product, indexed from queued review events
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewTextIndexTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReviewTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReviewTextIndex(reviewRepository, transactionManager, meterRegistry, 2, 100, 3);
+    }
+
+    @Test
+    void analyze_ShouldFlipSentimentAfterNegationAndSkipStopWords() {
+        // When
+        ReviewTextAnalyzer.Analysis analysis = ReviewTextAnalyzer.analyze("The battery is NOT good, but the screen is great!");
+
+        // Then
+        assertThat(analysis.keywords()).containsExactly("battery", "good", "screen", "great");
+        assertThat(analysis.positive()).isEqualTo(1);
+        assertThat(analysis.negative()).isEqualTo(1);
+        assertThat(analysis.sentiment()).isZero();
+        assertThat(ReviewTextAnalyzer.analyze("Don't waste your money").sentiment()).isEqualTo(1.0);
+        assertThat(ReviewTextAnalyzer.analyze(null).keywords()).isEmpty();
+    }
+
+    @Test
+    void rebuild_ShouldCountKeywordsAndAverageSentimentPerProduct() {
+        // Given
+        stubComments(List.of(
+            new ReviewComment(11L, 1L, "Great battery, great screen"),
+            new ReviewComment(12L, 1L, "Terrible battery"),
+            new ReviewComment(15L, 2L, "Excellent keyboard")));
+
+        // When
+        index.rebuild();
+
+        // Then
+        ReviewInsightsDTO insights = index.insights(1L);
+        assertThat(insights.getIndexedReviews()).isEqualTo(2);
+        assertThat(insights.getSentiment()).isCloseTo((1.0 - 1.0) / 2, within(1e-9));
+        assertThat(insights.getKeywords()).extracting(ReviewInsightsDTO.Keyword::getTerm)
+            .containsExactly("battery", "great", "screen");
+        assertThat(insights.getKeywords()).extracting(ReviewInsightsDTO.Keyword::getCount).containsExactly(2, 2, 1);
+        assertThat(index.insights(3L)).isNull();
+        assertThat(index.getLastRebuiltAt()).isNotNull();
+        assertThat(meterRegistry.get("catalog.reviews.text.indexed").tag("source", "rebuild").counter().count())
+            .isEqualTo(3.0);
+        assertThat(meterRegistry.get("catalog.reviews.text.index.throughput").tag("source", "rebuild")
+            .summary().count()).isEqualTo(1);
+        verify(reviewRepository, times(2)).findCommentsAfter(anyLong(), eq(2));
+    }
+
+    @Test
+    void rebuild_ShouldCountEveryReviewOnceWhateverItsEventTiming() {
+        // Given - review 11 was queued before the rebuild, 12 and 13 commit while it reads,
+        // the snapshot has 11 and 12 but not 13
+        Product product = product(1L);
+        index.on(new ReviewAddedEvent(product, review(11L, "Sturdy handle"), 5));
+        when(reviewRepository.findCommentsAfter(0L, 2)).thenAnswer(invocation -> {
+            index.on(new ReviewAddedEvent(product, review(12L, "Sturdy lid"), 5));
+            index.on(new ReviewAddedEvent(product, review(13L, "Sturdy box"), 5));
+            return List.of(new ReviewComment(11L, 1L, "Sturdy handle"), new ReviewComment(12L, 1L, "Sturdy lid"));
+        });
+        when(reviewRepository.findCommentsAfter(12L, 2)).thenReturn(List.of());
+        when(reviewRepository.findExistingIds(List.of(12L, 13L))).thenReturn(List.of(12L));
+
+        // When
+        index.rebuild();
+
+        // Then
+        ReviewInsightsDTO insights = index.insights(1L);
+        assertThat(insights.getIndexedReviews()).isEqualTo(3);
+        assertThat(insights.getKeywords()).extracting(ReviewInsightsDTO.Keyword::getTerm)
+            .containsExactly("sturdy", "box", "handle");
+        assertThat(insights.getKeywords().get(0).getCount()).isEqualTo(3);
+        assertThat(index.pending()).isZero();
+    }
+
+    @Test
+    void rebuild_ShouldApplyAReviewAddedAndRemovedWhileReadingOnlyWhenTheSnapshotHasIt() {
+        // Given - 12 is added and removed while the rebuild reads, the snapshot has it
+        Product product = product(1L);
+        Review added = review(12L, "Broken lid");
+        when(reviewRepository.findCommentsAfter(0L, 2)).thenAnswer(invocation -> {
+            index.on(new ReviewAddedEvent(product, added, 1));
+            index.on(new ReviewRemovedEvent(product, added, 1));
+            return List.of(new ReviewComment(11L, 1L, "Sturdy handle"), new ReviewComment(12L, 1L, "Broken lid"));
+        });
+        when(reviewRepository.findCommentsAfter(12L, 2)).thenReturn(List.of());
+        when(reviewRepository.findExistingIds(List.of(12L))).thenReturn(List.of(12L));
+
+        // When
+        index.rebuild();
+
+        // Then - the removal is applied, the addition was already read
+        ReviewInsightsDTO insights = index.insights(1L);
+        assertThat(insights.getIndexedReviews()).isEqualTo(1);
+        assertThat(insights.getKeywords()).extracting(ReviewInsightsDTO.Keyword::getTerm)
+            .containsExactly("handle", "sturdy");
+    }
+
+    @Test
+    void drain_ShouldApplyQueuedEventsInBatches() {
+        // Given
+        Product product = product(7L);
+        Review kept = new Review("alice", 5, "Sturdy handle");
+        Review removed = new Review("bob", 1, "Broken handle");
+        index.on(new ReviewAddedEvent(product, kept, 5));
+        index.on(new ReviewAddedEvent(product, removed, 1));
+        index.on(new ReviewAddedEvent(product(8L), new Review("carol", 4, "Nice grip"), 4));
+        index.on(new ReviewRemovedEvent(product, removed, 1));
+
+        // When
+        assertThat(index.insights(7L)).isNull();
+        int indexed = index.drain();
+
+        // Then
+        assertThat(indexed).isEqualTo(4);
+        assertThat(index.pending()).isZero();
+        ReviewInsightsDTO insights = index.insights(7L);
+        assertThat(insights.getIndexedReviews()).isEqualTo(1);
+        assertThat(insights.getSentiment()).isEqualTo(1.0);
+        assertThat(insights.getKeywords()).extracting(ReviewInsightsDTO.Keyword::getTerm)
+            .containsExactly("handle", "sturdy");
+        assertThat(meterRegistry.get("catalog.reviews.text.indexed").tag("source", "event").counter().count())
+            .isEqualTo(4.0);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void on_ShouldDropEventsWhenTheQueueIsFull() {
+        // Given
+        ReviewTextIndex small = new ReviewTextIndex(reviewRepository, transactionManager, meterRegistry, 10, 1, 3);
+        Product product = product(1L);
+
+        // When
+        small.on(new ReviewAddedEvent(product, new Review("alice", 5, "Great"), 5));
+        small.on(new ReviewAddedEvent(product, new Review("bob", 5, "Great"), 5));
+
+        // Then
+        assertThat(small.pending()).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.reviews.text.index.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void search_ShouldRankByMentionsThenSentiment() {
+        // Given
+        stubComments(List.of(
+            new ReviewComment(1L, 1L, "Battery is bad"),
+            new ReviewComment(2L, 2L, "Battery battery, great battery"),
+            new ReviewComment(3L, 3L, "Good battery"),
+            new ReviewComment(4L, 4L, "Excellent battery"),
+            new ReviewComment(5L, 5L, "Great screen")));
+        index.rebuild();
+
+        // When
+        List<ReviewTextIndex.Match> byKeyword = index.search("Battery", null, 10);
+        List<ReviewTextIndex.Match> positive = index.search("battery", 0.5, 2);
+        List<ReviewTextIndex.Match> bySentiment = index.search(null, 1.0, 10);
+
+        // Then
+        assertThat(byKeyword).extracting(ReviewTextIndex.Match::productId).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(byKeyword.get(0).occurrences()).isEqualTo(3);
+        assertThat(positive).extracting(ReviewTextIndex.Match::productId).containsExactly(2L, 3L);
+        assertThat(bySentiment).extracting(ReviewTextIndex.Match::productId).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(index.search("unknown", null, 10)).isEmpty();
+    }
+
+    @Test
+    void rebuild_ShouldGrowPastTheInitialCapacity() {
+        // Given
+        List<ReviewComment> rows = new ArrayList<>();
+        for (long productId = 1; productId <= 3000; productId++) {
+            rows.add(new ReviewComment(productId, productId, "Keyword" + productId + " shared"));
+        }
+        stubComments(rows);
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.search("shared", null, 100)).hasSize(100);
+        assertThat(index.search("keyword2999", null, 10)).extracting(ReviewTextIndex.Match::productId)
+            .containsExactly(2999L);
+        assertThat(index.insights(3000L).getKeywords()).hasSize(2);
+    }
+
+    @Test
+    void search_ShouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> index.search(null, null, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("the", null, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("battery", 2.0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("battery", null, 101)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReviewTextIndex(reviewRepository, transactionManager, meterRegistry, 0, 100, 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Keyset pages over rows ordered by review ID
+    private void stubComments(List<ReviewComment> rows) {
+        when(reviewRepository.findCommentsAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterReviewId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return rows.stream().filter(row -> row.reviewId() > afterReviewId).limit(limit).toList();
+        });
+    }
+
+    private static Review review(Long id, String comment) {
+        Review review = new Review("user" + id, 5, comment);
+        ReflectionTestUtils.setField(review, "id", id);
+        return review;
+    }
+
+    private static Product product(Long id) {
+        Product product = new Product("Product " + id, "Description", new BigDecimal("19.99"), "Home");
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
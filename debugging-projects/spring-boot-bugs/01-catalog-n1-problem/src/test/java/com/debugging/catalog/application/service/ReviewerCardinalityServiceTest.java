@@ -0,0 +1,188 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.ReviewerStatisticsDTO;
+import com.debugging.catalog.domain.event.ProductDetailsChangedEvent;
+import com.debugging.catalog.domain.event.ReviewAddedEvent;
+import com.debugging.catalog.domain.model.PriceEntry;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductNotFoundException;
+import com.debugging.catalog.domain.model.ProductReviewer;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReviewerCardinalityService
+ * Distinct reviewer counts come from sketches, never from the reviews table on read
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewerCardinalityServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReviewArchiveService reviewArchiveService;
+
+    private ReviewerCardinalityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewerCardinalityService(reviewRepository, productRepository, reviewArchiveService, 4);
+    }
+
+    @Test
+    void rebuild_ShouldCountDistinctReviewersPerProductCategoryAndCatalog() {
+        // Given - two keyset pages of 4 reviews
+        when(reviewRepository.findReviewersAfter(0L, 4)).thenReturn(List.of(
+            row(11L, 1L, "alice", "Electronics"),
+            row(12L, 1L, "bob", "Electronics"),
+            row(15L, 2L, "alice", "Electronics"),
+            row(16L, 3L, "alice", "Books")
+        ));
+        when(reviewRepository.findReviewersAfter(16L, 4)).thenReturn(List.of(
+            row(17L, 3L, "carol", "Books"),
+            row(20L, 4L, "dave", null)
+        ));
+
+        // When
+        service.rebuild();
+        ReviewerStatisticsDTO statistics = service.getStatistics();
+        ReviewerStatisticsDTO product = service.getProductStatistics(1L);
+
+        // Then
+        assertThat(statistics.getDistinctReviewers()).isEqualTo(4);
+        assertThat(statistics.getDistinctReviewersByCategory())
+            .containsExactly(entry("Books", 2L), entry("Electronics", 2L));
+        assertThat(statistics.getLastRebuiltAt()).isNotNull();
+        assertThat(product.getProductId()).isEqualTo(1L);
+        assertThat(product.getDistinctReviewers()).isEqualTo(2);
+        verifyNoInteractions(productRepository);
+        verify(reviewRepository, times(2)).findReviewersAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void rebuild_ShouldReplayReviewsCommittedWhileReadingPages() {
+        // Given - a review commits while the first page is read, after its row was passed
+        Product phone = product(1L, "Electronics");
+        when(reviewRepository.findReviewersAfter(0L, 4)).thenAnswer(invocation -> {
+            service.on(reviewAdded(phone, "erin"));
+            return List.of(row(11L, 1L, "alice", "Electronics"));
+        });
+
+        // When
+        service.rebuild();
+
+        // Then
+        assertThat(service.getStatistics().getDistinctReviewers()).isEqualTo(2);
+        assertThat(service.getProductStatistics(1L).getDistinctReviewers()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuild_ShouldCountArchivedReviewersUnderTheCurrentCategory() {
+        // Given
+        when(reviewRepository.findReviewersAfter(0L, 4)).thenReturn(List.of(row(11L, 1L, "alice", "Electronics")));
+        doAnswer(invocation -> {
+            BiConsumer<Long, String> consumer = invocation.getArgument(0);
+            consumer.accept(1L, "bob");
+            consumer.accept(2L, "carol");
+            return null;
+        }).when(reviewArchiveService).forEachArchivedReviewer(any());
+        when(productRepository.findAllPriceEntries()).thenReturn(List.of(
+            new PriceEntry(1L, new BigDecimal("999.99"), "Electronics"),
+            new PriceEntry(2L, new BigDecimal("39.99"), "Books")
+        ));
+
+        // When
+        service.rebuild();
+        ReviewerStatisticsDTO statistics = service.getStatistics();
+
+        // Then
+        assertThat(statistics.getDistinctReviewers()).isEqualTo(3);
+        assertThat(statistics.getDistinctReviewersByCategory())
+            .containsExactly(entry("Books", 1L), entry("Electronics", 2L));
+        assertThat(service.getProductStatistics(1L).getDistinctReviewers()).isEqualTo(2);
+        verify(productRepository, times(1)).findAllPriceEntries();
+    }
+
+    @Test
+    void events_ShouldUpdateSketchesWithoutQueries() {
+        // Given
+        Product phone = product(1L, "Electronics");
+        Product book = product(2L, "Books");
+
+        // When
+        service.on(reviewAdded(phone, "alice"));
+        service.on(reviewAdded(phone, "alice"));
+        service.on(reviewAdded(phone, "bob"));
+        service.on(reviewAdded(book, "carol"));
+        book.updateDetails(book.getName(), book.getDescription(), "Electronics");
+        service.on(new ProductDetailsChangedEvent(book, "Books", "Electronics"));
+
+        // Then
+        ReviewerStatisticsDTO statistics = service.getStatistics();
+        assertThat(statistics.getDistinctReviewers()).isEqualTo(3);
+        assertThat(statistics.getDistinctReviewersByCategory().get("Electronics")).isEqualTo(3);
+        // Sketches cannot forget: the old category keeps counting until the next rebuild
+        assertThat(statistics.getDistinctReviewersByCategory().get("Books")).isEqualTo(1);
+        assertThat(service.getProductStatistics(1L).getDistinctReviewers()).isEqualTo(2);
+        verifyNoInteractions(reviewRepository, productRepository);
+    }
+
+    @Test
+    void getProductStatistics_ShouldReturnZeroForProductWithoutReviews() {
+        // Given
+        when(productRepository.existsById(7L)).thenReturn(true);
+
+        // When
+        ReviewerStatisticsDTO statistics = service.getProductStatistics(7L);
+
+        // Then
+        assertThat(statistics.getDistinctReviewers()).isZero();
+    }
+
+    @Test
+    void getProductStatistics_WhenProductDoesNotExist_ShouldThrow() {
+        // Given
+        when(productRepository.existsById(99L)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> service.getProductStatistics(99L))
+            .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    private static ProductReviewer row(Long reviewId, Long productId, String userName, String category) {
+        return new ProductReviewer(reviewId, productId, userName, category);
+    }
+
+    private static Product product(Long id, String category) {
+        Product product = new Product("Product " + id, "Description", new BigDecimal("19.99"), category);
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+
+    private static ReviewAddedEvent reviewAdded(Product product, String userName) {
+        return new ReviewAddedEvent(product, new Review(userName, 5, "Great"), 5);
+    }
+
+    private static java.util.Map.Entry<String, Long> entry(String key, Long value) {
+        return java.util.Map.entry(key, value);
+    }
+}
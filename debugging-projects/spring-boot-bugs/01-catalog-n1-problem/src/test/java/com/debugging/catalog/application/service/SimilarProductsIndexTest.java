@@ -0,0 +1,157 @@
+package com.debugging.catalog.application.service;
+
+import com.debugging.catalog.application.dto.SimilarProductsDTO;
+import com.debugging.catalog.domain.model.ProductLike;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SimilarProductsIndex
+ * Cosine similarity over the reviewers who liked each product, top-K per product
+ */
+@ExtendWith(MockitoExtension.class)
+class SimilarProductsIndexTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void compute_ShouldRankNeighboursByCosineSimilarity() {
+        // Given - product 1 liked by reviewers 0,1,2; product 2 by 0,1,2,3; product 3 by 0,1
+        long[] products = {1, 1, 1, 2, 2, 2, 2, 3, 3};
+        int[] reviewers = {0, 1, 2, 0, 1, 2, 3, 0, 1};
+
+        // When
+        SimilarProductsIndex.Neighbors neighbors = SimilarProductsIndex.compute(products, reviewers, 4, 10, 1,
+            1000, 1);
+
+        // Then
+        List<SimilarProductsIndex.Neighbor> similar = neighbors.get(1L, 10);
+        assertThat(similar).extracting(SimilarProductsIndex.Neighbor::productId).containsExactly(2L, 3L);
+        assertThat(similar.get(0).score()).isCloseTo(3 / Math.sqrt(3 * 4), within(1e-6));
+        assertThat(similar.get(0).coReviewers()).isEqualTo(3);
+        assertThat(similar.get(1).score()).isCloseTo(2 / Math.sqrt(3 * 2), within(1e-6));
+        assertThat(neighbors.products()).isEqualTo(3);
+    }
+
+    @Test
+    void compute_ShouldExcludeTheProductItselfAndPairsBelowMinCoReviewers() {
+        // Given - products 1 and 2 share two reviewers, products 1 and 3 only one
+        long[] products = {1, 1, 1, 2, 2, 3};
+        int[] reviewers = {0, 1, 2, 0, 1, 2};
+
+        // When
+        SimilarProductsIndex.Neighbors neighbors = SimilarProductsIndex.compute(products, reviewers, 3, 10, 2,
+            1000, 1);
+
+        // Then
+        assertThat(neighbors.get(1L, 10)).extracting(SimilarProductsIndex.Neighbor::productId).containsExactly(2L);
+        assertThat(neighbors.get(3L, 10)).isEmpty();
+    }
+
+    @Test
+    void compute_ShouldCountSeveralLikesOfOneReviewerOnce() {
+        // Given - reviewer 0 reviewed product 1 three times
+        long[] products = {1, 1, 1, 2};
+        int[] reviewers = {0, 0, 0, 0};
+
+        // When
+        SimilarProductsIndex.Neighbors neighbors = SimilarProductsIndex.compute(products, reviewers, 1, 10, 1,
+            1000, 1);
+
+        // Then
+        SimilarProductsIndex.Neighbor neighbor = neighbors.get(1L, 10).get(0);
+        assertThat(neighbor.coReviewers()).isEqualTo(1);
+        assertThat(neighbor.score()).isCloseTo(1.0, within(1e-6));
+    }
+
+    @Test
+    void compute_ShouldNotExpandReviewersAboveTheActivityCap() {
+        // Given - reviewer 0 liked all three products, reviewer 1 only products 1 and 2
+        long[] products = {1, 2, 3, 1, 2};
+        int[] reviewers = {0, 0, 0, 1, 1};
+
+        // When
+        SimilarProductsIndex.Neighbors neighbors = SimilarProductsIndex.compute(products, reviewers, 2, 10, 1,
+            2, 1);
+
+        // Then - product 3 has no other reviewer, the heavy one still counts in the norm of product 1
+        assertThat(neighbors.get(3L, 10)).isEmpty();
+        SimilarProductsIndex.Neighbor neighbor = neighbors.get(1L, 10).get(0);
+        assertThat(neighbor.productId()).isEqualTo(2L);
+        assertThat(neighbor.coReviewers()).isEqualTo(1);
+        assertThat(neighbor.score()).isCloseTo(0.5, within(1e-6));
+    }
+
+    @Test
+    void compute_ShouldGiveTheSameNeighboursOnOneOrSeveralThreads() {
+        // Given
+        Random random = new Random(42);
+        int likes = 20_000;
+        long[] products = new long[likes];
+        int[] reviewers = new int[likes];
+        for (int i = 0; i < likes; i++) {
+            products[i] = 1 + random.nextInt(500);
+            reviewers[i] = random.nextInt(2_000);
+        }
+
+        // When
+        SimilarProductsIndex.Neighbors sequential = SimilarProductsIndex.compute(products, reviewers, 2_000, 5, 1,
+            1000, 1);
+        SimilarProductsIndex.Neighbors parallel = SimilarProductsIndex.compute(products, reviewers, 2_000, 5, 1,
+            1000, 4);
+
+        // Then
+        for (long productId = 1; productId <= 500; productId++) {
+            assertThat(parallel.get(productId, 5)).isEqualTo(sequential.get(productId, 5));
+        }
+    }
+
+    @Test
+    void find_AfterRebuild_ShouldServeTheNeighboursFromMemory() {
+        // Given
+        when(reviewRepository.findPositiveReviewers()).thenReturn(List.of(
+            new ProductLike(1L, "ana"), new ProductLike(2L, "ana"), new ProductLike(1L, "luis"),
+            new ProductLike(2L, "luis"), new ProductLike(3L, "luis")));
+        SimilarProductsIndex index = new SimilarProductsIndex(reviewRepository, meterRegistry, 10, 1, 1000, 2);
+
+        // When
+        index.rebuild();
+        SimilarProductsDTO result = index.find(1L, 1);
+
+        // Then
+        assertThat(result.getSimilar()).hasSize(1);
+        assertThat(result.getSimilar().get(0).getProductId()).isEqualTo(2L);
+        assertThat(result.getSimilar().get(0).getCoReviewers()).isEqualTo(2);
+        assertThat(result.getComputedAt()).isNotNull();
+        assertThat(index.find(99L, 10).getSimilar()).isEmpty();
+        assertThat(meterRegistry.get("catalog.similar.products.rebuild").tag("parallelism", "2").timer().count())
+            .isEqualTo(1);
+        verify(reviewRepository, times(1)).findPositiveReviewers();
+    }
+
+    @Test
+    void find_WithLimitOutOfRange_ShouldThrowIllegalArgumentException() {
+        // Given
+        SimilarProductsIndex index = new SimilarProductsIndex(reviewRepository, meterRegistry, 10, 2, 1000, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> index.find(1L, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.find(1L, 11)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(reviewRepository);
+    }
+}
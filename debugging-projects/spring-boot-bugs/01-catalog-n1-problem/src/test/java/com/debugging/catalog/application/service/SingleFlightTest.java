@@ -0,0 +1,138 @@
+package com.debugging.catalog.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for SingleFlight
+ * Identical concurrent calls share one execution, its result and its failure
+ */
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry, 500);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_WithConcurrentIdenticalCalls_ShouldRunOnceAndShareResult() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        SingleFlight.Call<List<String>> query = () -> {
+            executions.incrementAndGet();
+            release.await();
+            return List.of("iPhone 15");
+        };
+
+        // When
+        Future<List<String>> leader = executor.submit(() -> execute("Electronics", query));
+        awaitInFlight(1);
+        Future<List<String>> follower = executor.submit(() -> execute("Electronics", query));
+        await().until(() -> calls("coalesced") == 1.0);
+        release.countDown();
+
+        // Then
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isSameAs(leader.get(1, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_WithDifferentKeys_ShouldNotCoalesce() throws Throwable {
+        // When
+        singleFlight.execute("test", "Electronics", () -> "a");
+        singleFlight.execute("test", "Books", () -> "b");
+
+        // Then
+        assertThat(calls("executed")).isEqualTo(2.0);
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    @Test
+    void execute_WhenLeaderFails_ShouldPropagateFailureToFollowers() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight.Call<String> failing = () -> {
+            release.await();
+            throw new IllegalStateException("database down");
+        };
+
+        // When
+        Future<String> leader = executor.submit(() -> execute("Electronics", failing));
+        awaitInFlight(1);
+        Future<String> follower = executor.submit(() -> execute("Electronics", failing));
+        await().until(() -> calls("coalesced") == 1.0);
+        release.countDown();
+
+        // Then
+        for (Future<String> caller : List.of(leader, follower)) {
+            assertThatThrownBy(() -> caller.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("database down");
+        }
+        awaitInFlight(0);
+    }
+
+    @Test
+    void execute_WhenInFlightCallIsTooSlow_ShouldTimeOutFollower() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> execute("Electronics", () -> {
+            release.await();
+            return "late";
+        }));
+        awaitInFlight(1);
+
+        // When / Then
+        assertThatThrownBy(() -> singleFlight.execute("test", "Electronics", () -> "never runs"))
+            .isInstanceOf(CoalescedCallTimeoutException.class);
+        assertThat(calls("timeout")).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    private <T> T execute(String key, SingleFlight.Call<T> call) throws Exception {
+        try {
+            return singleFlight.execute("test", key, call);
+        } catch (Exception e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private void awaitInFlight(int expected) {
+        await().until(() -> meterRegistry.get("catalog.singleflight.in.flight").gauge().value() == expected);
+    }
+
+    private double calls(String result) {
+        return meterRegistry.counter(SingleFlight.CALLS_METRIC, "name", "test", "result", result).count();
+    }
+}
@@ -0,0 +1,80 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.AddReviewRequest;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for AddReviewUseCase
+ * Concurrent reviews of one product must not lose rating counter increments
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "app.catalog.outbox.relay-interval-ms=600000",
+    "app.catalog.statistics.reconcile-interval-ms=600000"
+})
+class AddReviewUseCaseTest {
+
+    private static final int THREADS = 8;
+    private static final int REVIEWS_PER_THREAD = 5;
+
+    @Autowired
+    private AddReviewUseCase addReviewUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void execute_ShouldKeepEveryRatingCountUnderConcurrentReviews() throws Exception {
+        // Given
+        Long productId = productRepository.save(
+            new Product("Contended product", "Reviewed concurrently", new BigDecimal("25.00"), "Home")).getId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When - every thread adds one review of each rating
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                String userName = "concurrent-" + thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int rating = 1; rating <= REVIEWS_PER_THREAD; rating++) {
+                        addReviewUseCase.execute(productId, new AddReviewRequest(userName, rating, "Review " + rating));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getRatingDistribution()).containsExactly(THREADS, THREADS, THREADS, THREADS, THREADS);
+        assertThat(product.getReviewCount()).isEqualTo(THREADS * REVIEWS_PER_THREAD);
+        assertThat(product.getAverageRating()).isEqualTo(3.0);
+        assertThat(reviewRepository.countByProductId(productId)).isEqualTo(THREADS * REVIEWS_PER_THREAD);
+    }
+}
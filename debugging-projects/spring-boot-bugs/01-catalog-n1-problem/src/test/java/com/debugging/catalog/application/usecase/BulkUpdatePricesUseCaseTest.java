@@ -0,0 +1,157 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.BulkPriceUpdateDTO;
+import com.debugging.catalog.application.dto.BulkPriceUpdateRequest;
+import com.debugging.catalog.application.dto.PriceAdjustmentRequest;
+import com.debugging.catalog.application.service.CatalogStatisticsService;
+import com.debugging.catalog.application.service.PriceIndex;
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for BulkUpdatePricesUseCase
+ * Set-based repricing must leave the outbox and the in-memory views as consistent as per-product updates
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "app.catalog.bulk-update.batch-size=2",
+    "app.catalog.outbox.relay-interval-ms=600000",
+    "app.catalog.price-index.reconcile-interval-ms=600000",
+    "app.catalog.statistics.reconcile-interval-ms=600000"
+})
+class BulkUpdatePricesUseCaseTest {
+    
+    @Autowired
+    private BulkUpdatePricesUseCase bulkUpdatePricesUseCase;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private PriceIndex priceIndex;
+    
+    @Autowired
+    private CatalogStatisticsService catalogStatisticsService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // The index is first built by the scheduler thread right after startup
+    @BeforeEach
+    void awaitPriceIndex() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!priceIndex.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+    
+    @Test
+    void execute_ShouldUpdatePricesInBatchesAndKeepViewsConsistent() {
+        // Given - 12 and 14 change, 13 keeps its price, 999 does not exist
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        BulkPriceUpdateRequest request = new BulkPriceUpdateRequest(List.of(
+            new BulkPriceUpdateRequest.Item(12L, new BigDecimal("12.49")),
+            new BulkPriceUpdateRequest.Item(13L, new BigDecimal("39.99")),
+            new BulkPriceUpdateRequest.Item(14L, new BigDecimal("54.99")),
+            new BulkPriceUpdateRequest.Item(999L, new BigDecimal("1.00"))
+        ));
+        
+        // When
+        BulkPriceUpdateDTO result = bulkUpdatePricesUseCase.execute(request);
+        
+        // Then
+        assertThat(result.getUpdatedProducts()).isEqualTo(2);
+        assertThat(result.getUnchangedProducts()).isEqualTo(1);
+        assertThat(result.getMissingProducts()).isEqualTo(1);
+        assertThat(result.getConflictingProducts()).isZero();
+        assertThat(result.getBatches()).isEqualTo(2);
+        
+        Product product = productRepository.findById(12L).orElseThrow();
+        assertThat(product.getPrice()).isEqualByComparingTo("12.49");
+        assertThat(product.getUpdatedAt()).isAfter(before);
+        
+        assertThat(priceIndex.isReady()).isTrue();
+        assertThat(priceIndex.find(new PriceRangeQuery("Books", new BigDecimal("12.49"), new BigDecimal("12.49"),
+            false, 0, 10)).orElseThrow().productIds()).containsExactly(12L);
+        
+        double drift = meterRegistry.counter("catalog.statistics.reconciliation.drift").count();
+        catalogStatisticsService.reconcile();
+        assertThat(meterRegistry.counter("catalog.statistics.reconciliation.drift").count()).isEqualTo(drift);
+        
+        assertThat(pendingEvents()).filteredOn(event -> event.getEventType().equals("ProductPriceChanged"))
+            .extracting(OutboxEvent::getProductId)
+            .contains(12L, 14L)
+            .doesNotContain(13L);
+    }
+    
+    @Test
+    void adjust_ShouldRepriceEveryProductOfTheCategoryOnly() {
+        // Given
+        Map<Long, BigDecimal> sportsBefore = prices("Sports");
+        Map<Long, BigDecimal> electronicsBefore = prices("Electronics");
+        
+        // When
+        BulkPriceUpdateDTO result = bulkUpdatePricesUseCase.adjust(
+            new PriceAdjustmentRequest("Sports", new BigDecimal("10")));
+        
+        // Then
+        assertThat(result.getUpdatedProducts()).isEqualTo(sportsBefore.size());
+        assertThat(result.getBatches()).isEqualTo((sportsBefore.size() + 1) / 2);
+        assertThat(prices("Sports")).allSatisfy((id, price) -> assertThat(price).isEqualByComparingTo(
+            sportsBefore.get(id).multiply(new BigDecimal("1.10")).setScale(2, RoundingMode.HALF_UP)));
+        assertThat(prices("Electronics")).isEqualTo(electronicsBefore);
+        assertThat(priceIndex.isReady()).isTrue();
+    }
+    
+    @Test
+    void execute_WithDuplicateProduct_ShouldRejectWithoutUpdating() {
+        // Given
+        BigDecimal price = productRepository.findById(1L).orElseThrow().getPrice();
+        BulkPriceUpdateRequest request = new BulkPriceUpdateRequest(List.of(
+            new BulkPriceUpdateRequest.Item(1L, new BigDecimal("10.00")),
+            new BulkPriceUpdateRequest.Item(1L, new BigDecimal("20.00"))
+        ));
+        
+        // When / Then
+        assertThatThrownBy(() -> bulkUpdatePricesUseCase.execute(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Duplicate");
+        assertThat(productRepository.findById(1L).orElseThrow().getPrice()).isEqualByComparingTo(price);
+    }
+    
+    private Map<Long, BigDecimal> prices(String category) {
+        return productRepository.findByCategory(category).stream()
+            .collect(Collectors.toMap(Product::getId, Product::getPrice));
+    }
+    
+    // Pending events are read with row locks, which need a transaction
+    private List<OutboxEvent> pendingEvents() {
+        return new TransactionTemplate(transactionManager)
+            .execute(status -> outboxEventRepository.findPending(1000));
+    }
+}
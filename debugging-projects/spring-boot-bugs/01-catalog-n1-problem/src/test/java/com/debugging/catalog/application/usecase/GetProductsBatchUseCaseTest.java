@@ -0,0 +1,108 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.ProductBatchDTO;
+import com.debugging.catalog.application.service.ProductReadCache;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for GetProductsBatchUseCase
+ * Many IDs resolve in at most 2 queries, cached products in none, in request order
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class GetProductsBatchUseCaseTest {
+    
+    @Autowired
+    private GetProductsBatchUseCase getProductsBatchUseCase;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ProductReadCache.CACHE_NAME).clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+    
+    @Test
+    void execute_ShouldKeepRequestOrderAndMarkUnknownIds() {
+        // When
+        ProductBatchDTO batch = getProductsBatchUseCase.execute(List.of(3L, 999L, 1L, 3L), true);
+        
+        // Then
+        assertThat(batch.getResults()).extracting(ProductBatchDTO.Result::getId).containsExactly(3L, 999L, 1L, 3L);
+        assertThat(batch.getResults()).extracting(ProductBatchDTO.Result::isFound)
+            .containsExactly(true, false, true, true);
+        assertThat(batch.getResults().get(1).getProduct()).isNull();
+        assertThat(batch.getResults().get(2).getProduct().getReviews()).hasSize(5);
+        assertThat(batch.getFound()).isEqualTo(3);
+        assertThat(batch.getNotFound()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void execute_ShouldServeCachedProductsUntilTheyChange() {
+        // Given
+        getProductsBatchUseCase.execute(List.of(4L, 5L), false);
+        statistics.clear();
+        
+        // When
+        ProductBatchDTO cached = getProductsBatchUseCase.execute(List.of(5L, 4L), false);
+        long statementsWhenCached = statistics.getPrepareStatementCount();
+        updatePrice(5L, "119.99");
+        ProductBatchDTO afterChange = getProductsBatchUseCase.execute(List.of(5L, 4L), false);
+        
+        // Then
+        assertThat(cached.getCacheHits()).isEqualTo(2);
+        assertThat(statementsWhenCached).isZero();
+        assertThat(afterChange.getCacheHits()).isEqualTo(1);
+        assertThat(afterChange.getResults().get(0).getProduct().getPrice()).isEqualByComparingTo("119.99");
+    }
+    
+    @Test
+    void execute_WithoutIdsOrTooManyIds_ShouldReject() {
+        assertThatThrownBy(() -> getProductsBatchUseCase.execute(List.of(), false))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getProductsBatchUseCase.execute(
+                Collections.nCopies(GetProductsBatchUseCase.MAX_IDS + 1, 1L), false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private void updatePrice(Long productId, String price) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Product product = productRepository.findById(productId).orElseThrow();
+            product.updatePrice(new BigDecimal(price));
+            productRepository.save(product);
+        });
+    }
+}
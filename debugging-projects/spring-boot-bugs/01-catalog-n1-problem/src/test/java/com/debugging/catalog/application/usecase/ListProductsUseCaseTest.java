@@ -1,8 +1,11 @@
 package com.debugging.catalog.application.usecase;
 
 import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.service.ReviewTextIndex;
 import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductView;
 import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.FetchPlan;
 import com.debugging.catalog.domain.repository.ProductRepository;
 import com.debugging.catalog.domain.repository.ReviewRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,11 +36,14 @@ class ListProductsUseCaseTest {
     @Mock
     private ReviewRepository reviewRepository;
     
+    @Mock
+    private ReviewTextIndex reviewTextIndex;
+    
     private ListProductsUseCase useCase;
     
     @BeforeEach
     void setUp() {
-        useCase = new ListProductsUseCase(productRepository, reviewRepository);
+        useCase = new ListProductsUseCase(productRepository, reviewRepository, reviewTextIndex);
     }
     
     @Test
@@ -151,6 +157,26 @@ class ListProductsUseCaseTest {
         verify(reviewRepository, never()).findByProductId(anyLong());
     }
     
+    @Test
+    void executeWithLatestReviews_ShouldUseLatestReviewsFetchPlan() {
+        // Given
+        Product product = createProductWithReviews(1L, "iPhone 15", "Latest iPhone", BigDecimal.valueOf(999.99));
+        Review latest = product.getReviews().get(1);
+        when(productRepository.findAll(FetchPlan.withLatestReviews(1)))
+            .thenReturn(List.of(ProductView.of(product, List.of(latest))));
+        
+        // When
+        List<ProductDTO> result = useCase.executeWithLatestReviews(1);
+        
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getReviewCount()).isEqualTo(2);
+        assertThat(result.get(0).getReviews()).hasSize(1);
+        assertThat(result.get(0).getReviews().get(0).getId()).isEqualTo(2L);
+        verify(productRepository, never()).findAllWithReviews();
+        verify(reviewRepository, never()).findByProductId(anyLong());
+    }
+    
     // Helper methods
     private Product createProduct(Long id, String name, String description, BigDecimal price) {
         Product product = new Product(name, description, price, "Electronics");
@@ -0,0 +1,75 @@
+package com.debugging.catalog.application.usecase;
+
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.dto.ProductPageDTO;
+import com.debugging.catalog.application.service.PriceIndex;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for SearchProductsByPriceUseCase
+ * Pages answered by the price index must match the table after every committed change
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "app.catalog.outbox.relay-interval-ms=600000",
+    "app.catalog.price-index.reconcile-interval-ms=600000",
+    "app.catalog.statistics.reconcile-interval-ms=600000"
+})
+class SearchProductsByPriceUseCaseTest {
+
+    private static final String CATEGORY = "Deletion test";
+
+    @Autowired
+    private SearchProductsByPriceUseCase searchProductsByPriceUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PriceIndex priceIndex;
+
+    // The index is first built by the scheduler thread right after startup
+    @BeforeEach
+    void awaitPriceIndex() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!priceIndex.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void execute_AfterDeletingAProduct_ShouldNoLongerCountOrListIt() {
+        // Given
+        Long cheap = create("10.00");
+        Long middle = create("20.00");
+        Long expensive = create("30.00");
+        PriceRangeQuery firstPage = new PriceRangeQuery(CATEGORY, new BigDecimal("1.00"), new BigDecimal("100.00"),
+            false, 0, 2);
+        assertThat(searchProductsByPriceUseCase.execute(firstPage).getTotalElements()).isEqualTo(3);
+
+        // When
+        productRepository.deleteById(middle);
+        ProductPageDTO page = searchProductsByPriceUseCase.execute(firstPage);
+
+        // Then
+        assertThat(page.getSource()).isEqualTo(ProductPageDTO.SOURCE_INDEX);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getTotalPages()).isEqualTo(1);
+        assertThat(page.getContent()).hasSize(2).extracting(ProductDTO::getId).containsExactly(cheap, expensive);
+        assertThat(productRepository.existsById(middle)).isFalse();
+    }
+
+    private Long create(String price) {
+        return productRepository.save(new Product("Priced " + price, "Deleted or kept", new BigDecimal(price), CATEGORY))
+            .getId();
+    }
+}
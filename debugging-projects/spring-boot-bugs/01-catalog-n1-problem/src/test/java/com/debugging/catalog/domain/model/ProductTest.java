@@ -0,0 +1,89 @@
+package com.debugging.catalog.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the Product aggregate rating histogram
+ */
+class ProductTest {
+
+    @Test
+    void addReview_ShouldMaintainRatingHistogram() {
+        // Given
+        Product product = new Product("iPhone 15", "Latest iPhone", BigDecimal.valueOf(999.99), "Electronics");
+
+        // When
+        product.addReview(new Review("John Doe", 5, "Excellent phone!"));
+        product.addReview(new Review("Jane Smith", 4, "Great performance"));
+        product.addReview(new Review("Bob Wilson", 1, "Broke after a week"));
+
+        // Then
+        assertThat(product.getReviewCount()).isEqualTo(3);
+        assertThat(product.getAverageRating()).isEqualTo(10.0 / 3);
+        assertThat(product.getPositiveReviewCount()).isEqualTo(2);
+        assertThat(product.getNegativeReviewCount()).isEqualTo(1);
+        assertThat(product.getRatingDistribution()).containsExactly(1, 0, 0, 1, 1);
+        assertThat(product.hasReviews()).isTrue();
+    }
+
+    @Test
+    void removeReview_ShouldDecrementRatingHistogram() {
+        // Given
+        Product product = new Product("MacBook Air", "Ultra-thin laptop", BigDecimal.valueOf(1199.99), "Electronics");
+        Review review = new Review("John Doe", 2, "Too expensive");
+        product.addReview(review);
+        product.addReview(new Review("Jane Smith", 5, "Perfect for development"));
+
+        // When
+        product.removeReview(review);
+
+        // Then
+        assertThat(product.getReviewCount()).isEqualTo(1);
+        assertThat(product.getAverageRating()).isEqualTo(5.0);
+        assertThat(product.getNegativeReviewCount()).isZero();
+        assertThat(product.getRatingDistribution()).containsExactly(0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void updateRating_ShouldMoveReviewBetweenHistogramBuckets() {
+        // Given
+        Product product = new Product("Kindle", "E-reader", BigDecimal.valueOf(139.99), "Books");
+        Review review = new Review("John Doe", 3, "Average");
+        product.addReview(review);
+
+        // When
+        review.updateRating(5);
+
+        // Then
+        assertThat(product.getReviewCount()).isEqualTo(1);
+        assertThat(product.getAverageRating()).isEqualTo(5.0);
+        assertThat(product.getRatingDistribution()).containsExactly(0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void productWithoutReviews_ShouldHaveEmptyHistogram() {
+        // Given
+        Product product = new Product("Yoga Mat", "Non-slip mat", BigDecimal.valueOf(49.99), "Sports");
+
+        // Then
+        assertThat(product.getReviewCount()).isZero();
+        assertThat(product.getAverageRating()).isEqualTo(0.0);
+        assertThat(product.hasReviews()).isFalse();
+        assertThat(product.getRatingDistribution()).containsExactly(0, 0, 0, 0, 0);
+    }
+
+    @Test
+    void unrecord_WithEmptyBucket_ShouldFail() {
+        // Given
+        RatingHistogram histogram = new RatingHistogram();
+
+        // Then
+        assertThatThrownBy(() -> histogram.unrecord(3))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.debugging.catalog.infrastructure.archive;
+
+import com.debugging.catalog.domain.model.ArchivedReview;
+import com.debugging.catalog.domain.model.ReviewArchiveSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for FileReviewArchiveRepository
+ * Segment files must read back exactly what was written, column by column
+ */
+class FileReviewArchiveRepositoryTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @TempDir
+    Path directory;
+
+    private FileReviewArchiveRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FileReviewArchiveRepository(directory);
+    }
+
+    @Test
+    void write_ShouldCreateReadOnlySegmentDescribedByItsManifestEntry() throws IOException {
+        // When
+        ReviewArchiveSegment segment = repository.write(MONTH, reviews());
+
+        // Then
+        assertThat(segment.getFileName()).isEqualTo("2024-03/reviews-10.seg");
+        assertThat(segment.getPartitionMonth()).isEqualTo(MONTH);
+        assertThat(segment.getRowCount()).isEqualTo(4);
+        assertThat(segment.getMinProductId()).isEqualTo(3L);
+        assertThat(segment.getMaxProductId()).isEqualTo(7L);
+        assertThat(segment.getRatingHistogram().toArray()).containsExactly(1, 0, 1, 0, 2);
+        Path file = directory.resolve(segment.getFileName());
+        assertThat(Files.getPosixFilePermissions(file)).doesNotContain(PosixFilePermission.OWNER_WRITE);
+        assertThat(segment.getSizeBytes()).isEqualTo(file.toFile().length());
+        assertThat(repository.listFileNames()).containsExactly("2024-03/reviews-10.seg");
+    }
+
+    @Test
+    void findByProductId_ShouldReadBackTheRowsOfOneProductOnly() {
+        // Given
+        ReviewArchiveSegment segment = repository.write(MONTH, reviews());
+
+        // When
+        List<ArchivedReview> product7 = repository.findByProductId(segment, 7L);
+        List<ArchivedReview> product5 = repository.findByProductId(segment, 5L);
+
+        // Then
+        assertThat(product7).containsExactly(
+            new ArchivedReview(12L, 7L, "alice", 5, "Still great ✓", LocalDateTime.of(2024, 3, 2, 9, 30, 0, 123_456_000)),
+            new ArchivedReview(10L, 7L, "bob", 1, null, LocalDateTime.of(2024, 3, 20, 18, 0))
+        );
+        assertThat(product5).isEmpty();
+    }
+
+    @Test
+    void forEachReviewer_ShouldStreamProductAndUserNameOfEveryRow() {
+        // Given
+        ReviewArchiveSegment segment = repository.write(MONTH, reviews());
+        List<String> reviewers = new ArrayList<>();
+
+        // When
+        repository.forEachReviewer(segment, (productId, userName) -> reviewers.add(productId + ":" + userName));
+
+        // Then
+        assertThat(reviewers).containsExactly("3:alice", "3:carol", "7:alice", "7:bob");
+    }
+
+    @Test
+    void write_WithReviewFromAnotherMonth_ShouldReject() {
+        // Given
+        List<ArchivedReview> reviews = new ArrayList<>(reviews());
+        reviews.add(new ArchivedReview(20L, 3L, "dave", 4, "Late", LocalDateTime.of(2024, 4, 1, 0, 0)));
+
+        // When / Then
+        assertThatThrownBy(() -> repository.write(MONTH, reviews))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void delete_ShouldRemoveTheFile() {
+        // Given
+        ReviewArchiveSegment segment = repository.write(MONTH, reviews());
+
+        // When
+        repository.delete(segment.getFileName());
+
+        // Then
+        assertThat(repository.listFileNames()).isEmpty();
+    }
+
+    private static List<ArchivedReview> reviews() {
+        return List.of(
+            new ArchivedReview(10L, 7L, "bob", 1, null, LocalDateTime.of(2024, 3, 20, 18, 0)),
+            new ArchivedReview(11L, 3L, "alice", 3, "Average", LocalDateTime.of(2024, 3, 5, 12, 0)),
+            new ArchivedReview(12L, 7L, "alice", 5, "Still great ✓", LocalDateTime.of(2024, 3, 2, 9, 30, 0, 123_456_000)),
+            new ArchivedReview(13L, 3L, "carol", 5, "", LocalDateTime.of(2024, 3, 31, 23, 59, 59))
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.debugging.catalog.infrastructure.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ProfilingDataSource
+ * JDBC activity is recorded into the profile of the current thread only
+ */
+class ProfilingDataSourceTest {
+
+    private ProfilingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        keepAlive = h2.getConnection();
+        dataSource = new ProfilingDataSource(h2);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        jdbcTemplate.batchUpdate("INSERT INTO products VALUES (?, ?)",
+            List.of(new Object[] {1L, "iPhone 15"}, new Object[] {2L, "MacBook Pro"}, new Object[] {3L, "Kindle"}));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        keepAlive.close();
+    }
+
+    @Test
+    void queries_InsideProfile_ShouldRecordStatementsRowsAndTimes() {
+        // Given
+        JdbcProfile profile = JdbcProfile.start();
+
+        // When
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM products ORDER BY id", String.class);
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE id > ?", Long.class, 1L);
+        profile.stop();
+
+        // Then
+        assertThat(names).containsExactly("iPhone 15", "MacBook Pro", "Kindle");
+        assertThat(count).isEqualTo(2L);
+        assertThat(profile.getStatements()).isEqualTo(2);
+        assertThat(profile.getRows()).isEqualTo(4);
+        assertThat(profile.getConnectionAcquireNanos()).isPositive();
+        assertThat(profile.getExecutionNanos()).isPositive();
+    }
+
+    @Test
+    void connection_OutsideProfile_ShouldNotBeWrapped() throws Exception {
+        // When
+        try (Connection connection = dataSource.getConnection()) {
+            // Then
+            assertThat(connection.getClass().getName()).startsWith("org.h2");
+        }
+    }
+
+    @Test
+    void start_WhenAlreadyProfiling_ShouldKeepOuterProfile() {
+        // Given
+        JdbcProfile outer = JdbcProfile.start();
+
+        // When
+        JdbcProfile nested = JdbcProfile.start();
+        jdbcTemplate.queryForList("SELECT id FROM products", Long.class);
+        outer.stop();
+
+        // Then
+        assertThat(nested).isNull();
+        assertThat(outer.getStatements()).isEqualTo(1);
+        assertThat(outer.getRows()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,82 @@
+package com.debugging.catalog.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SamplingTurboFilter
+ * One statement in sampleRate must pass, whatever thread or sequence of level checks it comes from
+ */
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger sql = context.getLogger("org.hibernate.SQL");
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setSampleRate(3);
+        filter.start();
+    }
+
+    @Test
+    void decide_ShouldLogOneGuardedStatementInSampleRate() {
+        // When - Hibernate checks the level twice, then logs only when the checks passed
+        List<Boolean> logged = new ArrayList<>();
+        for (int statement = 0; statement < 9; statement++) {
+            logged.add(guardedStatement());
+        }
+
+        // Then
+        assertThat(logged).containsExactly(true, false, false, true, false, false, true, false, false);
+    }
+
+    @Test
+    void decide_ShouldNotCarryALevelCheckWithoutLogCallToAnotherThread() throws Exception {
+        // Given - a level check passes and its thread never logs
+        assertThat(levelCheck()).isEqualTo(FilterReply.NEUTRAL);
+
+        // When - the next statements come from another thread
+        List<Boolean> logged = CompletableFuture.supplyAsync(() -> {
+            List<Boolean> results = new ArrayList<>();
+            for (int statement = 0; statement < 4; statement++) {
+                results.add(guardedStatement());
+            }
+            return results;
+        }).get();
+
+        // Then - the unused check lets one more statement through, then sampling resumes
+        assertThat(logged).containsExactly(true, false, false, true);
+    }
+
+    @Test
+    void decide_ShouldIgnoreOtherLoggersAndInfoEvents() {
+        // When / Then
+        assertThat(filter.decide(null, context.getLogger("com.debugging"), Level.DEBUG, null, null, null))
+            .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, sql, Level.INFO, "select 1", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(guardedStatement()).isTrue();
+    }
+
+    private boolean guardedStatement() {
+        if (levelCheck() == FilterReply.DENY || levelCheck() == FilterReply.DENY) {
+            return false;
+        }
+        return filter.decide(null, sql, Level.DEBUG, "select * from products", null, null) == FilterReply.NEUTRAL;
+    }
+
+    private FilterReply levelCheck() {
+        return filter.decide(null, sql, Level.DEBUG, null, null, null);
+    }
+}
@@ -0,0 +1,65 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.infrastructure.repository.StatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository tests for the outbox
+ * Events must be inserted in one batch, after the product changes they describe
+ */
+@DataJpaTest
+@Import(JpaOutboxEventRepositoryTest.RecorderConfiguration.class)
+class JpaOutboxEventRepositoryTest {
+
+    @TestConfiguration
+    static class RecorderConfiguration {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private JpaOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Test
+    void append_ShouldLockTheChangedProductsBeforeInsertingTheEventsInOneBatch() {
+        // Given - a price change still pending in the persistence context
+        Product product = productRepository.findById(1L).orElseThrow();
+        product.updatePrice(new BigDecimal("999.00"));
+
+        // When
+        List<RecordedStatement> statements = statementRecorder.record(() -> outboxEventRepository.append(List.of(
+            new OutboxEvent(1L, "ProductPriceChanged", "{\"productId\":1}"),
+            new OutboxEvent(2L, "ProductPriceChanged", "{\"productId\":2}"))));
+
+        // Then
+        assertThat(statements).extracting(statement -> statement.sql().toLowerCase(Locale.ROOT))
+            .satisfiesExactly(
+                sql -> assertThat(sql).contains("update products"),
+                sql -> assertThat(sql).contains("insert into catalog_outbox"));
+        assertThat(outboxEventRepository.findPending(1000)).extracting(OutboxEvent::getProductId)
+            .containsSubsequence(1L, 2L);
+    }
+}
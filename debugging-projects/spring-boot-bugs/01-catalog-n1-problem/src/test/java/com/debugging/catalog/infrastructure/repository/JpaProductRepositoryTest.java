@@ -0,0 +1,258 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.PriceChange;
+import com.debugging.catalog.domain.model.PriceEntry;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository tests against the H2 sample data (data.sql)
+ * Verify what each fetch plan loads and how many statements it issues
+ */
+@DataJpaTest
+class JpaProductRepositoryTest {
+    
+    @Autowired
+    private JpaProductRepository productRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+    
+    @Test
+    void findAll_WithAggregatesPlan_ShouldProjectHistogramInOneQuery() {
+        // When
+        List<ProductView> views = productRepository.findAll(FetchPlan.aggregatesOnly());
+        
+        // Then
+        assertThat(views).hasSize(30);
+        ProductView iphone = views.get(0);
+        assertThat(iphone.id()).isEqualTo(1L);
+        assertThat(iphone.name()).isEqualTo("iPhone 15 Pro");
+        assertThat(iphone.price()).isNull();
+        assertThat(iphone.reviewsLoaded()).isFalse();
+        assertThat(iphone.ratingHistogram().total()).isEqualTo(5);
+        assertThat(iphone.ratingHistogram().average()).isEqualTo(4.2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void findAll_WithProductPlan_ShouldNotLoadReviews() {
+        // When
+        List<ProductView> views = productRepository.findAll(FetchPlan.productOnly());
+        
+        // Then
+        assertThat(views).hasSize(30);
+        assertThat(views.get(0).price()).isNotNull();
+        assertThat(views).allMatch(view -> !view.reviewsLoaded());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void findAll_WithReviewsPlan_ShouldJoinReviewsInOneQuery() {
+        // When
+        List<ProductView> views = productRepository.findAll(FetchPlan.withReviews());
+        
+        // Then
+        assertThat(views).hasSize(30);
+        assertThat(views.get(0).reviews()).hasSize(5);
+        assertThat(views.stream().mapToInt(view -> view.reviews().size()).sum()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void findAll_WithLatestReviewsPlan_ShouldLimitReviewsPerProductInTwoQueries() {
+        // When
+        List<ProductView> views = productRepository.findAll(FetchPlan.withLatestReviews(2));
+        
+        // Then
+        assertThat(views).hasSize(30);
+        assertThat(views.get(0).reviews()).extracting(Review::getId).containsExactly(5L, 4L);
+        assertThat(views.get(29).reviews()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void findByCategory_WithReviewsPlan_ShouldOnlyReturnCategory() {
+        // When
+        List<ProductView> views = productRepository.findByCategory("Sports", FetchPlan.withReviews());
+        
+        // Then
+        assertThat(views).hasSize(6).allMatch(view -> "Sports".equals(view.category()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void findAll_WithSparseFields_ShouldSelectOnlyRequestedColumnsWithoutReviews() {
+        // When
+        List<ProductView> views = productRepository.findAll(
+            FetchPlan.parse("product", "name,price,averageRating", null, FetchPlan.DEFAULT_REVIEW_LIMIT));
+        
+        // Then
+        assertThat(views).hasSize(30);
+        ProductView iphone = views.get(0);
+        assertThat(iphone.name()).isEqualTo("iPhone 15 Pro");
+        assertThat(iphone.price()).isNotNull();
+        assertThat(iphone.ratingHistogram().average()).isEqualTo(4.2);
+        assertThat(iphone.description()).isNull();
+        assertThat(iphone.category()).isNull();
+        assertThat(iphone.createdAt()).isNull();
+        assertThat(views).allMatch(view -> !view.reviewsLoaded());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void findByCategory_WithSparseFieldsAndLatestReviews_ShouldLoadReviewsInSecondQuery() {
+        // When
+        List<ProductView> views = productRepository.findByCategory("Electronics",
+            FetchPlan.parse("product", "name", "latest-reviews", 2));
+        
+        // Then
+        assertThat(views).isNotEmpty().allMatch(view -> view.category() == null && view.price() == null);
+        assertThat(views.get(0).reviews()).extracting(Review::getId).containsExactly(5L, 4L);
+        assertThat(views.get(0).ratingHistogram()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void findByIdsWithReviews_ShouldUseOneProductQueryAndOneReviewQuery() {
+        // When
+        List<ProductView> views = productRepository.findByIdsWithReviews(List.of(3L, 1L, 999L));
+        
+        // Then
+        assertThat(views).extracting(ProductView::id).containsExactly(1L, 3L);
+        assertThat(views.get(0).reviews()).hasSize(5)
+            .allMatch(review -> review.getProduct().getId().equals(1L));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void findByIdWithReviews_ShouldReportLoadedReviewsEvenWhenTheCountersAreStale() {
+        // Given - rating counters reset behind Hibernate's back, the review rows are untouched
+        entityManager.createNativeQuery("""
+            UPDATE products SET rating_1_count = 0, rating_2_count = 0, rating_3_count = 0,
+                rating_4_count = 0, rating_5_count = 0
+            WHERE id = 1
+            """).executeUpdate();
+        entityManager.clear();
+        
+        // When
+        Product product = productRepository.findByIdWithReviews(1L).orElseThrow();
+        
+        // Then
+        assertThat(product.getReviewCount()).isZero();
+        assertThat(product.hasReviews()).isTrue();
+        assertThat(product.getReviews()).hasSize(5);
+    }
+    
+    @Test
+    void findById_WithProductPlan_ShouldReturnSingleView() {
+        // When / Then
+        assertThat(productRepository.findById(2L, FetchPlan.productOnly()))
+            .hasValueSatisfying(view -> assertThat(view.name()).isEqualTo("MacBook Air M2"));
+        assertThat(productRepository.findById(999L, FetchPlan.productOnly())).isEmpty();
+    }
+    
+    @Test
+    void adjustPrices_ShouldRepriceInTheDatabaseAndOnlyRefreshTheUpdatedProducts() {
+        // Given - the Sports rows locked, one of them and an Electronics product managed
+        BigDecimal factor = new BigDecimal("1.10");
+        List<PriceEntry> entries = productRepository.findPriceEntriesAfter("Sports", 0, 10);
+        List<PriceChange> changes = entries.stream()
+            .map(entry -> new PriceChange(entry.productId(), entry.category(), entry.price(),
+                entry.price().multiply(factor).setScale(2, RoundingMode.HALF_UP)))
+            .toList();
+        Product sports = entityManager.find(Product.class, changes.get(0).productId());
+        Product electronics = entityManager.find(Product.class, 1L);
+        
+        // When
+        int updated = productRepository.adjustPrices("Sports", factor, new BigDecimal("0.01"), changes);
+        
+        // Then
+        assertThat(updated).isEqualTo(6);
+        assertThat(productRepository.findPriceEntriesByIds(changes.stream().map(PriceChange::productId).toList()))
+            .allSatisfy(entry -> assertThat(entry.price()).isEqualByComparingTo(changes.stream()
+                .filter(change -> change.productId().equals(entry.productId())).findFirst().orElseThrow().newPrice()));
+        assertThat(entityManager.contains(sports)).isTrue();
+        assertThat(sports.getPrice()).isEqualByComparingTo(changes.get(0).newPrice());
+        assertThat(entityManager.contains(electronics)).isTrue();
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.catalog.reviews.ids-per-query=7")
+    class ReviewsInChunks {
+
+        // Own fields: the enclosing instance is injected from the default context
+        @Autowired
+        private JpaProductRepository productRepository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        private Statistics statistics;
+
+        @BeforeEach
+        void setUp() {
+            statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+        }
+
+        @Test
+        void findAll_WithLatestReviewsPlan_ShouldBindAtMostIdsPerQueryProductIds() {
+            // When
+            List<ProductView> views = productRepository.findAll(FetchPlan.withLatestReviews(2));
+
+            // Then - 30 products: 1 product query and 5 review queries of at most 7 IDs
+            assertThat(views).hasSize(30);
+            assertThat(views.get(0).reviews()).extracting(Review::getId).containsExactly(5L, 4L);
+            assertThat(views).allSatisfy(view -> assertThat(view.reviews())
+                .allMatch(review -> review.getProduct().getId().equals(view.id())));
+            assertThat(views.stream().mapToInt(view -> view.reviews().size()).sum()).isEqualTo(12);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        }
+
+        @Test
+        void findAll_WithSparseFieldsAndReviews_ShouldBindAtMostIdsPerQueryProductIds() {
+            // When
+            List<ProductView> views = productRepository.findAll(
+                FetchPlan.parse("product", "name", "reviews", FetchPlan.DEFAULT_REVIEW_LIMIT));
+
+            // Then
+            assertThat(views).hasSize(30);
+            assertThat(views.stream().mapToInt(view -> view.reviews().size()).sum()).isEqualTo(30);
+            assertThat(views.get(29).reviews()).isEmpty();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.infrastructure.repository.StatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression suite for every @Query of JpaProductRepository and JpaReviewRepository,
+ * and for the listings with reviews of ProductFetchPlanRepositoryImpl (default join strategy)
+ *
+ * Each query runs against a generated dataset (2000 products, 40000 reviews),
+ * its statements are recorded with their bindings and replayed as EXPLAIN:
+ * - the tables read must be the expected ones (no hidden correlated subquery)
+ * - filters and joins must go through the expected schema.sql index, or any
+ *   index with the same leading column (H2 also indexes the foreign key)
+ * - at most one table per statement may be fully scanned (no nested-loop scans)
+ *
+ * The plans are stored in src/test/resources/query-plans, one file per query,
+ * so a plan change shows up in review. A missing snapshot is written; a changed
+ * plan fails until accepted with -DqueryPlans.update=true.
+ */
+@DataJpaTest
+@Import(QueryPlanRegressionTest.RecorderConfiguration.class)
+class QueryPlanRegressionTest {
+
+    private static final Path SNAPSHOTS = Path.of("src", "test", "resources", "query-plans");
+    private static final boolean UPDATE_SNAPSHOTS = Boolean.getBoolean("queryPlans.update");
+
+    // "PUBLIC"."REVIEWS" "R1_0" /* PUBLIC.IDX_REVIEWS_PRODUCT_ID: PRODUCT_ID = ?1 */
+    // Unquoted inside the plan of a derived table: PUBLIC.REVIEWS RV /* PUBLIC.IDX_REVIEWS_PRODUCT_ID: ... */
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+        "\"?PUBLIC\"?\\.\"?(\\w+)\"?\\s+\"?\\w+\"?\\s*/\\*\\s*PUBLIC\\.([\\w.]+)");
+    // Listings with reviews built by the fetch-plan fragment instead of an @Query
+    private static final Set<String> FRAGMENT_LISTINGS = Set.of(
+        "JpaProductRepository.findAllWithReviews", "JpaProductRepository.findByCategoryWithReviews");
+    private static final Pattern SCHEMA_INDEX = Pattern.compile(
+        "CREATE\\s+INDEX\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)\\s+ON\\s+(\\w+)\\s*\\(\\s*(\\w+)",
+        Pattern.CASE_INSENSITIVE);
+
+    @TestConfiguration
+    static class RecorderConfiguration {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Autowired
+    private JpaReviewRepository reviewRepository;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void generateDataset(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+            INSERT INTO products (name, description, price, category,
+                rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, created_at, updated_at)
+            SELECT 'Generated product ' || X, 'Query plan dataset', 5 + MOD(X * 37, 1995),
+                'Category-' || CAST(MOD(X, 20) AS VARCHAR), 4, 4, 4, 4, 4, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM SYSTEM_RANGE(1, 2000)
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO reviews (product_id, user_name, rating, comment, created_at)
+            SELECT p.id, 'user-' || CAST(MOD(p.id * 20 + r.X, 5000) AS VARCHAR), 1 + MOD(p.id + r.X, 5),
+                'Generated review', DATEADD('DAY', -MOD(p.id * 7 + r.X * 13, 365), CURRENT_TIMESTAMP)
+            FROM products p CROSS JOIN SYSTEM_RANGE(1, 20) r
+            WHERE p.name LIKE 'Generated product %'
+            """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void everyQueryMethod_ShouldHaveAPlanCase() {
+        // Given
+        Set<String> queryMethods = new TreeSet<>(FRAGMENT_LISTINGS);
+        for (Class<?> repository : List.of(JpaProductRepository.class, JpaReviewRepository.class)) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Query.class)) {
+                    queryMethods.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        // When
+        Set<String> cases = planCases().stream().map(PlanCase::name).collect(Collectors.toCollection(TreeSet::new));
+
+        // Then
+        assertThat(cases).isEqualTo(queryMethods);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> everyQuery_ShouldKeepItsExpectedPlan() {
+        Map<String, Index> schemaIndexes = schemaIndexes();
+        Map<String, String> leadingColumns = leadingColumns();
+        return planCases().stream().map(planCase -> DynamicTest.dynamicTest(planCase.name(), () -> {
+            // When
+            List<RecordedStatement> statements = statementRecorder.record(planCase.call());
+            List<String> plans = new ArrayList<>();
+            for (RecordedStatement statement : statements) {
+                plans.add(explain(statement));
+            }
+
+            // Then
+            assertThat(plans).as("Statements of %s", planCase.name()).isNotEmpty();
+            Set<String> tablesRead = new TreeSet<>();
+            for (String plan : plans) {
+                List<Access> accesses = accesses(plan);
+                tablesRead.addAll(accesses.stream().map(Access::table).toList());
+                assertThat(accesses.stream().filter(Access::tableScan).map(Access::table).distinct())
+                    .as("Fully scanned tables in one statement of %s:%n%s", planCase.name(), plan)
+                    .hasSizeLessThanOrEqualTo(1);
+            }
+            assertThat(tablesRead).as("Tables read by %s:%n%s", planCase.name(), String.join("\n", plans))
+                .isEqualTo(planCase.expectations().stream().map(Expectation::table)
+                    .collect(Collectors.toCollection(TreeSet::new)));
+
+            for (Expectation expectation : planCase.expectations()) {
+                String column = expectation.column(schemaIndexes);
+                if (column == null) {
+                    continue;
+                }
+                for (String plan : plans) {
+                    for (Access access : accesses(plan)) {
+                        if (access.table().equals(expectation.table())) {
+                            assertThat(access.tableScan() ? null : leadingColumns.get(access.index()))
+                                .as("%s should read %s by %s, plan:%n%s", planCase.name(), access.table(),
+                                    expectation.description(), plan)
+                                .isEqualTo(column);
+                        }
+                    }
+                }
+            }
+            assertSnapshot(planCase.name(), String.join("\n\n", plans) + "\n");
+        }));
+    }
+
+    private List<PlanCase> planCases() {
+        Long productId = 1500L;
+        List<Long> productIds = List.of(10L, 700L, 1400L);
+        return List.of(
+            product("findAllProducts", () -> productRepository.findAllProducts(),
+                anyAccess("PRODUCTS")),
+            product("findAllWithReviews", () -> productRepository.findAllWithReviews(),
+                anyAccess("PRODUCTS"), index("idx_reviews_product_id")),
+            product("findByIdForUpdate", () -> productRepository.findByIdForUpdate(productId),
+                primaryKey("PRODUCTS")),
+            product("findByIdWithReviews", () -> productRepository.findByIdWithReviews(productId),
+                primaryKey("PRODUCTS"), index("idx_reviews_product_id")),
+            product("findByCategoryWithReviews", () -> productRepository.findByCategoryWithReviews("Category-7"),
+                index("idx_products_category"), index("idx_reviews_product_id")),
+            product("findByPriceRange",
+                () -> productRepository.findByPriceRange(new BigDecimal("100.00"), new BigDecimal("110.00")),
+                index("idx_products_price")),
+            product("findAllPriceEntries", () -> productRepository.findAllPriceEntries(),
+                anyAccess("PRODUCTS")),
+            // Rating histogram columns of the product: no correlated AVG over the reviews
+            product("findByAverageRatingGreaterThan", () -> productRepository.findByAverageRatingGreaterThan(4.0),
+                anyAccess("PRODUCTS")),
+            product("findByAverageRatingGreaterThanWithReviews",
+                () -> productRepository.findByAverageRatingGreaterThanWithReviews(4.0),
+                anyAccess("PRODUCTS"), index("idx_reviews_product_id")),
+            product("countByCategory", () -> productRepository.countByCategory("Category-7"),
+                index("idx_products_category")),
+            product("getProductStatistics", () -> productRepository.getProductStatistics(),
+                anyAccess("PRODUCTS")),
+            product("countProductsGroupedByCategory", () -> productRepository.countProductsGroupedByCategory(),
+                anyAccess("PRODUCTS")),
+            product("countProductsGroupedByPrice", () -> productRepository.countProductsGroupedByPrice(),
+                anyAccess("PRODUCTS")),
+
+            review("findByProductId", () -> reviewRepository.findByProductId(productId),
+                index("idx_reviews_product_id")),
+            review("findByProductIds", () -> reviewRepository.findByProductIds(productIds),
+                index("idx_reviews_product_id")),
+            review("findLatestByProductIds", () -> reviewRepository.findLatestByProductIds(productIds, 3),
+                index("idx_reviews_product_id")),
+            review("findByRating", () -> reviewRepository.findByRating(5),
+                index("idx_reviews_rating")),
+            review("findByUserName", () -> reviewRepository.findByUserName("user-42"),
+                index("idx_reviews_user_name")),
+            // Two of five ratings, close to half the table: the access path is not asserted
+            review("findPositiveReviews", () -> reviewRepository.findPositiveReviews(),
+                anyAccess("REVIEWS")),
+            review("findNegativeReviews", () -> reviewRepository.findNegativeReviews(),
+                anyAccess("REVIEWS")),
+            review("countByProductId", () -> reviewRepository.countByProductId(productId),
+                primaryKey("PRODUCTS")),
+            review("getAverageRatingByProductId", () -> reviewRepository.getAverageRatingByProductId(productId),
+                primaryKey("PRODUCTS")),
+            review("getHotReviewStatistics", () -> reviewRepository.getHotReviewStatistics(),
+                anyAccess("REVIEWS")),
+            review("countHotReviewsGroupedByRating", () -> reviewRepository.countHotReviewsGroupedByRating(),
+                anyAccess("REVIEWS")),
+            review("sumArchivedRatings", () -> reviewRepository.sumArchivedRatings(),
+                anyAccess("REVIEW_ARCHIVE_SEGMENTS")),
+            review("getTopRatedProducts", () -> reviewRepository.getTopRatedProducts(Limit.of(10)),
+                anyAccess("PRODUCTS")),
+            review("findReviewersAfter", () -> reviewRepository.findReviewersAfter(10L, 100),
+                primaryKey("REVIEWS"), primaryKey("PRODUCTS")),
+            // Two of five ratings again; r.product.id is the foreign key column, products is not joined
+            review("findPositiveReviewers", () -> reviewRepository.findPositiveReviewers(),
+                anyAccess("REVIEWS")),
+            review("findCommentsAfter", () -> reviewRepository.findCommentsAfter(10L, 100),
+                primaryKey("REVIEWS")),
+            review("findExistingIds", () -> reviewRepository.findExistingIds(List.of(1L, 2L, 3L)),
+                primaryKey("REVIEWS"))
+        );
+    }
+
+    private record PlanCase(String name, Runnable call, List<Expectation> expectations) {}
+
+    /**
+     * How one table must be read: by a schema.sql index, by primary key, or any access path (column null)
+     */
+    private record Expectation(String table, String schemaIndex, String primaryKey) {
+
+        String column(Map<String, Index> schemaIndexes) {
+            if (primaryKey != null) {
+                return primaryKey;
+            }
+            if (schemaIndex == null) {
+                return null;
+            }
+            Index index = schemaIndexes.get(schemaIndex.toUpperCase(Locale.ROOT));
+            assertThat(index).as("Index %s in schema.sql", schemaIndex).isNotNull();
+            return index.column();
+        }
+
+        String description() {
+            return primaryKey != null ? "primary key" : schemaIndex + " (or an index with the same leading column)";
+        }
+    }
+
+    private record Index(String table, String column) {}
+
+    private record Access(String table, String index) {
+
+        boolean tableScan() {
+            return index.endsWith(".tableScan") || index.endsWith(".scan");
+        }
+    }
+
+    private static PlanCase product(String method, Runnable call, Expectation... expectations) {
+        return new PlanCase("JpaProductRepository." + method, call, List.of(expectations));
+    }
+
+    private static PlanCase review(String method, Runnable call, Expectation... expectations) {
+        return new PlanCase("JpaReviewRepository." + method, call, List.of(expectations));
+    }
+
+    private static Expectation index(String schemaIndex) {
+        Index index = schemaIndexes().get(schemaIndex.toUpperCase(Locale.ROOT));
+        return new Expectation(index != null ? index.table() : "?", schemaIndex, null);
+    }
+
+    private static Expectation primaryKey(String table) {
+        return new Expectation(table, null, "ID");
+    }
+
+    private static Expectation anyAccess(String table) {
+        return new Expectation(table, null, null);
+    }
+
+    private String explain(RecordedStatement statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = statement.prepare(connection, "EXPLAIN ");
+                 ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1).replace("\r\n", "\n").strip();
+            }
+        });
+    }
+
+    private static List<Access> accesses(String plan) {
+        List<Access> accesses = new ArrayList<>();
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            accesses.add(new Access(matcher.group(1), matcher.group(2)));
+        }
+        return accesses;
+    }
+
+    // Index name (as printed in plans) to its first column, for every index of the schema
+    private Map<String, String> leadingColumns() {
+        Map<String, String> columns = new HashMap<>();
+        jdbcTemplate.query("""
+            SELECT INDEX_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS
+            WHERE TABLE_SCHEMA = 'PUBLIC' AND ORDINAL_POSITION = 1
+            """, (RowCallbackHandler) row -> columns.put(row.getString(1), row.getString(2)));
+        return columns;
+    }
+
+    private static Map<String, Index> schemaIndexes() {
+        try {
+            String schema = new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8);
+            Map<String, Index> indexes = new HashMap<>();
+            Matcher matcher = SCHEMA_INDEX.matcher(schema);
+            while (matcher.find()) {
+                indexes.put(matcher.group(1).toUpperCase(Locale.ROOT),
+                    new Index(matcher.group(2).toUpperCase(Locale.ROOT), matcher.group(3).toUpperCase(Locale.ROOT)));
+            }
+            return indexes;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read schema.sql", e);
+        }
+    }
+
+    private static void assertSnapshot(String name, String plans) throws IOException {
+        Path snapshot = SNAPSHOTS.resolve(name + ".txt");
+        if (UPDATE_SNAPSHOTS || !Files.exists(snapshot)) {
+            Files.createDirectories(snapshot.getParent());
+            Files.writeString(snapshot, plans, StandardCharsets.UTF_8);
+            return;
+        }
+        assertThat(plans)
+            .as("Plan of %s differs from %s: review it and accept with -DqueryPlans.update=true", name, snapshot)
+            .isEqualTo(Files.readString(snapshot, StandardCharsets.UTF_8).replace("\r\n", "\n"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.model.Review;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for R2dbcProductRepository against an R2DBC H2 in-memory database
+ * Verifies keyset paging, per-page review loading and demand-driven page queries
+ */
+class R2dbcProductRepositoryTest {
+
+    private DatabaseClient databaseClient;
+    private R2dbcProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+            "r2dbc:h2:mem:///reactive-" + UUID.randomUUID() + "?DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        repository = new R2dbcProductRepository(connectionFactory, 2);
+
+        Flux.just(
+            "CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(255), description VARCHAR(1000), " +
+                "price DECIMAL(10, 2), category VARCHAR(100), created_at TIMESTAMP, updated_at TIMESTAMP, " +
+                "rating_1_count INT, rating_2_count INT, rating_3_count INT, rating_4_count INT, rating_5_count INT)",
+            "CREATE TABLE reviews (id BIGINT PRIMARY KEY, product_id BIGINT, user_name VARCHAR(255), " +
+                "rating INT, comment VARCHAR(1000), created_at TIMESTAMP)",
+            "INSERT INTO products VALUES " +
+                "(1, 'iPhone 15', 'Phone', 999.99, 'Electronics', TIMESTAMP '2024-01-01 10:00:00', TIMESTAMP '2024-01-01 10:00:00', 0, 0, 0, 1, 1), " +
+                "(2, 'Clean Code', 'Book', 39.99, 'Books', TIMESTAMP '2024-01-01 10:00:00', TIMESTAMP '2024-01-01 10:00:00', 0, 0, 1, 0, 0), " +
+                "(3, 'MacBook Pro', 'Laptop', 2499.99, 'Electronics', TIMESTAMP '2024-01-01 10:00:00', TIMESTAMP '2024-01-01 10:00:00', 0, 0, 0, 0, 0)",
+            "INSERT INTO reviews VALUES " +
+                "(1, 1, 'John', 5, 'Excellent', TIMESTAMP '2024-01-02 10:00:00'), " +
+                "(2, 1, 'Jane', 4, 'Good', TIMESTAMP '2024-01-03 10:00:00'), " +
+                "(3, 2, 'Bob', 3, 'Average', TIMESTAMP '2024-01-02 10:00:00')"
+        ).concatMap(sql -> databaseClient.sql(sql).then()).blockLast();
+    }
+
+    @Test
+    void streamAllWithReviews_ShouldPageProductsAndJoinReviewsNewestFirst() {
+        // When / Then
+        StepVerifier.create(repository.streamAllWithReviews())
+            .assertNext(product -> {
+                assertThat(product.id()).isEqualTo(1L);
+                assertThat(product.ratingHistogram().total()).isEqualTo(2);
+                assertThat(product.reviews()).extracting(Review::getId).containsExactly(2L, 1L);
+            })
+            .assertNext(product -> assertThat(product.reviews()).extracting(Review::getUserName).containsExactly("Bob"))
+            .assertNext(product -> {
+                assertThat(product.id()).isEqualTo(3L);
+                assertThat(product.reviewsLoaded()).isTrue();
+                assertThat(product.reviews()).isEmpty();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void streamAllWithReviews_ShouldReadAtMostOnePageAhead() {
+        // Given - 5 products in pages of 2
+        databaseClient.sql("INSERT INTO products VALUES " +
+            "(4, 'Kindle', 'Reader', 99.99, 'Electronics', TIMESTAMP '2024-01-01 10:00:00', TIMESTAMP '2024-01-01 10:00:00', 0, 0, 0, 0, 0), " +
+            "(5, 'Refactoring', 'Book', 45.00, 'Books', TIMESTAMP '2024-01-01 10:00:00', TIMESTAMP '2024-01-01 10:00:00', 0, 0, 0, 0, 0)")
+            .then().block();
+
+        StepVerifier.create(repository.streamAllWithReviews().map(ProductView::id), 2)
+            .expectNext(1L, 2L)
+            // When - the last page is changed while the subscriber has not asked for more
+            .then(() -> databaseClient.sql("DELETE FROM products WHERE id = 5").then().block())
+            .thenRequest(Long.MAX_VALUE)
+            // Then - page 2 was read ahead, page 3 was only queried once page 2 was consumed
+            .expectNext(3L, 4L)
+            .verifyComplete();
+    }
+
+    @Test
+    void streamByCategoryWithReviews_ShouldFilterByCategory() {
+        // When / Then
+        StepVerifier.create(repository.streamByCategoryWithReviews("Electronics").map(ProductView::id))
+            .expectNext(1L, 3L)
+            .verifyComplete();
+    }
+
+    @Test
+    void findByIdWithReviews_ShouldReturnProductOrEmpty() {
+        // When / Then
+        StepVerifier.create(repository.findByIdWithReviews(2L))
+            .assertNext(product -> {
+                assertThat(product.name()).isEqualTo("Clean Code");
+                assertThat(product.reviews()).hasSize(1);
+            })
+            .verifyComplete();
+
+        StepVerifier.create(repository.findByIdWithReviews(99L))
+            .verifyComplete();
+    }
+}
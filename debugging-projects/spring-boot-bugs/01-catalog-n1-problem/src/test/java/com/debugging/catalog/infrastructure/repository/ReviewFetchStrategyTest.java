@@ -0,0 +1,195 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.model.Review;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Repository tests of the two-query review fetch strategies against the H2 sample data (data.sql)
+ * Same products and reviews as the join, product rows transferred once
+ */
+@DataJpaTest
+// Not in @DataJpaTest(properties), which would also override the nested class's @TestPropertySource
+@TestPropertySource(properties = "app.catalog.reviews.fetch-strategy=in-list")
+@Import(ReviewFetchStrategyTest.RecorderConfiguration.class)
+class ReviewFetchStrategyTest {
+
+    @TestConfiguration
+    static class RecorderConfiguration {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_WithReviewsPlan_ShouldLoadReviewsByIdListInSecondQuery() {
+        // When
+        List<ProductView> views = productRepository.findAll(FetchPlan.withReviews());
+
+        // Then
+        assertThat(views).hasSize(30);
+        assertThat(views.get(0).reviews()).extracting(Review::getId).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(views).allSatisfy(view -> assertThat(view.reviews())
+            .allMatch(review -> review.getProduct().getId().equals(view.id())));
+        assertThat(views.stream().mapToInt(view -> view.reviews().size()).sum()).isEqualTo(30);
+        assertThat(views.get(29).reviews()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findAllWithReviews_ShouldInitializeCollectionsInBatches() {
+        // When
+        List<StatementRecorder.RecordedStatement> statements = statementRecorder.record(() -> {
+            List<Product> products = productRepository.findAllWithReviews();
+
+            // Then - 30 products fit in one @BatchSize batch
+            assertThat(products).hasSize(30);
+            assertThat(products).allMatch(this::reviewsLoaded);
+            assertThat(products.get(0).getReviews()).hasSize(5);
+        });
+
+        // Then
+        assertThat(statements).hasSize(2);
+        assertThat(sql(statements.get(1))).contains("in (?").doesNotContain("in (select");
+    }
+
+    @Test
+    void findAllWithReviews_PastOneBatch_ShouldIssueOneReviewQueryPer50Products() {
+        // Given - 61 products: 2 @BatchSize batches
+        for (int i = 0; i < 31; i++) {
+            entityManager.persist(new Product("Batch " + i, "Description", new BigDecimal("9.99"), "Batches"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<StatementRecorder.RecordedStatement> statements = statementRecorder.record(() -> {
+            List<Product> products = productRepository.findAllWithReviews();
+            assertThat(products).hasSize(61).allMatch(this::reviewsLoaded);
+        });
+
+        // Then - 1 + ceil(61 / 50)
+        assertThat(statements).hasSize(3);
+        assertThat(statements.subList(1, 3)).allSatisfy(statement -> assertThat(sql(statement)).contains("in (?"));
+    }
+
+    @Test
+    void fromProperty_ShouldAcceptDashesAndRejectUnknownStrategies() {
+        // When / Then
+        assertThat(ReviewFetchStrategy.fromProperty(" In-List ")).isEqualTo(ReviewFetchStrategy.IN_LIST);
+        assertThat(ReviewFetchStrategy.fromProperty("subselect")).isEqualTo(ReviewFetchStrategy.SUBSELECT);
+        assertThatThrownBy(() -> ReviewFetchStrategy.fromProperty("batch"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.catalog.reviews.fetch-strategy=subselect")
+    class Subselect {
+
+        // Own fields: the enclosing instance is injected from the in-list context
+        @Autowired
+        private JpaProductRepository productRepository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private StatementRecorder statementRecorder;
+
+        private Statistics statistics;
+
+        @BeforeEach
+        void setUp() {
+            statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+        }
+
+        @Test
+        void findByCategory_WithReviewsPlan_ShouldLoadOnlyTheCategoryReviewsInSecondQuery() {
+            // When
+            List<ProductView> views = productRepository.findByCategory("Sports", FetchPlan.withReviews());
+
+            // Then
+            assertThat(views).hasSize(6).allMatch(view -> "Sports".equals(view.category()));
+            assertThat(views).allSatisfy(view -> assertThat(view.reviews())
+                .allMatch(review -> review.getProduct().getId().equals(view.id())));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        void findByCategoryWithReviews_ShouldInitializeEveryCollectionWithOneSubselect() {
+            // When
+            List<StatementRecorder.RecordedStatement> statements = statementRecorder.record(() -> {
+                List<Product> products = productRepository.findByCategoryWithReviews("Electronics");
+
+                // Then
+                assertThat(products).hasSize(14).allMatch(product -> "Electronics".equals(product.getCategory()));
+                assertThat(products).allMatch(this::reviewsLoaded);
+                assertThat(products.get(0).getReviews()).hasSize(5)
+                    .allMatch(review -> review.getProduct() == products.get(0));
+            });
+
+            // Then - the reviews query repeats the product filter instead of binding the IDs
+            assertThat(statements).hasSize(2);
+            assertThat(sql(statements.get(1))).contains("in (select").contains("category=?");
+        }
+
+        private boolean reviewsLoaded(Product product) {
+            return entityManagerFactory.getPersistenceUnitUtil().isLoaded(product, "reviews");
+        }
+    }
+
+    private boolean reviewsLoaded(Product product) {
+        return entityManagerFactory.getPersistenceUnitUtil().isLoaded(product, "reviews");
+    }
+
+    private static String sql(StatementRecorder.RecordedStatement statement) {
+        return statement.sql().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
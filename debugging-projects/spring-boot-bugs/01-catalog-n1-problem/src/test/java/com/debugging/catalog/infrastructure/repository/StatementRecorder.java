@@ -0,0 +1,131 @@
+package com.debugging.catalog.infrastructure.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the prepared statements issued through the application DataSource,
+ * with their parameter bindings, so they can be replayed (e.g. as EXPLAIN)
+ * exactly as Hibernate sent them
+ */
+class StatementRecorder implements BeanPostProcessor {
+
+    /**
+     * One executed statement: its SQL and the set* calls that bound its parameters
+     */
+    record RecordedStatement(String sql, List<Binding> bindings) {
+
+        /**
+         * Prepare another statement (same placeholders) and bind the same values
+         */
+        PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Binding binding : bindings) {
+                invoke(statement, binding.setter(), binding.args());
+            }
+            return statement;
+        }
+    }
+
+    record Binding(Method setter, Object[] args) {}
+
+    private final List<RecordedStatement> statements = new ArrayList<>();
+    private volatile boolean recording;
+
+    /**
+     * Run a call and return the statements it executed, in order
+     */
+    synchronized List<RecordedStatement> record(Runnable call) {
+        statements.clear();
+        recording = true;
+        try {
+            call.run();
+        } finally {
+            recording = false;
+        }
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)) {
+            return new RecordingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private class RecordingDataSource extends DelegatingDataSource {
+
+        RecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                        return Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+                            new Class<?>[] {PreparedStatement.class}, new StatementHandler(statement, (String) args[0]));
+                    }
+                    return result;
+                });
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final PreparedStatement statement;
+        private final String sql;
+        private final List<Binding> bindings = new ArrayList<>();
+
+        StatementHandler(PreparedStatement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.startsWith("execute") && (args == null || args.length == 0) && recording) {
+                synchronized (statements) {
+                    statements.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                }
+            }
+            return StatementRecorder.invoke(statement, method, args);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getTargetException() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (e.getTargetException() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getTargetException());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
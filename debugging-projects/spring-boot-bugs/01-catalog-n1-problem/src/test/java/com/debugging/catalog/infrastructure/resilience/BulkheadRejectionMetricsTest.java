@@ -0,0 +1,70 @@
+package com.debugging.catalog.infrastructure.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for BulkheadRejectionMetrics
+ * Calls shed by a full bulkhead are counted per bulkhead
+ */
+class BulkheadRejectionMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    }
+
+    @Test
+    void rejectedCall_ShouldBeCountedForItsBulkhead() {
+        // Given
+        Bulkhead comparison = bulkheadRegistry.bulkhead("performance-comparison");
+        new BulkheadRejectionMetrics(bulkheadRegistry, meterRegistry);
+        comparison.acquirePermission();
+
+        // When
+        assertThatThrownBy(() -> comparison.executeSupplier(() -> "comparison"))
+            .isInstanceOf(BulkheadFullException.class);
+
+        // Then
+        assertThat(rejected("performance-comparison")).isEqualTo(1.0);
+        comparison.onComplete();
+        assertThat(comparison.executeSupplier(() -> "comparison")).isEqualTo("comparison");
+        assertThat(rejected("performance-comparison")).isEqualTo(1.0);
+    }
+
+    @Test
+    void bulkheadCreatedLater_ShouldAlsoBeCounted() {
+        // Given
+        new BulkheadRejectionMetrics(bulkheadRegistry, meterRegistry);
+        Bulkhead n1Bug = bulkheadRegistry.bulkhead("n1-bug");
+        n1Bug.acquirePermission();
+
+        // When
+        boolean admitted = n1Bug.tryAcquirePermission();
+
+        // Then
+        assertThat(admitted).isFalse();
+        assertThat(rejected("n1-bug")).isEqualTo(1.0);
+    }
+
+    private double rejected(String bulkhead) {
+        return meterRegistry.counter(BulkheadRejectionMetrics.REJECTED_METRIC, "bulkhead", bulkhead).count();
+    }
+}
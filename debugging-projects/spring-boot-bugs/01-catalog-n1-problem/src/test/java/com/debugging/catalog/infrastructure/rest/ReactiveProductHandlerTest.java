@@ -0,0 +1,99 @@
+package com.debugging.catalog.infrastructure.rest;
+
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for ReactiveProductHandler
+ * The reactive servlet must stream NDJSON and answer errors like the MVC endpoints
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "app.catalog.outbox.relay-interval-ms=600000",
+    "app.catalog.price-index.reconcile-interval-ms=600000",
+    "app.catalog.statistics.reconcile-interval-ms=600000"
+})
+class ReactiveProductHandlerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void streamByCategory_ShouldWriteOneProductWithReviewsPerLine() throws Exception {
+        // When
+        HttpResponse<Stream<String>> response = client.send(get("/reactive/products/category/Sports"),
+            HttpResponse.BodyHandlers.ofLines());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/x-ndjson");
+        List<JsonNode> products = response.body().map(this::json).toList();
+        assertThat(products).hasSize(productRepository.findByCategory("Sports").size())
+            .allMatch(product -> product.get("category").asText().equals("Sports"))
+            .anyMatch(product -> product.path("reviews").size() > 0);
+    }
+
+    @Test
+    void getProduct_ShouldReturnTheProductOrNotFound() throws Exception {
+        // When
+        HttpResponse<String> found = client.send(get("/reactive/products/1"), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> missing = client.send(get("/reactive/products/999999"), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertThat(found.statusCode()).isEqualTo(200);
+        assertThat(json(found.body()).get("id").asLong()).isEqualTo(1L);
+        assertThat(missing.statusCode()).isEqualTo(404);
+        assertThat(json(missing.body()).get("status").asInt()).isEqualTo(404);
+    }
+
+    @Test
+    void handle_ShouldRejectWritesAndUnknownRoutes() throws Exception {
+        // When
+        HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri("/reactive/products"))
+            .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> unknown = client.send(get("/reactive/orders"), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> invalidId = client.send(get("/reactive/products/abc"), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertThat(post.statusCode()).isEqualTo(405);
+        assertThat(unknown.statusCode()).isEqualTo(404);
+        assertThat(invalidId.statusCode()).isEqualTo(400);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/v1" + path);
+    }
+
+    private JsonNode json(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
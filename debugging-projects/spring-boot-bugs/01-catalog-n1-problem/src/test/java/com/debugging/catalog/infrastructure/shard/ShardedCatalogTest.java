@@ -0,0 +1,175 @@
+package com.debugging.catalog.infrastructure.shard;
+
+import com.debugging.catalog.application.dto.AddReviewRequest;
+import com.debugging.catalog.application.usecase.AddReviewUseCase;
+import com.debugging.catalog.domain.model.CategoryCount;
+import com.debugging.catalog.domain.model.OutboxEvent;
+import com.debugging.catalog.domain.model.Product;
+import com.debugging.catalog.domain.model.ProductStatistics;
+import com.debugging.catalog.domain.model.ProductView;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.OutboxEventRepository;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests of the catalog sharded by category over three H2 databases
+ * Home and Books on the home shard, Electronics on shard 1, Sports on shard 2;
+ * reads merge the shards as if the catalog were one table
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "app.catalog.sharding.enabled=true",
+    "app.catalog.sharding.urls=jdbc:h2:mem:catalog-shard-1,jdbc:h2:mem:catalog-shard-2",
+    "app.catalog.sharding.rebalance-interval-ms=600000",
+    "spring.datasource.url=jdbc:h2:mem:catalog-shard-home",
+    "app.catalog.reviews.archive.enabled=false",
+    "app.catalog.warmup.enabled=false",
+    "app.catalog.outbox.relay-interval-ms=600000",
+    "app.catalog.price-index.reconcile-interval-ms=600000",
+    "app.catalog.statistics.reconcile-interval-ms=600000"
+})
+class ShardedCatalogTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private AddReviewUseCase addReviewUseCase;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ShardRoutingDataSource shards;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        shards = dataSource.unwrap(ShardRoutingDataSource.class);
+    }
+
+    @Test
+    void startup_ShouldMoveEveryCategoryToItsShard() {
+        // Then
+        assertThat(categories(0)).containsExactly("Books", "Home");
+        assertThat(categories(1)).containsExactly("Electronics");
+        assertThat(categories(2)).containsExactly("Sports");
+        assertThat(jdbc(1).queryForObject(
+            "SELECT COUNT(*) FROM reviews r JOIN products p ON p.id = r.product_id", Long.class))
+            .isEqualTo(jdbc(1).queryForObject("SELECT COUNT(*) FROM reviews", Long.class))
+            .isPositive();
+    }
+
+    @Test
+    void findAll_ShouldMergeShardsInIdOrder() {
+        // When
+        List<ProductView> products = productRepository.findAll(FetchPlan.productOnly());
+
+        // Then
+        assertThat(products).hasSize(30);
+        assertThat(products).extracting(ProductView::id).isSorted();
+        assertThat(productRepository.count()).isEqualTo(30);
+    }
+
+    @Test
+    void findByCategory_ShouldReadOnlyTheOwningShard() {
+        // When
+        List<Product> sports = productRepository.findByCategory("Sports");
+
+        // Then
+        assertThat(sports).hasSize(6).allMatch(product -> product.getCategory().equals("Sports"));
+    }
+
+    @Test
+    void findByPriceRange_ShouldPageOverTheMergedPriceOrder() {
+        // Given
+        PriceRangeQuery firstPage = new PriceRangeQuery(null, BigDecimal.ZERO, new BigDecimal("5000"), true, 0, 7);
+        PriceRangeQuery secondPage = new PriceRangeQuery(null, BigDecimal.ZERO, new BigDecimal("5000"), true, 1, 7);
+
+        // When
+        List<ProductView> first = productRepository.findByPriceRange(firstPage);
+        List<ProductView> second = productRepository.findByPriceRange(secondPage);
+
+        // Then
+        List<ProductView> expected = productRepository.findAll(FetchPlan.productOnly()).stream()
+            .filter(product -> product.price().compareTo(new BigDecimal("5000")) <= 0)
+            .sorted(Comparator.comparing(ProductView::price).thenComparing(ProductView::id).reversed())
+            .toList();
+        assertThat(first).extracting(ProductView::id)
+            .containsExactlyElementsOf(expected.subList(0, 7).stream().map(ProductView::id).toList());
+        assertThat(second).extracting(ProductView::id)
+            .containsExactlyElementsOf(expected.subList(7, 14).stream().map(ProductView::id).toList());
+        assertThat(productRepository.countByPriceRange(firstPage)).isEqualTo(expected.size());
+    }
+
+    @Test
+    void statistics_ShouldAddUpEveryShard() {
+        // When
+        ProductStatistics statistics = productRepository.getProductStatistics();
+        List<Long> topRated = reviewRepository.findTopRatedProductIds(5);
+
+        // Then
+        assertThat(statistics.totalProducts()).isEqualTo(30);
+        assertThat(statistics.totalCategories()).isEqualTo(4);
+        assertThat(productRepository.countProductsGroupedByCategory())
+            .extracting(CategoryCount::count)
+            .containsExactlyInAnyOrder(14L, 6L, 5L, 5L);
+        assertThat(reviewRepository.getReviewStatistics().totalReviews()).isEqualTo(reviewRepository.count());
+        assertThat(topRated).isNotEmpty();
+        assertThat(topRated).extracting(reviewRepository::getAverageRatingByProductId)
+            .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void addReview_ShouldWriteOnTheProductShardAndTheOutboxOnHome() {
+        // Given
+        long reviewsBefore = reviewRepository.countByProductId(1L);
+
+        // When
+        addReviewUseCase.execute(1L, new AddReviewRequest("shard_user", 4, "Sharded review"));
+
+        // Then
+        assertThat(reviewRepository.countByProductId(1L)).isEqualTo(reviewsBefore + 1);
+        assertThat(jdbc(1).queryForObject(
+            "SELECT COUNT(*) FROM reviews WHERE user_name = 'shard_user'", Long.class)).isEqualTo(1);
+        assertThat(jdbc(0).queryForObject(
+            "SELECT COUNT(*) FROM reviews WHERE user_name = 'shard_user'", Long.class)).isZero();
+        List<OutboxEvent> pending = new TransactionTemplate(transactionManager)
+            .execute(status -> outboxEventRepository.findPending(100));
+        assertThat(pending).anySatisfy(event -> {
+            assertThat(event.getProductId()).isEqualTo(1L);
+            assertThat(event.getEventType()).isEqualTo("ReviewAdded");
+        });
+    }
+
+    private List<String> categories(int shard) {
+        return jdbc(shard).queryForList("SELECT DISTINCT category FROM products ORDER BY category", String.class);
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        return new JdbcTemplate(shards.shard(shard));
+    }
+}
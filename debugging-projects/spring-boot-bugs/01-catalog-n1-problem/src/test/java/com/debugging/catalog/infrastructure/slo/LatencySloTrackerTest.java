@@ -0,0 +1,122 @@
+package com.debugging.catalog.infrastructure.slo;
+
+import com.debugging.catalog.application.dto.LatencySloReportDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for LatencySloTracker
+ * Percentiles, compliance and burn rate per route over the short and the long window
+ */
+class LatencySloTrackerTest {
+
+    private static final String ROUTE = "GET /products/category/{category}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void report_ShouldEstimatePercentilesWithinOneBucket() {
+        // Given
+        LatencySloTracker tracker = tracker(14.4);
+        for (int ms = 1; ms <= 100; ms++) {
+            tracker.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(ms), false);
+        }
+
+        // When
+        LatencySloReportDTO.Window window = tracker.report().getRoutes().get(0).getWindows().get(0);
+
+        // Then
+        assertThat(window.getRequests()).isEqualTo(100);
+        assertThat(window.getP50Ms()).isCloseTo(50, within(10.0));
+        assertThat(window.getP95Ms()).isCloseTo(95, within(19.0));
+        assertThat(window.getP99Ms()).isCloseTo(99, within(19.0));
+        assertThat(window.getCompliance()).isEqualTo(1.0);
+        assertThat(window.getBurnRate()).isZero();
+    }
+
+    @Test
+    void report_ShouldCountSlowRequestsAndServerErrorsAgainstTheErrorBudget() {
+        // Given - 1% budget: 2 slow and 1 fast server error out of 100
+        LatencySloTracker tracker = tracker(14.4);
+        for (int i = 0; i < 97; i++) {
+            tracker.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(20), false);
+        }
+        tracker.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(600), false);
+        tracker.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(600), true);
+        tracker.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(5), true);
+
+        // When
+        LatencySloReportDTO.Window window = tracker.report().getRoutes().get(0).getWindows().get(0);
+
+        // Then
+        assertThat(window.getCompliance()).isCloseTo(0.97, within(1e-9));
+        assertThat(window.getBurnRate()).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    void report_ShouldOnlyCountRecentRequestsInTheShortWindow() {
+        // Given - an incident of slow requests, then 6 minutes of fast ones
+        LatencySloTracker tracker = tracker(10);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            tracker.record(ROUTE, TimeUnit.SECONDS.toNanos(2), false);
+        }
+        tracker.sample(now);
+        for (int i = 0; i < 100; i++) {
+            tracker.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+
+        // When
+        LatencySloReportDTO.Route route = tracker.report(now + TimeUnit.MINUTES.toMillis(6)).getRoutes().get(0);
+
+        // Then
+        assertThat(route.getRequests()).isEqualTo(200);
+        LatencySloReportDTO.Window shortWindow = route.getWindows().get(0);
+        LatencySloReportDTO.Window longWindow = route.getWindows().get(1);
+        assertThat(shortWindow.getRequests()).isEqualTo(100);
+        assertThat(shortWindow.getBurnRate()).isZero();
+        assertThat(longWindow.getRequests()).isEqualTo(200);
+        assertThat(longWindow.getCompliance()).isEqualTo(0.5);
+        assertThat(longWindow.getBurnRate()).isCloseTo(50, within(1e-9));
+        assertThat(route.isBreaching()).isFalse();
+    }
+
+    @Test
+    void sample_ShouldPublishBurnRateGaugesAndFlagBreachingRoutes() {
+        // Given
+        LatencySloTracker tracker = tracker(10);
+        tracker.record("GET /products/optimized", TimeUnit.MILLISECONDS.toNanos(10), false);
+        for (int i = 0; i < 10; i++) {
+            tracker.record(ROUTE, TimeUnit.SECONDS.toNanos(1), false);
+        }
+
+        // When
+        tracker.sample(System.currentTimeMillis());
+        LatencySloReportDTO report = tracker.report();
+
+        // Then
+        assertThat(meterRegistry.get(LatencySloTracker.BURN_RATE_METRIC)
+            .tags("route", ROUTE, "window", "short").gauge().value()).isCloseTo(100, within(1e-9));
+        assertThat(report.getRoutes()).extracting(LatencySloReportDTO.Route::getRoute)
+            .containsExactly(ROUTE, "GET /products/optimized");
+        assertThat(report.getRoutes().get(0).isBreaching()).isTrue();
+        assertThat(report.getRoutes().get(1).isBreaching()).isFalse();
+    }
+
+    @Test
+    void constructor_WithInvalidObjective_ShouldThrowIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> new LatencySloTracker(meterRegistry, 500, 1.0, 5, 60, 14.4))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LatencySloTracker tracker(double alertBurnRate) {
+        return new LatencySloTracker(meterRegistry, 500, 0.99, 5, 60, alertBurnRate);
+    }
+}
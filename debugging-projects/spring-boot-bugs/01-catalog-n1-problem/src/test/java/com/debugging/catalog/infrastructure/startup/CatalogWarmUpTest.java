@@ -0,0 +1,145 @@
+package com.debugging.catalog.infrastructure.startup;
+
+import com.debugging.catalog.application.dto.ProductBatchDTO;
+import com.debugging.catalog.application.service.PriceIndex;
+import com.debugging.catalog.application.usecase.GetProductsBatchUseCase;
+import com.debugging.catalog.application.usecase.ListProductsUseCase;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.ReviewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogWarmUp
+ * Readiness stays down until every step ran, or until the time budget is spent
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogWarmUpTest {
+
+    @Mock
+    private ListProductsUseCase listProductsUseCase;
+
+    @Mock
+    private GetProductsBatchUseCase getProductsBatchUseCase;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private PriceIndex priceIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void health_BeforeWarmUp_ShouldBeOutOfService() {
+        // Given
+        CatalogWarmUp warmUp = warmUp(30000, 2);
+
+        // When
+        Health health = warmUp.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(warmUp.progress()).isZero();
+    }
+
+    @Test
+    void run_ShouldRepeatEveryStepAndPrimeTheTopRatedProducts() {
+        // Given
+        when(reviewRepository.findTopRatedProductIds(100)).thenReturn(List.of(7L, 3L));
+        when(getProductsBatchUseCase.execute(List.of(7L, 3L), false)).thenReturn(new ProductBatchDTO(List.of(), 0));
+        when(getProductsBatchUseCase.execute(List.of(7L, 3L), true)).thenReturn(new ProductBatchDTO(List.of(), 0));
+        when(priceIndex.isReady()).thenReturn(false, true);
+        CatalogWarmUp warmUp = warmUp(30000, 2);
+
+        // When
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(listProductsUseCase, times(2)).execute(FetchPlan.productOnly());
+        verify(listProductsUseCase, times(2)).executeByCategory("Electronics", FetchPlan.withReviews());
+        verify(listProductsUseCase, times(2)).executeByCategory("Books", FetchPlan.productOnly());
+        verify(getProductsBatchUseCase, times(2)).execute(List.of(7L, 3L), true);
+        Health health = warmUp.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("finishedSteps", 5).containsEntry("budgetExceeded", false);
+        assertThat(warmUp.progress()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("catalog.warmup.steps").tag("result", "completed").counters()).hasSize(5);
+    }
+
+    @Test
+    void run_WhenAStepFails_ShouldContinueWithTheNextOne() {
+        // Given
+        when(listProductsUseCase.execute(any(FetchPlan.class))).thenThrow(new IllegalStateException("cold database"));
+        when(priceIndex.isReady()).thenReturn(true);
+        CatalogWarmUp warmUp = warmUp(30000, 1);
+
+        // When
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(listProductsUseCase).executeByCategory("Books", FetchPlan.productOnly());
+        assertThat(meterRegistry.get("catalog.warmup.steps").tags("step", "listing", "result", "failed")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void run_WhenTheBudgetIsExhausted_ShouldCancelTheStepAndSkipTheRest() {
+        // Given
+        when(listProductsUseCase.execute(any(FetchPlan.class))).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return List.of();
+        });
+        CatalogWarmUp warmUp = warmUp(100, 1);
+
+        // When
+        long start = System.nanoTime();
+        warmUp.run(new DefaultApplicationArguments());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(elapsedMs).isLessThan(2000);
+        verifyNoInteractions(getProductsBatchUseCase, reviewRepository, priceIndex);
+        assertThat(meterRegistry.get("catalog.warmup.steps").tags("step", "listing", "result", "timed-out")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("catalog.warmup.steps").tag("result", "skipped").counters()).hasSize(4);
+        Health health = warmUp.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("budgetExceeded", true);
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldReportUpWithoutWarmingUp() {
+        // Given
+        CatalogWarmUp warmUp = new CatalogWarmUp(listProductsUseCase, getProductsBatchUseCase, reviewRepository,
+            priceIndex, new ObjectMapper(), meterRegistry, false, 30000, List.of("Books"), 100, 1);
+
+        // When
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(listProductsUseCase, getProductsBatchUseCase, reviewRepository, priceIndex);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmUp.progress()).isEqualTo(1.0);
+    }
+
+    private CatalogWarmUp warmUp(long budgetMs, int iterations) {
+        return new CatalogWarmUp(listProductsUseCase, getProductsBatchUseCase, reviewRepository, priceIndex,
+            new ObjectMapper(), meterRegistry, true, budgetMs, List.of("Electronics", " Books ", ""), 100,
+            iterations);
+    }
+}
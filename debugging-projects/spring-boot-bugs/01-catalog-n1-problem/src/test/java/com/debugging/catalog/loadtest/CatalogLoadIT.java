@@ -0,0 +1,133 @@
+package com.debugging.catalog.loadtest;
+
+import com.debugging.catalog.application.service.CatalogStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Catalog load test
+ * 
+ * Starts the application on a random port, generates a dataset and drives
+ * each scenario at a fixed open-loop arrival rate. Fails when p99 latency or
+ * SQL statements per request regress past loadtest/baseline.properties.
+ * 
+ * Run with: ./mvnw verify -Pload-test [-Dloadtest.products=1000 -Dloadtest.rate.optimized=10 ...]
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    // Measure the application, not console SQL logging
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "logging.level.com.debugging.catalog=INFO",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    // Statements are counted globally: keep the periodic jobs (first run at startup) out of the measurement
+    "app.catalog.outbox.relay-interval-ms=600000",
+    "app.catalog.statistics.reconcile-interval-ms=600000",
+    "app.catalog.price-index.reconcile-interval-ms=600000"
+})
+@EnabledIfSystemProperty(named = "loadtest.catalog.enabled", matches = "true")
+class CatalogLoadIT {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CatalogLoadIT.class);
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private CatalogStatisticsService statisticsService;
+    
+    @Test
+    void catalogEndpoints_ShouldStayWithinBaselines() throws Exception {
+        // Given
+        int products = Integer.getInteger("loadtest.products", 500);
+        int reviewsPerProduct = Integer.getInteger("loadtest.reviews-per-product", 20);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 15));
+        List<Long> productIds = LoadTestDataset.generate(jdbcTemplate, products, reviewsPerProduct, 42L);
+        statisticsService.reconcile();
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LoadTestBaseline baseline = LoadTestBaseline.load();
+        List<String> violations = new ArrayList<>();
+        
+        // When
+        try (OpenLoopDriver driver = new OpenLoopDriver(statistics::getPrepareStatementCount)) {
+            Supplier<HttpRequest> optimized = () -> get("/products/optimized");
+            Supplier<HttpRequest> category = () -> get("/products/category/" + randomCategory() + "?fetch=reviews");
+            Supplier<HttpRequest> reviewWrite = () ->
+                postReview(productIds.get(ThreadLocalRandom.current().nextInt(productIds.size())));
+            
+            // Warm-up so JIT compilation and pool growth do not count against the measured runs
+            for (Supplier<HttpRequest> scenario : List.of(optimized, category, reviewWrite)) {
+                driver.run("warmup", 10, Duration.ofSeconds(3), scenario);
+            }
+            
+            List<OpenLoopDriver.Result> results = List.of(
+                driver.run("optimized", rate("optimized", 5), duration, optimized),
+                driver.run("category", rate("category", 20), duration, category),
+                driver.run("review-writes", rate("review-writes", 20), duration, reviewWrite)
+            );
+            
+            for (OpenLoopDriver.Result result : results) {
+                logger.info("Load test {}", result);
+                violations.addAll(baseline.check(result));
+            }
+        }
+        baseline.writeLastRun(Path.of("target", "loadtest"));
+        
+        // Then
+        assertThat(violations).as("Regressions against loadtest/baseline.properties").isEmpty();
+    }
+    
+    private static double rate(String scenario, double defaultRate) {
+        return Double.parseDouble(System.getProperty("loadtest.rate." + scenario, String.valueOf(defaultRate)));
+    }
+    
+    private static String randomCategory() {
+        return LoadTestDataset.CATEGORIES.get(ThreadLocalRandom.current().nextInt(LoadTestDataset.CATEGORIES.size()));
+    }
+    
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+    
+    private HttpRequest postReview(Long productId) {
+        String body = "{\"userName\":\"load-user-" + ThreadLocalRandom.current().nextInt(10_000) + "\","
+            + "\"rating\":" + (1 + ThreadLocalRandom.current().nextInt(5)) + ","
+            + "\"comment\":\"Load test review\"}";
+        return HttpRequest.newBuilder(uri("/products/" + productId + "/reviews"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+    
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/v1" + path);
+    }
+}
@@ -0,0 +1,82 @@
+package com.debugging.catalog.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Stored load-test baselines (src/test/resources/loadtest/baseline.properties)
+ * 
+ * Per scenario: {scenario}.p99-ms and {scenario}.queries-per-request.
+ * A run regresses when it exceeds a baseline by more than the configured tolerance.
+ * Each run writes its own numbers to target/loadtest/last-run.properties so a
+ * deliberate change can be accepted by copying them over the baseline.
+ */
+final class LoadTestBaseline {
+    
+    private static final String RESOURCE = "/loadtest/baseline.properties";
+    
+    private final Properties baseline = new Properties();
+    private final Properties lastRun = new Properties();
+    
+    private LoadTestBaseline() {}
+    
+    static LoadTestBaseline load() {
+        LoadTestBaseline loaded = new LoadTestBaseline();
+        try (InputStream in = LoadTestBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing load-test baseline " + RESOURCE);
+            }
+            loaded.baseline.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read load-test baseline", e);
+        }
+        return loaded;
+    }
+    
+    /**
+     * @return Regression messages, empty when the result is within the baselines
+     */
+    List<String> check(OpenLoopDriver.Result result) {
+        String scenario = result.scenario();
+        double p99 = result.percentileMillis(99);
+        lastRun.setProperty(scenario + ".p99-ms", String.format("%.1f", p99));
+        lastRun.setProperty(scenario + ".queries-per-request", String.format("%.2f", result.queriesPerRequest()));
+        
+        List<String> violations = new ArrayList<>();
+        if (result.errors() > 0) {
+            violations.add(scenario + ": " + result.errors() + " failed requests");
+        }
+        checkLimit(violations, scenario, "p99-ms", p99, tolerance("tolerance.latency"));
+        checkLimit(violations, scenario, "queries-per-request", result.queriesPerRequest(), tolerance("tolerance.queries"));
+        return violations;
+    }
+    
+    void writeLastRun(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (OutputStream out = Files.newOutputStream(directory.resolve("last-run.properties"))) {
+            lastRun.store(out, "Catalog load test results");
+        }
+    }
+    
+    private void checkLimit(List<String> violations, String scenario, String metric, double actual, double tolerance) {
+        String value = baseline.getProperty(scenario + "." + metric);
+        if (value == null) {
+            return;
+        }
+        double limit = Double.parseDouble(value) * (1 + tolerance);
+        if (actual > limit) {
+            violations.add(String.format("%s: %s regressed to %.2f (baseline %s, limit %.2f)",
+                scenario, metric, actual, value, limit));
+        }
+    }
+    
+    private double tolerance(String key) {
+        return Double.parseDouble(baseline.getProperty(key, "0"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.debugging.catalog.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a deterministic catalog on top of data.sql for load tests
+ * Rows are inserted with JDBC batches; rating histograms are recomputed afterwards
+ */
+final class LoadTestDataset {
+    
+    static final List<String> CATEGORIES = List.of("Electronics", "Sports", "Books", "Home", "Toys", "Garden");
+    
+    private static final String[] COMMENTS = {
+        "Excellent quality, would buy again.",
+        "Good value for the price.",
+        "Average, does the job.",
+        "Arrived late and scratched.",
+        "Terrible, stopped working after a week."
+    };
+    
+    private static final int BATCH_ROWS = 10_000;
+    
+    private LoadTestDataset() {}
+    
+    /**
+     * Insert products without reviews, in chunks so large catalogs never sit in memory twice
+     * Prices go from 1.00 to 5000.99 and categories rotate over CATEGORIES
+     */
+    static void generateProducts(JdbcTemplate jdbc, int products, long seed) {
+        Random random = new Random(seed);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        
+        for (int start = 0; start < products; start += BATCH_ROWS) {
+            List<Object[]> rows = new ArrayList<>(BATCH_ROWS);
+            for (int i = start; i < Math.min(products, start + BATCH_ROWS); i++) {
+                rows.add(new Object[] {
+                    "Load Product " + i,
+                    "Generated product " + i,
+                    BigDecimal.valueOf(100 + random.nextInt(500_000), 2),
+                    CATEGORIES.get(i % CATEGORIES.size()),
+                    now,
+                    now
+                });
+            }
+            jdbc.batchUpdate("""
+                INSERT INTO products (name, description, price, category, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+        }
+    }
+    
+    /**
+     * Insert products with their reviews
+     * @return IDs of the generated products
+     */
+    static List<Long> generate(JdbcTemplate jdbc, int products, int reviewsPerProduct, long seed) {
+        Random random = new Random(seed);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        
+        List<Object[]> productRows = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            productRows.add(new Object[] {
+                "Load Product " + i,
+                "Generated product " + i,
+                BigDecimal.valueOf(100 + random.nextInt(500_000), 2),
+                CATEGORIES.get(i % CATEGORIES.size()),
+                now,
+                now
+            });
+        }
+        jdbc.batchUpdate("""
+            INSERT INTO products (name, description, price, category, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, productRows);
+        
+        List<Long> productIds = jdbc.queryForList(
+            "SELECT id FROM products WHERE name LIKE 'Load Product %' ORDER BY id", Long.class);
+        
+        List<Object[]> reviewRows = new ArrayList<>(productIds.size() * reviewsPerProduct);
+        for (Long productId : productIds) {
+            for (int r = 0; r < reviewsPerProduct; r++) {
+                int rating = 1 + random.nextInt(5);
+                reviewRows.add(new Object[] {
+                    productId,
+                    "user-" + random.nextInt(products * 10),
+                    rating,
+                    COMMENTS[5 - rating],
+                    Timestamp.valueOf(now.toLocalDateTime().minusMinutes(random.nextInt(100_000)))
+                });
+            }
+        }
+        jdbc.batchUpdate("""
+            INSERT INTO reviews (product_id, user_name, rating, comment, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """, reviewRows);
+        
+        jdbc.update("""
+            UPDATE products p SET
+                rating_1_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 1),
+                rating_2_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 2),
+                rating_3_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 3),
+                rating_4_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 4),
+                rating_5_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = p.id AND r.rating = 5)
+            """);
+        
+        return productIds;
+    }
+}
@@ -0,0 +1,120 @@
+package com.debugging.catalog.loadtest;
+
+import com.debugging.catalog.CatalogApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Logging overhead benchmark
+ *
+ * Starts the application twice, with the default (demo) logging and with the
+ * prod profile, and measures closed-loop throughput on /products/optimized.
+ * Results are written to target/loadtest/logging-overhead.properties.
+ *
+ * Run with: ./mvnw verify -Pload-test -Dloadtest.logging.enabled=true [-Dloadtest.logging.threads=4 -Dloadtest.logging.duration-seconds=15]
+ */
+@EnabledIfSystemProperty(named = "loadtest.logging.enabled", matches = "true")
+class LoggingOverheadIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOverheadIT.class);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void prodLoggingProfile_ShouldServeMoreRequestsThanDemoLogging() throws Exception {
+        // Given
+        int threads = Integer.getInteger("loadtest.logging.threads", 4);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.logging.duration-seconds", 15));
+
+        // When
+        double demo = measure(null, threads, duration);
+        double prod = measure("prod", threads, duration);
+
+        Properties results = new Properties();
+        results.setProperty("demo.requests-per-second", String.format("%.1f", demo));
+        results.setProperty("prod.requests-per-second", String.format("%.1f", prod));
+        results.setProperty("speedup", String.format("%.2f", prod / demo));
+        Path output = Path.of("target", "loadtest");
+        Files.createDirectories(output);
+        try (Writer writer = Files.newBufferedWriter(output.resolve("logging-overhead.properties"))) {
+            results.store(writer, "Throughput on /products/optimized by logging profile");
+        }
+        logger.info("Logging overhead: demo={} req/s prod={} req/s speedup={}x",
+                   results.getProperty("demo.requests-per-second"),
+                   results.getProperty("prod.requests-per-second"),
+                   results.getProperty("speedup"));
+
+        // Then
+        assertThat(prod).isGreaterThan(demo);
+    }
+
+    private double measure(String profile, int threads, Duration duration) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CatalogApplication.class)
+            .properties("server.port=0", "app.catalog.statistics.reconcile-interval-ms=600000");
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) builder.run()) {
+            LoadTestDataset.generate(context.getBean(JdbcTemplate.class), 200, 10, 42L);
+            URI uri = URI.create("http://localhost:" + context.getWebServer().getPort() + "/api/v1/products/optimized");
+
+            run(uri, threads, Duration.ofSeconds(5));
+            return run(uri, threads, duration) / (double) duration.toSeconds();
+        }
+    }
+
+    // Closed loop: every thread sends its next request as soon as the previous one completed
+    private long run(URI uri, int threads, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        AtomicLong completed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            throw new IOException("Unexpected status " + response.statusCode());
+                        }
+                        completed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return completed.get();
+    }
+}
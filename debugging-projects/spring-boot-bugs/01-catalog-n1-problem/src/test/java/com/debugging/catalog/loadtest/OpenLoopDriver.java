@@ -0,0 +1,98 @@
+package com.debugging.catalog.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop HTTP load generator
+ * 
+ * Requests are sent on a fixed schedule whatever the response times, and
+ * latency is measured from the intended send time, so a slow server is
+ * not hidden by fewer requests (no coordinated omission).
+ */
+final class OpenLoopDriver implements AutoCloseable {
+    
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(executor)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final LongSupplier queryCounter;
+    
+    /**
+     * @param queryCounter Monotonic count of SQL statements executed by the application
+     */
+    OpenLoopDriver(LongSupplier queryCounter) {
+        this.queryCounter = queryCounter;
+    }
+    
+    Result run(String scenario, double ratePerSecond, Duration duration, Supplier<HttpRequest> requests) {
+        ConcurrentHistogram latencies = new ConcurrentHistogram(3);
+        latencies.setAutoResize(true);
+        AtomicLong errors = new AtomicLong();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long total = (long) (ratePerSecond * duration.toSeconds());
+        long queriesBefore = queryCounter.getAsLong();
+        long start = System.nanoTime();
+        
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.add(httpClient.sendAsync(requests.get(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart));
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+            .exceptionally(failure -> null)
+            .join();
+        
+        double queriesPerRequest = total == 0 ? 0 : (double) (queryCounter.getAsLong() - queriesBefore) / total;
+        return new Result(scenario, latencies, total, errors.get(), queriesPerRequest);
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Outcome of one scenario, latencies in microseconds
+     */
+    record Result(String scenario, Histogram latencies, long requests, long errors, double queriesPerRequest) {
+        
+        double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s: requests=%d errors=%d p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms queries/request=%.2f",
+                scenario, requests, errors, percentileMillis(50), percentileMillis(95), percentileMillis(99),
+                latencies.getMaxValue() / 1000.0, queriesPerRequest);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.debugging.catalog.loadtest;
+
+import com.debugging.catalog.CatalogApplication;
+import com.debugging.catalog.application.dto.ProductDTO;
+import com.debugging.catalog.application.dto.ProductPageDTO;
+import com.debugging.catalog.application.service.PriceIndex;
+import com.debugging.catalog.application.usecase.SearchProductsByPriceUseCase;
+import com.debugging.catalog.domain.repository.PriceRangeQuery;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Price index benchmark
+ *
+ * Generates a large catalog (1M products by default) and runs the same random
+ * storefront queries (category + price range + sort + page) through the
+ * in-memory PriceIndex and through the SQL path. Results are written to
+ * target/loadtest/price-index.properties.
+ *
+ * Run with: ./mvnw verify -Pload-test -Dloadtest.price-index.enabled=true [-Dloadtest.price-index.products=1000000 -Dloadtest.price-index.queries=500]
+ */
+@EnabledIfSystemProperty(named = "loadtest.price-index.enabled", matches = "true")
+class PriceIndexBenchmarkIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceIndexBenchmarkIT.class);
+
+    @Test
+    void priceIndex_ShouldAnswerPriceRangeQueriesFasterThanSql() throws Exception {
+        // Given
+        int products = Integer.getInteger("loadtest.price-index.products", 1_000_000);
+        int queries = Integer.getInteger("loadtest.price-index.queries", 500);
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CatalogApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("prod")
+            .properties("app.catalog.statistics.reconcile-interval-ms=600000",
+                        "app.catalog.price-index.reconcile-interval-ms=600000");
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            long startTime = System.currentTimeMillis();
+            LoadTestDataset.generateProducts(context.getBean(JdbcTemplate.class), products, 42L);
+            long generationMs = System.currentTimeMillis() - startTime;
+
+            PriceIndex priceIndex = context.getBean(PriceIndex.class);
+            SearchProductsByPriceUseCase useCase = context.getBean(SearchProductsByPriceUseCase.class);
+            startTime = System.currentTimeMillis();
+            priceIndex.reconcile();
+            long rebuildMs = System.currentTimeMillis() - startTime;
+            assertThat(priceIndex.size()).isGreaterThanOrEqualTo(products);
+
+            List<PriceRangeQuery> workload = workload(queries, 7L);
+            for (PriceRangeQuery query : workload.subList(0, Math.min(50, queries))) {
+                // Both paths must return the same page
+                assertThat(ids(useCase.execute(query))).isEqualTo(ids(useCase.executeFromDatabase(query)));
+            }
+
+            // When
+            Histogram indexOnly = measure(workload, query -> priceIndex.find(query).orElseThrow());
+            Histogram index = measure(workload, useCase::execute);
+            Histogram database = measure(workload, useCase::executeFromDatabase);
+
+            Properties results = new Properties();
+            results.setProperty("products", String.valueOf(priceIndex.size()));
+            results.setProperty("queries", String.valueOf(queries));
+            results.setProperty("dataset.generation-ms", String.valueOf(generationMs));
+            results.setProperty("index.rebuild-ms", String.valueOf(rebuildMs));
+            record(results, "index.find", indexOnly);
+            record(results, "index", index);
+            record(results, "database", database);
+            Path output = Path.of("target", "loadtest");
+            Files.createDirectories(output);
+            try (Writer writer = Files.newBufferedWriter(output.resolve("price-index.properties"))) {
+                results.store(writer, "Price range queries: in-memory index vs SQL (latencies in microseconds)");
+            }
+            logger.info("Price index benchmark at {} products: {}", priceIndex.size(), results);
+
+            // Then
+            assertThat(index.getValueAtPercentile(50)).isLessThan(database.getValueAtPercentile(50));
+            assertThat(index.getValueAtPercentile(99)).isLessThan(database.getValueAtPercentile(99));
+        }
+    }
+
+    // Storefront mix: a third of the queries across every category, narrow and wide ranges, first pages
+    private static List<PriceRangeQuery> workload(int queries, long seed) {
+        Random random = new Random(seed);
+        List<PriceRangeQuery> workload = new ArrayList<>(queries);
+        for (int i = 0; i < queries; i++) {
+            String category = random.nextInt(3) == 0
+                ? null
+                : LoadTestDataset.CATEGORIES.get(random.nextInt(LoadTestDataset.CATEGORIES.size()));
+            int minCents = 100 + random.nextInt(450_000);
+            int widthCents = random.nextBoolean() ? 1_000 + random.nextInt(10_000) : 50_000 + random.nextInt(200_000);
+            workload.add(new PriceRangeQuery(category,
+                BigDecimal.valueOf(minCents, 2),
+                BigDecimal.valueOf(minCents + widthCents, 2),
+                random.nextBoolean(),
+                random.nextInt(5),
+                20));
+        }
+        return workload;
+    }
+
+    private static Histogram measure(List<PriceRangeQuery> workload, Function<PriceRangeQuery, ?> path) {
+        // Warm-up so both paths run JIT-compiled code
+        workload.subList(0, Math.min(100, workload.size())).forEach(path::apply);
+
+        Histogram latencies = new Histogram(TimeUnit.SECONDS.toMicros(10), 3);
+        for (PriceRangeQuery query : workload) {
+            long start = System.nanoTime();
+            path.apply(query);
+            latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+        return latencies;
+    }
+
+    private static void record(Properties results, String name, Histogram latencies) {
+        results.setProperty(name + ".p50-us", String.valueOf(latencies.getValueAtPercentile(50)));
+        results.setProperty(name + ".p99-us", String.valueOf(latencies.getValueAtPercentile(99)));
+        results.setProperty(name + ".mean-us", String.format("%.1f", latencies.getMean()));
+    }
+
+    private static List<Long> ids(ProductPageDTO page) {
+        return page.getContent().stream().map(ProductDTO::getId).toList();
+    }
+}
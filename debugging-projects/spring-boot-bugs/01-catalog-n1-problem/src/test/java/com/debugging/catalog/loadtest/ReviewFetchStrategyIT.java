@@ -0,0 +1,202 @@
+package com.debugging.catalog.loadtest;
+
+import com.debugging.catalog.CatalogApplication;
+import com.debugging.catalog.domain.repository.FetchPlan;
+import com.debugging.catalog.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Review fetch strategy benchmark
+ *
+ * Generates products with many reviews each (100 by default) and lists them
+ * with all their reviews under every ReviewFetchStrategy, as fetch-plan views
+ * (GET /products?fetch=reviews) and as entities (GET /products/optimized).
+ * Counts the JDBC rows and cells read and the heap allocated per listing;
+ * results are written to target/loadtest/review-fetch-strategy.properties.
+ *
+ * Run with: ./mvnw verify -Pload-test -Dloadtest.fetch.enabled=true [-Dloadtest.fetch.products=500 -Dloadtest.fetch.reviews-per-product=100]
+ */
+@EnabledIfSystemProperty(named = "loadtest.fetch.enabled", matches = "true")
+class ReviewFetchStrategyIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewFetchStrategyIT.class);
+
+    private static final int ITERATIONS = 5;
+
+    @Test
+    void twoQueryStrategies_ShouldTransferFewerCellsThanTheJoin() throws Exception {
+        // Given
+        int products = Integer.getInteger("loadtest.fetch.products", 500);
+        int reviewsPerProduct = Integer.getInteger("loadtest.fetch.reviews-per-product", 100);
+        Properties results = new Properties();
+        results.setProperty("products", String.valueOf(products));
+        results.setProperty("reviews-per-product", String.valueOf(reviewsPerProduct));
+
+        // When
+        for (String strategy : List.of("join", "in-list", "subselect")) {
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(CatalogApplication.class, RowCounter.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:fetch-" + strategy,
+                            "spring.jpa.show-sql=false",
+                            "logging.level.org.hibernate.SQL=INFO",
+                            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                            "logging.level.com.debugging.catalog=INFO",
+                            "app.catalog.reviews.fetch-strategy=" + strategy,
+                            "app.catalog.reviews.archive.enabled=false",
+                            "app.catalog.warmup.enabled=false");
+
+            try (ConfigurableApplicationContext context = builder.run()) {
+                LoadTestDataset.generate(context.getBean(JdbcTemplate.class), products, reviewsPerProduct, 42L);
+                ProductRepository productRepository = context.getBean(ProductRepository.class);
+                TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+                readOnly.setReadOnly(true);
+                RowCounter counter = context.getBean(RowCounter.class);
+
+                measure(results, strategy + ".views", counter, () -> readOnly.execute(status ->
+                    productRepository.findAll(FetchPlan.withReviews()).stream()
+                        .mapToLong(view -> view.reviews().size()).sum()));
+                measure(results, strategy + ".entities", counter, () -> readOnly.execute(status ->
+                    productRepository.findAllWithReviews().stream()
+                        .mapToLong(product -> product.getReviews().size()).sum()));
+            }
+        }
+
+        Path output = Path.of("target", "loadtest");
+        Files.createDirectories(output);
+        try (Writer writer = Files.newBufferedWriter(output.resolve("review-fetch-strategy.properties"))) {
+            results.store(writer, "Listings with all reviews by fetch strategy (per listing)");
+        }
+        logger.info("Review fetch strategies: {}", results);
+
+        // Then
+        for (String listing : List.of("views", "entities")) {
+            long joinCells = Long.parseLong(results.getProperty("join." + listing + ".cells"));
+            assertThat(Long.parseLong(results.getProperty("in-list." + listing + ".cells"))).isLessThan(joinCells);
+            assertThat(Long.parseLong(results.getProperty("subselect." + listing + ".cells"))).isLessThan(joinCells);
+            assertThat(results.getProperty("in-list." + listing + ".reviews"))
+                .isEqualTo(results.getProperty("join." + listing + ".reviews"));
+            assertThat(results.getProperty("subselect." + listing + ".reviews"))
+                .isEqualTo(results.getProperty("join." + listing + ".reviews"));
+        }
+    }
+
+    private static void measure(Properties results, String name, RowCounter counter, Supplier<Long> listing) {
+        // Warm-up so every strategy runs JIT-compiled code
+        listing.get();
+        listing.get();
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        counter.reset();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long reviews = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            reviews = listing.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        results.setProperty(name + ".reviews", String.valueOf(reviews));
+        results.setProperty(name + ".rows", String.valueOf(counter.rows.get() / ITERATIONS));
+        results.setProperty(name + ".cells", String.valueOf(counter.cells.get() / ITERATIONS));
+        results.setProperty(name + ".allocated-mb", String.format("%.1f", allocated / ITERATIONS / 1048576.0));
+        results.setProperty(name + ".ms", String.format("%.1f", elapsedNanos / ITERATIONS / 1_000_000.0));
+    }
+
+    /**
+     * Counts the rows (and rows x columns) read from every query result of the application DataSource
+     */
+    static class RowCounter implements BeanPostProcessor {
+
+        final AtomicLong rows = new AtomicLong();
+        final AtomicLong cells = new AtomicLong();
+
+        void reset() {
+            rows.set(0);
+            cells.set(0);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                return new CountingDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        private class CountingDataSource extends DelegatingDataSource {
+
+            CountingDataSource(DataSource targetDataSource) {
+                super(targetDataSource);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return proxy(Connection.class, connection, (method, result) -> result instanceof PreparedStatement statement
+                    ? proxy(PreparedStatement.class, statement, this::countRows)
+                    : result);
+            }
+
+            private Object countRows(Method method, Object result) throws Exception {
+                if (!(result instanceof ResultSet resultSet)) {
+                    return result;
+                }
+                int columns = resultSet.getMetaData().getColumnCount();
+                return proxy(ResultSet.class, resultSet, (next, hasRow) -> {
+                    if (next.getName().equals("next") && Boolean.TRUE.equals(hasRow)) {
+                        rows.incrementAndGet();
+                        cells.addAndGet(columns);
+                    }
+                    return hasRow;
+                });
+            }
+        }
+
+        private interface ResultHandler {
+            Object handle(Method method, Object result) throws Exception;
+        }
+
+        private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+            return type.cast(Proxy.newProxyInstance(RowCounter.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    try {
+                        return handler.handle(method, method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.debugging.catalog.loadtest;
+
+import com.debugging.catalog.application.service.SimilarProductsIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Similar products scaling benchmark
+ *
+ * Generates skewed synthetic likes (a few popular products, a long tail of
+ * occasional reviewers) and runs the similarity computation on 1, 2, 4...
+ * threads up to the available processors. Every run must return the same
+ * neighbours; time and speedup per thread count are written to
+ * target/loadtest/similar-products-scaling.properties.
+ *
+ * Run with: ./mvnw verify -Pload-test -Dloadtest.similar.enabled=true [-Dloadtest.similar.products=50000 -Dloadtest.similar.reviewers=200000]
+ */
+@EnabledIfSystemProperty(named = "loadtest.similar.enabled", matches = "true")
+class SimilarProductsScalingIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarProductsScalingIT.class);
+
+    private static final int TOP_K = 10;
+
+    @Test
+    void compute_ShouldScaleWithWorkerThreads() throws Exception {
+        // Given
+        int products = Integer.getInteger("loadtest.similar.products", 50_000);
+        int reviewers = Integer.getInteger("loadtest.similar.reviewers", 200_000);
+        int likesPerReviewer = Integer.getInteger("loadtest.similar.likes-per-reviewer", 8);
+        Random random = new Random(42L);
+        long[] productIds = new long[reviewers * likesPerReviewer];
+        int[] reviewerIds = new int[productIds.length];
+        int likes = 0;
+        for (int reviewer = 0; reviewer < reviewers; reviewer++) {
+            // Geometric activity around likesPerReviewer, products drawn with a power-law skew
+            int count = 1 + (int) (-Math.log(1 - random.nextDouble()) * (likesPerReviewer - 1));
+            for (int i = 0; i < count && likes < productIds.length; i++) {
+                productIds[likes] = 1 + (long) (products * Math.pow(random.nextDouble(), 2.5));
+                reviewerIds[likes++] = reviewer;
+            }
+        }
+        long[] likedProducts = Arrays.copyOf(productIds, likes);
+        int[] likedBy = Arrays.copyOf(reviewerIds, likes);
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(Runtime.getRuntime().availableProcessors());
+
+        // When
+        // Warm-up so every run executes JIT-compiled code
+        SimilarProductsIndex.Neighbors reference = SimilarProductsIndex.compute(likedProducts, likedBy, reviewers,
+            TOP_K, 2, 1000, 1);
+        Properties results = new Properties();
+        results.setProperty("likes", String.valueOf(likes));
+        results.setProperty("products", String.valueOf(reference.products()));
+        results.setProperty("reviewers", String.valueOf(reviewers));
+        long sequentialNanos = 0;
+        for (int threads : threadCounts) {
+            SimilarProductsIndex.Neighbors run = SimilarProductsIndex.compute(likedProducts, likedBy, reviewers,
+                TOP_K, 2, 1000, threads);
+            if (threads == 1) {
+                sequentialNanos = run.computeNanos();
+            }
+            results.setProperty("threads." + threads + ".ms",
+                String.valueOf(TimeUnit.NANOSECONDS.toMillis(run.computeNanos())));
+            results.setProperty("threads." + threads + ".speedup",
+                String.format("%.2f", (double) sequentialNanos / run.computeNanos()));
+
+            // Then
+            for (long productId = 1; productId <= products; productId += 97) {
+                assertThat(run.get(productId, TOP_K)).isEqualTo(reference.get(productId, TOP_K));
+            }
+        }
+
+        Path output = Path.of("target", "loadtest");
+        Files.createDirectories(output);
+        try (Writer writer = Files.newBufferedWriter(output.resolve("similar-products-scaling.properties"))) {
+            results.store(writer, "Similar products computation time and speedup by worker threads");
+        }
+        logger.info("Similar products scaling: {}", results);
+    }
+}
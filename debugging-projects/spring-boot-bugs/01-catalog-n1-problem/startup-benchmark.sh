@@ -0,0 +1,87 @@
+#!/bin/bash
+
+# 🚀 Startup Benchmark Script
+# Measures startup time and time-to-first-request for each startup mode
+#
+# Build first:  ./mvnw package -Pfast-startup -DskipTests
+# Usage:        ./startup-benchmark.sh [runs]
+
+RUNS=${1:-3}
+PORT=${PORT:-8080}
+HEALTH_URL="http://localhost:$PORT/api/v1/products/health"
+FAST_DIR="target/fast-startup"
+FAT_JAR="target/catalog-n1-problem-1.0.0.jar"
+THIN_JAR="catalog-n1-problem-1.0.0-fast-startup.jar"
+NATIVE_BINARY="target/catalog-n1-problem"
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+cd "$(dirname "$0")"
+
+if [ ! -f "$FAST_DIR/application.jsa" ]; then
+    echo "Missing $FAST_DIR/application.jsa, run: ./mvnw package -Pfast-startup -DskipTests"
+    exit 1
+fi
+
+# Function to measure one run: prints "<startup seconds reported by Spring> <ms until first 200 response>"
+measure_run() {
+    local dir=$1
+    shift
+    local log
+    log=$(mktemp)
+    
+    start_time=$(date +%s%N)
+    (cd "$dir" && exec "$@" --server.port="$PORT" > "$log" 2>&1) &
+    local pid=$!
+    
+    until curl -s -o /dev/null -f "$HEALTH_URL"; do
+        if ! kill -0 $pid 2>/dev/null; then
+            echo "failed"
+            tail -20 "$log" >&2
+            rm -f "$log"
+            return 1
+        fi
+        sleep 0.02
+    done
+    end_time=$(date +%s%N)
+    
+    kill $pid
+    wait $pid 2>/dev/null
+    
+    started=$(grep -oE "Started [A-Za-z]+ in [0-9.]+ seconds" "$log" | grep -oE "[0-9]+\.[0-9]+")
+    echo "${started:-?} $(( (end_time - start_time) / 1000000 ))"
+    rm -f "$log"
+}
+
+# Function to measure a mode over several runs
+measure_mode() {
+    local description=$1
+    shift
+    
+    echo -e "${YELLOW}📊 $description${NC}"
+    local total_ms=0
+    for run in $(seq 1 "$RUNS"); do
+        result=$(measure_run "$@") || return
+        echo "   run $run: started in ${result% *}s, first request after ${result#* }ms"
+        total_ms=$(( total_ms + ${result#* } ))
+    done
+    echo -e "${GREEN}   ⏱️  average time to first request: $(( total_ms / RUNS ))ms${NC}"
+    echo ""
+}
+
+echo -e "${BLUE}🚀 Catalog Startup Benchmark ($RUNS runs per mode)${NC}"
+echo "=================================="
+echo ""
+
+measure_mode "Fat JAR (default)" . java -jar "$FAT_JAR"
+measure_mode "Thin JAR + lib/" "$FAST_DIR" java -jar "$THIN_JAR"
+measure_mode "Thin JAR + AppCDS" "$FAST_DIR" java -XX:SharedArchiveFile=application.jsa -Xlog:cds=off -jar "$THIN_JAR"
+measure_mode "Thin JAR + AppCDS + Spring AOT" "$FAST_DIR" java -XX:SharedArchiveFile=application.jsa -Xlog:cds=off -Dspring.aot.enabled=true -jar "$THIN_JAR"
+
+if [ -x "$NATIVE_BINARY" ]; then
+    measure_mode "GraalVM native image" . "$NATIVE_BINARY"
+else
+    echo "Native image not built (./mvnw -Pnative native:compile), skipping"
+fi